@@ -36,6 +36,7 @@ import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.api.io.TempDirDeletionStrategy;
 import org.junit.jupiter.api.io.TempDirFactory;
+import org.junit.jupiter.api.io.TemplateCopyMode;
 
 @SuppressWarnings("NewClassNamingConvention")
 class TempDirectoryDemo {
@@ -163,6 +164,18 @@ class TempDirectoryDemo {
 	}
 	// end::user_guide_deletion_strategy[]
 
+	// tag::user_guide_template[]
+	class TemplateDemo {
+
+		@Test
+		void test(@TempDir(template = "src/test/resources/seed", templateCopyMode = TemplateCopyMode.LINK) //
+		Path tempDir) {
+			// perform test with the contents of the seed directory
+		}
+
+	}
+	// end::user_guide_template[]
+
 	// tag::user_guide_composed_annotation[]
 	@Target({ ElementType.ANNOTATION_TYPE, ElementType.FIELD, ElementType.PARAMETER })
 	@Retention(RetentionPolicy.RUNTIME)
@@ -23,6 +23,7 @@ import org.junit.jupiter.api.io.CleanupMode.ON_SUCCESS
 import org.junit.jupiter.api.io.TempDir
 import org.junit.jupiter.api.io.TempDirDeletionStrategy
 import org.junit.jupiter.api.io.TempDirFactory
+import org.junit.jupiter.api.io.TemplateCopyMode
 import java.nio.file.FileSystem
 import java.nio.file.Files
 import java.nio.file.Path
@@ -147,6 +148,18 @@ class TempDirectoryDemo {
     }
     // end::user_guide_deletion_strategy[]
 
+    // tag::user_guide_template[]
+    class TemplateDemo {
+        @Test
+        fun test(
+            @TempDir(template = "src/test/resources/seed", templateCopyMode = TemplateCopyMode.LINK)
+            tempDir: Path
+        ) {
+            // perform test with the contents of the seed directory
+        }
+    }
+    // end::user_guide_template[]
+
     // tag::user_guide_composed_annotation[]
     @Target(AnnotationTarget.ANNOTATION_CLASS, AnnotationTarget.FIELD, AnnotationTarget.VALUE_PARAMETER)
     @Retention(AnnotationRetention.RUNTIME)
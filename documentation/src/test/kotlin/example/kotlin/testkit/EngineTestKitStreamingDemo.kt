@@ -0,0 +1,58 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package example.kotlin.testkit
+
+// tag::user_guide[]
+import example.kotlin.ExampleTestCase
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Test
+import org.junit.platform.engine.discovery.DiscoverySelectors.selectClass
+import org.junit.platform.testkit.engine.EngineTestKit
+import org.junit.platform.testkit.engine.EventConditions.event
+import org.junit.platform.testkit.engine.EventConditions.finishedWithFailure
+import org.junit.platform.testkit.engine.EventConditions.test
+import org.junit.platform.testkit.engine.StreamingExecutionRecorder
+import org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf
+
+class EngineTestKitStreamingDemo {
+    @Test
+    fun verifyJupiterTestStatsWithoutRecordingEvents() {
+        val divisionByZero =
+            event(test(), finishedWithFailure(instanceOf(ArithmeticException::class.java)))
+
+        val results =
+            EngineTestKit
+                .engine("junit-jupiter") // <1>
+                .selectors(selectClass(ExampleTestCase::class.java)) // <2>
+                .executeStreaming(
+                    StreamingExecutionRecorder() // <3>
+                        .retainFailures(10) // <4>
+                        .countMatching(divisionByZero) // <5>
+                )
+
+        results
+            .testEvents() // <6>
+            .assertStatistics { stats ->
+                stats
+                    .skipped(1)
+                    .started(3)
+                    .succeeded(1)
+                    .aborted(1)
+                    .failed(1)
+            }
+        assertEquals(1, results.count(divisionByZero)) // <7>
+        results
+            .retainedFailures() // <8>
+            .assertThatEvents()
+            .haveExactly(1, event(test("failingTest")))
+    }
+}
+// end::user_guide[]
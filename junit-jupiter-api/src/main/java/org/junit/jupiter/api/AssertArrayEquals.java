@@ -14,7 +14,9 @@ import static org.junit.jupiter.api.AssertionFailureBuilder.assertionFailure;
 import static org.junit.jupiter.api.AssertionUtils.formatIndexes;
 import static org.junit.platform.commons.util.ReflectionUtils.isArray;
 
+import java.lang.reflect.Array;
 import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Deque;
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -173,12 +175,16 @@ class AssertArrayEquals {
 
 	static void assertArrayEquals(@Nullable Object @Nullable [] expected, @Nullable Object @Nullable [] actual,
 			@Nullable String message) {
-		assertArrayEquals(expected, actual, new ArrayDeque<>(), message);
+		if (!arraysAreEqual(expected, actual)) {
+			assertArrayEquals(expected, actual, new ArrayDeque<>(), message);
+		}
 	}
 
 	static void assertArrayEquals(@Nullable Object @Nullable [] expected, @Nullable Object @Nullable [] actual,
 			Supplier<@Nullable String> messageSupplier) {
-		assertArrayEquals(expected, actual, new ArrayDeque<>(), messageSupplier);
+		if (!arraysAreEqual(expected, actual)) {
+			assertArrayEquals(expected, actual, new ArrayDeque<>(), messageSupplier);
+		}
 	}
 
 	@SuppressWarnings("ReferenceEquality")
@@ -194,11 +200,12 @@ class AssertArrayEquals {
 		if (actual == null) {
 			throw actualArrayIsNullFailure(indexes, messageOrSupplier);
 		}
-		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
+		assertArraysHaveSameLength(expected, actual, indexes, messageOrSupplier);
 
 		for (int i = 0; i < expected.length; i++) {
 			if (expected[i] != actual[i]) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageOrSupplier);
+				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), diff(expected, actual),
+					messageOrSupplier);
 			}
 		}
 	}
@@ -217,11 +224,12 @@ class AssertArrayEquals {
 		if (actual == null) {
 			throw actualArrayIsNullFailure(indexes, messageOrSupplier);
 		}
-		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
+		assertArraysHaveSameLength(expected, actual, indexes, messageOrSupplier);
 
 		for (int i = 0; i < expected.length; i++) {
 			if (expected[i] != actual[i]) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageOrSupplier);
+				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), diff(expected, actual),
+					messageOrSupplier);
 			}
 		}
 	}
@@ -240,11 +248,12 @@ class AssertArrayEquals {
 		if (actual == null) {
 			throw actualArrayIsNullFailure(indexes, messageOrSupplier);
 		}
-		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
+		assertArraysHaveSameLength(expected, actual, indexes, messageOrSupplier);
 
 		for (int i = 0; i < expected.length; i++) {
 			if (expected[i] != actual[i]) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageOrSupplier);
+				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), diff(expected, actual),
+					messageOrSupplier);
 			}
 		}
 	}
@@ -263,11 +272,12 @@ class AssertArrayEquals {
 		if (actual == null) {
 			throw actualArrayIsNullFailure(indexes, messageOrSupplier);
 		}
-		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
+		assertArraysHaveSameLength(expected, actual, indexes, messageOrSupplier);
 
 		for (int i = 0; i < expected.length; i++) {
 			if (expected[i] != actual[i]) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageOrSupplier);
+				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), diff(expected, actual),
+					messageOrSupplier);
 			}
 		}
 	}
@@ -286,11 +296,12 @@ class AssertArrayEquals {
 		if (actual == null) {
 			throw actualArrayIsNullFailure(indexes, messageOrSupplier);
 		}
-		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
+		assertArraysHaveSameLength(expected, actual, indexes, messageOrSupplier);
 
 		for (int i = 0; i < expected.length; i++) {
 			if (expected[i] != actual[i]) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageOrSupplier);
+				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), diff(expected, actual),
+					messageOrSupplier);
 			}
 		}
 	}
@@ -309,11 +320,12 @@ class AssertArrayEquals {
 		if (actual == null) {
 			throw actualArrayIsNullFailure(indexes, messageOrSupplier);
 		}
-		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
+		assertArraysHaveSameLength(expected, actual, indexes, messageOrSupplier);
 
 		for (int i = 0; i < expected.length; i++) {
 			if (expected[i] != actual[i]) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageOrSupplier);
+				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), diff(expected, actual),
+					messageOrSupplier);
 			}
 		}
 	}
@@ -332,11 +344,12 @@ class AssertArrayEquals {
 		if (actual == null) {
 			throw actualArrayIsNullFailure(indexes, messageOrSupplier);
 		}
-		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
+		assertArraysHaveSameLength(expected, actual, indexes, messageOrSupplier);
 
 		for (int i = 0; i < expected.length; i++) {
 			if (!AssertionUtils.floatsAreEqual(expected[i], actual[i])) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageOrSupplier);
+				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), diff(expected, actual),
+					messageOrSupplier);
 			}
 		}
 	}
@@ -356,11 +369,15 @@ class AssertArrayEquals {
 		if (actual == null) {
 			throw actualArrayIsNullFailure(indexes, messageOrSupplier);
 		}
-		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
+		if (expected.length != actual.length) {
+			failArrayLengthsDiffer(expected.length, actual.length, diff(expected, actual, delta), indexes,
+				messageOrSupplier);
+		}
 
 		for (int i = 0; i < expected.length; i++) {
 			if (!AssertionUtils.floatsAreEqual(expected[i], actual[i], delta)) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageOrSupplier);
+				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), diff(expected, actual, delta),
+					messageOrSupplier);
 			}
 		}
 	}
@@ -379,11 +396,12 @@ class AssertArrayEquals {
 		if (actual == null) {
 			throw actualArrayIsNullFailure(indexes, messageOrSupplier);
 		}
-		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
+		assertArraysHaveSameLength(expected, actual, indexes, messageOrSupplier);
 
 		for (int i = 0; i < expected.length; i++) {
 			if (!AssertionUtils.doublesAreEqual(expected[i], actual[i])) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageOrSupplier);
+				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), diff(expected, actual),
+					messageOrSupplier);
 			}
 		}
 	}
@@ -403,11 +421,15 @@ class AssertArrayEquals {
 		if (actual == null) {
 			throw actualArrayIsNullFailure(indexes, messageOrSupplier);
 		}
-		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
+		if (expected.length != actual.length) {
+			failArrayLengthsDiffer(expected.length, actual.length, diff(expected, actual, delta), indexes,
+				messageOrSupplier);
+		}
 
 		for (int i = 0; i < expected.length; i++) {
 			if (!AssertionUtils.doublesAreEqual(expected[i], actual[i], delta)) {
-				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), messageOrSupplier);
+				failArraysNotEqual(expected[i], actual[i], nullSafeIndexes(indexes, i), diff(expected, actual, delta),
+					messageOrSupplier);
 			}
 		}
 	}
@@ -426,7 +448,7 @@ class AssertArrayEquals {
 		if (actual == null) {
 			throw actualArrayIsNullFailure(indexes, messageOrSupplier);
 		}
-		assertArraysHaveSameLength(expected.length, actual.length, indexes, messageOrSupplier);
+		assertArraysHaveSameLength(expected, actual, indexes, messageOrSupplier);
 
 		for (int i = 0; i < expected.length; i++) {
 			Object expectedElement = expected[i];
@@ -437,13 +459,14 @@ class AssertArrayEquals {
 			}
 
 			indexes.addLast(i);
-			assertArrayElementsEqual(expectedElement, actualElement, indexes, messageOrSupplier);
+			assertArrayElementsEqual(expectedElement, actualElement, expected, actual, indexes, messageOrSupplier);
 			indexes.removeLast();
 		}
 	}
 
 	private static void assertArrayElementsEqual(@Nullable Object expected, @Nullable Object actual,
-			Deque<Integer> indexes, @Nullable Object messageOrSupplier) {
+			@Nullable Object[] enclosingExpected, @Nullable Object[] enclosingActual, Deque<Integer> indexes,
+			@Nullable Object messageOrSupplier) {
 
 		if (expected instanceof Object[] expectedArray && actual instanceof Object[] actualArray) {
 			assertArrayEquals(expectedArray, actualArray, indexes, messageOrSupplier);
@@ -480,9 +503,71 @@ class AssertArrayEquals {
 				failActualArrayIsNull(indexes, messageOrSupplier);
 			}
 			else {
-				failArraysNotEqual(expected, actual, indexes, messageOrSupplier);
+				failArraysNotEqual(expected, actual, indexes, diff(enclosingExpected, enclosingActual),
+					messageOrSupplier);
+			}
+		}
+	}
+
+	/**
+	 * Determine whether the supplied arrays are deeply equal according to the
+	 * same rules as {@link #assertArrayEquals(Object[], Object[], Deque, Object)}.
+	 *
+	 * <p>In contrast to the latter, this method does not keep track of the
+	 * indexes of the elements being compared and therefore does not allocate.
+	 * It is used to check equality on the success path before computing a
+	 * detailed failure.
+	 */
+	@SuppressWarnings("ReferenceEquality")
+	private static boolean arraysAreEqual(@Nullable Object @Nullable [] expected,
+			@Nullable Object @Nullable [] actual) {
+
+		if (expected == actual) {
+			return true;
+		}
+		if (expected == null || actual == null || expected.length != actual.length) {
+			return false;
+		}
+		for (int i = 0; i < expected.length; i++) {
+			Object expectedElement = expected[i];
+			Object actualElement = actual[i];
+			if (expectedElement != actualElement && !arrayElementsAreEqual(expectedElement, actualElement)) {
+				return false;
 			}
 		}
+		return true;
+	}
+
+	private static boolean arrayElementsAreEqual(@Nullable Object expected, @Nullable Object actual) {
+		// Arrays.equals() compares floats and doubles the same way as floatsAreEqual() and doublesAreEqual()
+		if (expected instanceof Object[] expectedArray && actual instanceof Object[] actualArray) {
+			return arraysAreEqual(expectedArray, actualArray);
+		}
+		if (expected instanceof byte[] expectedArray && actual instanceof byte[] actualArray) {
+			return Arrays.equals(expectedArray, actualArray);
+		}
+		if (expected instanceof short[] expectedArray && actual instanceof short[] actualArray) {
+			return Arrays.equals(expectedArray, actualArray);
+		}
+		if (expected instanceof int[] expectedArray && actual instanceof int[] actualArray) {
+			return Arrays.equals(expectedArray, actualArray);
+		}
+		if (expected instanceof long[] expectedArray && actual instanceof long[] actualArray) {
+			return Arrays.equals(expectedArray, actualArray);
+		}
+		if (expected instanceof char[] expectedArray && actual instanceof char[] actualArray) {
+			return Arrays.equals(expectedArray, actualArray);
+		}
+		if (expected instanceof float[] expectedArray && actual instanceof float[] actualArray) {
+			return Arrays.equals(expectedArray, actualArray);
+		}
+		if (expected instanceof double[] expectedArray && actual instanceof double[] actualArray) {
+			return Arrays.equals(expectedArray, actualArray);
+		}
+		if (expected instanceof boolean[] expectedArray && actual instanceof boolean[] actualArray) {
+			return Arrays.equals(expectedArray, actualArray);
+		}
+		return Objects.equals(expected, actual);
 	}
 
 	private static void failExpectedArrayIsNull(@Nullable Deque<Integer> indexes, @Nullable Object messageOrSupplier) {
@@ -511,32 +596,56 @@ class AssertArrayEquals {
 				.build();
 	}
 
-	private static void assertArraysHaveSameLength(int expected, int actual, @Nullable Deque<Integer> indexes,
+	private static void assertArraysHaveSameLength(Object expected, Object actual, @Nullable Deque<Integer> indexes,
 			@Nullable Object messageOrSupplier) {
 
-		if (expected != actual) {
-			assertionFailure() //
-					.message(messageOrSupplier) //
-					.reason("array lengths differ" + formatIndexes(indexes)) //
-					.expected(expected) //
-					.actual(actual) //
-					.trimStacktrace(Assertions.class) //
-					.buildAndThrow();
+		int expectedLength = Array.getLength(expected);
+		int actualLength = Array.getLength(actual);
+		if (expectedLength != actualLength) {
+			failArrayLengthsDiffer(expectedLength, actualLength, diff(expected, actual), indexes, messageOrSupplier);
 		}
 	}
 
-	private static void failArraysNotEqual(@Nullable Object expected, @Nullable Object actual,
+	private static void failArrayLengthsDiffer(int expected, int actual, Supplier<@Nullable String> diff,
 			@Nullable Deque<Integer> indexes, @Nullable Object messageOrSupplier) {
 
+		assertionFailure() //
+				.message(messageOrSupplier) //
+				.reason("array lengths differ" + formatIndexes(indexes)) //
+				.expected(expected) //
+				.actual(actual) //
+				.details(diff) //
+				.trimStacktrace(Assertions.class) //
+				.buildAndThrow();
+	}
+
+	private static void failArraysNotEqual(@Nullable Object expected, @Nullable Object actual,
+			@Nullable Deque<Integer> indexes, Supplier<@Nullable String> diff, @Nullable Object messageOrSupplier) {
+
 		assertionFailure() //
 				.message(messageOrSupplier) //
 				.reason("array contents differ" + formatIndexes(indexes)) //
 				.expected(expected) //
 				.actual(actual) //
+				.details(diff) //
 				.trimStacktrace(Assertions.class) //
 				.buildAndThrow();
 	}
 
+	private static Supplier<@Nullable String> diff(Object expected, Object actual) {
+		return SequenceDiff.render(SequenceDiff.asList(expected), SequenceDiff.asList(actual), Objects::deepEquals, 0);
+	}
+
+	private static Supplier<@Nullable String> diff(float[] expected, float[] actual, float delta) {
+		return SequenceDiff.render(SequenceDiff.asList(expected), SequenceDiff.asList(actual),
+			(e, a) -> e instanceof Float x && a instanceof Float y && AssertionUtils.floatsAreEqual(x, y, delta), 0);
+	}
+
+	private static Supplier<@Nullable String> diff(double[] expected, double[] actual, double delta) {
+		return SequenceDiff.render(SequenceDiff.asList(expected), SequenceDiff.asList(actual),
+			(e, a) -> e instanceof Double x && a instanceof Double y && AssertionUtils.doublesAreEqual(x, y, delta), 0);
+	}
+
 	private static Deque<Integer> nullSafeIndexes(@Nullable Deque<Integer> indexes, int newIndex) {
 		Deque<Integer> result = (indexes != null ? indexes : new ArrayDeque<>());
 		result.addLast(newIndex);
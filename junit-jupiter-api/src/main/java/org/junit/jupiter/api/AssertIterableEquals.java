@@ -14,6 +14,7 @@ import static org.junit.jupiter.api.AssertionFailureBuilder.assertionFailure;
 import static org.junit.jupiter.api.AssertionUtils.formatIndexes;
 
 import java.util.ArrayDeque;
+import java.util.Collection;
 import java.util.Deque;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -80,18 +81,20 @@ class AssertIterableEquals {
 
 			indexes.addLast(processed);
 
-			assertIterableElementsEqual(expectedElement, actualElement, indexes, messageOrSupplier,
+			assertIterableElementsEqual(expectedElement, actualElement, expected, actual, indexes, messageOrSupplier,
 				investigatedElements);
 
 			indexes.removeLast();
 			processed++;
 		}
 
-		assertIteratorsAreEmpty(expectedIterator, actualIterator, processed, indexes, messageOrSupplier);
+		assertIteratorsAreEmpty(expected, actual, expectedIterator, actualIterator, processed, indexes,
+			messageOrSupplier);
 	}
 
-	private static void assertIterableElementsEqual(Object expected, Object actual, Deque<Integer> indexes,
-			@Nullable Object messageOrSupplier, Map<Pair, Status> investigatedElements) {
+	private static void assertIterableElementsEqual(Object expected, Object actual, Iterable<?> enclosingExpected,
+			Iterable<?> enclosingActual, Deque<Integer> indexes, @Nullable Object messageOrSupplier,
+			Map<Pair, Status> investigatedElements) {
 
 		// If both are equal, we don't need to check recursively.
 		if (Objects.equals(expected, actual)) {
@@ -114,7 +117,7 @@ class AssertIterableEquals {
 			// If the pair is already under investigation, we fail in order to avoid infinite recursion.
 			if (status == Status.UNDER_INVESTIGATION) {
 				indexes.removeLast();
-				failIterablesNotEqual(expected, actual, indexes, messageOrSupplier);
+				failIterablesNotEqual(expected, actual, indexes, () -> null, messageOrSupplier);
 			}
 
 			// Otherwise, we put the pair under investigation and recurse.
@@ -130,7 +133,8 @@ class AssertIterableEquals {
 		// Otherwise, they are neither equal nor iterables, so we fail.
 		else {
 			assertIterablesNotNull(expected, actual, indexes, messageOrSupplier);
-			failIterablesNotEqual(expected, actual, indexes, messageOrSupplier);
+			failIterablesNotEqual(expected, actual, indexes, diff(enclosingExpected, enclosingActual),
+				messageOrSupplier);
 		}
 	}
 
@@ -171,36 +175,51 @@ class AssertIterableEquals {
 				.build();
 	}
 
-	private static void assertIteratorsAreEmpty(Iterator<?> expected, Iterator<?> actual, int processed,
-			Deque<Integer> indexes, @Nullable Object messageOrSupplier) {
+	private static void assertIteratorsAreEmpty(Iterable<?> expected, Iterable<?> actual,
+			Iterator<?> expectedIterator, Iterator<?> actualIterator, int processed, Deque<Integer> indexes,
+			@Nullable Object messageOrSupplier) {
 
-		if (expected.hasNext() || actual.hasNext()) {
+		if (expectedIterator.hasNext() || actualIterator.hasNext()) {
 			AtomicInteger expectedCount = new AtomicInteger(processed);
-			expected.forEachRemaining(e -> expectedCount.incrementAndGet());
+			expectedIterator.forEachRemaining(e -> expectedCount.incrementAndGet());
 
 			AtomicInteger actualCount = new AtomicInteger(processed);
-			actual.forEachRemaining(e -> actualCount.incrementAndGet());
+			actualIterator.forEachRemaining(e -> actualCount.incrementAndGet());
 
 			assertionFailure() //
 					.message(messageOrSupplier) //
 					.reason("iterable lengths differ" + formatIndexes(indexes)) //
 					.expected(expectedCount.get()) //
 					.actual(actualCount.get()) //
+					.details(diff(expected, actual)) //
 					.buildAndThrow();
 		}
 	}
 
 	private static void failIterablesNotEqual(Object expected, Object actual, Deque<Integer> indexes,
-			@Nullable Object messageOrSupplier) {
+			Supplier<@Nullable String> diff, @Nullable Object messageOrSupplier) {
 
 		assertionFailure() //
 				.message(messageOrSupplier) //
 				.reason("iterable contents differ" + formatIndexes(indexes)) //
 				.expected(expected) //
 				.actual(actual) //
+				.details(diff) //
 				.buildAndThrow();
 	}
 
+	/**
+	 * Render the differences between the supplied iterables if both of them
+	 * are collections, which can be iterated again after a failure.
+	 */
+	private static Supplier<@Nullable String> diff(Iterable<?> expected, Iterable<?> actual) {
+		if (expected instanceof Collection<?> expectedCollection && actual instanceof Collection<?> actualCollection) {
+			return () -> SequenceDiff.render(SequenceDiff.asList(expectedCollection),
+				SequenceDiff.asList(actualCollection), Objects::equals, 0).get();
+		}
+		return () -> null;
+	}
+
 	private record Pair(Object left, Object right) {
 	}
 
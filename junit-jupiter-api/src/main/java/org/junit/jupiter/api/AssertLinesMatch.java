@@ -15,11 +15,12 @@ import static org.junit.jupiter.api.AssertionFailureBuilder.assertionFailure;
 import static org.junit.platform.commons.util.Preconditions.condition;
 import static org.junit.platform.commons.util.Preconditions.notNull;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
@@ -38,6 +39,10 @@ class AssertLinesMatch {
 
 	private static final int MAX_SNIPPET_LENGTH = 21;
 
+	private static final int MAX_RETAINED_LINES = 10_000;
+
+	private static final String REGEX_METACHARACTERS = "\\^$.|?*+()[]{}";
+
 	static void assertLinesMatch(List<String> expectedLines, List<String> actualLines) {
 		assertLinesMatch(expectedLines, actualLines, (Object) null);
 	}
@@ -65,9 +70,8 @@ class AssertLinesMatch {
 			return;
 		}
 
-		List<String> expectedListOfStrings = expectedLines.toList();
-		List<String> actualListOfStrings = actualLines.toList();
-		assertLinesMatch(expectedListOfStrings, actualListOfStrings, messageOrSupplier);
+		new LinesMatcher(Lines.from(expectedLines.iterator()), Lines.from(actualLines.iterator()),
+			messageOrSupplier).assertLinesMatch();
 	}
 
 	@SuppressWarnings("ReferenceEquality")
@@ -81,61 +85,54 @@ class AssertLinesMatch {
 			return;
 		}
 
-		new LinesMatcher(expectedLines, actualLines, messageOrSupplier).assertLinesMatch();
-	}
-
-	private record LinesMatcher(List<String> expectedLines, List<String> actualLines,
-			@Nullable Object messageOrSupplier) {
-
-		void assertLinesMatch() {
-			int expectedSize = expectedLines.size();
-			int actualSize = actualLines.size();
-
-			// trivial case: when expecting more than actual lines available, something is wrong
-			if (expectedSize > actualSize) {
-				fail("expected %d lines, but only got %d", expectedSize, actualSize);
-			}
+		var matcher = new LinesMatcher(Lines.from(expectedLines), Lines.from(actualLines), messageOrSupplier);
 
-			// simple case: both list are equally sized, compare them line-by-line
-			if (expectedSize == actualSize) {
-				if (IntStream.range(0, expectedSize).allMatch(i -> matches(expectedLines.get(i), actualLines.get(i)))) {
-					return;
-				}
-				// else fall-through to "with fast-forward" matching
-			}
-
-			assertLinesMatchWithFastForward();
+		// trivial case: when expecting more than actual lines available, something is wrong
+		if (expectedLines.size() > actualLines.size()) {
+			matcher.failWithLineCounts(expectedLines.size(), actualLines.size());
 		}
 
-		void assertLinesMatchWithFastForward() {
-			Deque<String> expectedDeque = new ArrayDeque<>(expectedLines);
-			Deque<String> actualDeque = new ArrayDeque<>(actualLines);
+		matcher.assertLinesMatch();
+	}
+
+	/**
+	 * Matches expected against actual lines while reading both of them only
+	 * once and on demand.
+	 *
+	 * <p>Since the total number of lines is not known upfront when matching
+	 * streams, the remaining lines are only counted once the outcome has been
+	 * decided, so that the line count check takes precedence over all other
+	 * failures just like it does for lists.
+	 */
+	private record LinesMatcher(Lines expectedLines, Lines actualLines, @Nullable Object messageOrSupplier) {
 
-			main: while (!expectedDeque.isEmpty()) {
-				String expectedLine = expectedDeque.pop();
-				int expectedLineNumber = expectedLines.size() - expectedDeque.size(); // 1-based line number
+		void assertLinesMatch() {
+			main: while (!expectedLines.isEmpty()) {
+				ExpectedLine expectedLine = new ExpectedLine(expectedLines.pop());
+				int expectedLineNumber = expectedLines.consumed(); // 1-based line number
 				// trivial case: no more actual lines available
-				if (actualDeque.isEmpty()) {
+				if (actualLines.isEmpty()) {
 					fail("expected line #%d:`%s` not found - actual lines depleted", expectedLineNumber,
-						snippet(expectedLine));
+						snippet(expectedLine.text));
 				}
 
-				String actualLine = actualDeque.peek();
+				String actualLine = actualLines.peek();
 				// trivial case: take the fast path when they match
-				if (matches(expectedLine, actualLine)) {
-					actualDeque.pop();
+				if (expectedLine.matches(actualLine)) {
+					actualLines.pop();
 					continue; // main
 				}
 
 				// fast-forward marker found in expected line: fast-forward actual line...
-				if (isFastForwardLine(expectedLine)) {
-					int fastForwardLimit = parseFastForwardLimit(expectedLine);
-					int actualRemaining = actualDeque.size();
+				if (isFastForwardLine(expectedLine.text)) {
+					int fastForwardLimit = parseFastForwardLimit(expectedLine.text);
 
 					// trivial case: fast-forward marker was in last expected line
-					if (expectedDeque.isEmpty()) {
+					if (expectedLines.isEmpty()) {
+						int actualRemaining = actualLines.skip(Integer.MAX_VALUE);
 						// no limit given or perfect match? we're done.
 						if (fastForwardLimit == Integer.MAX_VALUE || fastForwardLimit == actualRemaining) {
+							assertLineCounts();
 							return;
 						}
 						fail("terminal fast-forward(%d) error: fast-forward(%d) expected", fastForwardLimit,
@@ -144,40 +141,50 @@ class AssertLinesMatch {
 
 					// fast-forward limit was given: use it
 					if (fastForwardLimit != Integer.MAX_VALUE) {
-						if (actualRemaining < fastForwardLimit) {
+						int skipped = actualLines.skip(fastForwardLimit);
+						if (skipped < fastForwardLimit) {
 							fail("fast-forward(%d) error: not enough actual lines remaining (%s)", fastForwardLimit,
-								actualRemaining);
-						}
-						// fast-forward now: actualDeque.pop(fastForwardLimit)
-						for (int i = 0; i < fastForwardLimit; i++) {
-							actualDeque.pop();
+								skipped);
 						}
 						continue; // main
 					}
 
-					// peek next expected line
-					expectedLine = expectedDeque.peek();
+					// peek next expected line and reuse its compiled pattern for all actual lines
+					expectedLine = new ExpectedLine(expectedLines.peek());
 					// fast-forward "unlimited": until next match
 					while (true) {
-						if (actualDeque.isEmpty()) {
-							fail("fast-forward(∞) didn't find: `%s`", snippet(expectedLine));
+						if (actualLines.isEmpty()) {
+							fail("fast-forward(∞) didn't find: `%s`", snippet(expectedLine.text));
 						}
-						if (matches(expectedLine, actualDeque.peek())) {
+						if (expectedLine.matches(actualLines.peek())) {
+							expectedLines.pop();
+							actualLines.pop();
 							continue main;
 						}
-						actualDeque.pop();
+						actualLines.pop();
 					}
 				}
 
-				int actualLineNumber = actualLines.size() - actualDeque.size() + 1; // 1-based line number
+				int actualLineNumber = actualLines.consumed() + 1; // 1-based line number
 				fail("expected line #%d doesn't match actual line #%d%n" + "\texpected: `%s`%n" + "\t  actual: `%s`",
-					expectedLineNumber, actualLineNumber, expectedLine, actualLine);
+					expectedLineNumber, actualLineNumber, expectedLine.text, actualLine);
 			}
 
 			// after math
-			if (!actualDeque.isEmpty()) {
-				fail("more actual lines than expected: %d", actualDeque.size());
+			if (!actualLines.isEmpty()) {
+				fail("more actual lines than expected: %d", actualLines.skip(Integer.MAX_VALUE));
 			}
+			assertLineCounts();
+		}
+
+		private void assertLineCounts() {
+			if (expectedLines.consumed() > actualLines.consumed()) {
+				failWithLineCounts(expectedLines.consumed(), actualLines.consumed());
+			}
+		}
+
+		void failWithLineCounts(int expectedSize, int actualSize) {
+			throwFailure("expected %d lines, but only got %d".formatted(expectedSize, actualSize));
 		}
 
 		String snippet(String line) {
@@ -188,18 +195,207 @@ class AssertLinesMatch {
 		}
 
 		void fail(String format, Object... args) {
-			String newLine = System.lineSeparator();
-			assertionFailure() //
+			String reason = format.formatted(args);
+			// read the remaining lines to report them and to check the line counts
+			int expectedSize = expectedLines.consumed() + expectedLines.skip(Integer.MAX_VALUE);
+			int actualSize = actualLines.consumed() + actualLines.skip(Integer.MAX_VALUE);
+			if (expectedSize > actualSize) {
+				failWithLineCounts(expectedSize, actualSize);
+			}
+			throwFailure(reason);
+		}
+
+		private void throwFailure(String reason) {
+			var builder = assertionFailure() //
 					.message(messageOrSupplier) //
-					.reason(format.formatted(args)) //
-					.expected(join(newLine, expectedLines)) //
-					.actual(join(newLine, actualLines)) //
-					.includeValuesInMessage(false) //
+					.reason(reason);
+			List<String> expected = expectedLines.retainedLines();
+			List<String> actual = actualLines.retainedLines();
+			if (expected != null && actual != null) {
+				String newLine = System.lineSeparator();
+				builder.expected(join(newLine, expected)) //
+						.actual(join(newLine, actual)) //
+						.details(diff(expected, actual));
+			}
+			builder.includeValuesInMessage(false) //
 					.trimStacktrace(Assertions.class) //
 					.buildAndThrow();
 		}
 	}
 
+	/**
+	 * Render the differences between the supplied lines, treating lines as
+	 * equal if they match as per {@link ExpectedLine#matches(String)}.
+	 *
+	 * <p>Since a diff cannot express fast-forward markers, no diff is
+	 * rendered if the expected lines contain any.
+	 */
+	private static Supplier<@Nullable String> diff(List<String> expectedLines, List<String> actualLines) {
+		return () -> {
+			if (expectedLines.stream().anyMatch(line -> line == null || isFastForwardLine(line))) {
+				return null;
+			}
+			List<ExpectedLine> expected = expectedLines.stream().map(ExpectedLine::new).toList();
+			return SequenceDiff.render(expected, actualLines,
+				(e, a) -> e instanceof ExpectedLine line && a instanceof String actual && line.matches(actual), 1).get();
+		};
+	}
+
+	/**
+	 * Expected line whose {@link Pattern} is compiled at most once, no matter
+	 * how many actual lines it is matched against.
+	 */
+	private static final class ExpectedLine {
+
+		private final String text;
+
+		private @Nullable Pattern pattern;
+
+		private boolean compiled;
+
+		ExpectedLine(String text) {
+			this.text = notNull(text, "expected line must not be null");
+		}
+
+		boolean matches(String actualLine) {
+			notNull(actualLine, "actual line must not be null");
+			if (this.text.equals(actualLine)) {
+				return true;
+			}
+			Pattern pattern = pattern();
+			return pattern != null && pattern.matcher(actualLine).matches();
+		}
+
+		private @Nullable Pattern pattern() {
+			if (!this.compiled) {
+				this.compiled = true;
+				// lines without metacharacters only match themselves
+				if (containsMetacharacter(this.text)) {
+					try {
+						this.pattern = Pattern.compile(this.text);
+					}
+					catch (PatternSyntaxException ignore) {
+						// never matches
+					}
+				}
+			}
+			return this.pattern;
+		}
+
+		@Override
+		public String toString() {
+			return this.text;
+		}
+
+		private static boolean containsMetacharacter(String text) {
+			for (int i = 0; i < text.length(); i++) {
+				if (REGEX_METACHARACTERS.indexOf(text.charAt(i)) >= 0) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Lines that are read one at a time from an {@link Iterator}.
+	 *
+	 * <p>Lines read from a stream are retained for the expected and actual
+	 * values of an assertion failure until more than
+	 * {@value #MAX_RETAINED_LINES} lines have been read; beyond that, they are
+	 * discarded and the failure only reports its reason.
+	 */
+	private static final class Lines {
+
+		static Lines from(List<String> lines) {
+			return new Lines(lines.iterator(), lines, false);
+		}
+
+		static Lines from(Iterator<String> lines) {
+			return new Lines(lines, new ArrayList<>(), true);
+		}
+
+		private final Iterator<String> iterator;
+
+		private @Nullable List<String> retainedLines;
+
+		private final boolean retainReadLines;
+
+		private @Nullable String next;
+
+		private boolean peeked;
+
+		private int consumed;
+
+		private Lines(Iterator<String> iterator, List<String> retainedLines, boolean retainReadLines) {
+			this.iterator = iterator;
+			this.retainedLines = retainedLines;
+			this.retainReadLines = retainReadLines;
+		}
+
+		boolean isEmpty() {
+			return !this.peeked && !this.iterator.hasNext();
+		}
+
+		@SuppressWarnings("NullAway") // lists may contain null elements
+		String peek() {
+			if (!this.peeked) {
+				this.next = read();
+				this.peeked = true;
+			}
+			return this.next;
+		}
+
+		String pop() {
+			String line = peek();
+			this.next = null;
+			this.peeked = false;
+			this.consumed++;
+			return line;
+		}
+
+		/**
+		 * Skip up to the supplied number of lines.
+		 *
+		 * @return the number of lines that were actually skipped
+		 */
+		int skip(int count) {
+			int skipped = 0;
+			while (skipped < count && !isEmpty()) {
+				pop();
+				skipped++;
+			}
+			return skipped;
+		}
+
+		/**
+		 * Get the number of lines that have been popped or skipped so far.
+		 */
+		int consumed() {
+			return this.consumed;
+		}
+
+		/**
+		 * Get all lines, if they have been retained.
+		 */
+		@Nullable List<String> retainedLines() {
+			return this.retainedLines;
+		}
+
+		private String read() {
+			String line = this.iterator.next();
+			if (this.retainReadLines && this.retainedLines != null) {
+				if (this.retainedLines.size() < MAX_RETAINED_LINES) {
+					this.retainedLines.add(line);
+				}
+				else {
+					this.retainedLines = null;
+				}
+			}
+			return line;
+		}
+	}
+
 	static boolean isFastForwardLine(String line) {
 		line = line.strip();
 		return line.length() >= 4 && line.startsWith(">>") && line.endsWith(">>");
@@ -219,17 +415,7 @@ class AssertLinesMatch {
 	}
 
 	static boolean matches(String expectedLine, String actualLine) {
-		notNull(expectedLine, "expected line must not be null");
-		notNull(actualLine, "actual line must not be null");
-		if (expectedLine.equals(actualLine)) {
-			return true;
-		}
-		try {
-			return actualLine.matches(expectedLine);
-		}
-		catch (PatternSyntaxException ignore) {
-			return false;
-		}
+		return new ExpectedLine(expectedLine).matches(actualLine);
 	}
 
 }
@@ -15,6 +15,8 @@ import static org.apiguardian.api.API.Status.STABLE;
 import static org.junit.jupiter.api.AssertionUtils.getCanonicalName;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
 import java.util.function.Supplier;
 
 import org.apiguardian.api.API;
@@ -57,6 +59,8 @@ public class AssertionFailureBuilder {
 
 	private boolean includeValuesInMessage = true;
 
+	private @Nullable Supplier<@Nullable String> details;
+
 	private @Nullable Class<?> trimStackTraceTarget;
 
 	private int retainStackTraceElements = DEFAULT_RETAIN_STACKTRACE_ELEMENTS;
@@ -136,6 +140,10 @@ public class AssertionFailureBuilder {
 	 * Set whether to include the actual and expected values in the generated
 	 * failure message.
 	 *
+	 * <p>If both values are {@link List Lists} and at least one of them has
+	 * more than 20 elements, the generated failure message only includes their
+	 * sizes followed by a diff of their elements.
+	 *
 	 * @param includeValuesInMessage whether to include the actual and expected
 	 * values
 	 * @return this builder for method chaining
@@ -145,6 +153,19 @@ public class AssertionFailureBuilder {
 		return this;
 	}
 
+	/**
+	 * Set a supplier of details, such as a diff of the expected and actual
+	 * values, that are appended to the generated failure message on separate
+	 * lines unless the supplier returns {@code null}.
+	 *
+	 * @param details the supplier of details
+	 * @return this builder for method chaining
+	 */
+	AssertionFailureBuilder details(Supplier<@Nullable String> details) {
+		this.details = details;
+		return this;
+	}
+
 	/**
 	 * Set target to trim the stacktrace to.
 	 *
@@ -199,8 +220,17 @@ public class AssertionFailureBuilder {
 	 */
 	public AssertionFailedError build() {
 		String reason = nullSafeGet(this.reason);
+		Supplier<@Nullable String> details = this.details;
 		if (mismatch && includeValuesInMessage) {
-			reason = (reason == null ? "" : reason + ", ") + formatValues(expected, actual);
+			// render a diff instead of the complete lists if they are large
+			String diff = (details == null ? formatDiffOfLists(expected, actual) : null);
+			reason = (reason == null ? "" : reason + ", ") + (diff != null ? diff : formatValues(expected, actual));
+		}
+		if (details != null) {
+			String detailsString = details.get();
+			if (detailsString != null) {
+				reason = (reason == null ? "" : reason + System.lineSeparator()) + detailsString;
+			}
 		}
 		String message = nullSafeGet(this.message);
 		if (reason != null) {
@@ -268,6 +298,27 @@ public class AssertionFailureBuilder {
 		return "expected: <%s> but was: <%s>".formatted(expectedString, actualString);
 	}
 
+	/**
+	 * Format the sizes and the differences of the supplied values if both are
+	 * lists and at least one of them is large, or return {@code null} if that
+	 * is not the case or if they are equal, e.g. for a failed
+	 * {@code assertSame()}.
+	 */
+	private static @Nullable String formatDiffOfLists(@Nullable Object expected, @Nullable Object actual) {
+		if (expected instanceof List<?> expectedList && actual instanceof List<?> actualList) {
+			String diff = SequenceDiff.render(SequenceDiff.asList(expectedList), SequenceDiff.asList(actualList),
+				Objects::equals, 0).get();
+			if (diff != null) {
+				return formatSizes(expectedList, actualList) + System.lineSeparator() + diff;
+			}
+		}
+		return null;
+	}
+
+	private static String formatSizes(List<?> expected, List<?> actual) {
+		return "expected: <%d elements> but was: <%d elements>".formatted(expected.size(), actual.size());
+	}
+
 	private static String formatClassAndValue(@Nullable Object value, String valueString) {
 		// If the value is null, return <null> instead of null<null>.
 		if (value == null) {
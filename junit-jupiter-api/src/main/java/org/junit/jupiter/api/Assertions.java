@@ -1716,8 +1716,9 @@ public class Assertions {
 	 *
 	 * <p>Find a detailed description of the matching algorithm in {@link #assertLinesMatch(List, List)}.
 	 *
-	 * <p>Note: An implementation of this method may consume all lines of both streams eagerly and
-	 * delegate the evaluation to {@link #assertLinesMatch(List, List)}.
+	 * <p>Note: Lines are read from both streams on demand, so that arbitrarily long streams can
+	 * be matched in bounded memory. If a stream contains more than 10,000 lines, the failure
+	 * does not report the expected and actual lines as values, but only describes the difference.
 	 *
 	 * @since 5.7
 	 * @see #assertLinesMatch(List, List)
@@ -1734,8 +1735,9 @@ public class Assertions {
 	 *
 	 * <p>Fails with the supplied failure {@code message} and the generated message.
 	 *
-	 * <p>Note: An implementation of this method may consume all lines of both streams eagerly and
-	 * delegate the evaluation to {@link #assertLinesMatch(List, List)}.
+	 * <p>Note: Lines are read from both streams on demand, so that arbitrarily long streams can
+	 * be matched in bounded memory. If a stream contains more than 10,000 lines, the failure
+	 * does not report the expected and actual lines as values, but only describes the difference.
 	 *
 	 * @since 5.7
 	 * @see #assertLinesMatch(List, List)
@@ -1755,8 +1757,9 @@ public class Assertions {
 	 * {@code messageSupplier}. Fails with the custom failure message prepended to
 	 * a generated failure message describing the difference.
 	 *
-	 * <p>Note: An implementation of this method may consume all lines of both streams eagerly and
-	 * delegate the evaluation to {@link #assertLinesMatch(List, List)}.
+	 * <p>Note: Lines are read from both streams on demand, so that arbitrarily long streams can
+	 * be matched in bounded memory. If a stream contains more than 10,000 lines, the failure
+	 * does not report the expected and actual lines as values, but only describes the difference.
 	 *
 	 * @since 5.7
 	 * @see #assertLinesMatch(List, List)
@@ -16,11 +16,14 @@ import static org.apiguardian.api.API.Status.STABLE;
 
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.apiguardian.api.API;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.TestResultsStore;
 
 /**
  * {@code ClassOrderer} defines the API for ordering top-level test classes and
@@ -51,6 +54,7 @@ import org.junit.platform.commons.logging.LoggerFactory;
  * <li>{@link ClassOrderer.Default}</li>
  * <li>{@link ClassOrderer.DisplayName}</li>
  * <li>{@link ClassOrderer.OrderAnnotation}</li>
+ * <li>{@link ClassOrderer.PreviouslyFailedFirst}</li>
  * <li>{@link ClassOrderer.Random}</li>
  * </ul>
  *
@@ -270,4 +274,48 @@ public interface ClassOrderer {
 		}
 	}
 
+	/**
+	 * {@code ClassOrderer} that orders classes containing tests that failed in
+	 * the previous run first, followed by classes containing tests that failed
+	 * in at least one of their recent runs, and then all remaining classes.
+	 *
+	 * <p>Classes with the same priority retain their relative order.
+	 *
+	 * <p>The results of previous runs are recorded by the
+	 * {@code TestResultsTrackingListener} of the JUnit Platform Launcher which
+	 * has to be enabled via the
+	 * {@code junit.platform.listeners.results.tracking.enabled} configuration
+	 * parameter. They are read from the reporting output directory configured
+	 * via the {@code junit.platform.reporting.output.dir} configuration
+	 * parameter or, if not set, the default output directory of the build tool
+	 * used in the current working directory. Tests in nested classes are taken
+	 * into account for their enclosing classes.
+	 *
+	 * <p>Combined with fail-fast execution, this orderer reduces the time it
+	 * takes to learn whether a previously failing test is fixed.
+	 *
+	 * @since 6.2
+	 * @see MethodOrderer.PreviouslyFailedFirst
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	class PreviouslyFailedFirst implements ClassOrderer {
+
+		public PreviouslyFailedFirst() {
+		}
+
+		/**
+		 * Order the classes encapsulated in the supplied
+		 * {@link ClassOrdererContext} by the results of their tests in previous
+		 * runs.
+		 */
+		@Override
+		public void orderClasses(ClassOrdererContext context) {
+			TestResultsStore store = PreviouslyFailedFirstOrdererUtils.getStore(context.getOutputDirectory());
+			Map<ClassDescriptor, TestResultsStore.Status> statuses = new HashMap<>();
+			context.getClassDescriptors().forEach(descriptor -> statuses.put(descriptor,
+				store.getStatusByClassName(descriptor.getTestClass().getName())));
+			context.getClassDescriptors().sort(Comparator.comparing(statuses::get, Comparator.reverseOrder()));
+		}
+	}
+
 }
@@ -20,6 +20,7 @@ import org.junit.jupiter.api.extension.TestInstantiationAwareExtension.Extension
 import org.junit.jupiter.api.io.CleanupMode;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.util.SetSystemProperty;
 
 /**
  * Collection of configuration constants for the Jupiter test engine.
@@ -429,6 +430,35 @@ public final class Constants {
 	 */
 	public static final String DEFAULT_TEST_CLASS_INSTANCE_CONSTRUCTION_EXTENSION_CONTEXT_SCOPE_PROPERTY_NAME = ExtensionContextScope.DEFAULT_SCOPE_PROPERTY_NAME;
 
+	/**
+	 * Property name used to enable thread isolation of system properties
+	 * modified via {@link org.junit.jupiter.api.util.SetSystemProperty @SetSystemProperty},
+	 * {@link org.junit.jupiter.api.util.ClearSystemProperty @ClearSystemProperty},
+	 * and {@link org.junit.jupiter.api.util.RestoreSystemProperties @RestoreSystemProperties}:
+	 * {@value}
+	 *
+	 * <p>This behavior is disabled by default.
+	 *
+	 * @since 6.2
+	 * @see SetSystemProperty#ISOLATION_ENABLED_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String EXTENSIONS_SYSTEM_PROPERTIES_ISOLATION_ENABLED_PROPERTY_NAME = SetSystemProperty.ISOLATION_ENABLED_PROPERTY_NAME;
+
+	/**
+	 * Property name used to limit the number of dynamic tests and containers
+	 * of a {@link TestFactory @TestFactory} method or {@link DynamicContainer}
+	 * that may be executing or waiting to be executed at the same time:
+	 * {@value}
+	 *
+	 * <p>Value must be a positive integer; there is no limit by default.
+	 *
+	 * @since 6.2
+	 * @see TestFactory#MAX_IN_FLIGHT_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String DYNAMIC_TESTS_MAX_IN_FLIGHT_PROPERTY_NAME = TestFactory.MAX_IN_FLIGHT_PROPERTY_NAME;
+
 	private Constants() {
 		/* no-op */
 	}
@@ -17,6 +17,8 @@ import static org.apiguardian.api.API.Status.STABLE;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import org.apiguardian.api.API;
@@ -25,6 +27,7 @@ import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.ClassUtils;
+import org.junit.platform.commons.util.TestResultsStore;
 
 /**
  * {@code MethodOrderer} defines the API for ordering the <em>test methods</em>
@@ -48,6 +51,7 @@ import org.junit.platform.commons.util.ClassUtils;
  * <li>{@link Default}</li>
  * <li>{@link MethodName}</li>
  * <li>{@link OrderAnnotation}</li>
+ * <li>{@link PreviouslyFailedFirst}</li>
  * <li>{@link Random}</li>
  * </ul>
  *
@@ -252,6 +256,52 @@ public interface MethodOrderer {
 		}
 	}
 
+	/**
+	 * {@code MethodOrderer} that orders methods that failed in the previous
+	 * run first, followed by methods that failed in at least one of their
+	 * recent runs, and then all remaining methods.
+	 *
+	 * <p>Methods with the same priority retain their relative order. For test
+	 * templates and test factories, the results of all their invocations and
+	 * dynamic tests are taken into account.
+	 *
+	 * <p>The results of previous runs are recorded by the
+	 * {@code TestResultsTrackingListener} of the JUnit Platform Launcher which
+	 * has to be enabled via the
+	 * {@code junit.platform.listeners.results.tracking.enabled} configuration
+	 * parameter. They are read from the reporting output directory configured
+	 * via the {@code junit.platform.reporting.output.dir} configuration
+	 * parameter or, if not set, the default output directory of the build tool
+	 * used in the current working directory.
+	 *
+	 * @since 6.2
+	 * @see ClassOrderer.PreviouslyFailedFirst
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	class PreviouslyFailedFirst implements MethodOrderer {
+
+		public PreviouslyFailedFirst() {
+		}
+
+		/**
+		 * Order the methods encapsulated in the supplied
+		 * {@link MethodOrdererContext} by their results in previous runs.
+		 */
+		@Override
+		public void orderMethods(MethodOrdererContext context) {
+			TestResultsStore store = PreviouslyFailedFirstOrdererUtils.getStore(context.getOutputDirectory());
+			String className = context.getTestClass().getName();
+			Map<MethodDescriptor, TestResultsStore.Status> statuses = new HashMap<>();
+			context.getMethodDescriptors().forEach(descriptor -> {
+				Method method = descriptor.getMethod();
+				String source = TestResultsStore.methodKey(className, method.getName(),
+					ClassUtils.nullSafeToString(method.getParameterTypes()));
+				statuses.put(descriptor, store.getStatusBySource(source));
+			});
+			context.getMethodDescriptors().sort(Comparator.comparing(statuses::get, Comparator.reverseOrder()));
+		}
+	}
+
 	/**
 	 * {@code MethodOrderer} that orders methods pseudo-randomly.
 	 *
@@ -10,8 +10,10 @@
 
 package org.junit.jupiter.api;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 
@@ -60,4 +62,24 @@ public interface MethodOrdererContext {
 	 */
 	Optional<String> getConfigurationParameter(String key);
 
+	/**
+	 * Get the root directory for output files of the current test run.
+	 *
+	 * <p>The directory is the reporting output directory configured via the
+	 * {@code junit.platform.reporting.output.dir} configuration parameter or,
+	 * if not set, determined based on the build tool used in the current
+	 * working directory.
+	 *
+	 * <p>The default implementation returns an empty {@code Optional}.
+	 *
+	 * @return an {@code Optional} containing the root output directory; never
+	 * {@code null} but potentially empty if writing output files is not
+	 * supported
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	default Optional<Path> getOutputDirectory() {
+		return Optional.empty();
+	}
+
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.util.TestResultsStore;
+
+/**
+ * Shared utility methods for ordering previously failed test classes and test
+ * methods first.
+ *
+ * @since 6.2
+ * @see ClassOrderer.PreviouslyFailedFirst
+ * @see MethodOrderer.PreviouslyFailedFirst
+ */
+class PreviouslyFailedFirstOrdererUtils {
+
+	private static volatile @Nullable CachedStore cachedStore;
+
+	/**
+	 * Get the store of the previous run in the supplied output directory,
+	 * reusing the last read store as long as the underlying file has not been
+	 * modified.
+	 *
+	 * <p>If no output directory is available, an empty store is returned.
+	 */
+	static TestResultsStore getStore(Optional<Path> outputDirectory) {
+		if (outputDirectory.isEmpty()) {
+			return new TestResultsStore();
+		}
+		Path file = outputDirectory.get().resolve(TestResultsStore.FILE_NAME);
+		FileTime lastModified = getLastModifiedTime(file);
+		CachedStore cached = cachedStore;
+		if (cached != null && cached.file().equals(file) && cached.lastModified().equals(lastModified)) {
+			return cached.store();
+		}
+		TestResultsStore store = TestResultsStore.read(file);
+		cachedStore = new CachedStore(file, lastModified, store);
+		return store;
+	}
+
+	private static FileTime getLastModifiedTime(Path file) {
+		try {
+			return Files.getLastModifiedTime(file);
+		}
+		catch (IOException ex) {
+			return FileTime.fromMillis(0);
+		}
+	}
+
+	private record CachedStore(Path file, FileTime lastModified, TestResultsStore store) {
+	}
+
+	private PreviouslyFailedFirstOrdererUtils() {
+	}
+}
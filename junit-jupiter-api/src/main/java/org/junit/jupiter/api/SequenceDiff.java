@@ -0,0 +1,291 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api;
+
+import java.lang.reflect.Array;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.util.StringUtils;
+
+/**
+ * {@code SequenceDiff} renders the differences between two sequences of
+ * elements as hunks of a unified diff for the failure messages of
+ * {@code assertArrayEquals()}, {@code assertIterableEquals()},
+ * {@code assertEquals()} for lists, and {@code assertLinesMatch()}.
+ *
+ * <p>The differences are computed using Myers' algorithm after stripping the
+ * common prefix and suffix of both sequences. Since the algorithm gives up
+ * once more than {@value #MAX_DIFFERENCES} differences have been found, and
+ * only a limited number of hunks with a few elements of context each are
+ * rendered, the cost of rendering a diff is proportional to the size of the
+ * difference rather than to the size of the sequences.
+ *
+ * <p>Diffs are only rendered if at least one of the sequences has more than
+ * {@value #MIN_SIZE} elements; shorter sequences are easy to compare based on
+ * the values reported by the failure.
+ *
+ * @since 6.2
+ */
+final class SequenceDiff {
+
+	private static final int MIN_SIZE = 20;
+
+	private static final int MAX_DIFFERENCES = 100;
+
+	private static final int CONTEXT_SIZE = 3;
+
+	private static final int MAX_HUNKS = 5;
+
+	private static final int MAX_ELEMENT_LENGTH = 80;
+
+	/**
+	 * Create a {@link Supplier} that lazily renders the differences between
+	 * the supplied sequences, or returns {@code null} if no diff should be
+	 * rendered for them or if they do not differ.
+	 *
+	 * @param expected the expected elements
+	 * @param actual the actual elements
+	 * @param equality the predicate used to compare expected and actual
+	 * elements, in that order
+	 * @param firstIndex the index to use for the first element in hunk
+	 * headers; typically {@code 0} for elements and {@code 1} for lines
+	 */
+	static Supplier<@Nullable String> render(List<?> expected, List<?> actual,
+			BiPredicate<@Nullable Object, @Nullable Object> equality, int firstIndex) {
+		return () -> {
+			if (expected.size() <= MIN_SIZE && actual.size() <= MIN_SIZE) {
+				return null;
+			}
+			return new Computation(expected, actual, equality).render(firstIndex);
+		};
+	}
+
+	/**
+	 * Get a {@link List} view of the supplied array that boxes primitive
+	 * elements on access.
+	 */
+	static List<?> asList(Object array) {
+		if (array instanceof Object[] objects) {
+			return Arrays.asList(objects);
+		}
+		return new ArrayView(array);
+	}
+
+	/**
+	 * Get a {@link List} with the elements of the supplied
+	 * {@link Collection} that supports efficient random access.
+	 */
+	static List<?> asList(Collection<?> collection) {
+		if (collection instanceof List<?> list && collection instanceof RandomAccess) {
+			return list;
+		}
+		return new ArrayList<>(collection);
+	}
+
+	private SequenceDiff() {
+		/* no-op */
+	}
+
+	private static final class Computation {
+
+		private final List<?> expected;
+		private final List<?> actual;
+		private final BiPredicate<@Nullable Object, @Nullable Object> equality;
+		private final List<Edit> edits = new ArrayList<>();
+
+		Computation(List<?> expected, List<?> actual, BiPredicate<@Nullable Object, @Nullable Object> equality) {
+			this.expected = expected;
+			this.actual = actual;
+			this.equality = equality;
+		}
+
+		@Nullable
+		String render(int firstIndex) {
+			int expectedSize = this.expected.size();
+			int actualSize = this.actual.size();
+			int prefix = 0;
+			while (prefix < expectedSize && prefix < actualSize && matches(prefix, prefix)) {
+				prefix++;
+			}
+			int suffix = 0;
+			while (suffix < expectedSize - prefix && suffix < actualSize - prefix
+					&& matches(expectedSize - 1 - suffix, actualSize - 1 - suffix)) {
+				suffix++;
+			}
+			if (!computeEdits(prefix, expectedSize - prefix - suffix, actualSize - prefix - suffix)) {
+				return "more than %d differences, the first one at index [%d]".formatted(MAX_DIFFERENCES,
+					firstIndex + prefix);
+			}
+			return this.edits.isEmpty() ? null : renderHunks(firstIndex);
+		}
+
+		private boolean matches(int expectedIndex, int actualIndex) {
+			return this.equality.test(this.expected.get(expectedIndex), this.actual.get(actualIndex));
+		}
+
+		/**
+		 * Compute the shortest edit script for the supplied ranges of both
+		 * sequences using Myers' greedy algorithm.
+		 *
+		 * @return {@code false} if there are more than
+		 * {@value #MAX_DIFFERENCES} differences
+		 */
+		private boolean computeEdits(int offset, int expectedLength, int actualLength) {
+			int maxDifferences = Math.min(expectedLength + actualLength, MAX_DIFFERENCES);
+			int center = maxDifferences + 1;
+			int[] furthestX = new int[2 * maxDifferences + 3];
+			List<int[]> trace = new ArrayList<>();
+			for (int d = 0; d <= maxDifferences; d++) {
+				trace.add(furthestX.clone());
+				for (int k = -d; k <= d; k += 2) {
+					int x = (k == -d || (k != d && furthestX[center + k - 1] < furthestX[center + k + 1]))
+							? furthestX[center + k + 1]
+							: furthestX[center + k - 1] + 1;
+					int y = x - k;
+					while (x < expectedLength && y < actualLength && matches(offset + x, offset + y)) {
+						x++;
+						y++;
+					}
+					furthestX[center + k] = x;
+					if (x >= expectedLength && y >= actualLength) {
+						backtrack(trace, center, offset, expectedLength, actualLength, d);
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+
+		private void backtrack(List<int[]> trace, int center, int offset, int x, int y, int differences) {
+			for (int d = differences; d > 0; d--) {
+				int[] previousX = trace.get(d);
+				int k = x - y;
+				boolean insertion = k == -d || (k != d && previousX[center + k - 1] < previousX[center + k + 1]);
+				int previousK = insertion ? k + 1 : k - 1;
+				x = previousX[center + previousK];
+				y = x - previousK;
+				this.edits.add(new Edit(insertion, offset + x, offset + y));
+			}
+			Collections.reverse(this.edits);
+		}
+
+		private String renderHunks(int firstIndex) {
+			StringBuilder builder = new StringBuilder("differences (-expected +actual):");
+			int hunks = 0;
+			int start = 0;
+			while (start < this.edits.size()) {
+				int end = start + 1;
+				while (end < this.edits.size() && this.edits.get(end - 1).overlapsContextOf(this.edits.get(end))) {
+					end++;
+				}
+				if (hunks == MAX_HUNKS) {
+					int remaining = this.edits.size() - start;
+					builder.append(System.lineSeparator()).append(
+						"[...] %d more %s".formatted(remaining, remaining == 1 ? "difference" : "differences"));
+					break;
+				}
+				renderHunk(builder, this.edits.subList(start, end), firstIndex);
+				hunks++;
+				start = end;
+			}
+			return builder.toString();
+		}
+
+		private void renderHunk(StringBuilder builder, List<Edit> hunk, int firstIndex) {
+			Edit first = hunk.get(0);
+			Edit last = hunk.get(hunk.size() - 1);
+			int leadingContext = Math.min(CONTEXT_SIZE, Math.min(first.expectedIndex, first.actualIndex));
+			int trailingContext = Math.min(CONTEXT_SIZE, this.expected.size() - last.nextExpectedIndex());
+			int expectedStart = first.expectedIndex - leadingContext;
+			int actualStart = first.actualIndex - leadingContext;
+			int expectedEnd = last.nextExpectedIndex() + trailingContext;
+			int actualEnd = last.nextActualIndex() + trailingContext;
+			builder.append(System.lineSeparator()).append("@@ -%d,%d +%d,%d @@".formatted(firstIndex + expectedStart,
+				expectedEnd - expectedStart, firstIndex + actualStart, actualEnd - actualStart));
+
+			int expectedIndex = expectedStart;
+			for (Edit edit : hunk) {
+				while (expectedIndex < edit.expectedIndex) {
+					appendLine(builder, ' ', this.expected.get(expectedIndex++));
+				}
+				if (edit.insertion) {
+					appendLine(builder, '+', this.actual.get(edit.actualIndex));
+				}
+				else {
+					appendLine(builder, '-', this.expected.get(expectedIndex++));
+				}
+			}
+			while (expectedIndex < expectedEnd) {
+				appendLine(builder, ' ', this.expected.get(expectedIndex++));
+			}
+		}
+
+		private static void appendLine(StringBuilder builder, char marker, @Nullable Object element) {
+			String text = StringUtils.nullSafeToString(element);
+			if (text.length() > MAX_ELEMENT_LENGTH) {
+				text = text.substring(0, MAX_ELEMENT_LENGTH - 5) + "[...]";
+			}
+			builder.append(System.lineSeparator()).append(marker).append(' ').append(text);
+		}
+	}
+
+	/**
+	 * Insertion of an actual element or deletion of an expected element at
+	 * the supplied positions of both sequences.
+	 */
+	private record Edit(boolean insertion, int expectedIndex, int actualIndex) {
+
+		int nextExpectedIndex() {
+			return insertion ? expectedIndex : expectedIndex + 1;
+		}
+
+		int nextActualIndex() {
+			return insertion ? actualIndex + 1 : actualIndex;
+		}
+
+		/**
+		 * Determine whether the context of this edit and the supplied next
+		 * edit would overlap, so that both should be rendered in one hunk.
+		 */
+		boolean overlapsContextOf(Edit next) {
+			return next.expectedIndex - nextExpectedIndex() <= 2 * CONTEXT_SIZE;
+		}
+	}
+
+	private static final class ArrayView extends AbstractList<Object> implements RandomAccess {
+
+		private final Object array;
+
+		ArrayView(Object array) {
+			this.array = array;
+		}
+
+		@Override
+		public Object get(int index) {
+			return Array.get(this.array, index);
+		}
+
+		@Override
+		public int size() {
+			return Array.getLength(this.array);
+		}
+	}
+
+}
@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.api;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 
 import java.lang.annotation.Documented;
@@ -85,4 +86,26 @@ import org.junit.platform.commons.annotation.Testable;
 @API(status = MAINTAINED, since = "5.3")
 @Testable
 public @interface TestFactory {
+
+	/**
+	 * Property name used to limit the number of dynamic tests and containers
+	 * of a {@code @TestFactory} method or {@link DynamicContainer} that may be
+	 * executing or waiting to be executed at the same time: {@value}
+	 *
+	 * <p>When set, the next {@link DynamicNode} is only requested from the
+	 * {@code Stream}, {@code Iterator}, or other source returned by the factory
+	 * once fewer than the configured number of previously requested nodes are
+	 * unfinished. This keeps memory consumption constant for factories that
+	 * lazily generate a large number of dynamic tests while still executing
+	 * them in parallel. Since the limit applies to each factory method and
+	 * dynamic container separately, nested dynamic containers may have more
+	 * descendants in flight.
+	 *
+	 * <p>Value must be a positive integer; there is no limit by default.
+	 *
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	String MAX_IN_FLIGHT_PROPERTY_NAME = "junit.jupiter.execution.dynamic.max-in-flight";
+
 }
@@ -37,6 +37,14 @@ abstract class AbstractJreCondition<A extends Annotation> extends BooleanExecuti
 		super(annotationType, ENABLED_ON_CURRENT_JRE, DISABLED_ON_CURRENT_JRE, customDisabledReason);
 	}
 
+	/**
+	 * The current JRE version cannot change.
+	 */
+	@Override
+	public ResultScope getResultScope() {
+		return ResultScope.CLASS;
+	}
+
 	protected final IntStream validatedVersions(JRE[] jres, int[] versions) {
 		String annotationName = super.annotationType.getSimpleName();
 
@@ -35,6 +35,14 @@ abstract class AbstractJreRangeCondition<A extends Annotation> extends BooleanEx
 		super(annotationType, ENABLED_ON_CURRENT_JRE, DISABLED_ON_CURRENT_JRE, customDisabledReason);
 	}
 
+	/**
+	 * The current JRE version cannot change.
+	 */
+	@Override
+	public ResultScope getResultScope() {
+		return ResultScope.CLASS;
+	}
+
 	protected final boolean isCurrentVersionWithinRange(JRE minJre, JRE maxJre, int minVersion, int maxVersion) {
 		String annotationName = super.annotationType.getSimpleName();
 
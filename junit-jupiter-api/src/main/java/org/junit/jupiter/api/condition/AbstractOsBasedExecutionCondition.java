@@ -42,6 +42,14 @@ abstract class AbstractOsBasedExecutionCondition<A extends Annotation> implement
 				.orElseGet(this::enabledByDefault);
 	}
 
+	/**
+	 * The current operating system and architecture cannot change.
+	 */
+	@Override
+	public ResultScope getResultScope() {
+		return ResultScope.CLASS;
+	}
+
 	abstract ConditionEvaluationResult evaluateExecutionCondition(A annotation);
 
 	String createReason(boolean enabled, boolean osSpecified, boolean archSpecified) {
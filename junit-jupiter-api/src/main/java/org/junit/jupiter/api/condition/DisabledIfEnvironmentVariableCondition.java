@@ -34,6 +34,14 @@ class DisabledIfEnvironmentVariableCondition
 		super(DisabledIfEnvironmentVariable.class);
 	}
 
+	/**
+	 * The environment of the current process cannot change.
+	 */
+	@Override
+	public ResultScope getResultScope() {
+		return ResultScope.CLASS;
+	}
+
 	@Override
 	protected ConditionEvaluationResult getNoDisabledConditionsEncounteredResult() {
 		return ENABLED;
@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.api.extension;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import org.apiguardian.api.API;
@@ -31,6 +32,11 @@ import org.apiguardian.api.API;
  * the execution of class-level lifecycle callbacks such as {@code @BeforeAll}
  * methods, {@code @AfterAll} methods, and corresponding extension APIs.
  *
+ * <p>By default, a condition is evaluated for every container and test. If
+ * its result depends on less than the supplied {@link ExtensionContext}, a
+ * condition may override {@link #getResultScope()} to allow its results to be
+ * reused.
+ *
  * <h2>Constructor Requirements</h2>
  *
  * <p>Consult the documentation in {@link Extension} for details on
@@ -70,4 +76,66 @@ public interface ExecutionCondition extends Extension {
 	 */
 	ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context);
 
+	/**
+	 * Get the {@link ResultScope} of this condition which determines for which
+	 * containers and tests the result of an evaluation may be reused.
+	 *
+	 * <p>Defaults to {@link ResultScope#METHOD METHOD}, i.e. this condition
+	 * is evaluated for every container and test.
+	 *
+	 * @implNote There are no guarantees about how often this method will be
+	 * called. Therefore, implementations should be idempotent and avoid side
+	 * effects.
+	 * @return the result scope of this condition; never {@code null}
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	default ResultScope getResultScope() {
+		return ResultScope.METHOD;
+	}
+
+	/**
+	 * {@code ResultScope} defines on what the result of evaluating an
+	 * {@link ExecutionCondition} depends and, therefore, how long it may be
+	 * reused.
+	 *
+	 * <p>Results are cached per condition instance; a condition that throws
+	 * an exception is evaluated again the next time it is needed.
+	 *
+	 * @since 6.2
+	 * @see ExecutionCondition#getResultScope()
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	enum ResultScope {
+
+		/**
+		 * The result depends only on state of the JVM that does not change
+		 * during test execution, not on the supplied {@link ExtensionContext}.
+		 *
+		 * <p>Each instance of the condition is evaluated at most once per
+		 * execution of the test engine.
+		 */
+		JVM,
+
+		/**
+		 * The result depends only on the {@linkplain ExtensionContext#getElement()
+		 * element} of the supplied {@link ExtensionContext} and state of the
+		 * JVM that does not change during test execution.
+		 *
+		 * <p>The condition is evaluated at most once per element while the
+		 * enclosing test class is executed; the result is reused, for example,
+		 * for all invocations of a test template method or a class template.
+		 */
+		CLASS,
+
+		/**
+		 * The result may depend on anything available via the supplied
+		 * {@link ExtensionContext}.
+		 *
+		 * <p>The condition is evaluated for every container and test.
+		 */
+		METHOD
+
+	}
+
 }
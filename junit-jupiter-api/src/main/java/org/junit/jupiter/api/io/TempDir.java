@@ -62,6 +62,15 @@ import org.junit.jupiter.api.extension.ParameterResolutionException;
  * {@code static} field or on a parameter of a
  * {@link org.junit.jupiter.api.BeforeAll @BeforeAll} method.
  *
+ * <h2>Template</h2>
+ *
+ * <p>If a {@link #template() template} directory is declared, the temporary
+ * directory is populated with the files and directories of the template
+ * after it has been created. The template is scanned only once per test run;
+ * its files are then copied or, depending on the configured
+ * {@link #templateCopyMode() TemplateCopyMode}, hard-linked into each
+ * temporary directory.
+ *
  * <h2>Cleanup/Deletion</h2>
  *
  * <p>By default, when the end of the scope of a temporary directory is reached,
@@ -190,4 +199,32 @@ public @interface TempDir {
 	@API(status = EXPERIMENTAL, since = "6.1")
 	Class<? extends TempDirDeletionStrategy> deletionStrategy() default TempDirDeletionStrategy.class;
 
+	/**
+	 * Path to a template directory whose contents are used to populate the
+	 * temporary directory.
+	 *
+	 * <p>Relative paths are resolved against the current working directory.
+	 * Defaults to an empty string which means that the temporary directory is
+	 * not populated.
+	 *
+	 * @return the path of the template directory
+	 * @since 6.2
+	 * @see #templateCopyMode()
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	String template() default "";
+
+	/**
+	 * How the files of the {@link #template() template} are copied into the
+	 * temporary directory.
+	 *
+	 * <p>Defaults to {@link TemplateCopyMode#COPY}.
+	 *
+	 * @return the {@code TemplateCopyMode} to use
+	 * @since 6.2
+	 * @see TemplateCopyMode
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	TemplateCopyMode templateCopyMode() default TemplateCopyMode.COPY;
+
 }
@@ -12,12 +12,14 @@ package org.junit.jupiter.api.io;
 
 import static java.nio.file.FileVisitResult.CONTINUE;
 import static java.nio.file.FileVisitResult.SKIP_SUBTREE;
+import static java.util.Objects.requireNonNull;
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.Serial;
+import java.io.UncheckedIOException;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
@@ -31,12 +33,21 @@ import java.nio.file.LinkOption;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.DosFileAttributeView;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 
 import org.apiguardian.api.API;
@@ -148,6 +159,145 @@ public interface TempDirDeletionStrategy {
 		}
 	}
 
+	/**
+	 * A {@link TempDirDeletionStrategy} that deletes temporary directories
+	 * asynchronously so that deletion is not in the critical path of test
+	 * execution.
+	 *
+	 * <p>The temporary directory is first moved into a trash directory next to
+	 * it; if that is not possible, it is left in place. Afterwards, it is
+	 * deleted on a background thread using the {@link Standard} strategy.
+	 * Temporary directories that do not belong to the
+	 * {@linkplain FileSystems#getDefault() default file system} are deleted
+	 * synchronously.
+	 *
+	 * <p>All pending deletions are awaited before the execution of the test
+	 * engine finishes. Since deletion is deferred, the {@link DeletionResult}
+	 * returned by {@link #delete} is always successful. Instead, failures are
+	 * reported once all pending deletions have been awaited which causes the
+	 * execution of the test engine to be reported as failed.
+	 *
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	final class Async implements TempDirDeletionStrategy {
+
+		private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(Async.class);
+
+		/**
+		 * Create a new {@code Async} strategy.
+		 */
+		public Async() {
+		}
+
+		@Override
+		public DeletionResult delete(Path tempDir, AnnotatedElementContext elementContext,
+				ExtensionContext extensionContext) throws IOException {
+
+			if (!FileSystems.getDefault().equals(tempDir.getFileSystem())) {
+				// custom file systems might be closed by their factory right after deletion
+				return Standard.INSTANCE.delete(tempDir, elementContext, extensionContext);
+			}
+			extensionContext.getRoot().getStore(NAMESPACE) //
+					.computeIfAbsent(BackgroundDeleter.class) //
+					.submit(tempDir);
+			return DeletionResult.builder(tempDir).build();
+		}
+
+		@SuppressWarnings({ "deprecation", "try" })
+		static final class BackgroundDeleter implements ExtensionContext.Store.CloseableResource, AutoCloseable {
+
+			private static final Logger logger = LoggerFactory.getLogger(BackgroundDeleter.class);
+			private static final String TRASH_DIR_PREFIX = "junit-trash";
+
+			private final AtomicInteger threadNumber = new AtomicInteger();
+			private final ExecutorService executor = Executors.newFixedThreadPool(
+				Math.min(4, Runtime.getRuntime().availableProcessors()), runnable -> {
+					Thread thread = new Thread(runnable,
+						"junit-jupiter-tempdir-deleter-" + threadNumber.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+			private final Map<Path, Path> trashDirs = new ConcurrentHashMap<>();
+			private final Queue<DeletionResult> failedResults = new ConcurrentLinkedQueue<>();
+
+			void submit(Path tempDir) {
+				Path pathToDelete = moveToTrash(tempDir);
+				executor.execute(() -> {
+					try {
+						DeletionResult result = Standard.INSTANCE.delete(pathToDelete, Files::delete);
+						if (!result.isSuccessful()) {
+							failedResults.add(result);
+						}
+					}
+					catch (Exception ex) {
+						failedResults.add(DeletionResult.builder(pathToDelete).addFailure(pathToDelete, ex).build());
+					}
+				});
+			}
+
+			private Path moveToTrash(Path tempDir) {
+				Path parent = tempDir.toAbsolutePath().getParent();
+				if (parent != null) {
+					try {
+						Path trashDir = trashDirs.computeIfAbsent(parent, BackgroundDeleter::createTrashDir);
+						return Files.move(tempDir, trashDir.resolve(requireNonNull(tempDir.getFileName()).toString()),
+							StandardCopyOption.ATOMIC_MOVE);
+					}
+					catch (IOException | UncheckedIOException | UnsupportedOperationException ex) {
+						logger.debug(ex,
+							() -> "Failed to move %s to trash directory; deleting it in place".formatted(tempDir));
+					}
+				}
+				return tempDir;
+			}
+
+			private static Path createTrashDir(Path parent) {
+				try {
+					return Files.createTempDirectory(parent, TRASH_DIR_PREFIX);
+				}
+				catch (IOException ex) {
+					throw new UncheckedIOException(ex);
+				}
+			}
+
+			/**
+			 * Wait for all pending deletions to complete and report their
+			 * failures, if any.
+			 */
+			@Override
+			public void close() throws Exception {
+				executor.shutdown();
+				while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+					logger.info(() -> "Still waiting for temporary directories to be deleted");
+				}
+				trashDirs.values().forEach(BackgroundDeleter::deleteTrashDirIfEmpty);
+				DeletionException exception = null;
+				for (DeletionResult result : failedResults) {
+					DeletionException resultException = result.toException().orElseThrow();
+					if (exception == null) {
+						exception = resultException;
+					}
+					else {
+						exception.addSuppressed(resultException);
+					}
+				}
+				if (exception != null) {
+					throw exception;
+				}
+			}
+
+			private static void deleteTrashDirIfEmpty(Path trashDir) {
+				try {
+					Files.deleteIfExists(trashDir);
+				}
+				catch (IOException ex) {
+					logger.debug(ex, () -> "Failed to delete trash directory " + trashDir);
+				}
+			}
+		}
+	}
+
 	/**
 	 * Standard {@link TempDirDeletionStrategy} implementation that recursively
 	 * deletes all files and directories within the temporary directory.
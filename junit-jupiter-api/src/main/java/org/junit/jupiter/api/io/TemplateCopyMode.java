@@ -0,0 +1,44 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api.io;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
+
+/**
+ * Enumeration of modes for populating a {@link TempDir @TempDir} from its
+ * {@linkplain TempDir#template() template}.
+ *
+ * @since 6.2
+ * @see TempDir#template()
+ * @see TempDir#templateCopyMode()
+ */
+@API(status = EXPERIMENTAL, since = "6.2")
+public enum TemplateCopyMode {
+
+	/**
+	 * Copy each file of the template into the temporary directory.
+	 */
+	COPY,
+
+	/**
+	 * Create a hard link to each regular file of the template in the temporary
+	 * directory, falling back to {@link #COPY} if the file system does not
+	 * support hard links between the template and the temporary directory.
+	 *
+	 * <p>Since hard-linked files share their content with the template, tests
+	 * must not modify such files in place. Deleting, replacing, or renaming
+	 * them, as well as creating new files, does not affect the template.
+	 */
+	LINK
+
+}
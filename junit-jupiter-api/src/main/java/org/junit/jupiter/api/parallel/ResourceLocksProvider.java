@@ -11,12 +11,15 @@
 package org.junit.jupiter.api.parallel;
 
 import static java.util.Collections.emptySet;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.apiguardian.api.API;
 import org.junit.platform.commons.util.Preconditions;
@@ -127,6 +130,21 @@ public interface ResourceLocksProvider {
 		return emptySet();
 	}
 
+	/**
+	 * Initialize this provider with the configuration parameters of the
+	 * current test run.
+	 *
+	 * <p>Invoked once after this provider has been instantiated and before
+	 * any of the {@code provideFor*()} methods are invoked.
+	 *
+	 * @param configurationParameters a function that looks up the value of
+	 * the configuration parameter with the supplied key; never {@code null}
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	default void initialize(Function<String, Optional<String>> configurationParameters) {
+	}
+
 	/**
 	 * {@code Lock} represents a shared resource.
 	 *
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api.timeout;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Executor for code that is executed with a preemptive timeout.
+ *
+ * <p>Code is executed in daemon platform threads that are reused across
+ * invocations and terminated after being idle for
+ * {@value #KEEP_ALIVE_SECONDS} seconds. A thread is only reused once its
+ * previous invocation has completed: if an invocation does not respond to
+ * being interrupted after a timeout, its thread stays busy and subsequent
+ * invocations are executed in a new thread that replaces it. The context class
+ * loader of the calling thread is propagated to the executing thread for the
+ * duration of each invocation.
+ *
+ * <p>Since threads are reused, values of thread-local variables set by an
+ * invocation may be visible to subsequent invocations executed in the same
+ * thread, and inheritable thread-local variables of the calling thread are
+ * not propagated.
+ *
+ * @since 6.2
+ * @see PreemptiveTimeoutUtils
+ */
+@API(status = INTERNAL, since = "6.2")
+public final class PreemptiveTimeoutExecutor implements AutoCloseable {
+
+	private static final long KEEP_ALIVE_SECONDS = 60;
+
+	private static final PreemptiveTimeoutExecutor shared = new PreemptiveTimeoutExecutor();
+
+	/**
+	 * {@return the executor shared by all invocations that are not associated
+	 * with a more specific executor}
+	 *
+	 * <p>The shared executor must not be closed.
+	 */
+	public static PreemptiveTimeoutExecutor shared() {
+		return shared;
+	}
+
+	private static final AtomicInteger threadNumber = new AtomicInteger(1);
+
+	private final BlockingQueue<Runnable> queue = new LinkedBlockingQueue<>();
+	private final Set<Thread> workers = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Number of workers that have completed their last task and have not yet
+	 * been claimed for a new one.
+	 */
+	private final AtomicInteger idleWorkers = new AtomicInteger();
+
+	private volatile boolean closed;
+
+	public PreemptiveTimeoutExecutor() {
+	}
+
+	<T> Future<T> submit(Callable<T> callable) {
+		if (this.closed) {
+			throw new RejectedExecutionException("Executor has been closed");
+		}
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		FutureTask<T> task = new FutureTask<>(() -> {
+			Thread currentThread = Thread.currentThread();
+			ClassLoader originalClassLoader = currentThread.getContextClassLoader();
+			currentThread.setContextClassLoader(contextClassLoader);
+			try {
+				return callable.call();
+			}
+			finally {
+				currentThread.setContextClassLoader(originalClassLoader);
+				// Mark the worker as idle before the result is published so that
+				// the next invocation of the calling thread reuses it
+				this.idleWorkers.incrementAndGet();
+			}
+		});
+		if (claimIdleWorker()) {
+			this.queue.add(task);
+		}
+		else {
+			startWorker(task);
+		}
+		return task;
+	}
+
+	private boolean claimIdleWorker() {
+		int count;
+		do {
+			count = this.idleWorkers.get();
+			if (count == 0) {
+				return false;
+			}
+		} while (!this.idleWorkers.compareAndSet(count, count - 1));
+		return true;
+	}
+
+	private void startWorker(Runnable firstTask) {
+		Thread thread = new Thread(() -> runWorker(firstTask), "junit-timeout-thread-" + threadNumber.getAndIncrement());
+		thread.setDaemon(true);
+		this.workers.add(thread);
+		thread.start();
+	}
+
+	private void runWorker(Runnable firstTask) {
+		try {
+			Runnable task = firstTask;
+			while (task != null) {
+				task.run();
+				// Clear the interrupted status caused by cancelling the previous task
+				Thread.interrupted();
+				task = awaitNextTask();
+			}
+		}
+		finally {
+			this.workers.remove(Thread.currentThread());
+		}
+	}
+
+	private @Nullable Runnable awaitNextTask() {
+		while (!this.closed) {
+			try {
+				Runnable task = this.queue.poll(KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+				if (task != null) {
+					return task;
+				}
+				// Only terminate if no task has been handed to this worker in the
+				// meantime
+				if (claimIdleWorker()) {
+					return null;
+				}
+			}
+			catch (InterruptedException ignore) {
+				// check whether this executor has been closed
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Interrupt all threads that are still executing and terminate all idle
+	 * threads.
+	 */
+	@Override
+	public void close() {
+		this.closed = true;
+		this.workers.forEach(Thread::interrupt);
+		Runnable task;
+		while ((task = this.queue.poll()) != null) {
+			((Future<?>) task).cancel(false);
+		}
+	}
+
+}
@@ -17,13 +17,9 @@ import static org.junit.platform.commons.util.ExceptionUtils.throwAsUncheckedExc
 import java.io.Serial;
 import java.time.Duration;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
@@ -36,7 +32,12 @@ import org.junit.platform.commons.JUnitException;
 /**
  * Internal utilities for executing code with a preemptive timeout.
  *
+ * <p>Code is executed in threads of a {@link PreemptiveTimeoutExecutor} that
+ * are reused across invocations. A thread that does not respond to being
+ * interrupted after a timeout is not reused but replaced by a new thread.
+ *
  * @since 6.0
+ * @see PreemptiveTimeoutExecutor
  */
 @API(status = INTERNAL, since = "6.0")
 public class PreemptiveTimeoutUtils {
@@ -56,27 +57,49 @@ public class PreemptiveTimeoutUtils {
 	 *
 	 * <p>If necessary, the failure message will be retrieved lazily from the
 	 * supplied {@code messageSupplier}.
+	 *
+	 * <p>The {@code supplier} is executed using the
+	 * {@linkplain PreemptiveTimeoutExecutor#shared() shared executor}.
 	 */
 	public static <T extends @Nullable Object, E extends Throwable> T executeWithPreemptiveTimeout(Duration timeout,
 			ThrowingSupplier<T> supplier, @Nullable Supplier<@Nullable String> messageSupplier,
 			TimeoutFailureFactory<E> failureFactory) throws E {
 
+		return executeWithPreemptiveTimeout(timeout, supplier, messageSupplier, failureFactory,
+			PreemptiveTimeoutExecutor.shared());
+	}
+
+	/**
+	 * <em>Assert</em> that execution of the supplied {@code supplier}
+	 * completes before the given {@code timeout} is exceeded.
+	 *
+	 * <p>Behaves like
+	 * {@link #executeWithPreemptiveTimeout(Duration, ThrowingSupplier, Supplier, TimeoutFailureFactory)}
+	 * but executes the {@code supplier} using the supplied {@code executor}.
+	 *
+	 * @since 6.2
+	 */
+	@API(status = INTERNAL, since = "6.2")
+	public static <T extends @Nullable Object, E extends Throwable> T executeWithPreemptiveTimeout(Duration timeout,
+			ThrowingSupplier<T> supplier, @Nullable Supplier<@Nullable String> messageSupplier,
+			TimeoutFailureFactory<E> failureFactory, PreemptiveTimeoutExecutor executor) throws E {
+
 		AtomicReference<Thread> threadReference = new AtomicReference<>();
-		ExecutorService executorService = Executors.newSingleThreadExecutor(new TimeoutThreadFactory());
+		Future<T> future = submitTask(supplier, threadReference, executor);
 
 		try {
-			Future<T> future = submitTask(supplier, threadReference, executorService);
 			return resolveFutureAndHandleException(future, timeout, messageSupplier, threadReference::get,
 				failureFactory);
 		}
 		finally {
-			executorService.shutdownNow();
+			// Interrupts the thread if the task is still running
+			future.cancel(true);
 		}
 	}
 
 	private static <T extends @Nullable Object> Future<T> submitTask(ThrowingSupplier<T> supplier,
-			AtomicReference<Thread> threadReference, ExecutorService executorService) {
-		return executorService.submit(() -> {
+			AtomicReference<Thread> threadReference, PreemptiveTimeoutExecutor executor) {
+		return executor.submit(() -> {
 			try {
 				threadReference.set(Thread.currentThread());
 				return supplier.get();
@@ -143,21 +166,4 @@ public class PreemptiveTimeoutUtils {
 
 	}
 
-	/**
-	 * The thread factory used for preemptive timeout.
-	 *
-	 * <p>The factory creates threads with meaningful names, helpful for debugging
-	 * purposes.
-	 */
-	private static class TimeoutThreadFactory implements ThreadFactory {
-
-		private static final AtomicInteger threadNumber = new AtomicInteger(1);
-
-		@Override
-		public Thread newThread(Runnable r) {
-			return new Thread(r, "junit-timeout-thread-" + threadNumber.getAndIncrement());
-		}
-
-	}
-
 }
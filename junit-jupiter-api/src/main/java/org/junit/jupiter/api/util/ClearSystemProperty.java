@@ -21,6 +21,7 @@ import java.lang.annotation.Target;
 
 import org.apiguardian.api.API;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.ResourceLock;
 
 /**
  * {@code @ClearSystemProperty} is an annotation that is used to clear the value
@@ -56,7 +57,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 @Target({ ElementType.METHOD, ElementType.TYPE })
 @Inherited
 @Repeatable(ClearSystemProperty.ClearSystemProperties.class)
-@WritesSystemProperty
+@ResourceLock(providers = SystemPropertiesResourceLocksProvider.class)
 @ExtendWith(SystemPropertiesExtension.class)
 @API(status = EXPERIMENTAL, since = "6.1")
 @SuppressWarnings("exports")
@@ -74,7 +75,7 @@ public @interface ClearSystemProperty {
 	@Retention(RetentionPolicy.RUNTIME)
 	@Target({ ElementType.METHOD, ElementType.TYPE })
 	@Inherited
-	@WritesSystemProperty
+	@ResourceLock(providers = SystemPropertiesResourceLocksProvider.class)
 	@API(status = EXPERIMENTAL, since = "6.1")
 	@interface ClearSystemProperties {
 
@@ -0,0 +1,557 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api.util;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link Properties} that are installed as the JVM system properties and
+ * delegate to the original system properties unless an {@link Overlay} is
+ * active on the current thread.
+ *
+ * <p>While an overlay is active, modifications are recorded in the overlay
+ * instead of the original system properties, and lookups consult the overlay
+ * and its parents before the original system properties. In that case,
+ * {@link #keySet()}, {@link #entrySet()}, and {@link #values()} iterate over a
+ * snapshot taken when the iteration starts, but modifications via them, their
+ * iterators, and their entries are recorded in the overlay as well. Other bulk
+ * operations, such as {@link #keys()}, return read-only snapshots.
+ *
+ * @since 6.2
+ * @see SetSystemProperty#ISOLATION_ENABLED_PROPERTY_NAME
+ */
+final class IsolatedSystemProperties extends Properties {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final Object REMOVED = new Object();
+
+	private static final ThreadLocal<@Nullable Overlay> currentOverlay = new ThreadLocal<>();
+
+	/**
+	 * Install isolated system properties unless they have already been
+	 * installed.
+	 */
+	static synchronized IsolatedSystemProperties install() {
+		if (System.getProperties() instanceof IsolatedSystemProperties properties) {
+			return properties;
+		}
+		var properties = new IsolatedSystemProperties(System.getProperties());
+		System.setProperties(properties);
+		return properties;
+	}
+
+	/**
+	 * Uninstall isolated system properties by reinstating the original system
+	 * properties, unless the system properties have been replaced since.
+	 */
+	static synchronized void uninstall() {
+		if (System.getProperties() instanceof IsolatedSystemProperties properties) {
+			System.setProperties(properties.delegate);
+		}
+	}
+
+	private final Properties delegate;
+
+	private IsolatedSystemProperties(Properties delegate) {
+		this.delegate = delegate;
+	}
+
+	private @Nullable Object lookup(Overlay overlay, Object key) {
+		var value = overlay.lookup(key);
+		if (value == null) {
+			return this.delegate.get(key);
+		}
+		return value == REMOVED ? null : value;
+	}
+
+	private Properties view() {
+		var overlay = currentOverlay.get();
+		return overlay == null ? this.delegate : overlay.snapshot(this.delegate);
+	}
+
+	@Override
+	public @Nullable String getProperty(String key) {
+		var overlay = currentOverlay.get();
+		if (overlay == null || overlay.lookup(key) == null) {
+			return this.delegate.getProperty(key);
+		}
+		return lookup(overlay, key) instanceof String value ? value : null;
+	}
+
+	@Override
+	public @Nullable String getProperty(String key, @Nullable String defaultValue) {
+		var value = getProperty(key);
+		return value == null ? defaultValue : value;
+	}
+
+	@Override
+	public @Nullable Object setProperty(String key, String value) {
+		return put(key, value);
+	}
+
+	@Override
+	public @Nullable Object get(Object key) {
+		var overlay = currentOverlay.get();
+		return overlay == null ? this.delegate.get(key) : lookup(overlay, key);
+	}
+
+	@Override
+	public @Nullable Object put(Object key, Object value) {
+		var overlay = currentOverlay.get();
+		if (overlay == null) {
+			return this.delegate.put(key, value);
+		}
+		var previousValue = lookup(overlay, key);
+		overlay.changes.put(key, value);
+		return previousValue;
+	}
+
+	@Override
+	public @Nullable Object remove(Object key) {
+		var overlay = currentOverlay.get();
+		if (overlay == null) {
+			return this.delegate.remove(key);
+		}
+		var previousValue = lookup(overlay, key);
+		overlay.changes.put(key, REMOVED);
+		return previousValue;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return get(key) != null;
+	}
+
+	@Override
+	public Object getOrDefault(Object key, Object defaultValue) {
+		var value = get(key);
+		return value == null ? defaultValue : value;
+	}
+
+	@Override
+	public void putAll(Map<?, ?> map) {
+		map.forEach(this::put);
+	}
+
+	@Override
+	public void clear() {
+		if (currentOverlay.get() == null) {
+			this.delegate.clear();
+		}
+		else {
+			keySet().forEach(this::remove);
+		}
+	}
+
+	@Override
+	public @Nullable Object putIfAbsent(Object key, Object value) {
+		var currentValue = get(key);
+		if (currentValue == null) {
+			put(key, value);
+		}
+		return currentValue;
+	}
+
+	@Override
+	public boolean remove(Object key, Object value) {
+		if (Objects.equals(get(key), value)) {
+			remove(key);
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public boolean replace(Object key, Object oldValue, Object newValue) {
+		if (Objects.equals(get(key), oldValue)) {
+			put(key, newValue);
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public @Nullable Object replace(Object key, Object value) {
+		return containsKey(key) ? put(key, value) : null;
+	}
+
+	@Override
+	public void replaceAll(BiFunction<? super Object, ? super Object, ?> function) {
+		view().forEach((key, value) -> put(key, function.apply(key, value)));
+	}
+
+	@Override
+	public @Nullable Object computeIfAbsent(Object key, Function<? super Object, ?> mappingFunction) {
+		var currentValue = get(key);
+		if (currentValue != null) {
+			return currentValue;
+		}
+		var newValue = mappingFunction.apply(key);
+		if (newValue != null) {
+			put(key, newValue);
+		}
+		return newValue;
+	}
+
+	@Override
+	public @Nullable Object computeIfPresent(Object key,
+			BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+		var currentValue = get(key);
+		return currentValue == null ? null : update(key, remappingFunction.apply(key, currentValue));
+	}
+
+	@Override
+	public @Nullable Object compute(Object key, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+		return update(key, remappingFunction.apply(key, get(key)));
+	}
+
+	@Override
+	public @Nullable Object merge(Object key, Object value,
+			BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+		var currentValue = get(key);
+		return update(key, currentValue == null ? value : remappingFunction.apply(currentValue, value));
+	}
+
+	private @Nullable Object update(Object key, @Nullable Object newValue) {
+		if (newValue == null) {
+			remove(key);
+		}
+		else {
+			put(key, newValue);
+		}
+		return newValue;
+	}
+
+	@Override
+	public int size() {
+		return view().size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return view().isEmpty();
+	}
+
+	@Override
+	public Enumeration<Object> keys() {
+		return view().keys();
+	}
+
+	@Override
+	public Enumeration<Object> elements() {
+		return view().elements();
+	}
+
+	@Override
+	public Enumeration<?> propertyNames() {
+		return view().propertyNames();
+	}
+
+	@Override
+	public Set<String> stringPropertyNames() {
+		return view().stringPropertyNames();
+	}
+
+	@Override
+	public boolean contains(Object value) {
+		return view().contains(value);
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		return view().containsValue(value);
+	}
+
+	@Override
+	public Set<Object> keySet() {
+		return currentOverlay.get() == null ? this.delegate.keySet() : new KeySetView();
+	}
+
+	@Override
+	public Set<Map.Entry<Object, Object>> entrySet() {
+		return currentOverlay.get() == null ? this.delegate.entrySet() : new EntrySetView();
+	}
+
+	@Override
+	public Collection<Object> values() {
+		return currentOverlay.get() == null ? this.delegate.values() : new ValuesView();
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super Object, ? super Object> action) {
+		view().forEach(action);
+	}
+
+	@Override
+	public Object clone() {
+		return view().clone();
+	}
+
+	@Override
+	public boolean equals(@Nullable Object obj) {
+		return obj == this || view().equals(obj);
+	}
+
+	@Override
+	public int hashCode() {
+		return view().hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return view().toString();
+	}
+
+	/**
+	 * View of the keys of the system properties that records removals via
+	 * {@link IsolatedSystemProperties#remove(Object)}.
+	 */
+	private final class KeySetView extends AbstractSet<Object> {
+
+		@Override
+		public Iterator<Object> iterator() {
+			return new WriteThroughIterator<>(Map.Entry::getKey);
+		}
+
+		@Override
+		public int size() {
+			return IsolatedSystemProperties.this.size();
+		}
+
+		@Override
+		public boolean contains(Object key) {
+			return containsKey(key);
+		}
+
+		@Override
+		public boolean remove(Object key) {
+			return IsolatedSystemProperties.this.remove(key) != null;
+		}
+
+		@Override
+		public void clear() {
+			IsolatedSystemProperties.this.clear();
+		}
+	}
+
+	/**
+	 * View of the entries of the system properties that records removals and
+	 * {@linkplain Map.Entry#setValue(Object) updated values} via
+	 * {@link IsolatedSystemProperties#remove(Object)} and
+	 * {@link IsolatedSystemProperties#put(Object, Object)}.
+	 */
+	private final class EntrySetView extends AbstractSet<Map.Entry<Object, Object>> {
+
+		@Override
+		public Iterator<Map.Entry<Object, Object>> iterator() {
+			return new WriteThroughIterator<>(entry -> new WriteThroughEntry(entry.getKey(), entry.getValue()));
+		}
+
+		@Override
+		public int size() {
+			return IsolatedSystemProperties.this.size();
+		}
+
+		@Override
+		public boolean contains(Object obj) {
+			return obj instanceof Map.Entry<?, ?> entry && entry.getKey() != null
+					&& Objects.equals(get(entry.getKey()), entry.getValue());
+		}
+
+		@Override
+		public boolean remove(Object obj) {
+			return obj instanceof Map.Entry<?, ?> entry && entry.getKey() != null
+					&& IsolatedSystemProperties.this.remove(entry.getKey(), entry.getValue());
+		}
+
+		@Override
+		public void clear() {
+			IsolatedSystemProperties.this.clear();
+		}
+	}
+
+	/**
+	 * View of the values of the system properties that records removals via
+	 * {@link IsolatedSystemProperties#remove(Object)}.
+	 */
+	private final class ValuesView extends AbstractCollection<Object> {
+
+		@Override
+		public Iterator<Object> iterator() {
+			return new WriteThroughIterator<>(Map.Entry::getValue);
+		}
+
+		@Override
+		public int size() {
+			return IsolatedSystemProperties.this.size();
+		}
+
+		@Override
+		public boolean contains(Object value) {
+			return containsValue(value);
+		}
+
+		@Override
+		public void clear() {
+			IsolatedSystemProperties.this.clear();
+		}
+	}
+
+	/**
+	 * Iterator over a snapshot of the system properties that records
+	 * {@linkplain Iterator#remove() removals} via
+	 * {@link IsolatedSystemProperties#remove(Object)}.
+	 */
+	private final class WriteThroughIterator<T> implements Iterator<T> {
+
+		private final Iterator<Map.Entry<Object, Object>> snapshot = view().entrySet().iterator();
+
+		private final Function<Map.Entry<Object, Object>, T> mapper;
+
+		private @Nullable Object lastKey;
+
+		WriteThroughIterator(Function<Map.Entry<Object, Object>, T> mapper) {
+			this.mapper = mapper;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.snapshot.hasNext();
+		}
+
+		@Override
+		public T next() {
+			var entry = this.snapshot.next();
+			this.lastKey = entry.getKey();
+			return this.mapper.apply(entry);
+		}
+
+		@Override
+		public void remove() {
+			var key = this.lastKey;
+			if (key == null) {
+				throw new IllegalStateException("next() has not been called or remove() has already been called");
+			}
+			IsolatedSystemProperties.this.remove(key);
+			this.lastKey = null;
+		}
+	}
+
+	/**
+	 * Entry that records {@linkplain #setValue(Object) updated values} via
+	 * {@link IsolatedSystemProperties#put(Object, Object)}.
+	 */
+	private final class WriteThroughEntry extends AbstractMap.SimpleEntry<Object, Object> {
+
+		private static final long serialVersionUID = 1L;
+
+		WriteThroughEntry(Object key, Object value) {
+			super(key, value);
+		}
+
+		@Override
+		public Object setValue(Object value) {
+			put(getKey(), value);
+			return super.setValue(value);
+		}
+	}
+
+	/**
+	 * Modifications of the system properties that are only visible to the
+	 * threads the overlay is {@linkplain #activate() active} on.
+	 *
+	 * <p>Lookups that are not satisfied by an overlay are delegated to its
+	 * parent.
+	 */
+	static final class Overlay {
+
+		private final @Nullable Overlay parent;
+
+		private final Map<Object, Object> changes = new ConcurrentHashMap<>();
+
+		Overlay(@Nullable Overlay parent) {
+			this.parent = parent;
+		}
+
+		/**
+		 * Activate this overlay on the current thread.
+		 *
+		 * @return the overlay that was previously active on the current
+		 * thread; potentially {@code null}
+		 * @see #restore(Overlay)
+		 */
+		@Nullable Overlay activate() {
+			var previous = currentOverlay.get();
+			currentOverlay.set(this);
+			return previous;
+		}
+
+		/**
+		 * Restore the supplied overlay as the active overlay of the current
+		 * thread.
+		 */
+		static void restore(@Nullable Overlay previous) {
+			if (previous == null) {
+				currentOverlay.remove();
+			}
+			else {
+				currentOverlay.set(previous);
+			}
+		}
+
+		private @Nullable Object lookup(Object key) {
+			for (Overlay overlay = this; overlay != null; overlay = overlay.parent) {
+				var value = overlay.changes.get(key);
+				if (value != null) {
+					return value;
+				}
+			}
+			return null;
+		}
+
+		private Properties snapshot(Properties delegate) {
+			Deque<Overlay> overlays = new ArrayDeque<>();
+			for (Overlay overlay = this; overlay != null; overlay = overlay.parent) {
+				overlays.addFirst(overlay);
+			}
+			var snapshot = new Properties();
+			snapshot.putAll(delegate);
+			overlays.forEach(overlay -> overlay.changes.forEach((key, value) -> {
+				if (value == REMOVED) {
+					snapshot.remove(key);
+				}
+				else {
+					snapshot.put(key, value);
+				}
+			}));
+			return snapshot;
+		}
+	}
+
+}
@@ -21,6 +21,7 @@ import java.lang.annotation.Target;
 
 import org.apiguardian.api.API;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.ResourceLock;
 
 /**
  * {@code @SetSystemProperty} is an annotation that is used to set the value of
@@ -46,7 +47,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
  * {@link ClearSystemProperty @ClearSystemProperty},
  * {@link ReadsSystemProperty @ReadsSystemProperty}, and
  * {@link WritesSystemProperty @WritesSystemProperty} are scheduled in a way that
- * guarantees correctness under mutation of shared global state.
+ * guarantees correctness under mutation of shared global state. If the
+ * {@value #ISOLATION_ENABLED_PROPERTY_NAME} configuration parameter is set to
+ * {@code true}, modifications are instead only visible to the thread executing
+ * the test, and tests using these annotations no longer exclude each other.
  *
  * <p>For further details and examples, see the documentation on all JVM system
  * property annotations in the
@@ -61,12 +65,43 @@ import org.junit.jupiter.api.extension.ExtendWith;
 @Target({ ElementType.METHOD, ElementType.TYPE })
 @Inherited
 @Repeatable(SetSystemProperty.SetSystemProperties.class)
-@WritesSystemProperty
+@ResourceLock(providers = SystemPropertiesResourceLocksProvider.class)
 @ExtendWith(SystemPropertiesExtension.class)
 @API(status = EXPERIMENTAL, since = "6.1")
 @SuppressWarnings("exports")
 public @interface SetSystemProperty {
 
+	/**
+	 * Property name used to enable thread isolation of the system properties
+	 * modified via {@link SetSystemProperty @SetSystemProperty},
+	 * {@link ClearSystemProperty @ClearSystemProperty}, and
+	 * {@link RestoreSystemProperties @RestoreSystemProperties}: {@value}
+	 *
+	 * <p>When enabled, such modifications are applied to a thread-scoped
+	 * overlay of the system properties instead of the JVM-wide system
+	 * properties. The overlay is visible to test class constructors,
+	 * lifecycle methods, and test methods of the annotated element, including
+	 * programmatic modifications made by them, while they are executed. Since
+	 * other tests do not observe these modifications, annotated tests only
+	 * acquire a {@linkplain org.junit.jupiter.api.parallel.ResourceAccessMode#READ
+	 * read lock} on the system properties and may be executed concurrently,
+	 * unless they declare a {@link ResourceLock @ResourceLock} for the system
+	 * properties explicitly. Tests annotated with
+	 * {@code @RestoreSystemProperties} keep their exclusive lock since
+	 * replacing the system properties via {@link System#setProperties} cannot
+	 * be isolated.
+	 *
+	 * <p>Threads started by a test and extensions other than the system
+	 * properties extension do not observe the overlay. Tests that rely on
+	 * modified system properties in such threads must not enable this mode.
+	 *
+	 * <p>This behavior is disabled by default.
+	 *
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	String ISOLATION_ENABLED_PROPERTY_NAME = "junit.jupiter.extensions.systemproperties.isolation.enabled";
+
 	/**
 	 * The key of the system property to set.
 	 */
@@ -84,7 +119,7 @@ public @interface SetSystemProperty {
 	@Retention(RetentionPolicy.RUNTIME)
 	@Target({ ElementType.METHOD, ElementType.TYPE })
 	@Inherited
-	@WritesSystemProperty
+	@ResourceLock(providers = SystemPropertiesResourceLocksProvider.class)
 	@API(status = EXPERIMENTAL, since = "6.1")
 	@interface SetSystemProperties {
 
@@ -13,16 +13,23 @@ package org.junit.jupiter.api.util;
 import static org.junit.jupiter.api.util.JupiterPropertyUtils.cloneWithoutDefaults;
 import static org.junit.platform.commons.support.AnnotationSupport.isAnnotated;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
 
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.DynamicTestInvocationContext;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.jupiter.api.util.IsolatedSystemProperties.Overlay;
 
 /**
  * {@code Extension} which provides support for the following annotations.
@@ -33,10 +40,20 @@ import org.junit.jupiter.api.extension.ExtensionContext;
  * <li>{@link RestoreSystemProperties @RestoreSystemProperties}</li>
  * </ul>
  *
+ * <p>If {@value SetSystemProperty#ISOLATION_ENABLED_PROPERTY_NAME} is enabled,
+ * modifications are applied to an {@link Overlay} per extension context whose
+ * parent is the overlay of the enclosing context. The overlay is only activated
+ * while intercepted invocations of the test class are executed so that tests
+ * executed concurrently on the same thread, for example while the test class
+ * waits for its children, do not observe it. The isolated system properties
+ * are uninstalled once the root extension context is closed.
+ *
  * @since 6.1
  */
 final class SystemPropertiesExtension
-		implements BeforeEachCallback, AfterEachCallback, BeforeAllCallback, AfterAllCallback {
+		implements BeforeEachCallback, AfterEachCallback, BeforeAllCallback, AfterAllCallback, InvocationInterceptor {
+
+	private static final String OVERLAY_KEY = "overlay";
 
 	@Override
 	public void beforeAll(ExtensionContext context) {
@@ -52,6 +69,25 @@ final class SystemPropertiesExtension
 		var allContexts = findAllExtensionContexts(context);
 		var modification = SystemPropertiesModification.create(allContexts);
 
+		if (isIsolationEnabled(context)) {
+			// Discarding the overlay after the test restores the properties
+			var properties = install(context);
+			var overlay = new Overlay(findOverlay(context));
+			var previous = overlay.activate();
+			try {
+				modification.applyTo(properties);
+			}
+			finally {
+				Overlay.restore(previous);
+			}
+			getStore(context).put(OVERLAY_KEY, overlay);
+			// System.setProperties() cannot be isolated, so annotated elements
+			// keep their exclusive lock and reinstate the isolated properties
+			findFirstRestoreAnnotationContext(allContexts) //
+					.ifPresent(__ -> storeBackup(context, new Backup.Complete(properties)));
+			return;
+		}
+
 		// Please do not refactor out the common parts.
 		var backup = findFirstRestoreAnnotationContext(allContexts) //
 				.<Backup> map(restoreAnnotationContext -> {
@@ -82,6 +118,95 @@ final class SystemPropertiesExtension
 		restoreBackup(context);
 	}
 
+	@Override
+	public <T> T interceptTestClassConstructor(Invocation<T> invocation,
+			ReflectiveInvocationContext<Constructor<T>> invocationContext, ExtensionContext extensionContext)
+			throws Throwable {
+		return proceedIsolated(invocation, extensionContext);
+	}
+
+	@Override
+	public void interceptBeforeAllMethod(Invocation<@Nullable Void> invocation,
+			ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) throws Throwable {
+		proceedIsolated(invocation, extensionContext);
+	}
+
+	@Override
+	public void interceptBeforeEachMethod(Invocation<@Nullable Void> invocation,
+			ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) throws Throwable {
+		proceedIsolated(invocation, extensionContext);
+	}
+
+	@Override
+	public void interceptTestMethod(Invocation<@Nullable Void> invocation,
+			ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) throws Throwable {
+		proceedIsolated(invocation, extensionContext);
+	}
+
+	@Override
+	public <T extends @Nullable Object> T interceptTestFactoryMethod(Invocation<T> invocation,
+			ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) throws Throwable {
+		return proceedIsolated(invocation, extensionContext);
+	}
+
+	@Override
+	public void interceptTestTemplateMethod(Invocation<@Nullable Void> invocation,
+			ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) throws Throwable {
+		proceedIsolated(invocation, extensionContext);
+	}
+
+	@Override
+	public void interceptDynamicTest(Invocation<@Nullable Void> invocation,
+			DynamicTestInvocationContext invocationContext, ExtensionContext extensionContext) throws Throwable {
+		proceedIsolated(invocation, extensionContext);
+	}
+
+	@Override
+	public void interceptAfterEachMethod(Invocation<@Nullable Void> invocation,
+			ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) throws Throwable {
+		proceedIsolated(invocation, extensionContext);
+	}
+
+	@Override
+	public void interceptAfterAllMethod(Invocation<@Nullable Void> invocation,
+			ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) throws Throwable {
+		proceedIsolated(invocation, extensionContext);
+	}
+
+	private <T extends @Nullable Object> T proceedIsolated(Invocation<T> invocation, ExtensionContext context)
+			throws Throwable {
+		var overlay = findOverlay(context);
+		if (overlay == null) {
+			return invocation.proceed();
+		}
+		var previous = overlay.activate();
+		try {
+			return invocation.proceed();
+		}
+		finally {
+			Overlay.restore(previous);
+		}
+	}
+
+	private @Nullable Overlay findOverlay(ExtensionContext context) {
+		return getStore(context).get(OVERLAY_KEY, Overlay.class);
+	}
+
+	/**
+	 * Install isolated system properties until the root context is closed.
+	 */
+	private IsolatedSystemProperties install(ExtensionContext context) {
+		return context.getRoot().getStore(ExtensionContext.Namespace.create(getClass())) //
+				.computeIfAbsent(Installation.class, __ -> new Installation(IsolatedSystemProperties.install()),
+					Installation.class) //
+				.properties();
+	}
+
+	private static boolean isIsolationEnabled(ExtensionContext context) {
+		return context.getConfigurationParameter(SetSystemProperty.ISOLATION_ENABLED_PROPERTY_NAME,
+			Boolean::parseBoolean).orElse(false);
+	}
+
 	private void restoreBackup(ExtensionContext context) {
 		findBackup(context).ifPresent(Backup::restore);
 	}
@@ -120,6 +245,16 @@ final class SystemPropertiesExtension
 		}
 	}
 
+	@SuppressWarnings("deprecation")
+	private record Installation(IsolatedSystemProperties properties)
+			implements ExtensionContext.Store.CloseableResource, AutoCloseable {
+
+		@Override
+		public void close() {
+			IsolatedSystemProperties.uninstall();
+		}
+	}
+
 	private static List<ExtensionContext> findAllExtensionContexts(ExtensionContext context) {
 		var contexts = new ArrayList<ExtensionContext>();
 		do {
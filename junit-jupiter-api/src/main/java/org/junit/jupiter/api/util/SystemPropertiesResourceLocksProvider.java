@@ -0,0 +1,83 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api.util;
+
+import static java.util.Collections.emptySet;
+import static org.junit.platform.commons.support.AnnotationSupport.findRepeatableAnnotations;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLocksProvider;
+import org.junit.jupiter.api.parallel.Resources;
+
+/**
+ * {@link ResourceLocksProvider} for elements annotated with
+ * {@link SetSystemProperty @SetSystemProperty} or
+ * {@link ClearSystemProperty @ClearSystemProperty}.
+ *
+ * <p>If {@value SetSystemProperty#ISOLATION_ENABLED_PROPERTY_NAME} is enabled,
+ * the {@link SystemPropertiesExtension} applies the modifications of such
+ * elements to a thread-scoped overlay, so they only require a
+ * {@linkplain ResourceAccessMode#READ read lock} on the system properties.
+ * Locks with {@link ResourceAccessMode#READ_WRITE READ_WRITE} access declared
+ * for the same element, for example via
+ * {@link RestoreSystemProperties @RestoreSystemProperties} or
+ * {@link WritesSystemProperty @WritesSystemProperty}, take precedence.
+ *
+ * @since 6.2
+ */
+final class SystemPropertiesResourceLocksProvider implements ResourceLocksProvider {
+
+	private ResourceAccessMode accessMode = ResourceAccessMode.READ_WRITE;
+
+	@Override
+	public void initialize(Function<String, Optional<String>> configurationParameters) {
+		boolean isolationEnabled = configurationParameters.apply(SetSystemProperty.ISOLATION_ENABLED_PROPERTY_NAME) //
+				.map(Boolean::parseBoolean) //
+				.orElse(false);
+		this.accessMode = isolationEnabled ? ResourceAccessMode.READ : ResourceAccessMode.READ_WRITE;
+	}
+
+	@Override
+	public Set<Lock> provideForClass(Class<?> testClass) {
+		return provideFor(testClass);
+	}
+
+	@Override
+	public Set<Lock> provideForNestedClass(List<Class<?>> enclosingInstanceTypes, Class<?> testClass) {
+		return provideFor(testClass);
+	}
+
+	@Override
+	public Set<Lock> provideForMethod(List<Class<?>> enclosingInstanceTypes, Class<?> testClass, Method testMethod) {
+		return provideFor(testMethod);
+	}
+
+	/**
+	 * Only provide a lock for elements that modify system properties
+	 * themselves since this provider is also invoked for the children of
+	 * annotated classes.
+	 */
+	private Set<Lock> provideFor(AnnotatedElement element) {
+		if (findRepeatableAnnotations(element, SetSystemProperty.class).isEmpty()
+				&& findRepeatableAnnotations(element, ClearSystemProperty.class).isEmpty()) {
+			return emptySet();
+		}
+		return Set.of(new Lock(Resources.SYSTEM_PROPERTIES, this.accessMode));
+	}
+
+}
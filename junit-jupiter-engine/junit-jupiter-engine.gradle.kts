@@ -20,6 +20,12 @@ tasks {
 	jar {
 		bundle {
 			bnd("""
+				Import-Package: \
+					${extra["importAPIGuardian"]},\
+					${extra["importJSpecify"]},\
+					${extra["importCommonsLogging"]},\
+					jdk.jfr;resolution:="optional",\
+					*
 				Provide-Capability:\
 					org.junit.platform.engine;\
 						org.junit.platform.engine='junit-jupiter';\
@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Constants.DEFAULT_TEST_CLASS_INSTANCE_CONSTR
 import static org.junit.jupiter.api.Constants.DEFAULT_TEST_CLASS_ORDER_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.DEFAULT_TEST_METHOD_ORDER_PROPERTY_NAME;
+import static org.junit.jupiter.api.Constants.DYNAMIC_TESTS_MAX_IN_FLIGHT_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.EXTENSIONS_AUTODETECTION_ENABLED_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.EXTENSIONS_TIMEOUT_THREAD_DUMP_ENABLED_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
@@ -47,6 +48,7 @@ import org.junit.jupiter.api.io.TempDirDeletionStrategy;
 import org.junit.jupiter.api.io.TempDirFactory;
 import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.junit.platform.engine.OutputDirectoryCreator;
+import org.junit.platform.engine.support.discovery.DiscoveryIssueReporter;
 
 /**
  * Caching implementation of the {@link JupiterConfiguration} API.
@@ -103,6 +105,13 @@ public class CachingJupiterConfiguration implements JupiterConfiguration {
 			__ -> delegate.isThreadDumpOnTimeoutEnabled());
 	}
 
+	@SuppressWarnings("unchecked")
+	@Override
+	public Optional<Integer> getMaxInFlightDynamicNodes() {
+		return (Optional<Integer>) cache.computeIfAbsent(DYNAMIC_TESTS_MAX_IN_FLIGHT_PROPERTY_NAME,
+			__ -> delegate.getMaxInFlightDynamicNodes());
+	}
+
 	@Override
 	public ExecutionMode getDefaultExecutionMode() {
 		return (ExecutionMode) cache.computeIfAbsent(DEFAULT_EXECUTION_MODE_PROPERTY_NAME,
@@ -180,4 +189,9 @@ public class CachingJupiterConfiguration implements JupiterConfiguration {
 	public OutputDirectoryCreator getOutputDirectoryCreator() {
 		return delegate.getOutputDirectoryCreator();
 	}
+
+	@Override
+	public DiscoveryIssueReporter getIssueReporter() {
+		return delegate.getIssueReporter();
+	}
 }
@@ -24,6 +24,7 @@ import static org.junit.jupiter.api.Constants.DEFAULT_TEST_CLASS_INSTANCE_CONSTR
 import static org.junit.jupiter.api.Constants.DEFAULT_TEST_CLASS_ORDER_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.DEFAULT_TEST_METHOD_ORDER_PROPERTY_NAME;
+import static org.junit.jupiter.api.Constants.DYNAMIC_TESTS_MAX_IN_FLIGHT_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.EXTENSIONS_AUTODETECTION_ENABLED_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.EXTENSIONS_AUTODETECTION_EXCLUDE_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.EXTENSIONS_AUTODETECTION_INCLUDE_PROPERTY_NAME;
@@ -106,12 +107,14 @@ public class DefaultJupiterConfiguration implements JupiterConfiguration {
 
 	private final ConfigurationParameters configurationParameters;
 	private final OutputDirectoryCreator outputDirectoryCreator;
+	private final DiscoveryIssueReporter issueReporter;
 
 	public DefaultJupiterConfiguration(ConfigurationParameters configurationParameters,
 			OutputDirectoryCreator outputDirectoryCreator, DiscoveryIssueReporter issueReporter) {
 		this.configurationParameters = Preconditions.notNull(configurationParameters,
 			"ConfigurationParameters must not be null");
 		this.outputDirectoryCreator = outputDirectoryCreator;
+		this.issueReporter = issueReporter;
 		validateConfigurationParameters(issueReporter);
 	}
 
@@ -134,6 +137,15 @@ public class DefaultJupiterConfiguration implements JupiterConfiguration {
 						+ "' to hide this message and keep using the original implementation.");
 			issueReporter.reportIssue(info);
 		}
+		configurationParameters.get(DYNAMIC_TESTS_MAX_IN_FLIGHT_PROPERTY_NAME) //
+				.filter(value -> parseMaxInFlightDynamicNodes(value).isEmpty()) //
+				.ifPresent(value -> {
+					var warning = DiscoveryIssue.create(Severity.WARNING, """
+							Invalid value '%s' set via the '%s' configuration parameter. \
+							It must be a positive integer and will be ignored.""".formatted(value,
+						DYNAMIC_TESTS_MAX_IN_FLIGHT_PROPERTY_NAME));
+					issueReporter.reportIssue(warning);
+				});
 	}
 
 	@Override
@@ -186,6 +198,21 @@ public class DefaultJupiterConfiguration implements JupiterConfiguration {
 		return configurationParameters.getBoolean(EXTENSIONS_TIMEOUT_THREAD_DUMP_ENABLED_PROPERTY_NAME).orElse(false);
 	}
 
+	@Override
+	public Optional<Integer> getMaxInFlightDynamicNodes() {
+		return configurationParameters.get(DYNAMIC_TESTS_MAX_IN_FLIGHT_PROPERTY_NAME) //
+				.flatMap(DefaultJupiterConfiguration::parseMaxInFlightDynamicNodes);
+	}
+
+	private static Optional<Integer> parseMaxInFlightDynamicNodes(String value) {
+		try {
+			return Optional.of(Integer.parseInt(value.strip())).filter(maxInFlight -> maxInFlight > 0);
+		}
+		catch (NumberFormatException ex) {
+			return Optional.empty();
+		}
+	}
+
 	@Override
 	public ExecutionMode getDefaultExecutionMode() {
 		return executionModeConverter.getOrDefault(configurationParameters, DEFAULT_EXECUTION_MODE_PROPERTY_NAME,
@@ -258,4 +285,9 @@ public class DefaultJupiterConfiguration implements JupiterConfiguration {
 	public OutputDirectoryCreator getOutputDirectoryCreator() {
 		return outputDirectoryCreator;
 	}
+
+	@Override
+	public DiscoveryIssueReporter getIssueReporter() {
+		return issueReporter;
+	}
 }
@@ -31,6 +31,7 @@ import org.junit.jupiter.api.io.TempDirDeletionStrategy;
 import org.junit.jupiter.api.io.TempDirFactory;
 import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.junit.platform.engine.OutputDirectoryCreator;
+import org.junit.platform.engine.support.discovery.DiscoveryIssueReporter;
 
 /**
  * @since 5.4
@@ -53,6 +54,8 @@ public interface JupiterConfiguration {
 
 	boolean isThreadDumpOnTimeoutEnabled();
 
+	Optional<Integer> getMaxInFlightDynamicNodes();
+
 	ExecutionMode getDefaultExecutionMode();
 
 	ExecutionMode getDefaultClassesExecutionMode();
@@ -76,4 +79,6 @@ public interface JupiterConfiguration {
 	ExtensionContextScope getDefaultTestInstantiationExtensionContextScope();
 
 	OutputDirectoryCreator getOutputDirectoryCreator();
+
+	DiscoveryIssueReporter getIssueReporter();
 }
@@ -14,8 +14,12 @@ import static org.junit.platform.commons.util.CollectionUtils.forEachInReverseOr
 
 import org.junit.jupiter.api.extension.Extension;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.engine.execution.AfterEachMethodAdapter;
+import org.junit.jupiter.engine.execution.BeforeEachMethodAdapter;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
+import org.junit.jupiter.engine.support.FlightRecording;
+import org.junit.jupiter.engine.support.FlightRecording.Recording;
 import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
 
 /**
@@ -31,7 +35,7 @@ class CallbackSupport {
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
 
 		for (T callback : registry.getExtensions(type)) {
-			throwableCollector.execute(() -> callbackInvoker.invoke(callback, extensionContext));
+			throwableCollector.execute(() -> invoke(type, callback, extensionContext, callbackInvoker));
 			if (throwableCollector.isNotEmpty()) {
 				break;
 			}
@@ -46,7 +50,24 @@ class CallbackSupport {
 		ThrowableCollector throwableCollector = context.getThrowableCollector();
 
 		forEachInReverseOrder(registry.getExtensions(type), //
-			callback -> throwableCollector.execute(() -> callbackInvoker.invoke(callback, extensionContext)));
+			callback -> throwableCollector.execute(() -> invoke(type, callback, extensionContext, callbackInvoker)));
+	}
+
+	private static <T extends Extension> void invoke(Class<T> type, T callback, ExtensionContext extensionContext,
+			CallbackInvoker<T> callbackInvoker) throws Throwable {
+
+		// Lifecycle method adapters are recorded as lifecycle methods instead
+		if (type == BeforeEachMethodAdapter.class || type == AfterEachMethodAdapter.class) {
+			callbackInvoker.invoke(callback, extensionContext);
+			return;
+		}
+		Recording recording = FlightRecording.extensionCallback(extensionContext, type, callback);
+		try {
+			callbackInvoker.invoke(callback, extensionContext);
+		}
+		finally {
+			recording.commit();
+		}
 	}
 
 	@FunctionalInterface
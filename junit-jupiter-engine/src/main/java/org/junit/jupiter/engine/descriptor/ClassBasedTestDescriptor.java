@@ -39,6 +39,10 @@ import java.util.function.Supplier;
 
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
@@ -67,6 +71,8 @@ import org.junit.jupiter.engine.execution.TestInstancesProvider;
 import org.junit.jupiter.engine.extension.ExtensionRegistrar;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
 import org.junit.jupiter.engine.extension.MutableExtensionRegistry;
+import org.junit.jupiter.engine.support.FlightRecording;
+import org.junit.jupiter.engine.support.FlightRecording.Recording;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.commons.util.ReflectionUtils;
@@ -105,12 +111,17 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor
 		this.lifecycleMethods = new LifecycleMethods(this.classInfo);
 	}
 
-	ClassBasedTestDescriptor(UniqueId uniqueId, Class<?> testClass, String displayName,
-			JupiterConfiguration configuration) {
-		super(uniqueId, displayName, ClassSource.from(testClass), configuration);
+	/**
+	 * Create a copy of the supplied prototype with the supplied unique ID that
+	 * shares the class-level metadata and lifecycle methods of the prototype.
+	 *
+	 * @since 6.2
+	 */
+	ClassBasedTestDescriptor(UniqueId uniqueId, ClassBasedTestDescriptor prototype) {
+		super(uniqueId, prototype::getDisplayName, prototype.getSource().orElse(null), prototype.configuration);
 
-		this.classInfo = new ClassInfo(testClass, configuration);
-		this.lifecycleMethods = new LifecycleMethods(this.classInfo);
+		this.classInfo = prototype.classInfo;
+		this.lifecycleMethods = prototype.lifecycleMethods;
 	}
 
 	// --- TestClassAware ------------------------------------------------------
@@ -351,9 +362,16 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor
 		Object outerInstance = outerInstances != null ? outerInstances.getInnermostInstance() : null;
 		invokeTestInstancePreConstructCallbacks(new DefaultTestInstanceFactoryContext(getTestClass(), outerInstance),
 			registry, extensionContext);
-		Object instance = this.testInstanceFactory != null //
-				? invokeTestInstanceFactory(this.testInstanceFactory, outerInstance, extensionContext) //
-				: invokeTestClassConstructor(outerInstance, registry, extensionContext);
+		Recording recording = FlightRecording.testInstanceConstruction(getUniqueId().toString(), getTestClass());
+		Object instance;
+		try {
+			instance = this.testInstanceFactory != null //
+					? invokeTestInstanceFactory(this.testInstanceFactory, outerInstance, extensionContext) //
+					: invokeTestClassConstructor(outerInstance, registry, extensionContext);
+		}
+		finally {
+			recording.commit();
+		}
 		return outerInstances != null ? DefaultTestInstances.of(outerInstances, instance)
 				: DefaultTestInstances.of(instance);
 	}
@@ -413,24 +431,35 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor
 
 	private void invokeTestInstancePreConstructCallbacks(TestInstanceFactoryContext factoryContext,
 			ExtensionRegistry registry, ExtensionContextSupplier context) {
-		registry.stream(TestInstancePreConstructCallback.class).forEach(extension -> executeAndMaskThrowable(
-			() -> extension.preConstructTestInstance(factoryContext, context.get(extension))));
+		registry.stream(TestInstancePreConstructCallback.class).forEach(extension -> {
+			ExtensionContext extensionContext = context.get(extension);
+			executeAndMaskThrowable(
+				FlightRecording.extensionCallback(extensionContext, TestInstancePreConstructCallback.class, extension),
+				() -> extension.preConstructTestInstance(factoryContext, extensionContext));
+		});
 	}
 
 	private void invokeTestInstancePostProcessors(Object instance, ExtensionRegistry registry,
 			ExtensionContextSupplier context) {
 
-		registry.stream(TestInstancePostProcessor.class).forEach(extension -> executeAndMaskThrowable(
-			() -> extension.postProcessTestInstance(instance, context.get(extension))));
+		registry.stream(TestInstancePostProcessor.class).forEach(extension -> {
+			ExtensionContext extensionContext = context.get(extension);
+			executeAndMaskThrowable(
+				FlightRecording.extensionCallback(extensionContext, TestInstancePostProcessor.class, extension),
+				() -> extension.postProcessTestInstance(instance, extensionContext));
+		});
 	}
 
-	private void executeAndMaskThrowable(Executable executable) {
+	private void executeAndMaskThrowable(Recording recording, Executable executable) {
 		try {
 			executable.execute();
 		}
 		catch (Throwable throwable) {
 			throw ExceptionUtils.throwAsUncheckedException(throwable);
 		}
+		finally {
+			recording.commit();
+		}
 	}
 
 	private void invokeBeforeAllCallbacks(JupiterEngineExecutionContext context) {
@@ -446,7 +475,7 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor
 		for (Method method : requireLifecycleMethods().beforeAll) {
 			throwableCollector.execute(() -> {
 				try {
-					executableInvoker.invokeVoid(method, testInstance, extensionContext, registry,
+					invokeLifecycleMethod(BeforeAll.class, method, testInstance, extensionContext, registry,
 						InvocationInterceptor::interceptBeforeAllMethod);
 				}
 				catch (Throwable throwable) {
@@ -474,7 +503,7 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor
 
 		requireLifecycleMethods().afterAll.forEach(method -> throwableCollector.execute(() -> {
 			try {
-				executableInvoker.invokeVoid(method, testInstance, extensionContext, registry,
+				invokeLifecycleMethod(AfterAll.class, method, testInstance, extensionContext, registry,
 					InvocationInterceptor::interceptAfterAllMethod);
 			}
 			catch (Throwable throwable) {
@@ -532,22 +561,34 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor
 	}
 
 	private BeforeEachMethodAdapter synthesizeBeforeEachMethodAdapter(Method method) {
-		return (extensionContext, registry) -> invokeMethodInExtensionContext(method, extensionContext, registry,
-			InvocationInterceptor::interceptBeforeEachMethod);
+		return (extensionContext, registry) -> invokeMethodInExtensionContext(BeforeEach.class, method,
+			extensionContext, registry, InvocationInterceptor::interceptBeforeEachMethod);
 	}
 
 	private AfterEachMethodAdapter synthesizeAfterEachMethodAdapter(Method method) {
-		return (extensionContext, registry) -> invokeMethodInExtensionContext(method, extensionContext, registry,
-			InvocationInterceptor::interceptAfterEachMethod);
+		return (extensionContext, registry) -> invokeMethodInExtensionContext(AfterEach.class, method,
+			extensionContext, registry, InvocationInterceptor::interceptAfterEachMethod);
 	}
 
-	private void invokeMethodInExtensionContext(Method method, ExtensionContext context, ExtensionRegistry registry,
-			VoidMethodInterceptorCall interceptorCall) {
+	private void invokeMethodInExtensionContext(Class<?> annotationType, Method method, ExtensionContext context,
+			ExtensionRegistry registry, VoidMethodInterceptorCall interceptorCall) {
 		TestInstances testInstances = context.getRequiredTestInstances();
 		Object target = testInstances.findInstance(getTestClass()).orElseThrow(
 			() -> new JUnitException("Failed to find instance for method: " + method.toGenericString()));
 
-		executableInvoker.invokeVoid(method, target, context, registry, interceptorCall);
+		invokeLifecycleMethod(annotationType, method, target, context, registry, interceptorCall);
+	}
+
+	private void invokeLifecycleMethod(Class<?> annotationType, Method method, @Nullable Object target,
+			ExtensionContext context, ExtensionRegistry registry, VoidMethodInterceptorCall interceptorCall) {
+
+		Recording recording = FlightRecording.lifecycleMethod(context, annotationType, method);
+		try {
+			executableInvoker.invokeVoid(method, target, context, registry, interceptorCall);
+		}
+		finally {
+			recording.commit();
+		}
 	}
 
 	private LifecycleMethods requireLifecycleMethods() {
@@ -575,7 +616,7 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor
 				discoveryIssues::add);
 			this.lifecycle = getTestInstanceLifecycle(testClass, configuration);
 			this.defaultChildExecutionMode = (this.lifecycle == Lifecycle.PER_CLASS ? ExecutionMode.SAME_THREAD : null);
-			this.exclusiveResourceCollector = ExclusiveResourceCollector.from(testClass);
+			this.exclusiveResourceCollector = ExclusiveResourceCollector.from(testClass, configuration);
 		}
 	}
 
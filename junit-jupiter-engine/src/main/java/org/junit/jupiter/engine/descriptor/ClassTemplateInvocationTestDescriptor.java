@@ -128,6 +128,8 @@ public class ClassTemplateInvocationTestDescriptor extends JupiterTestDescriptor
 
 	@Override
 	public JupiterEngineExecutionContext prepare(JupiterEngineExecutionContext context) {
+		this.parent.createInvocationChildren(this.index, getUniqueId()).forEach(this::addChild);
+
 		MutableExtensionRegistry registry = context.getExtensionRegistry();
 		List<Extension> additionalExtensions = requiredInvocationContext().getAdditionalExtensions();
 		if (!additionalExtensions.isEmpty()) {
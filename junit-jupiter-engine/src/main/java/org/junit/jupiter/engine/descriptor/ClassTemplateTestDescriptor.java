@@ -17,12 +17,12 @@ import static org.junit.jupiter.engine.descriptor.LifecycleMethodUtils.validateC
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
@@ -53,19 +53,39 @@ public class ClassTemplateTestDescriptor extends ClassBasedTestDescriptor implem
 	public static final String STANDALONE_CLASS_SEGMENT_TYPE = "class-template";
 	public static final String NESTED_CLASS_SEGMENT_TYPE = "nested-class-template";
 
-	private final Map<Integer, Collection<? extends TestDescriptor>> childrenPrototypesByIndex = new HashMap<>();
-	private final List<TestDescriptor> childrenPrototypes = new ArrayList<>();
+	private final Map<Integer, Collection<? extends TestDescriptor>> childrenPrototypesByIndex;
+	private final List<TestDescriptor> childrenPrototypes;
+
+	/**
+	 * Unique ID of the descriptor that owns the children prototypes; the
+	 * unique IDs of all children prototypes start with it.
+	 */
+	private final UniqueId childrenPrototypesOwnerUniqueId;
+
 	private final ClassBasedTestDescriptor delegate;
 	private final DynamicDescendantFilter dynamicDescendantFilter;
 
 	public ClassTemplateTestDescriptor(UniqueId uniqueId, ClassBasedTestDescriptor delegate) {
-		this(uniqueId, delegate, new DynamicDescendantFilter());
+		super(uniqueId, delegate.getTestClass(), delegate::getDisplayName, delegate.configuration);
+		this.childrenPrototypesByIndex = new ConcurrentHashMap<>();
+		this.childrenPrototypes = new ArrayList<>();
+		this.childrenPrototypesOwnerUniqueId = uniqueId;
+		this.delegate = delegate;
+		this.dynamicDescendantFilter = new DynamicDescendantFilter();
 	}
 
-	private ClassTemplateTestDescriptor(UniqueId uniqueId, ClassBasedTestDescriptor delegate,
+	/**
+	 * Create a copy of the supplied prototype that shares its children
+	 * prototypes instead of copying them; they are only copied once an
+	 * invocation of the copy is executed.
+	 */
+	private ClassTemplateTestDescriptor(UniqueId uniqueId, ClassTemplateTestDescriptor prototype,
 			DynamicDescendantFilter dynamicDescendantFilter) {
-		super(uniqueId, delegate.getTestClass(), delegate.getDisplayName(), delegate.configuration);
-		this.delegate = delegate;
+		super(uniqueId, prototype);
+		this.childrenPrototypesByIndex = prototype.childrenPrototypesByIndex;
+		this.childrenPrototypes = prototype.childrenPrototypes;
+		this.childrenPrototypesOwnerUniqueId = prototype.childrenPrototypesOwnerUniqueId;
+		this.delegate = prototype.delegate;
 		this.dynamicDescendantFilter = dynamicDescendantFilter;
 	}
 
@@ -76,6 +96,11 @@ public class ClassTemplateTestDescriptor extends ClassBasedTestDescriptor implem
 		return this.delegate.getTags();
 	}
 
+	@Override
+	void collectTags(Set<TestTag> tags) {
+		this.delegate.collectTags(tags);
+	}
+
 	// --- Validatable ---------------------------------------------------------
 
 	@Override
@@ -98,29 +123,49 @@ public class ClassTemplateTestDescriptor extends ClassBasedTestDescriptor implem
 
 	// --- JupiterTestDescriptor -----------------------------------------------
 
-	@Override
-	protected JupiterTestDescriptor copyIncludingDescendants(UnaryOperator<UniqueId> uniqueIdTransformer) {
-		ClassTemplateTestDescriptor copy = (ClassTemplateTestDescriptor) super.copyIncludingDescendants(
-			uniqueIdTransformer);
-		this.childrenPrototypes.forEach(oldChild -> {
-			TestDescriptor newChild = ((JupiterTestDescriptor) oldChild).copyIncludingDescendants(uniqueIdTransformer);
-			copy.childrenPrototypes.add(newChild);
-		});
-		this.childrenPrototypesByIndex.forEach((index, oldChildren) -> {
-			List<? extends TestDescriptor> newChildren = oldChildren.stream() //
-					.map(oldChild -> ((JupiterTestDescriptor) oldChild).copyIncludingDescendants(uniqueIdTransformer)) //
-					.toList();
-			copy.childrenPrototypesByIndex.put(index, newChildren);
-		});
-		return copy;
-	}
-
 	@Override
 	protected ClassTemplateTestDescriptor withUniqueId(UnaryOperator<UniqueId> uniqueIdTransformer) {
-		return new ClassTemplateTestDescriptor(uniqueIdTransformer.apply(getUniqueId()), this.delegate,
+		return new ClassTemplateTestDescriptor(uniqueIdTransformer.apply(getUniqueId()), this,
 			this.dynamicDescendantFilter.copy(uniqueIdTransformer));
 	}
 
+	private boolean ownsChildrenPrototypes() {
+		return this.childrenPrototypesOwnerUniqueId.equals(getUniqueId());
+	}
+
+	/**
+	 * Create the children of the invocation with the supplied index and
+	 * unique ID.
+	 *
+	 * <p>Children that were discovered for the supplied index are used as
+	 * they are; otherwise, the children prototypes are copied. This method
+	 * is called when the invocation is prepared so that the children of an
+	 * invocation only exist while it is being executed.
+	 *
+	 * @since 6.2
+	 */
+	Stream<? extends TestDescriptor> createInvocationChildren(int index, UniqueId invocationUniqueId) {
+		if (ownsChildrenPrototypes()) {
+			Collection<? extends TestDescriptor> children = this.childrenPrototypesByIndex.remove(index);
+			if (children != null) {
+				return children.stream();
+			}
+		}
+		else if (this.childrenPrototypesByIndex.containsKey(index)) {
+			return copy(this.childrenPrototypesByIndex.get(index), getUniqueId());
+		}
+		return copy(this.childrenPrototypes, invocationUniqueId);
+	}
+
+	private Stream<? extends TestDescriptor> copy(Collection<? extends TestDescriptor> prototypes,
+			UniqueId newPrefix) {
+		UnaryOperator<UniqueId> transformer = new UniqueIdPrefixTransformer(this.childrenPrototypesOwnerUniqueId,
+			newPrefix);
+		return prototypes.stream() //
+				.map(JupiterTestDescriptor.class::cast) //
+				.map(it -> it.copyIncludingDescendants(transformer));
+	}
+
 	// --- TestDescriptor ------------------------------------------------------
 
 	@Override
@@ -192,8 +237,10 @@ public class ClassTemplateTestDescriptor extends ClassBasedTestDescriptor implem
 
 	@Override
 	public void cleanUp(JupiterEngineExecutionContext context) throws Exception {
-		this.childrenPrototypes.clear();
-		this.childrenPrototypesByIndex.clear();
+		if (ownsChildrenPrototypes()) {
+			this.childrenPrototypes.clear();
+			this.childrenPrototypesByIndex.clear();
+		}
 		this.dynamicDescendantFilter.allowAll();
 		super.cleanUp(context);
 	}
@@ -253,24 +300,9 @@ public class ClassTemplateTestDescriptor extends ClassBasedTestDescriptor implem
 		@Override
 		TestDescriptor createInvocationTestDescriptor(UniqueId uniqueId,
 				ClassTemplateInvocationContext invocationContext, int index) {
-			ClassTemplateInvocationTestDescriptor containerInvocationDescriptor = new ClassTemplateInvocationTestDescriptor(
-				uniqueId, ClassTemplateTestDescriptor.this, invocationContext, index, getSource().orElse(null),
-				ClassTemplateTestDescriptor.this.configuration);
-
-			collectChildren(index, uniqueId) //
-					.forEach(containerInvocationDescriptor::addChild);
-
-			return containerInvocationDescriptor;
-		}
-
-		private Stream<? extends TestDescriptor> collectChildren(int index, UniqueId invocationUniqueId) {
-			if (ClassTemplateTestDescriptor.this.childrenPrototypesByIndex.containsKey(index)) {
-				return ClassTemplateTestDescriptor.this.childrenPrototypesByIndex.remove(index).stream();
-			}
-			UnaryOperator<UniqueId> transformer = new UniqueIdPrefixTransformer(getUniqueId(), invocationUniqueId);
-			return ClassTemplateTestDescriptor.this.childrenPrototypes.stream() //
-					.map(JupiterTestDescriptor.class::cast) //
-					.map(it -> it.copyIncludingDescendants(transformer));
+			// children are created lazily when the invocation is prepared
+			return new ClassTemplateInvocationTestDescriptor(uniqueId, ClassTemplateTestDescriptor.this,
+				invocationContext, index, getSource().orElse(null), ClassTemplateTestDescriptor.this.configuration);
 		}
 	}
 
@@ -51,17 +51,15 @@ public class ClassTestDescriptor extends ClassBasedTestDescriptor {
 		super(uniqueId, testClass, createDisplayNameSupplierForClass(testClass, configuration), configuration);
 	}
 
-	private ClassTestDescriptor(UniqueId uniqueId, Class<?> testClass, String displayName,
-			JupiterConfiguration configuration) {
-		super(uniqueId, testClass, displayName, configuration);
+	private ClassTestDescriptor(UniqueId uniqueId, ClassTestDescriptor prototype) {
+		super(uniqueId, prototype);
 	}
 
 	// --- JupiterTestDescriptor -----------------------------------------------
 
 	@Override
 	protected ClassTestDescriptor withUniqueId(UnaryOperator<UniqueId> uniqueIdTransformer) {
-		return new ClassTestDescriptor(uniqueIdTransformer.apply(getUniqueId()), getTestClass(), getDisplayName(),
-			configuration);
+		return new ClassTestDescriptor(uniqueIdTransformer.apply(getUniqueId()), this);
 	}
 
 	// --- TestDescriptor ------------------------------------------------------
@@ -72,6 +70,11 @@ public class ClassTestDescriptor extends ClassBasedTestDescriptor {
 		return new LinkedHashSet<>(this.classInfo.tags);
 	}
 
+	@Override
+	void collectTags(Set<TestTag> tags) {
+		tags.addAll(this.classInfo.tags);
+	}
+
 	// --- TestClassAware ------------------------------------------------------
 
 	@Override
@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.engine.descriptor;
 
+import static java.util.Objects.requireNonNull;
 import static org.junit.platform.commons.support.AnnotationSupport.findAnnotation;
 
 import java.lang.reflect.AnnotatedElement;
@@ -32,9 +33,12 @@ import org.junit.jupiter.engine.config.JupiterConfiguration;
 import org.junit.platform.commons.support.ReflectionSupport;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.commons.util.StringUtils;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
 import org.junit.platform.engine.DiscoveryIssue;
 import org.junit.platform.engine.DiscoveryIssue.Severity;
 import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
 import org.junit.platform.engine.support.discovery.DiscoveryIssueReporter;
 
 /**
@@ -101,6 +105,7 @@ final class DisplayNameUtils {
 
 	static Supplier<String> createDisplayNameSupplierForClass(Class<?> testClass, JupiterConfiguration configuration) {
 		return createDisplayNameSupplier(Collections::emptyList, testClass, configuration,
+			() -> "class '%s'".formatted(testClass.getName()), () -> ClassSource.from(testClass),
 			(generator, __) -> generator.generateDisplayNameForClass(testClass));
 	}
 
@@ -108,6 +113,7 @@ final class DisplayNameUtils {
 			Supplier<List<Class<?>>> enclosingInstanceTypesSupplier, Class<?> testClass,
 			JupiterConfiguration configuration) {
 		return createDisplayNameSupplier(enclosingInstanceTypesSupplier, testClass, configuration,
+			() -> "nested class '%s'".formatted(testClass.getName()), () -> ClassSource.from(testClass),
 			(generator, enclosingInstanceTypes) -> generator.generateDisplayNameForNestedClass(enclosingInstanceTypes,
 				testClass));
 	}
@@ -116,19 +122,48 @@ final class DisplayNameUtils {
 			Supplier<List<Class<?>>> enclosingInstanceTypesSupplier, Class<?> testClass, Method testMethod,
 			JupiterConfiguration configuration) {
 		return createDisplayNameSupplier(enclosingInstanceTypesSupplier, testClass, configuration,
+			() -> "method '%s'".formatted(testMethod.toGenericString()),
+			() -> MethodSource.from(testClass, testMethod),
 			(generator, enclosingInstanceTypes) -> generator.generateDisplayNameForMethod(enclosingInstanceTypes,
 				testClass, testMethod));
 	}
 
+	/**
+	 * Create a supplier that generates the display name via the applicable
+	 * {@link DisplayNameGenerator}.
+	 *
+	 * <p>Since the supplier is only called once the display name is requested
+	 * for the first time, it must not fail: if the generator cannot be created,
+	 * throws an exception, or generates a blank display name, the issue is
+	 * reported and the display name of the {@link Standard} generator is used
+	 * instead.
+	 */
 	private static Supplier<String> createDisplayNameSupplier(Supplier<List<Class<?>>> enclosingInstanceTypesSupplier,
-			Class<?> testClass, JupiterConfiguration configuration,
-			BiFunction<DisplayNameGenerator, List<Class<?>>, String> generatorFunction) {
+			Class<?> testClass, JupiterConfiguration configuration, Supplier<String> elementDescription,
+			Supplier<TestSource> sourceProvider,
+			BiFunction<DisplayNameGenerator, List<Class<?>>, @Nullable String> generatorFunction) {
 		return () -> {
 			List<Class<?>> enclosingInstanceTypes = List.copyOf(enclosingInstanceTypesSupplier.get());
-			return findDisplayNameGenerator(enclosingInstanceTypes, testClass) //
-					.map(it -> generatorFunction.apply(it, enclosingInstanceTypes)) //
-					.orElseGet(() -> generatorFunction.apply(configuration.getDefaultDisplayNameGenerator(),
-						enclosingInstanceTypes));
+			Throwable cause = null;
+			try {
+				String displayName = findDisplayNameGenerator(enclosingInstanceTypes, testClass) //
+						.map(it -> generatorFunction.apply(it, enclosingInstanceTypes)) //
+						.orElseGet(() -> generatorFunction.apply(configuration.getDefaultDisplayNameGenerator(),
+							enclosingInstanceTypes));
+				if (StringUtils.isNotBlank(displayName)) {
+					return displayName;
+				}
+			}
+			catch (Throwable throwable) {
+				UnrecoverableExceptions.rethrowIfUnrecoverable(throwable);
+				cause = throwable;
+			}
+			String message = "Failed to generate display name for %s; using the standard display name instead." //
+					.formatted(elementDescription.get());
+			configuration.getIssueReporter().reportIssue(DiscoveryIssue.builder(Severity.WARNING, message) //
+					.cause(cause) //
+					.source(sourceProvider.get()));
+			return requireNonNull(generatorFunction.apply(standardGenerator, enclosingInstanceTypes));
 		};
 	}
 
@@ -11,6 +11,7 @@
 package org.junit.jupiter.engine.descriptor;
 
 import static org.junit.jupiter.engine.descriptor.TestFactoryTestDescriptor.createDynamicDescriptor;
+import static org.junit.jupiter.engine.descriptor.TestFactoryTestDescriptor.withMaxInFlight;
 
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -75,7 +76,7 @@ class DynamicContainerTestDescriptor extends DynamicNodeTestDescriptor {
 						return toDynamicDescriptor(index.getAndIncrement(), child);
 					})
 					.flatMap(Optional::stream)
-					.forEachOrdered(dynamicTestExecutor::execute);
+					.forEachOrdered(withMaxInFlight(dynamicTestExecutor, configuration)::execute);
 			// @formatter:on
 		}
 		return context;
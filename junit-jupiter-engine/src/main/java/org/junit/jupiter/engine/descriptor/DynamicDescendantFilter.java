@@ -87,6 +87,11 @@ public class DynamicDescendantFilter implements BiPredicate<UniqueId, Integer> {
 	}
 
 	public DynamicDescendantFilter copy(UnaryOperator<UniqueId> uniqueIdTransformer) {
+		if (isEverythingAllowed()) {
+			// Copies are only created after discovery, i.e. once the filter can
+			// no longer be restricted, so an unrestricted filter can be shared.
+			return this;
+		}
 		return configure(uniqueIdTransformer, new DynamicDescendantFilter());
 	}
 
@@ -25,6 +25,7 @@ import org.junit.jupiter.api.parallel.ResourceAccessMode;
 import org.junit.jupiter.api.parallel.ResourceLock;
 import org.junit.jupiter.api.parallel.ResourceLockTarget;
 import org.junit.jupiter.api.parallel.ResourceLocksProvider;
+import org.junit.jupiter.engine.config.JupiterConfiguration;
 import org.junit.platform.commons.util.ReflectionUtils;
 import org.junit.platform.commons.util.StringUtils;
 import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
@@ -64,20 +65,24 @@ abstract class ExclusiveResourceCollector {
 	abstract Stream<ExclusiveResource> getDynamicResources(
 			Function<ResourceLocksProvider, Set<ResourceLocksProvider.Lock>> providerToLocks);
 
-	static ExclusiveResourceCollector from(AnnotatedElement element) {
+	static ExclusiveResourceCollector from(AnnotatedElement element, JupiterConfiguration configuration) {
 		List<ResourceLock> annotations = findRepeatableAnnotations(element, ResourceLock.class);
-		return annotations.isEmpty() ? NO_EXCLUSIVE_RESOURCES : new DefaultExclusiveResourceCollector(annotations);
+		return annotations.isEmpty() ? NO_EXCLUSIVE_RESOURCES
+				: new DefaultExclusiveResourceCollector(annotations, configuration);
 	}
 
 	private static class DefaultExclusiveResourceCollector extends ExclusiveResourceCollector {
 
 		private final List<ResourceLock> annotations;
 
+		private final JupiterConfiguration configuration;
+
 		@Nullable
 		private List<ResourceLocksProvider> providers;
 
-		DefaultExclusiveResourceCollector(List<ResourceLock> annotations) {
+		DefaultExclusiveResourceCollector(List<ResourceLock> annotations, JupiterConfiguration configuration) {
 			this.annotations = annotations;
+			this.configuration = configuration;
 		}
 
 		@Override
@@ -110,8 +115,14 @@ abstract class ExclusiveResourceCollector {
 			return providers;
 		}
 
-		private static Stream<ResourceLocksProvider> instantiate(Class<? extends ResourceLocksProvider>[] providers) {
-			return Stream.of(providers).map(ReflectionUtils::newInstance);
+		private Stream<ResourceLocksProvider> instantiate(Class<? extends ResourceLocksProvider>[] providers) {
+			return Stream.of(providers).map(this::instantiate);
+		}
+
+		private ResourceLocksProvider instantiate(Class<? extends ResourceLocksProvider> providerClass) {
+			ResourceLocksProvider provider = ReflectionUtils.newInstance(providerClass);
+			provider.initialize(configuration::getRawConfigurationParameter);
+			return provider;
 		}
 
 		private static ExclusiveResource.LockMode toLockMode(ResourceAccessMode mode) {
@@ -70,7 +70,19 @@ public abstract class JupiterTestDescriptor extends AbstractTestDescriptor
 
 	JupiterTestDescriptor(UniqueId uniqueId, AnnotatedElement element, Supplier<String> displayNameSupplier,
 			@Nullable TestSource source, JupiterConfiguration configuration) {
-		this(uniqueId, determineDisplayName(element, displayNameSupplier), source, configuration);
+		this(uniqueId, () -> determineDisplayName(element, displayNameSupplier), source, configuration);
+	}
+
+	/**
+	 * Create a descriptor whose display name is only determined via the
+	 * supplied {@link Supplier} once it is requested for the first time.
+	 *
+	 * @since 6.2
+	 */
+	JupiterTestDescriptor(UniqueId uniqueId, Supplier<String> displayNameSupplier, @Nullable TestSource source,
+			JupiterConfiguration configuration) {
+		super(uniqueId, displayNameSupplier, source);
+		this.configuration = configuration;
 	}
 
 	JupiterTestDescriptor(UniqueId uniqueId, String displayName, @Nullable TestSource source,
@@ -105,6 +117,31 @@ public abstract class JupiterTestDescriptor extends AbstractTestDescriptor
 		return OptionalInt.empty();
 	}
 
+	/**
+	 * Add the tags of the supplied descriptor, including the ones it inherits
+	 * from its ancestors, to the supplied set without copying the tags of each
+	 * ancestor.
+	 */
+	static void addTags(TestDescriptor descriptor, Set<TestTag> tags) {
+		if (descriptor instanceof JupiterTestDescriptor jupiterTestDescriptor) {
+			jupiterTestDescriptor.collectTags(tags);
+		}
+		else {
+			tags.addAll(descriptor.getTags());
+		}
+	}
+
+	/**
+	 * Add the tags of this descriptor to the supplied set.
+	 *
+	 * <p>Subclasses that inherit tags from their ancestors should override
+	 * this method and {@linkplain #addTags(TestDescriptor, Set) add} the tags
+	 * of their parent.
+	 */
+	void collectTags(Set<TestTag> tags) {
+		tags.addAll(getTags());
+	}
+
 	static Set<TestTag> getTags(AnnotatedElement element, Supplier<String> elementDescription,
 			Supplier<TestSource> sourceProvider, Consumer<DiscoveryIssue> issueCollector) {
 		AtomicReference<@Nullable TestSource> source = new AtomicReference<>();
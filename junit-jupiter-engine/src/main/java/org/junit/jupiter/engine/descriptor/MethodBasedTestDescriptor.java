@@ -62,8 +62,10 @@ public abstract class MethodBasedTestDescriptor extends JupiterTestDescriptor
 
 	MethodBasedTestDescriptor(UniqueId uniqueId, Class<?> testClass, Method testMethod,
 			Supplier<List<Class<?>>> enclosingInstanceTypes, JupiterConfiguration configuration) {
-		this(uniqueId, determineDisplayNameForMethod(enclosingInstanceTypes, testClass, testMethod, configuration),
-			testClass, testMethod, configuration);
+		super(uniqueId,
+			() -> determineDisplayNameForMethod(enclosingInstanceTypes, testClass, testMethod, configuration),
+			MethodSource.from(testClass, testMethod), configuration);
+		this.methodInfo = new MethodInfo(testClass, testMethod);
 	}
 
 	MethodBasedTestDescriptor(UniqueId uniqueId, String displayName, Class<?> testClass, Method testMethod,
@@ -72,6 +74,17 @@ public abstract class MethodBasedTestDescriptor extends JupiterTestDescriptor
 		this.methodInfo = new MethodInfo(testClass, testMethod);
 	}
 
+	/**
+	 * Create a copy of the supplied prototype with the supplied unique ID that
+	 * shares the method-level metadata of the prototype.
+	 *
+	 * @since 6.2
+	 */
+	MethodBasedTestDescriptor(UniqueId uniqueId, MethodBasedTestDescriptor prototype) {
+		super(uniqueId, prototype::getDisplayName, prototype.getSource().orElse(null), prototype.configuration);
+		this.methodInfo = prototype.methodInfo;
+	}
+
 	public final Method getTestMethod() {
 		return this.methodInfo.testMethod;
 	}
@@ -81,11 +94,17 @@ public abstract class MethodBasedTestDescriptor extends JupiterTestDescriptor
 	@Override
 	public final Set<TestTag> getTags() {
 		// return modifiable copy
-		Set<TestTag> allTags = new LinkedHashSet<>(this.methodInfo.tags);
-		getParent().ifPresent(parentDescriptor -> allTags.addAll(parentDescriptor.getTags()));
+		Set<TestTag> allTags = new LinkedHashSet<>();
+		collectTags(allTags);
 		return allTags;
 	}
 
+	@Override
+	final void collectTags(Set<TestTag> tags) {
+		tags.addAll(this.methodInfo.tags);
+		getParent().ifPresent(parentDescriptor -> addTags(parentDescriptor, tags));
+	}
+
 	@Override
 	protected final String getLegacyReportingBaseName() {
 		return "%s(%s)".formatted(getTestMethod().getName(),
@@ -125,7 +144,8 @@ public abstract class MethodBasedTestDescriptor extends JupiterTestDescriptor
 	@Override
 	public ExclusiveResourceCollector getExclusiveResourceCollector() {
 		// There's no need to cache this as this method should only be called once
-		ExclusiveResourceCollector collector = ExclusiveResourceCollector.from(getTestMethod());
+		ExclusiveResourceCollector collector = ExclusiveResourceCollector.from(getTestMethod(),
+			this.configuration);
 
 		if (collector.getStaticResourcesFor(CHILDREN).findAny().isPresent()) {
 			String message = "'ResourceLockTarget.CHILDREN' is not supported for methods." + //
@@ -55,17 +55,15 @@ public class NestedClassTestDescriptor extends ClassBasedTestDescriptor {
 			createDisplayNameSupplierForNestedClass(enclosingInstanceTypes, testClass, configuration), configuration);
 	}
 
-	private NestedClassTestDescriptor(UniqueId uniqueId, Class<?> testClass, String displayName,
-			JupiterConfiguration configuration) {
-		super(uniqueId, testClass, displayName, configuration);
+	private NestedClassTestDescriptor(UniqueId uniqueId, NestedClassTestDescriptor prototype) {
+		super(uniqueId, prototype);
 	}
 
 	// --- JupiterTestDescriptor -----------------------------------------------
 
 	@Override
 	protected NestedClassTestDescriptor withUniqueId(UnaryOperator<UniqueId> uniqueIdTransformer) {
-		return new NestedClassTestDescriptor(uniqueIdTransformer.apply(getUniqueId()), getTestClass(), getDisplayName(),
-			configuration);
+		return new NestedClassTestDescriptor(uniqueIdTransformer.apply(getUniqueId()), this);
 	}
 
 	// --- TestDescriptor ------------------------------------------------------
@@ -73,11 +71,17 @@ public class NestedClassTestDescriptor extends ClassBasedTestDescriptor {
 	@Override
 	public final Set<TestTag> getTags() {
 		// return modifiable copy
-		Set<TestTag> allTags = new LinkedHashSet<>(this.classInfo.tags);
-		getParent().ifPresent(parentDescriptor -> allTags.addAll(parentDescriptor.getTags()));
+		Set<TestTag> allTags = new LinkedHashSet<>();
+		collectTags(allTags);
 		return allTags;
 	}
 
+	@Override
+	final void collectTags(Set<TestTag> tags) {
+		tags.addAll(this.classInfo.tags);
+		getParent().ifPresent(parentDescriptor -> addTags(parentDescriptor, tags));
+	}
+
 	// --- TestClassAware ------------------------------------------------------
 
 	@Override
@@ -70,9 +70,9 @@ public class TestFactoryTestDescriptor extends TestMethodTestDescriptor implemen
 		this.dynamicDescendantFilter = new DynamicDescendantFilter();
 	}
 
-	private TestFactoryTestDescriptor(UniqueId uniqueId, String displayName, Class<?> testClass, Method testMethod,
-			JupiterConfiguration configuration, DynamicDescendantFilter dynamicDescendantFilter) {
-		super(uniqueId, displayName, testClass, testMethod, configuration);
+	private TestFactoryTestDescriptor(UniqueId uniqueId, TestFactoryTestDescriptor prototype,
+			DynamicDescendantFilter dynamicDescendantFilter) {
+		super(uniqueId, prototype);
 		this.dynamicDescendantFilter = dynamicDescendantFilter;
 	}
 
@@ -80,8 +80,8 @@ public class TestFactoryTestDescriptor extends TestMethodTestDescriptor implemen
 
 	@Override
 	protected TestFactoryTestDescriptor withUniqueId(UnaryOperator<UniqueId> uniqueIdTransformer) {
-		return new TestFactoryTestDescriptor(uniqueIdTransformer.apply(getUniqueId()), getDisplayName(), getTestClass(),
-			getTestMethod(), this.configuration, this.dynamicDescendantFilter.copy(uniqueIdTransformer));
+		return new TestFactoryTestDescriptor(uniqueIdTransformer.apply(getUniqueId()), this,
+			this.dynamicDescendantFilter.copy(uniqueIdTransformer));
 	}
 
 	// --- Filterable ----------------------------------------------------------
@@ -115,6 +115,7 @@ public class TestFactoryTestDescriptor extends TestMethodTestDescriptor implemen
 				extensionContext, context.getExtensionRegistry(), interceptorCall);
 			TestSource defaultTestSource = getSource().orElseThrow(
 				() -> new JUnitException("Illegal state: TestSource must be present"));
+			DynamicTestExecutor executor = withMaxInFlight(dynamicTestExecutor, configuration);
 			try (Stream<DynamicNode> dynamicNodeStream = toDynamicNodeStream(testFactoryMethodResult)) {
 				int index = 1;
 				Iterator<DynamicNode> iterator = dynamicNodeStream.iterator();
@@ -122,14 +123,14 @@ public class TestFactoryTestDescriptor extends TestMethodTestDescriptor implemen
 					DynamicNode dynamicNode = iterator.next();
 					Optional<JupiterTestDescriptor> descriptor = createDynamicDescriptor(this, dynamicNode, index,
 						defaultTestSource, getDynamicDescendantFilter(), configuration);
-					descriptor.ifPresent(dynamicTestExecutor::execute);
+					descriptor.ifPresent(executor::execute);
 					index++;
 				}
 			}
 			catch (ClassCastException ex) {
 				throw invalidReturnTypeException(ex);
 			}
-			dynamicTestExecutor.awaitFinished();
+			executor.awaitFinished();
 		});
 	}
 
@@ -177,6 +178,20 @@ public class TestFactoryTestDescriptor extends TestMethodTestDescriptor implemen
 		return Optional.empty();
 	}
 
+	/**
+	 * Apply the {@linkplain JupiterConfiguration#getMaxInFlightDynamicNodes()
+	 * configured} limit of unfinished dynamic nodes, if any, to the supplied
+	 * executor.
+	 *
+	 * @since 6.2
+	 */
+	static DynamicTestExecutor withMaxInFlight(DynamicTestExecutor dynamicTestExecutor,
+			JupiterConfiguration configuration) {
+		return configuration.getMaxInFlightDynamicNodes() //
+				.map(dynamicTestExecutor::withMaxInFlight) //
+				.orElse(dynamicTestExecutor);
+	}
+
 	/**
 	 * @since 5.3
 	 */
@@ -92,12 +92,16 @@ public class TestMethodTestDescriptor extends MethodBasedTestDescriptor {
 		this.interceptorCall = interceptorCall;
 	}
 
+	TestMethodTestDescriptor(UniqueId uniqueId, TestMethodTestDescriptor prototype) {
+		super(uniqueId, prototype);
+		this.interceptorCall = prototype.interceptorCall;
+	}
+
 	// --- JupiterTestDescriptor -----------------------------------------------
 
 	@Override
 	protected TestMethodTestDescriptor withUniqueId(UnaryOperator<UniqueId> uniqueIdTransformer) {
-		return new TestMethodTestDescriptor(uniqueIdTransformer.apply(getUniqueId()), getDisplayName(), getTestClass(),
-			getTestMethod(), this.configuration, interceptorCall);
+		return new TestMethodTestDescriptor(uniqueIdTransformer.apply(getUniqueId()), this);
 	}
 
 	// --- TestDescriptor ------------------------------------------------------
@@ -49,9 +49,9 @@ public class TestTemplateTestDescriptor extends MethodBasedTestDescriptor implem
 		this.dynamicDescendantFilter = new DynamicDescendantFilter();
 	}
 
-	private TestTemplateTestDescriptor(UniqueId uniqueId, String displayName, Class<?> testClass, Method templateMethod,
-			JupiterConfiguration configuration, DynamicDescendantFilter dynamicDescendantFilter) {
-		super(uniqueId, displayName, testClass, templateMethod, configuration);
+	private TestTemplateTestDescriptor(UniqueId uniqueId, TestTemplateTestDescriptor prototype,
+			DynamicDescendantFilter dynamicDescendantFilter) {
+		super(uniqueId, prototype);
 		this.dynamicDescendantFilter = dynamicDescendantFilter;
 	}
 
@@ -59,8 +59,7 @@ public class TestTemplateTestDescriptor extends MethodBasedTestDescriptor implem
 
 	@Override
 	protected TestTemplateTestDescriptor withUniqueId(UnaryOperator<UniqueId> uniqueIdTransformer) {
-		return new TestTemplateTestDescriptor(uniqueIdTransformer.apply(getUniqueId()), getDisplayName(),
-			getTestClass(), getTestMethod(), this.configuration,
+		return new TestTemplateTestDescriptor(uniqueIdTransformer.apply(getUniqueId()), this,
 			this.dynamicDescendantFilter.copy(uniqueIdTransformer));
 	}
 
@@ -10,12 +10,15 @@
 
 package org.junit.jupiter.engine.discovery;
 
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.ClassDescriptor;
 import org.junit.jupiter.api.ClassOrdererContext;
 import org.junit.jupiter.engine.config.JupiterConfiguration;
+import org.junit.platform.commons.JUnitException;
 
 /**
  * Default implementation of {@link ClassOrdererContext}.
@@ -42,4 +45,19 @@ class DefaultClassOrdererContext implements ClassOrdererContext {
 		return this.configuration.getRawConfigurationParameter(key);
 	}
 
+	@Override
+	public Optional<Path> getOutputDirectory() {
+		return getOutputDirectory(this.configuration);
+	}
+
+	static Optional<Path> getOutputDirectory(JupiterConfiguration configuration) {
+		try {
+			return Optional.of(configuration.getOutputDirectoryCreator().getRootDirectory());
+		}
+		catch (JUnitException | UncheckedIOException ex) {
+			// writing output files is disabled or the directory could not be created
+			return Optional.empty();
+		}
+	}
+
 }
@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.engine.discovery;
 
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 
@@ -52,6 +53,11 @@ class DefaultMethodOrdererContext implements MethodOrdererContext {
 		return this.configuration.getRawConfigurationParameter(key);
 	}
 
+	@Override
+	public Optional<Path> getOutputDirectory() {
+		return DefaultClassOrdererContext.getOutputDirectory(this.configuration);
+	}
+
 	@Override
 	public String toString() {
 		return new ToStringBuilder(this).append("methodDescriptors", methodDescriptors).toString();
@@ -12,10 +12,14 @@ package org.junit.jupiter.engine.execution;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.util.Objects;
+
 import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.extension.ConditionEvaluationResult;
 import org.junit.jupiter.api.extension.ExecutionCondition;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
 import org.junit.jupiter.engine.config.JupiterConfiguration;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
 import org.junit.platform.commons.logging.Logger;
@@ -36,6 +40,8 @@ public class ConditionEvaluator {
 	private static final ConditionEvaluationResult ENABLED = ConditionEvaluationResult.enabled(
 		"No 'disabled' conditions encountered");
 
+	private static final Namespace NAMESPACE = Namespace.create(ConditionEvaluator.class);
+
 	/**
 	 * Evaluate all {@link ExecutionCondition} extensions registered for the
 	 * supplied {@link ExtensionContext}.
@@ -59,6 +65,29 @@ public class ConditionEvaluator {
 	}
 
 	private ConditionEvaluationResult evaluate(ExecutionCondition condition, ExtensionContext context) {
+		return switch (condition.getResultScope()) {
+			case JVM -> evaluateCached(context.getRoot(), new CacheKey(condition, null), context);
+			case CLASS -> evaluateCached(findClassContext(context),
+				new CacheKey(condition, context.getElement().orElse(null)), context);
+			case METHOD -> evaluateUncached(condition, context);
+		};
+	}
+
+	private ConditionEvaluationResult evaluateCached(ExtensionContext cacheContext, CacheKey key,
+			ExtensionContext context) {
+		return cacheContext.getStore(NAMESPACE).computeIfAbsent(key,
+			__ -> evaluateUncached(key.condition(), context), ConditionEvaluationResult.class);
+	}
+
+	private static ExtensionContext findClassContext(ExtensionContext context) {
+		ExtensionContext current = context;
+		while (current.getTestMethod().isPresent() && current.getParent().isPresent()) {
+			current = current.getParent().get();
+		}
+		return current;
+	}
+
+	private ConditionEvaluationResult evaluateUncached(ExecutionCondition condition, ExtensionContext context) {
 		try {
 			ConditionEvaluationResult result = condition.evaluateExecutionCondition(context);
 			logResult(condition.getClass(), result, context);
@@ -80,4 +109,22 @@ public class ConditionEvaluator {
 			"Failed to evaluate condition [%s]%s".formatted(conditionType.getName(), cause), ex);
 	}
 
+	/**
+	 * Key of a cached result; conditions are compared by identity since they
+	 * are not required to implement {@code equals()}.
+	 */
+	private record CacheKey(ExecutionCondition condition, @Nullable Object element) {
+
+		@Override
+		public boolean equals(@Nullable Object obj) {
+			return obj instanceof CacheKey that && this.condition == that.condition
+					&& Objects.equals(this.element, that.element);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode(this.condition) + Objects.hashCode(this.element);
+		}
+	}
+
 }
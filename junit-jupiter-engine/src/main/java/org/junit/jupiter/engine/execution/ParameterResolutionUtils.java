@@ -29,6 +29,8 @@ import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.api.extension.ParameterResolutionException;
 import org.junit.jupiter.api.extension.ParameterResolver;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
+import org.junit.jupiter.engine.support.FlightRecording;
+import org.junit.jupiter.engine.support.FlightRecording.Recording;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.StringUtils;
@@ -148,7 +150,15 @@ public class ParameterResolutionUtils {
 			}
 
 			ParameterResolver resolver = matchingResolvers.get(0);
-			Object value = resolver.resolveParameter(parameterContext, extensionContext.get(resolver));
+			ExtensionContext resolverContext = extensionContext.get(resolver);
+			Recording recording = FlightRecording.parameterResolution(resolverContext, parameterContext, resolver);
+			Object value;
+			try {
+				value = resolver.resolveParameter(parameterContext, resolverContext);
+			}
+			finally {
+				recording.commit();
+			}
 			validateResolvedType(parameterContext.getParameter(), value, executable, resolver);
 
 			logger.trace(
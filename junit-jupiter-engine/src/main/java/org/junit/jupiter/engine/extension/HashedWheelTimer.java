@@ -0,0 +1,268 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
+
+/**
+ * Timer that executes tasks after a delay on a single watcher thread using a
+ * hashed timing wheel.
+ *
+ * <p>In contrast to a {@link java.util.concurrent.ScheduledExecutorService},
+ * scheduling and cancelling a task are constant-time operations that do not
+ * allocate beyond the returned {@link Timeout}: scheduled timeouts are pushed
+ * onto a lock-free stack that the watcher thread transfers into the buckets
+ * of the wheel on every tick, and cancelled timeouts are only marked as such
+ * and removed from their bucket the next time the watcher thread visits it.
+ *
+ * <p>Tasks are executed no earlier than their delay and at most one tick
+ * after it. Once no timeouts have been pending for a full rotation of the
+ * wheel, the watcher thread is parked until the next one is scheduled.
+ *
+ * @since 6.2
+ */
+class HashedWheelTimer implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+	private final long tickNanos;
+	private final @Nullable Timeout[] wheel;
+	private final int mask;
+	private final long startTime = System.nanoTime();
+	private final AtomicReference<@Nullable Timeout> scheduledTimeouts = new AtomicReference<>();
+	private final AtomicInteger pendingTimeouts = new AtomicInteger();
+	private final Thread watcherThread;
+	private volatile boolean parked;
+	private volatile boolean closed;
+
+	@SuppressWarnings("ThreadPriorityCheck")
+	HashedWheelTimer(String threadName, long tickDuration, TimeUnit unit, int ticksPerWheel) {
+		Preconditions.condition(tickDuration > 0, "tickDuration must be greater than zero");
+		Preconditions.condition(ticksPerWheel > 0 && Integer.bitCount(ticksPerWheel) == 1,
+			"ticksPerWheel must be a power of two");
+		this.tickNanos = unit.toNanos(tickDuration);
+		this.wheel = new Timeout[ticksPerWheel];
+		this.mask = ticksPerWheel - 1;
+		this.watcherThread = new Thread(this::watch, threadName);
+		this.watcherThread.setDaemon(true);
+		this.watcherThread.setPriority(Thread.MAX_PRIORITY);
+		this.watcherThread.start();
+	}
+
+	/**
+	 * Schedule the supplied task to be executed on the watcher thread after
+	 * the supplied delay.
+	 */
+	Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+		if (closed) {
+			throw new JUnitException("Timer has already been closed");
+		}
+		Timeout timeout = new Timeout(task, deadline(System.nanoTime() - startTime, unit.toNanos(delay)));
+		Timeout head;
+		do {
+			head = scheduledTimeouts.get();
+			timeout.nextScheduled = head;
+		} while (!scheduledTimeouts.compareAndSet(head, timeout));
+		if (pendingTimeouts.getAndIncrement() == 0 && parked) {
+			LockSupport.unpark(watcherThread);
+		}
+		return timeout;
+	}
+
+	/**
+	 * Saturate the deadline so that timeouts with huge delays never expire
+	 * rather than overflowing and expiring immediately. The upper bound
+	 * leaves room for rounding the deadline up to the next tick.
+	 */
+	private long deadline(long now, long delayNanos) {
+		long maxDeadline = Long.MAX_VALUE - tickNanos;
+		return delayNanos > maxDeadline - now ? maxDeadline : now + delayNanos;
+	}
+
+	@Override
+	public void close() throws Exception {
+		closed = true;
+		LockSupport.unpark(watcherThread);
+		watcherThread.join(TimeUnit.SECONDS.toMillis(5));
+		if (watcherThread.isAlive()) {
+			throw new JUnitException("Timeout watcher thread could not be stopped in an orderly manner");
+		}
+	}
+
+	private void watch() {
+		long lastTick = -1;
+		long lastBusyTick = 0;
+		while (!closed) {
+			long now = System.nanoTime() - startTime;
+			long currentTick = now / tickNanos;
+			transferScheduledTimeouts(currentTick);
+			for (long tick = Math.max(lastTick + 1, currentTick - mask); tick <= currentTick; tick++) {
+				expireTimeouts((int) (tick & mask), now);
+			}
+			lastTick = currentTick;
+			if (pendingTimeouts.get() > 0) {
+				lastBusyTick = currentTick;
+			}
+			else if (currentTick - lastBusyTick > mask) {
+				// all buckets have been purged of cancelled timeouts
+				parkUntilScheduled();
+				continue;
+			}
+			LockSupport.parkNanos(this, (currentTick + 1) * tickNanos - now);
+		}
+	}
+
+	private void parkUntilScheduled() {
+		parked = true;
+		// re-check after publishing the parked flag to avoid missing a wake-up
+		if (pendingTimeouts.get() == 0 && !closed) {
+			LockSupport.park(this);
+		}
+		parked = false;
+	}
+
+	private void transferScheduledTimeouts(long currentTick) {
+		Timeout timeout = scheduledTimeouts.getAndSet(null);
+		while (timeout != null) {
+			Timeout next = timeout.nextScheduled;
+			timeout.nextScheduled = null;
+			if (!timeout.isCancelled()) {
+				// round up so that the bucket is never visited before the deadline
+				long tick = Math.max((timeout.deadline + tickNanos - 1) / tickNanos, currentTick);
+				int index = (int) (tick & mask);
+				timeout.nextInBucket = wheel[index];
+				wheel[index] = timeout;
+			}
+			timeout = next;
+		}
+	}
+
+	private void expireTimeouts(int index, long now) {
+		Timeout remaining = null;
+		Timeout timeout = wheel[index];
+		wheel[index] = null;
+		while (timeout != null) {
+			Timeout next = timeout.nextInBucket;
+			timeout.nextInBucket = null;
+			// cancelled timeouts are unlinked so that their tasks can be reclaimed
+			if (timeout.deadline > now && !timeout.isCancelled()) {
+				timeout.nextInBucket = remaining;
+				remaining = timeout;
+			}
+			else if (timeout.start()) {
+				pendingTimeouts.decrementAndGet();
+				timeout.run();
+			}
+			timeout = next;
+		}
+		wheel[index] = remaining;
+	}
+
+	/**
+	 * Handle for a task scheduled via {@link #schedule}.
+	 */
+	final class Timeout {
+
+		private static final int PENDING = 0;
+		private static final int CANCELLED = 1;
+		private static final int RUNNING = 2;
+		private static final int DONE = 3;
+
+		private static final AtomicIntegerFieldUpdater<Timeout> STATE = AtomicIntegerFieldUpdater.newUpdater(
+			Timeout.class, "state");
+
+		private final Runnable task;
+		private final long deadline;
+		private volatile int state = PENDING;
+
+		// only accessed by the scheduling threads before publication and by the watcher thread afterwards
+		private @Nullable Timeout nextScheduled;
+
+		// only accessed by the watcher thread
+		private @Nullable Timeout nextInBucket;
+
+		private Timeout(Runnable task, long deadline) {
+			this.task = task;
+			this.deadline = deadline;
+		}
+
+		/**
+		 * Attempt to cancel the task.
+		 *
+		 * @return {@code true} if the task was cancelled before it was
+		 * started; {@code false} if it has already been started
+		 */
+		boolean cancel() {
+			if (STATE.compareAndSet(this, PENDING, CANCELLED)) {
+				pendingTimeouts.decrementAndGet();
+				return true;
+			}
+			return state == CANCELLED;
+		}
+
+		/**
+		 * Wait for a started task to complete.
+		 *
+		 * <p>Since the task typically interrupts the waiting thread, waiting
+		 * is not interruptible; the interrupt status is restored afterwards.
+		 */
+		synchronized void awaitCompletion() {
+			boolean interrupted = false;
+			while (state == RUNNING) {
+				try {
+					wait();
+				}
+				catch (InterruptedException ex) {
+					interrupted = true;
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		boolean isCancelled() {
+			return state == CANCELLED;
+		}
+
+		private boolean start() {
+			return STATE.compareAndSet(this, PENDING, RUNNING);
+		}
+
+		private void run() {
+			try {
+				task.run();
+			}
+			catch (Throwable t) {
+				UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+				logger.warn(t, () -> "Failed to execute timeout task");
+			}
+			finally {
+				synchronized (this) {
+					state = DONE;
+					notifyAll();
+				}
+			}
+		}
+	}
+
+}
@@ -12,8 +12,6 @@ package org.junit.jupiter.engine.extension;
 
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeoutException;
 
 import org.jspecify.annotations.Nullable;
@@ -26,11 +24,11 @@ import org.junit.platform.commons.util.UnrecoverableExceptions;
 class SameThreadTimeoutInvocation<T extends @Nullable Object> implements Invocation<T> {
 
 	private final TimeoutInvocationParameters<T> parameters;
-	private final ScheduledExecutorService executor;
+	private final HashedWheelTimer timer;
 
-	SameThreadTimeoutInvocation(TimeoutInvocationParameters<T> parameters, ScheduledExecutorService executor) {
+	SameThreadTimeoutInvocation(TimeoutInvocationParameters<T> parameters, HashedWheelTimer timer) {
 		this.parameters = parameters;
-		this.executor = executor;
+		this.timer = timer;
 	}
 
 	@SuppressWarnings("NullAway")
@@ -38,7 +36,7 @@ class SameThreadTimeoutInvocation<T extends @Nullable Object> implements Invocat
 	public T proceed() throws Throwable {
 		InterruptTask interruptTask = new InterruptTask(Thread.currentThread(), parameters.preInterruptCallback());
 		var timeout = parameters.timeout();
-		ScheduledFuture<?> future = executor.schedule(interruptTask, timeout.value(), timeout.unit());
+		HashedWheelTimer.Timeout scheduledTimeout = timer.schedule(interruptTask, timeout.value(), timeout.unit());
 		Throwable failure = null;
 		T result = null;
 		try {
@@ -49,9 +47,9 @@ class SameThreadTimeoutInvocation<T extends @Nullable Object> implements Invocat
 			failure = t;
 		}
 		finally {
-			boolean cancelled = future.cancel(false);
+			boolean cancelled = scheduledTimeout.cancel();
 			if (!cancelled) {
-				future.get();
+				scheduledTimeout.awaitCompletion();
 			}
 			if (interruptTask.executed) {
 				Thread.interrupted();
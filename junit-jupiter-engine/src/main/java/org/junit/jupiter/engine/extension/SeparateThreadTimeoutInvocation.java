@@ -16,6 +16,7 @@ import java.util.concurrent.TimeoutException;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
+import org.junit.jupiter.api.timeout.PreemptiveTimeoutExecutor;
 
 /**
  * @since 5.9
@@ -23,9 +24,11 @@ import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
 class SeparateThreadTimeoutInvocation<T extends @Nullable Object> implements Invocation<T> {
 
 	private final TimeoutInvocationParameters<T> parameters;
+	private final PreemptiveTimeoutExecutor executor;
 
-	SeparateThreadTimeoutInvocation(TimeoutInvocationParameters<T> parameters) {
+	SeparateThreadTimeoutInvocation(TimeoutInvocationParameters<T> parameters, PreemptiveTimeoutExecutor executor) {
 		this.parameters = parameters;
+		this.executor = executor;
 	}
 
 	@Override
@@ -35,7 +38,7 @@ class SeparateThreadTimeoutInvocation<T extends @Nullable Object> implements Inv
 		var delegate = parameters.invocation();
 		var descriptionSupplier = parameters.descriptionSupplier();
 		return executeWithPreemptiveTimeout(timeout.toDuration(), delegate::proceed, descriptionSupplier,
-			(__, ___, cause, testThread) -> newTimeoutException(cause, testThread));
+			(__, ___, cause, testThread) -> newTimeoutException(cause, testThread), executor);
 	}
 
 	private TimeoutException newTimeoutException(@Nullable Throwable cause, @Nullable Thread testThread) {
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
+import static java.nio.file.StandardCopyOption.COPY_ATTRIBUTES;
+
+import java.io.IOException;
+import java.nio.file.FileSystemException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.io.TemplateCopyMode;
+import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/**
+ * Template directory used to populate temporary directories.
+ *
+ * <p>The template is scanned once when it is created; populating a temporary
+ * directory only creates the directories and copies or links the files that
+ * were found.
+ *
+ * @since 6.2
+ * @see org.junit.jupiter.api.io.TempDir#template()
+ */
+final class TempDirTemplate {
+
+	private static final Logger logger = LoggerFactory.getLogger(TempDirTemplate.class);
+
+	static TempDirTemplate scan(Path root) throws IOException {
+		if (!Files.isDirectory(root)) {
+			throw new PreconditionViolationException("template [%s] must be a directory".formatted(root));
+		}
+		List<Path> directories = new ArrayList<>();
+		List<Path> regularFiles = new ArrayList<>();
+		List<Path> otherFiles = new ArrayList<>();
+		Files.walkFileTree(root, new SimpleFileVisitor<>() {
+			@Override
+			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) {
+				if (!dir.equals(root)) {
+					directories.add(root.relativize(dir));
+				}
+				return FileVisitResult.CONTINUE;
+			}
+
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+				(attributes.isRegularFile() ? regularFiles : otherFiles).add(root.relativize(file));
+				return FileVisitResult.CONTINUE;
+			}
+		});
+		return new TempDirTemplate(root, directories, regularFiles, otherFiles);
+	}
+
+	private final Path root;
+	private final List<Path> directories;
+	private final List<Path> regularFiles;
+	private final List<Path> otherFiles;
+
+	private TempDirTemplate(Path root, List<Path> directories, List<Path> regularFiles, List<Path> otherFiles) {
+		this.root = root;
+		this.directories = directories;
+		this.regularFiles = regularFiles;
+		this.otherFiles = otherFiles;
+	}
+
+	/**
+	 * Populate the supplied, empty directory with the contents of this
+	 * template.
+	 */
+	void populate(Path target, TemplateCopyMode copyMode) throws IOException {
+		for (Path directory : this.directories) {
+			Files.createDirectory(resolve(target, directory));
+		}
+		boolean link = copyMode == TemplateCopyMode.LINK && target.getFileSystem().equals(this.root.getFileSystem());
+		for (Path file : this.regularFiles) {
+			Path source = this.root.resolve(file);
+			Path destination = resolve(target, file);
+			if (link) {
+				try {
+					Files.createLink(destination, source);
+					continue;
+				}
+				catch (UnsupportedOperationException | FileSystemException ex) {
+					// for example, if the target is on a different file store
+					logger.debug(ex, () -> "Failed to link files of template %s into %s; copying them instead" //
+							.formatted(this.root, target));
+					link = false;
+				}
+			}
+			Files.copy(source, destination, COPY_ATTRIBUTES);
+		}
+		for (Path file : this.otherFiles) {
+			Files.copy(this.root.resolve(file), resolve(target, file), NOFOLLOW_LINKS);
+		}
+	}
+
+	private static Path resolve(Path target, Path relativePath) {
+		if (target.getFileSystem().equals(relativePath.getFileSystem())) {
+			return target.resolve(relativePath);
+		}
+		Path result = target;
+		for (Path name : relativePath) {
+			result = result.resolve(name.toString());
+		}
+		return result;
+	}
+
+}
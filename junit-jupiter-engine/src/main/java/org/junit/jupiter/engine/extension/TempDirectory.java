@@ -46,6 +46,7 @@ import org.junit.jupiter.api.io.CleanupMode;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.api.io.TempDirDeletionStrategy;
 import org.junit.jupiter.api.io.TempDirFactory;
+import org.junit.jupiter.api.io.TemplateCopyMode;
 import org.junit.jupiter.engine.config.JupiterConfiguration;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.PreconditionViolationException;
@@ -73,6 +74,7 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 
 	private static final Namespace NAMESPACE = Namespace.create(TempDirectory.class);
 	private static final String KEY = "temp.dir";
+	private static final String TEMPLATE_KEY_PREFIX = "template:";
 	private static final String FAILURE_TRACKER = "failure.tracker";
 	private static final String CHILD_FAILED = "child.failed";
 
@@ -216,15 +218,16 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 			ExtensionContext extensionContext, TempDir tempDir) {
 		TempDirFactory factory = determineTempDirFactory(tempDir);
 		Cleanup cleanup = new Cleanup(determineCleanupMode(tempDir), determineDeletionStrategy(tempDir));
-		return getPathOrFile(elementType, elementContext, factory, cleanup, extensionContext);
+		Template template = new Template(tempDir.template(), tempDir.templateCopyMode());
+		return getPathOrFile(elementType, elementContext, factory, cleanup, template, extensionContext);
 	}
 
 	private static Object getPathOrFile(Class<?> elementType, AnnotatedElementContext elementContext,
-			TempDirFactory factory, Cleanup cleanup, ExtensionContext extensionContext) {
+			TempDirFactory factory, Cleanup cleanup, Template template, ExtensionContext extensionContext) {
 
 		Path path = extensionContext.getStore(NAMESPACE.append(elementContext)) //
 				.computeIfAbsent(KEY,
-					__ -> createTempDir(factory, cleanup, elementType, elementContext, extensionContext),
+					__ -> createTempDir(factory, cleanup, template, elementType, elementContext, extensionContext),
 					CloseablePath.class) //
 				.get();
 
@@ -234,8 +237,14 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 	static CloseablePath createTempDir(TempDirFactory factory, Cleanup cleanup, Class<?> elementType,
 			AnnotatedElementContext elementContext, ExtensionContext extensionContext) {
 
+		return createTempDir(factory, cleanup, Template.NONE, elementType, elementContext, extensionContext);
+	}
+
+	static CloseablePath createTempDir(TempDirFactory factory, Cleanup cleanup, Template template,
+			Class<?> elementType, AnnotatedElementContext elementContext, ExtensionContext extensionContext) {
+
 		try {
-			return new CloseablePath(factory, cleanup, elementType, elementContext, extensionContext);
+			return new CloseablePath(factory, cleanup, template, elementType, elementContext, extensionContext);
 		}
 		catch (Exception ex) {
 			throw new ExtensionConfigurationException("Failed to create default temp directory", ex);
@@ -260,7 +269,7 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 		private final AnnotatedElementContext elementContext;
 		private final ExtensionContext extensionContext;
 
-		private CloseablePath(TempDirFactory factory, Cleanup cleanup, Class<?> elementType,
+		private CloseablePath(TempDirFactory factory, Cleanup cleanup, Template template, Class<?> elementType,
 				AnnotatedElementContext elementContext, ExtensionContext extensionContext) throws Exception {
 			this.dir = factory.createTempDirectory(elementContext, extensionContext);
 			this.factory = factory;
@@ -279,6 +288,19 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 					"temp directory with non-default file system cannot be injected into " + File.class.getName()
 							+ " target");
 			}
+
+			try {
+				template.populate(this.dir, extensionContext);
+			}
+			catch (Exception ex) {
+				try {
+					close();
+				}
+				catch (Exception closeException) {
+					ex.addSuppressed(closeException);
+				}
+				throw ex;
+			}
 		}
 
 		Path get() {
@@ -332,6 +354,30 @@ class TempDirectory implements BeforeAllCallback, BeforeEachCallback, ParameterR
 		}
 	}
 
+	record Template(String path, TemplateCopyMode copyMode) {
+
+		static final Template NONE = new Template("", TemplateCopyMode.COPY);
+
+		void populate(Path dir, ExtensionContext extensionContext) throws IOException {
+			if (path.isBlank()) {
+				return;
+			}
+			Path root = Path.of(path).toAbsolutePath().normalize();
+			extensionContext.getRoot().getStore(NAMESPACE) //
+					.computeIfAbsent(TEMPLATE_KEY_PREFIX + root, __ -> scan(root), TempDirTemplate.class) //
+					.populate(dir, copyMode);
+		}
+
+		private static TempDirTemplate scan(Path root) {
+			try {
+				return TempDirTemplate.scan(root);
+			}
+			catch (IOException ex) {
+				throw new ExtensionConfigurationException("Failed to scan @TempDir template " + root, ex);
+			}
+		}
+	}
+
 	record Cleanup(CleanupMode cleanupMode, Supplier<TempDirDeletionStrategy> deletionStrategy) {
 
 		private static final Logger logger = LoggerFactory.getLogger(Cleanup.class);
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Timeout.ThreadMode;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.StoreScope;
 import org.junit.jupiter.api.extension.InvocationInterceptor;
 import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
 import org.junit.platform.commons.support.AnnotationSupport;
@@ -184,7 +185,7 @@ class TimeoutExtension implements BeforeAllCallback, BeforeEachCallback, Invocat
 		}
 
 		var threadMode = resolveTimeoutThreadMode(extensionContext, timeoutConfiguration);
-		return new TimeoutInvocationFactory(extensionContext.getRoot().getStore(NAMESPACE)) //
+		return new TimeoutInvocationFactory(extensionContext.getStore(StoreScope.LAUNCHER_SESSION, NAMESPACE)) //
 				.create(threadMode, createParameters(invocation, invocationContext, extensionContext, timeout));
 	}
 
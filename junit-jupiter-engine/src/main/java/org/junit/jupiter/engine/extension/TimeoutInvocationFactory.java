@@ -10,15 +10,13 @@
 
 package org.junit.jupiter.engine.extension;
 
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Timeout.ThreadMode;
 import org.junit.jupiter.api.extension.ExtensionContext.Store;
 import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
-import org.junit.platform.commons.JUnitException;
+import org.junit.jupiter.api.timeout.PreemptiveTimeoutExecutor;
 import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.commons.util.Preconditions;
 
@@ -38,51 +36,67 @@ class TimeoutInvocationFactory {
 		Preconditions.notNull(parameters, "timeout invocation parameters must not be null");
 		return switch (Preconditions.notNull(threadMode, "thread mode must not be null")) {
 			case SAME_THREAD -> new SameThreadTimeoutInvocation<>(parameters,
-				getThreadExecutorForSameThreadInvocation());
-			case SEPARATE_THREAD -> new SeparateThreadTimeoutInvocation<>(parameters);
+				getTimerForSameThreadInvocation());
+			case SEPARATE_THREAD -> new SeparateThreadTimeoutInvocation<>(parameters,
+				getExecutorForSeparateThreadInvocation());
 			case INFERRED -> throw new PreconditionViolationException("thread mode must not be INFERRED");
 		};
 	}
 
 	@SuppressWarnings("resource")
-	private ScheduledExecutorService getThreadExecutorForSameThreadInvocation() {
-		return store.computeIfAbsent(SingleThreadExecutorResource.class).get();
+	private HashedWheelTimer getTimerForSameThreadInvocation() {
+		return store.computeIfAbsent(TimeoutWatcherResource.class).get();
 	}
 
+	@SuppressWarnings("resource")
+	private PreemptiveTimeoutExecutor getExecutorForSeparateThreadInvocation() {
+		return store.computeIfAbsent(TimeoutExecutorResource.class).get();
+	}
+
+	/**
+	 * Shares a single {@link HashedWheelTimer} among all {@link ThreadMode#SAME_THREAD
+	 * SAME_THREAD} timeouts in the scope of the store it's stored in.
+	 *
+	 * @since 6.2
+	 */
 	@SuppressWarnings({ "deprecation", "try" })
-	abstract static class ExecutorResource implements Store.CloseableResource, AutoCloseable {
+	static class TimeoutWatcherResource implements Store.CloseableResource, AutoCloseable {
 
-		private final ScheduledExecutorService executor;
+		private static final long TICK_DURATION_MILLIS = 10;
+		private static final int TICKS_PER_WHEEL = 512;
 
-		ExecutorResource(ScheduledExecutorService executor) {
-			this.executor = executor;
-		}
+		private final HashedWheelTimer timer = new HashedWheelTimer("junit-jupiter-timeout-watcher",
+			TICK_DURATION_MILLIS, TimeUnit.MILLISECONDS, TICKS_PER_WHEEL);
 
-		ScheduledExecutorService get() {
-			return executor;
+		HashedWheelTimer get() {
+			return timer;
 		}
 
 		@Override
 		public void close() throws Exception {
-			executor.shutdown();
-			boolean terminated = executor.awaitTermination(5, TimeUnit.SECONDS);
-			if (!terminated) {
-				executor.shutdownNow();
-				throw new JUnitException("Scheduled executor could not be stopped in an orderly manner");
-			}
+			timer.close();
 		}
 	}
 
-	@SuppressWarnings("try")
-	static class SingleThreadExecutorResource extends ExecutorResource {
+	/**
+	 * Shares a single {@link PreemptiveTimeoutExecutor} among all
+	 * {@link ThreadMode#SEPARATE_THREAD SEPARATE_THREAD} timeouts in the scope of
+	 * the store it's stored in.
+	 *
+	 * @since 6.2
+	 */
+	@SuppressWarnings({ "deprecation", "try" })
+	static class TimeoutExecutorResource implements Store.CloseableResource, AutoCloseable {
 
-		@SuppressWarnings({ "unused", "ThreadPriorityCheck" })
-		SingleThreadExecutorResource() {
-			super(Executors.newSingleThreadScheduledExecutor(runnable -> {
-				Thread thread = new Thread(runnable, "junit-jupiter-timeout-watcher");
-				thread.setPriority(Thread.MAX_PRIORITY);
-				return thread;
-			}));
+		private final PreemptiveTimeoutExecutor executor = new PreemptiveTimeoutExecutor();
+
+		PreemptiveTimeoutExecutor get() {
+			return executor;
+		}
+
+		@Override
+		public void close() {
+			executor.close();
 		}
 	}
 
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.support;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.lang.reflect.Method;
+
+import org.apiguardian.api.API;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.platform.commons.util.RuntimeUtils;
+
+/**
+ * Entry point for recording Java Flight Recorder (JFR) events during the
+ * execution of Jupiter tests.
+ *
+ * <p>If JFR is not available, all methods return {@link Recording#NONE} and
+ * no JFR types are loaded.
+ *
+ * @since 6.2
+ */
+@API(status = INTERNAL, since = "6.2")
+public final class FlightRecording {
+
+	private static final boolean AVAILABLE = RuntimeUtils.isFlightRecorderAvailable();
+
+	/**
+	 * Start recording the invocation of a lifecycle method such as a
+	 * {@code @BeforeAll} or {@code @AfterEach} method.
+	 */
+	public static Recording lifecycleMethod(ExtensionContext context, Class<?> annotationType, Method method) {
+		return AVAILABLE ? FlightRecordingEvents.lifecycleMethod(context, annotationType, method) : Recording.NONE;
+	}
+
+	/**
+	 * Start recording the invocation of the supplied extension's callback of
+	 * the supplied type.
+	 */
+	public static Recording extensionCallback(ExtensionContext context, Class<? extends Extension> callbackType,
+			Extension extension) {
+		return AVAILABLE ? FlightRecordingEvents.extensionCallback(context, callbackType, extension) : Recording.NONE;
+	}
+
+	/**
+	 * Start recording the resolution of a parameter by the supplied resolver.
+	 */
+	public static Recording parameterResolution(ExtensionContext context, ParameterContext parameterContext,
+			ParameterResolver resolver) {
+		return AVAILABLE ? FlightRecordingEvents.parameterResolution(context, parameterContext, resolver)
+				: Recording.NONE;
+	}
+
+	/**
+	 * Start recording the construction of an instance of the supplied test
+	 * class for the test descriptor with the supplied unique ID.
+	 */
+	public static Recording testInstanceConstruction(String uniqueId, Class<?> testClass) {
+		return AVAILABLE ? FlightRecordingEvents.testInstanceConstruction(uniqueId, testClass) : Recording.NONE;
+	}
+
+	private FlightRecording() {
+	}
+
+	/**
+	 * An event that has been started and is committed once the recorded
+	 * operation is done.
+	 */
+	@API(status = INTERNAL, since = "6.2")
+	public interface Recording {
+
+		Recording NONE = () -> {
+		};
+
+		void commit();
+
+	}
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.support;
+
+import java.lang.reflect.Method;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.engine.support.FlightRecording.Recording;
+
+/**
+ * Java Flight Recorder (JFR) events for the execution of Jupiter tests.
+ *
+ * <p>This class must only be loaded if JFR is available; use
+ * {@link FlightRecording} instead of referencing it directly.
+ *
+ * @since 6.2
+ */
+final class FlightRecordingEvents {
+
+	static Recording lifecycleMethod(ExtensionContext context, Class<?> annotationType, Method method) {
+		var event = new LifecycleMethodEvent();
+		if (!event.isEnabled()) {
+			return Recording.NONE;
+		}
+		event.uniqueId = context.getUniqueId();
+		event.annotation = "@" + annotationType.getSimpleName();
+		event.className = method.getDeclaringClass().getName();
+		event.methodName = method.getName();
+		event.begin();
+		return event;
+	}
+
+	static Recording extensionCallback(ExtensionContext context, Class<? extends Extension> callbackType,
+			Extension extension) {
+		var event = new ExtensionCallbackEvent();
+		if (!event.isEnabled()) {
+			return Recording.NONE;
+		}
+		event.uniqueId = context.getUniqueId();
+		event.callbackType = callbackType.getName();
+		event.extensionClass = extension.getClass().getName();
+		event.begin();
+		return event;
+	}
+
+	static Recording parameterResolution(ExtensionContext context, ParameterContext parameterContext,
+			ParameterResolver resolver) {
+		var event = new ParameterResolutionEvent();
+		if (!event.isEnabled()) {
+			return Recording.NONE;
+		}
+		event.uniqueId = context.getUniqueId();
+		event.parameter = parameterContext.getParameter().toString();
+		event.parameterIndex = parameterContext.getIndex();
+		event.resolverClass = resolver.getClass().getName();
+		event.begin();
+		return event;
+	}
+
+	static Recording testInstanceConstruction(String uniqueId, Class<?> testClass) {
+		var event = new TestInstanceConstructionEvent();
+		if (!event.isEnabled()) {
+			return Recording.NONE;
+		}
+		event.uniqueId = uniqueId;
+		event.className = testClass.getName();
+		event.begin();
+		return event;
+	}
+
+	private FlightRecordingEvents() {
+	}
+
+	@Category({ "JUnit", "Jupiter" })
+	@StackTrace(false)
+	abstract static class JupiterEvent extends Event implements Recording {
+
+		@Label("Unique Id")
+		@Nullable
+		String uniqueId;
+	}
+
+	@Label("Lifecycle Method")
+	@Name("org.junit.LifecycleMethod")
+	static class LifecycleMethodEvent extends JupiterEvent {
+
+		@Label("Annotation")
+		@Nullable
+		String annotation;
+
+		@Label("Class Name")
+		@Nullable
+		String className;
+
+		@Label("Method Name")
+		@Nullable
+		String methodName;
+	}
+
+	@Label("Extension Callback")
+	@Name("org.junit.ExtensionCallback")
+	static class ExtensionCallbackEvent extends JupiterEvent {
+
+		@Label("Callback Type")
+		@Nullable
+		String callbackType;
+
+		@Label("Extension Class")
+		@Nullable
+		String extensionClass;
+	}
+
+	@Label("Parameter Resolution")
+	@Name("org.junit.ParameterResolution")
+	static class ParameterResolutionEvent extends JupiterEvent {
+
+		@Label("Parameter")
+		@Nullable
+		String parameter;
+
+		@Label("Parameter Index")
+		int parameterIndex;
+
+		@Label("Resolver Class")
+		@Nullable
+		String resolverClass;
+	}
+
+	@Label("Test Instance Construction")
+	@Name("org.junit.TestInstanceConstruction")
+	static class TestInstanceConstructionEvent extends JupiterEvent {
+
+		@Label("Class Name")
+		@Nullable
+		String className;
+	}
+
+}
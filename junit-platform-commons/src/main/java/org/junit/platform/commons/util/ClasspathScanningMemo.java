@@ -0,0 +1,134 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Memo of classpath scanning results that is bound to the thread performing a
+ * discovery while a {@link Scope} is open.
+ *
+ * <p>Opening a scope allows callers that perform multiple discoveries in a
+ * row, for example the suite engine discovering one {@code @Suite} class
+ * after another, to resolve the roots of a package and walk their files only
+ * once. Class filters are still applied and classes are still loaded for
+ * every scan; only the enumeration of class files is reused. Since the
+ * classpath is not expected to change during discovery, the memo is
+ * discarded as soon as the outermost scope has been closed.
+ *
+ * <p>The memo is only visible to the thread that opened the scope. Callers
+ * that perform parts of a discovery in other threads must
+ * {@linkplain #bind(ClasspathScanningMemo) bind} the {@linkplain #current()
+ * current} memo to those threads explicitly. Discoveries in unrelated threads,
+ * for example those of other launchers, are therefore never affected.
+ *
+ * <h2>DISCLAIMER</h2>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 6.2
+ */
+@API(status = INTERNAL, since = "6.2")
+public final class ClasspathScanningMemo {
+
+	private static final ThreadLocal<@Nullable ClasspathScanningMemo> current = new ThreadLocal<>();
+
+	/**
+	 * Open a new scope for the current thread, creating the memo unless a
+	 * scope is already open in the current thread.
+	 *
+	 * <p>The returned scope must be closed by the same thread once the caller
+	 * has finished its discoveries.
+	 */
+	public static Scope open() {
+		ClasspathScanningMemo memo = current.get();
+		return bind(memo == null ? new ClasspathScanningMemo() : memo);
+	}
+
+	/**
+	 * Bind the supplied memo to the current thread until the returned scope is
+	 * closed.
+	 *
+	 * <p>Binding {@code null} ensures that no memo is used by the current
+	 * thread until the returned scope is closed.
+	 *
+	 * <p>The returned scope must be closed by the same thread.
+	 */
+	public static Scope bind(@Nullable ClasspathScanningMemo memo) {
+		ClasspathScanningMemo previous = current.get();
+		current.set(memo);
+		return new Scope(previous);
+	}
+
+	/**
+	 * Get the memo bound to the current thread, if any.
+	 */
+	public static @Nullable ClasspathScanningMemo current() {
+		return current.get();
+	}
+
+	private final Map<Object, Object> values = new ConcurrentHashMap<>();
+
+	private ClasspathScanningMemo() {
+	}
+
+	/**
+	 * Get the value stored for the supplied key, computing it via the supplied
+	 * {@link Supplier} if it has not been computed before.
+	 *
+	 * <p>Keys must implement {@code equals()} and {@code hashCode()} and
+	 * include everything the computed value depends on.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> T computeIfAbsent(Object key, Supplier<T> supplier) {
+		return (T) this.values.computeIfAbsent(key, __ -> supplier.get());
+	}
+
+	/**
+	 * Scope of a {@link ClasspathScanningMemo}; closing it restores the memo
+	 * that was bound to the current thread when it was opened. Closing it more
+	 * than once has no effect.
+	 */
+	public static final class Scope implements AutoCloseable {
+
+		private final @Nullable ClasspathScanningMemo previous;
+
+		private boolean closed;
+
+		private Scope(@Nullable ClasspathScanningMemo previous) {
+			this.previous = previous;
+		}
+
+		@Override
+		public void close() {
+			if (this.closed) {
+				return;
+			}
+			this.closed = true;
+			if (this.previous == null) {
+				current.remove();
+			}
+			else {
+				current.set(this.previous);
+			}
+		}
+	}
+
+}
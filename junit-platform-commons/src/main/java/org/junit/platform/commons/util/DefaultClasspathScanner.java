@@ -131,14 +131,37 @@ class DefaultClasspathScanner implements ClasspathScanner {
 
 	private List<Class<?>> findClassesForUri(URI baseUri, String basePackageName, ClassFilter classFilter) {
 		List<Class<?>> classes = new ArrayList<>();
-		// @formatter:off
-		walkFilesForUri(baseUri, SearchPathUtils::isClassOrSourceFile,
-				(baseDir, file) ->
-						processClassFileSafely(baseDir, basePackageName, classFilter, file, classes::add));
-		// @formatter:on
+		ClasspathScanningMemo memo = ClasspathScanningMemo.current();
+		if (memo == null) {
+			// @formatter:off
+			walkFilesForUri(baseUri, SearchPathUtils::isClassOrSourceFile,
+					(baseDir, file) ->
+							processClassFileSafely(baseDir, basePackageName, classFilter, file, classes::add));
+			// @formatter:on
+		}
+		else {
+			ClassFilesKey key = new ClassFilesKey(getClassLoader(), baseUri, basePackageName);
+			List<ClassFile> classFiles = memo.computeIfAbsent(key,
+				() -> findClassFilesForUri(baseUri, basePackageName));
+			classFiles.forEach(classFile -> processClassSafely(classFile.className(), classFile.file(), classFilter,
+				classes::add));
+		}
 		return classes;
 	}
 
+	private List<ClassFile> findClassFilesForUri(URI baseUri, String basePackageName) {
+		List<ClassFile> classFiles = new ArrayList<>();
+		walkFilesForUri(baseUri, SearchPathUtils::isClassOrSourceFile, (baseDir, file) -> {
+			try {
+				classFiles.add(new ClassFile(determineFullyQualifiedClassName(baseDir, basePackageName, file), file));
+			}
+			catch (Throwable throwable) {
+				handleThrowable(file, throwable);
+			}
+		});
+		return List.copyOf(classFiles);
+	}
+
 	/**
 	 * Recursively scan for resources in all the supplied source directories.
 	 */
@@ -186,6 +209,16 @@ class DefaultClasspathScanner implements ClasspathScanner {
 			Consumer<Class<?>> classConsumer) {
 		try {
 			String fullyQualifiedClassName = determineFullyQualifiedClassName(baseDir, basePackageName, file);
+			processClassSafely(fullyQualifiedClassName, file, classFilter, classConsumer);
+		}
+		catch (Throwable throwable) {
+			handleThrowable(file, throwable);
+		}
+	}
+
+	private void processClassSafely(String fullyQualifiedClassName, Path file, ClassFilter classFilter,
+			Consumer<Class<?>> classConsumer) {
+		try {
 			if (classFilter.match(fullyQualifiedClassName)) {
 				try {
 					// @formatter:off
@@ -300,6 +333,15 @@ class DefaultClasspathScanner implements ClasspathScanner {
 	}
 
 	private List<URI> getRootUrisForPackageNameOnClassPathAndModulePath(String basePackageName) {
+		ClasspathScanningMemo memo = ClasspathScanningMemo.current();
+		if (memo == null) {
+			return findRootUrisForPackageNameOnClassPathAndModulePath(basePackageName);
+		}
+		return memo.computeIfAbsent(new RootUrisKey(getClassLoader(), basePackageName),
+			() -> List.copyOf(findRootUrisForPackageNameOnClassPathAndModulePath(basePackageName)));
+	}
+
+	private List<URI> findRootUrisForPackageNameOnClassPathAndModulePath(String basePackageName) {
 		Set<URI> uriSet = new LinkedHashSet<>(getRootUrisForPackage(basePackageName));
 		if (!basePackageName.isEmpty() && !basePackageName.endsWith(PACKAGE_SEPARATOR_STRING)) {
 			getRootUrisForPackage(basePackageName + PACKAGE_SEPARATOR_STRING).stream() //
@@ -339,4 +381,13 @@ class DefaultClasspathScanner implements ClasspathScanner {
 		return uris;
 	}
 
+	private record ClassFile(String className, Path file) {
+	}
+
+	private record ClassFilesKey(ClassLoader classLoader, URI baseUri, String basePackageName) {
+	}
+
+	private record RootUrisKey(ClassLoader classLoader, String basePackageName) {
+	}
+
 }
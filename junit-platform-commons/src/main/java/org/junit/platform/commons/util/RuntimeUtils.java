@@ -46,6 +46,19 @@ public final class RuntimeUtils {
 				.orElse(false);
 	}
 
+	/**
+	 * Determine whether the Java Flight Recorder (JFR) API is available.
+	 *
+	 * <p>JFR is considered unavailable if the {@code jdk.jfr} module is
+	 * absent or when running in a GraalVM native image.
+	 *
+	 * @since 6.2
+	 */
+	public static boolean isFlightRecorderAvailable() {
+		return System.getProperty("org.graalvm.nativeimage.imagecode") == null //
+				&& ReflectionUtils.tryToLoadClass("jdk.jfr.FlightRecorder").toOptional().isPresent();
+	}
+
 	/**
 	 * Try to get the input arguments the VM was started with.
 	 */
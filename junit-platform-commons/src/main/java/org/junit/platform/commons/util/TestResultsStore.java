@@ -0,0 +1,319 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/**
+ * Persistent store of the outcomes of recent executions of tests.
+ *
+ * <p>For each test, the store keeps its unique ID, an optional <em>source
+ * key</em> derived from its class or method, and a bit set of the outcomes of
+ * its last {@value #HISTORY_LENGTH} executions. The store is written to a
+ * file named {@value #FILE_NAME} in the reporting output directory, one test
+ * per line, so that test orderers and filters of subsequent runs can
+ * prioritize tests that failed recently.
+ *
+ * <p>To keep the file small, only tests that failed in at least one of their
+ * recent executions are written. Tests that have not been executed in the
+ * last {@value #MAX_AGE} runs, for example because they have been removed,
+ * are discarded.
+ *
+ * <h2>DISCLAIMER</h2>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 6.2
+ */
+@API(status = INTERNAL, since = "6.2")
+public final class TestResultsStore {
+
+	/**
+	 * Name of the file the store is written to: {@value}
+	 */
+	public static final String FILE_NAME = "junit-platform-test-results.txt";
+
+	/**
+	 * Number of recent executions tracked per test: {@value}
+	 */
+	public static final int HISTORY_LENGTH = 16;
+
+	private static final int HISTORY_MASK = (1 << HISTORY_LENGTH) - 1;
+
+	/**
+	 * Number of runs without an execution of a test after which its results
+	 * are discarded: {@value}
+	 */
+	private static final int MAX_AGE = 100;
+
+	private static final String HEADER = "# JUnit Platform test results";
+
+	private static final String SEPARATOR = "\t";
+
+	private static final Logger logger = LoggerFactory.getLogger(TestResultsStore.class);
+
+	/**
+	 * Status of a test derived from its recent executions, in ascending order
+	 * of priority.
+	 */
+	public enum Status {
+
+		/**
+		 * The test is unknown or passed in all of its recent executions.
+		 */
+		PASSED,
+
+		/**
+		 * The test passed in its last execution but failed in at least one of
+		 * its recent executions.
+		 */
+		FLAKY,
+
+		/**
+		 * The test failed in its last execution.
+		 */
+		FAILED;
+
+		private static Status fromHistory(int history) {
+			if ((history & 1) != 0) {
+				return FAILED;
+			}
+			return history != 0 ? FLAKY : PASSED;
+		}
+
+		/**
+		 * {@return whether this status indicates a recent failure}
+		 */
+		public boolean isRecentlyFailed() {
+			return this != PASSED;
+		}
+
+	}
+
+	/**
+	 * Read the store from the supplied file.
+	 *
+	 * <p>If the file does not exist or cannot be read, an empty store is
+	 * returned. Reading the store counts as a run for all tests it contains
+	 * until their next execution is {@linkplain #record recorded}.
+	 *
+	 * @param file the file to read; never {@code null}
+	 * @return the store; never {@code null}
+	 */
+	public static TestResultsStore read(Path file) {
+		TestResultsStore store = new TestResultsStore();
+		if (!Files.exists(file)) {
+			return store;
+		}
+		try {
+			List<String> lines = Files.readAllLines(file, UTF_8);
+			for (String line : lines) {
+				if (!line.startsWith("#") && !line.isBlank()) {
+					String[] parts = line.split(SEPARATOR, -1);
+					int history = Integer.parseInt(parts[0], 16) & HISTORY_MASK;
+					String source = parts.length > 2 && !parts[2].isEmpty() ? parts[2] : null;
+					int age = parts.length > 3 ? Integer.parseInt(parts[3]) : 0;
+					store.entries.put(parts[1], new Entry(history, source, age + 1));
+				}
+			}
+		}
+		catch (IOException | RuntimeException ex) {
+			logger.warn(ex, () -> "Ignoring unreadable test results store " + file.toAbsolutePath());
+			return new TestResultsStore();
+		}
+		return store;
+	}
+
+	/**
+	 * Create the source key for a test class.
+	 *
+	 * @param className the fully qualified name of the class; never
+	 * {@code null}
+	 * @return the source key; never {@code null}
+	 */
+	public static String classKey(String className) {
+		return className;
+	}
+
+	/**
+	 * Create the source key for a test method.
+	 *
+	 * @param className the fully qualified name of the class; never
+	 * {@code null}
+	 * @param methodName the name of the method; never {@code null}
+	 * @param parameterTypes the comma-separated list of fully qualified
+	 * parameter type names; potentially {@code null}
+	 * @return the source key; never {@code null}
+	 */
+	public static String methodKey(String className, String methodName, @Nullable String parameterTypes) {
+		return className + "#" + methodName + "(" + (parameterTypes == null ? "" : parameterTypes) + ")";
+	}
+
+	private final Map<String, Entry> entries = new TreeMap<>();
+
+	private volatile @Nullable Map<String, Status> statusesBySource;
+
+	private volatile @Nullable Map<String, Status> statusesByClassName;
+
+	public TestResultsStore() {
+	}
+
+	/**
+	 * Record the outcome of an execution of a test.
+	 *
+	 * @param uniqueId the unique ID of the test; never {@code null}
+	 * @param source the source key of the test; potentially {@code null}
+	 * @param failed whether the test failed
+	 * @see #classKey(String)
+	 * @see #methodKey(String, String, String)
+	 */
+	public synchronized void record(String uniqueId, @Nullable String source, boolean failed) {
+		Entry previous = this.entries.get(uniqueId);
+		int history = previous == null ? 0 : previous.history() << 1;
+		this.entries.put(uniqueId, new Entry((history | (failed ? 1 : 0)) & HISTORY_MASK, source, 0));
+		this.statusesBySource = null;
+		this.statusesByClassName = null;
+	}
+
+	/**
+	 * {@return the status of the test with the supplied unique ID}
+	 */
+	public synchronized Status getStatus(String uniqueId) {
+		Entry entry = this.entries.get(uniqueId);
+		return entry == null ? Status.PASSED : Status.fromHistory(entry.history());
+	}
+
+	/**
+	 * {@return the highest status of all tests with the supplied source key}
+	 */
+	public Status getStatusBySource(String source) {
+		return getStatusesBySource().getOrDefault(source, Status.PASSED);
+	}
+
+	/**
+	 * {@return the highest status of all tests declared in the class with the
+	 * supplied name or any of its nested classes}
+	 */
+	public Status getStatusByClassName(String className) {
+		Map<String, Status> statuses = getStatusesByClassName();
+		Status status = statuses.getOrDefault(className, Status.PASSED);
+		// Include tests in nested classes
+		for (Map.Entry<String, Status> entry : statuses.entrySet()) {
+			if (entry.getValue().compareTo(status) > 0 && entry.getKey().startsWith(className + "$")) {
+				status = entry.getValue();
+			}
+		}
+		return status;
+	}
+
+	/**
+	 * {@return the unique IDs of all tests that failed in at least one of
+	 * their recent executions}
+	 */
+	public synchronized Set<String> getRecentlyFailedUniqueIds() {
+		Set<String> uniqueIds = new HashSet<>();
+		this.entries.forEach((uniqueId, entry) -> {
+			if (Status.fromHistory(entry.history()).isRecentlyFailed()) {
+				uniqueIds.add(uniqueId);
+			}
+		});
+		return uniqueIds;
+	}
+
+	/**
+	 * Write this store to the supplied file, replacing any existing content.
+	 *
+	 * <p>Tests that did not fail in any of their recent executions or that
+	 * have not been executed in the last {@value #MAX_AGE} runs are omitted.
+	 *
+	 * @param file the file to write; never {@code null}
+	 * @throws IOException if the file cannot be written
+	 */
+	public synchronized void write(Path file) throws IOException {
+		Path parent = file.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+		try (BufferedWriter writer = Files.newBufferedWriter(file, UTF_8)) {
+			writer.write(HEADER);
+			writer.newLine();
+			for (Map.Entry<String, Entry> entry : this.entries.entrySet()) {
+				Entry value = entry.getValue();
+				if (value.history() != 0 && value.age() < MAX_AGE) {
+					String source = value.source();
+					writer.write(Integer.toHexString(value.history()) + SEPARATOR + entry.getKey() + SEPARATOR
+							+ (source == null ? "" : source) + SEPARATOR + value.age());
+					writer.newLine();
+				}
+			}
+		}
+	}
+
+	private Map<String, Status> getStatusesBySource() {
+		Map<String, Status> statuses = this.statusesBySource;
+		if (statuses == null) {
+			statuses = computeStatuses(Function.identity());
+			this.statusesBySource = statuses;
+		}
+		return statuses;
+	}
+
+	private Map<String, Status> getStatusesByClassName() {
+		Map<String, Status> statuses = this.statusesByClassName;
+		if (statuses == null) {
+			statuses = computeStatuses(source -> {
+				int separatorIndex = source.indexOf('#');
+				return separatorIndex < 0 ? source : source.substring(0, separatorIndex);
+			});
+			this.statusesByClassName = statuses;
+		}
+		return statuses;
+	}
+
+	private synchronized Map<String, Status> computeStatuses(Function<String, String> keyMapper) {
+		Map<String, Status> statuses = new HashMap<>();
+		this.entries.values().forEach(entry -> {
+			String source = entry.source();
+			if (source != null) {
+				statuses.merge(keyMapper.apply(source), Status.fromHistory(entry.history()),
+					(a, b) -> a.compareTo(b) >= 0 ? a : b);
+			}
+		});
+		return statuses;
+	}
+
+	/**
+	 * @param age the number of runs since the last recorded execution
+	 */
+	private record Entry(int history, @Nullable String source, int age) {
+	}
+
+}
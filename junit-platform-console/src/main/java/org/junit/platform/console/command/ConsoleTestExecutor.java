@@ -15,6 +15,7 @@ import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.junit.platform.console.command.DiscoveryRequestCreator.toDiscoveryRequestBuilder;
 import static org.junit.platform.launcher.LauncherConstants.OUTPUT_DIR_PROPERTY_NAME;
 
+import java.io.IOException;
 import java.io.PrintStream;
 import java.io.PrintWriter;
 import java.net.URL;
@@ -40,13 +41,17 @@ import org.junit.platform.console.output.Theme;
 import org.junit.platform.console.output.TreePrintingListener;
 import org.junit.platform.console.output.VerboseTreePrintingListener;
 import org.junit.platform.engine.CancellationToken;
+import org.junit.platform.launcher.AffectedTestsFilter;
 import org.junit.platform.launcher.Launcher;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.PreviouslyFailedTestsFilter;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestPlan;
 import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.OutputDir;
 import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
 import org.junit.platform.launcher.listeners.TestExecutionSummary;
+import org.junit.platform.launcher.listeners.TestResultsTrackingListener;
 import org.junit.platform.reporting.legacy.xml.LegacyXmlReportGeneratingListener;
 
 /**
@@ -104,7 +109,10 @@ public class ConsoleTestExecutor {
 		Launcher launcher = launcherSupplier.get();
 		Optional<DetailsPrintingListener> commandLineTestPrinter = createDetailsPrintingListener(out);
 
-		LauncherDiscoveryRequest discoveryRequest = toDiscoveryRequestBuilder(discoveryOptions).build();
+		var discoveryRequestBuilder = toDiscoveryRequestBuilder(discoveryOptions);
+		createAffectedTestsFilter(Optional.empty()).ifPresent(discoveryRequestBuilder::filters);
+		createPreviouslyFailedTestsFilter(Optional.empty()).ifPresent(discoveryRequestBuilder::filters);
+		LauncherDiscoveryRequest discoveryRequest = discoveryRequestBuilder.build();
 		TestPlan testPlan = launcher.discover(discoveryRequest);
 
 		commandLineTestPrinter.ifPresent(printer -> printer.listTests(testPlan));
@@ -128,12 +136,14 @@ public class ConsoleTestExecutor {
 		CancellationToken cancellationToken = failFast ? CancellationToken.create() : null;
 		SummaryGeneratingListener summaryListener = registerListeners(out, reportsDir, launcher, cancellationToken);
 
+		Optional<AffectedTestsFilter> affectedTestsFilter = createAffectedTestsFilter(reportsDir);
+
 		PrintStream originalOut = System.out;
 		PrintStream originalErr = System.err;
 		try (StandardStreamsHandler standardStreamsHandler = new StandardStreamsHandler()) {
 			standardStreamsHandler.redirectStandardStreams(outputOptions.getStdoutPath(),
 				outputOptions.getStderrPath());
-			launchTests(launcher, reportsDir, cancellationToken);
+			launchTests(launcher, reportsDir, affectedTestsFilter, cancellationToken);
 		}
 		finally {
 			System.setOut(originalOut);
@@ -141,6 +151,9 @@ public class ConsoleTestExecutor {
 		}
 
 		TestExecutionSummary summary = summaryListener.getSummary();
+		if (summary.getTotalFailureCount() == 0) {
+			affectedTestsFilter.ifPresent(filter -> writeAffectedTestsManifest(out, filter, reportsDir));
+		}
 		if (summary.getTotalFailureCount() > 0 || outputOptions.getDetails() != Details.NONE) {
 			printSummary(summary, out);
 		}
@@ -154,17 +167,56 @@ public class ConsoleTestExecutor {
 	}
 
 	private void launchTests(Launcher launcher, Optional<Path> reportsDir,
-			@Nullable CancellationToken cancellationToken) {
+			Optional<AffectedTestsFilter> affectedTestsFilter, @Nullable CancellationToken cancellationToken) {
 
 		var discoveryRequestBuilder = toDiscoveryRequestBuilder(discoveryOptions);
 		reportsDir.ifPresent(dir -> discoveryRequestBuilder.configurationParameter(OUTPUT_DIR_PROPERTY_NAME,
 			dir.toAbsolutePath().toString()));
+		affectedTestsFilter.ifPresent(discoveryRequestBuilder::filters);
+		createPreviouslyFailedTestsFilter(reportsDir).ifPresent(filter -> discoveryRequestBuilder //
+				.filters(filter) //
+				.configurationParameter(TestResultsTrackingListener.LISTENER_ENABLED_PROPERTY_NAME, "true"));
 		var executionRequest = discoveryRequestBuilder.forExecution() //
 				.cancellationToken(requireNonNullElseGet(cancellationToken, CancellationToken::disabled)) //
 				.build();
 		launcher.execute(executionRequest);
 	}
 
+	private Optional<AffectedTestsFilter> createAffectedTestsFilter(Optional<Path> reportsDir) {
+		if (!discoveryOptions.isAffectedSinceLastRun()) {
+			return Optional.empty();
+		}
+		Path manifestFile = getAffectedTestsManifest(reportsDir);
+		return Optional.of(AffectedTestsFilter.includeTestsAffectedByChangesSince(manifestFile));
+	}
+
+	private void writeAffectedTestsManifest(PrintWriter out, AffectedTestsFilter filter, Optional<Path> reportsDir) {
+		Path manifestFile = getAffectedTestsManifest(reportsDir);
+		try {
+			filter.writeManifest(manifestFile);
+		}
+		catch (IOException ex) {
+			out.printf("Failed to write affected tests manifest to %s: %s%n", manifestFile, ex.getMessage());
+			out.flush();
+		}
+	}
+
+	private Optional<PreviouslyFailedTestsFilter> createPreviouslyFailedTestsFilter(Optional<Path> reportsDir) {
+		if (!discoveryOptions.isPreviouslyFailed()) {
+			return Optional.empty();
+		}
+		return Optional.of(PreviouslyFailedTestsFilter.includePreviouslyFailedTests(getOutputDir(reportsDir)));
+	}
+
+	private Path getAffectedTestsManifest(Optional<Path> reportsDir) {
+		return getOutputDir(reportsDir).resolve(AffectedTestsFilter.DEFAULT_MANIFEST_FILE_NAME);
+	}
+
+	private Path getOutputDir(Optional<Path> reportsDir) {
+		return reportsDir.orElseGet(() -> OutputDir.create(
+			Optional.ofNullable(discoveryOptions.getConfigurationParameters().get(OUTPUT_DIR_PROPERTY_NAME))).toPath());
+	}
+
 	private @Nullable CustomClassLoader createCustomClassLoader() {
 		List<Path> additionalClasspathEntries = discoveryOptions.getExistingAdditionalClasspathEntries();
 		if (!additionalClasspathEntries.isEmpty()) {
@@ -16,6 +16,7 @@ import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectModules;
 import static org.junit.platform.engine.discovery.PackageNameFilter.excludePackageNames;
 import static org.junit.platform.engine.discovery.PackageNameFilter.includePackageNames;
+import static org.junit.platform.launcher.AffectedTestsFilter.includeTestsAffectedBy;
 import static org.junit.platform.launcher.EngineFilter.excludeEngines;
 import static org.junit.platform.launcher.EngineFilter.includeEngines;
 import static org.junit.platform.launcher.MethodFilter.excludeMethodNamePatterns;
@@ -157,6 +158,10 @@ class DiscoveryRequestCreator {
 		if (!options.getExcludedEngines().isEmpty()) {
 			requestBuilder.filters(excludeEngines(options.getExcludedEngines()));
 		}
+
+		if (!options.getChangedClassNames().isEmpty()) {
+			requestBuilder.filters(includeTestsAffectedBy(options.getChangedClassNames()));
+		}
 	}
 
 	private static ClassNameFilter includedClassNamePatterns(TestDiscoveryOptions options,
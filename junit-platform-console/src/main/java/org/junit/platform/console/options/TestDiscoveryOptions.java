@@ -72,6 +72,9 @@ public class TestDiscoveryOptions {
 	private List<String> excludedEngines = emptyList();
 	private List<String> includedTagExpressions = emptyList();
 	private List<String> excludedTagExpressions = emptyList();
+	private List<String> changedClassNames = emptyList();
+	private boolean affectedSinceLastRun;
+	private boolean previouslyFailed;
 
 	private List<String> configurationParametersResources = emptyList();
 	private Map<String, String> configurationParameters = emptyMap();
@@ -296,6 +299,30 @@ public class TestDiscoveryOptions {
 		this.excludedTagExpressions = excludedTags;
 	}
 
+	public List<String> getChangedClassNames() {
+		return this.changedClassNames;
+	}
+
+	public void setChangedClassNames(List<String> changedClassNames) {
+		this.changedClassNames = changedClassNames;
+	}
+
+	public boolean isAffectedSinceLastRun() {
+		return this.affectedSinceLastRun;
+	}
+
+	public void setAffectedSinceLastRun(boolean affectedSinceLastRun) {
+		this.affectedSinceLastRun = affectedSinceLastRun;
+	}
+
+	public boolean isPreviouslyFailed() {
+		return this.previouslyFailed;
+	}
+
+	public void setPreviouslyFailed(boolean previouslyFailed) {
+		this.previouslyFailed = previouslyFailed;
+	}
+
 	public Map<String, String> getConfigurationParameters() {
 		return this.configurationParameters;
 	}
@@ -188,6 +188,20 @@ public class TestDiscoveryOptionsMixin {
 				"--exclude-engine" }, paramLabel = "ID", arity = "1", description = "Provide the ID of an engine to be excluded from the test run. This option can be repeated.")
 		private List<String> excludedEngines = new ArrayList<>();
 
+		@Option(names = "--include-affected-by", paramLabel = "CLASS", arity = "1", description = "Provide the fully qualified name of a changed class to include only tests whose classes statically reference it, either directly or transitively. " //
+				+ "This option can be repeated.")
+		private List<String> changedClassNames = new ArrayList<>();
+
+		@Option(names = "--include-affected-since-last-run", description = "Include only tests whose classes statically reference a class whose class file changed since the last successful test run, either directly or transitively. " //
+				+ "The hashes of the inspected class files are stored in the output directory. " //
+				+ "If there is no previous run, all tests are included.")
+		private boolean affectedSinceLastRun;
+
+		@Option(names = "--include-previously-failed", description = "Include only tests that failed in the previous run or in at least one of their recent runs. " //
+				+ "The results of each run are stored in the output directory. " //
+				+ "If no tests failed recently, all tests are included.")
+		private boolean previouslyFailed;
+
 		private void applyTo(TestDiscoveryOptions result) {
 			result.setIncludedClassNamePatterns(this.includeClassNamePatterns);
 			result.setExcludedClassNamePatterns(this.excludeClassNamePatterns);
@@ -199,6 +213,9 @@ public class TestDiscoveryOptionsMixin {
 			result.setExcludedTagExpressions(this.excludedTags);
 			result.setIncludedEngines(this.includedEngines);
 			result.setExcludedEngines(this.excludedEngines);
+			result.setChangedClassNames(this.changedClassNames);
+			result.setAffectedSinceLastRun(this.affectedSinceLastRun);
+			result.setPreviouslyFailed(this.previouslyFailed);
 		}
 	}
 
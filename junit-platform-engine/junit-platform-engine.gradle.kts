@@ -22,3 +22,18 @@ dependencies {
 javadocConventions {
 	addExtraModuleReferences(projects.junitPlatformLauncher)
 }
+
+tasks {
+	jar {
+		bundle {
+			bnd("""
+				Import-Package: \
+					${extra["importAPIGuardian"]},\
+					${extra["importJSpecify"]},\
+					${extra["importCommonsLogging"]},\
+					jdk.jfr;resolution:="optional",\
+					*
+			""")
+		}
+	}
+}
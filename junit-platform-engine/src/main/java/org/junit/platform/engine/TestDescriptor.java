@@ -20,6 +20,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 
 import org.apiguardian.api.API;
@@ -137,13 +138,8 @@ public interface TestDescriptor {
 		if (getParent().isEmpty()) {
 			return Collections.emptySet();
 		}
-		TestDescriptor parent = getParent().get();
 		Set<TestDescriptor> ancestors = new LinkedHashSet<>();
-		ancestors.add(parent);
-		// Need to recurse?
-		if (parent.getParent().isPresent()) {
-			ancestors.addAll(parent.getAncestors());
-		}
+		traverseAncestors(ancestors::add);
 		return Collections.unmodifiableSet(ancestors);
 	}
 
@@ -156,15 +152,102 @@ public interface TestDescriptor {
 	 * <p>The implementation must be consistent with {@link #isContainer()} such that
 	 * {@code !x.container()} implies {@code x.getDescendants().isEmpty()}.
 	 *
+	 * <p>Callers that do not need a copy of all descendants should prefer
+	 * {@link #traverse(TraversalOrder, Predicate)} or
+	 * {@link #getDescendantCount()}.
+	 *
 	 * @see #getChildren()
 	 */
 	default Set<? extends TestDescriptor> getDescendants() {
 		Set<TestDescriptor> descendants = new LinkedHashSet<>();
-		descendants.addAll(getChildren());
+		collectDescendants(this, descendants);
+		return Collections.unmodifiableSet(descendants);
+	}
+
+	private static void collectDescendants(TestDescriptor parent, Set<TestDescriptor> descendants) {
+		Set<? extends TestDescriptor> children = parent.getChildren();
+		descendants.addAll(children);
+		for (TestDescriptor child : children) {
+			collectDescendants(child, descendants);
+		}
+	}
+
+	/**
+	 * Get the number of all <em>descendants</em> of this descriptor.
+	 *
+	 * <p>The result is the same as {@code getDescendants().size()} but
+	 * computed without copying the descendants into a set.
+	 *
+	 * @since 6.2
+	 * @see #getDescendants()
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	default int getDescendantCount() {
+		int[] count = { -1 };
+		traverse(TraversalOrder.PRE_ORDER, descriptor -> {
+			count[0]++;
+			return true;
+		});
+		return count[0];
+	}
+
+	/**
+	 * Traverse the subtree starting with this descriptor in the supplied
+	 * {@link TraversalOrder}, passing each descriptor to the supplied
+	 * {@code visitor} until it returns {@code false}.
+	 *
+	 * <p>In contrast to {@link #getDescendants()} and
+	 * {@link #accept(Visitor)}, implementations should not copy the children
+	 * of each visited descriptor. The {@code visitor} must therefore not add
+	 * or remove descriptors in the subtree while it is being traversed.
+	 *
+	 * @param order the order in which to visit the descriptors; never
+	 * {@code null}
+	 * @param visitor the predicate to pass each visited descriptor to;
+	 * returning {@code false} terminates the traversal; never {@code null}
+	 * @return {@code true} if all descriptors of the subtree were visited;
+	 * {@code false} if the {@code visitor} terminated the traversal early
+	 * @since 6.2
+	 * @see #traverseAncestors(Predicate)
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	default boolean traverse(TraversalOrder order, Predicate<? super TestDescriptor> visitor) {
+		Preconditions.notNull(order, "TraversalOrder must not be null");
+		Preconditions.notNull(visitor, "visitor must not be null");
+		if (order == TraversalOrder.PRE_ORDER && !visitor.test(this)) {
+			return false;
+		}
 		for (TestDescriptor child : getChildren()) {
-			descendants.addAll(child.getDescendants());
+			if (!child.traverse(order, visitor)) {
+				return false;
+			}
 		}
-		return Collections.unmodifiableSet(descendants);
+		return order == TraversalOrder.PRE_ORDER || visitor.test(this);
+	}
+
+	/**
+	 * Pass the <em>ancestors</em> of this descriptor to the supplied
+	 * {@code visitor}, starting with its parent, until it returns
+	 * {@code false}.
+	 *
+	 * @param visitor the predicate to pass each ancestor to; returning
+	 * {@code false} terminates the traversal; never {@code null}
+	 * @return {@code true} if all ancestors were visited; {@code false} if the
+	 * {@code visitor} terminated the traversal early
+	 * @since 6.2
+	 * @see #getAncestors()
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	default boolean traverseAncestors(Predicate<? super TestDescriptor> visitor) {
+		Preconditions.notNull(visitor, "visitor must not be null");
+		TestDescriptor ancestor = getParent().orElse(null);
+		while (ancestor != null) {
+			if (!visitor.test(ancestor)) {
+				return false;
+			}
+			ancestor = ancestor.getParent().orElse(null);
+		}
+		return true;
 	}
 
 	/**
@@ -306,8 +389,8 @@ public interface TestDescriptor {
 	 */
 	static boolean containsTests(TestDescriptor testDescriptor) {
 		Preconditions.notNull(testDescriptor, "TestDescriptor must not be null");
-		return testDescriptor.isTest() || testDescriptor.mayRegisterTests()
-				|| testDescriptor.getChildren().stream().anyMatch(TestDescriptor::containsTests);
+		return !testDescriptor.traverse(TraversalOrder.PRE_ORDER,
+			descriptor -> !descriptor.isTest() && !descriptor.mayRegisterTests());
 	}
 
 	/**
@@ -384,6 +467,27 @@ public interface TestDescriptor {
 
 	}
 
+	/**
+	 * Orders in which {@link TestDescriptor#traverse(TraversalOrder, Predicate)}
+	 * visits the descriptors of a subtree.
+	 *
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	enum TraversalOrder {
+
+		/**
+		 * Visit each descriptor before its children.
+		 */
+		PRE_ORDER,
+
+		/**
+		 * Visit each descriptor after its children.
+		 */
+		POST_ORDER
+
+	}
+
 	/**
 	 * Supported types for {@link TestDescriptor TestDescriptors}.
 	 */
@@ -11,6 +11,8 @@
 package org.junit.platform.engine.support.descriptor;
 
 import static java.util.Collections.emptySet;
+import static java.util.Objects.requireNonNull;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.util.ArrayList;
@@ -19,6 +21,8 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
 import org.apiguardian.api.API;
@@ -49,7 +53,10 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 
 	private final UniqueId uniqueId;
 
-	private final String displayName;
+	private volatile @Nullable String displayName;
+
+	// cleared once the display name has been memoized to release what it captures
+	private @Nullable Supplier<String> displayNameSupplier;
 
 	private final @Nullable TestSource source;
 
@@ -111,8 +118,37 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 	 */
 	protected AbstractTestDescriptor(UniqueId uniqueId, String displayName, @Nullable TestSource source) {
 		this.uniqueId = Preconditions.notNull(uniqueId, "UniqueId must not be null");
-		this.displayName = replaceControlCharacters(
-			Preconditions.notBlank(displayName, "displayName must not be null or blank"));
+		this.displayName = toValidDisplayName(displayName);
+		this.displayNameSupplier = null;
+		this.source = source;
+	}
+
+	/**
+	 * Create a new {@code AbstractTestDescriptor} with the supplied
+	 * {@link UniqueId}, display name supplier, and source.
+	 *
+	 * <p>The supplier is called when {@link #getDisplayName()} is invoked for
+	 * the first time, and its result is memoized. This allows engines to avoid
+	 * generating display names that are never used, for example, for tests
+	 * that are filtered out. ISO control characters in the supplied display
+	 * name are replaced as described in
+	 * {@link #AbstractTestDescriptor(UniqueId, String, TestSource)}.
+	 *
+	 * @param uniqueId the unique ID of this {@code TestDescriptor}; never
+	 * {@code null}
+	 * @param displayNameSupplier the supplier of the display name for this
+	 * {@code TestDescriptor}; never {@code null} and must not supply
+	 * {@code null} or a blank display name
+	 * @param source the source of the test or container described by this
+	 * {@code TestDescriptor}; can be {@code null}
+	 * @since 6.2
+	 * @see #AbstractTestDescriptor(UniqueId, String, TestSource)
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	protected AbstractTestDescriptor(UniqueId uniqueId, Supplier<String> displayNameSupplier,
+			@Nullable TestSource source) {
+		this.uniqueId = Preconditions.notNull(uniqueId, "UniqueId must not be null");
+		this.displayNameSupplier = Preconditions.notNull(displayNameSupplier, "displayNameSupplier must not be null");
 		this.source = source;
 	}
 
@@ -123,7 +159,18 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 
 	@Override
 	public final String getDisplayName() {
-		return this.displayName;
+		String displayName = this.displayName;
+		if (displayName == null) {
+			synchronized (this) {
+				displayName = this.displayName;
+				if (displayName == null) {
+					displayName = toValidDisplayName(requireNonNull(this.displayNameSupplier).get());
+					this.displayName = displayName;
+					this.displayNameSupplier = null;
+				}
+			}
+		}
+		return displayName;
 	}
 
 	@Override
@@ -191,6 +238,56 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 		this.children.addAll(orderedChildren);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>This implementation only copies the descendants into the returned
+	 * set instead of copying the {@link #children} of each descendant.
+	 */
+	@Override
+	public Set<? extends TestDescriptor> getDescendants() {
+		Set<TestDescriptor> descendants = new LinkedHashSet<>();
+		collectDescendants(this, descendants);
+		return Collections.unmodifiableSet(descendants);
+	}
+
+	private static void collectDescendants(TestDescriptor parent, Set<TestDescriptor> descendants) {
+		if (parent instanceof AbstractTestDescriptor abstractParent) {
+			synchronized (abstractParent.children) {
+				descendants.addAll(abstractParent.children);
+				for (TestDescriptor child : abstractParent.children) {
+					collectDescendants(child, descendants);
+				}
+			}
+		}
+		else {
+			descendants.addAll(parent.getDescendants());
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>This implementation iterates over the {@link #children} of each
+	 * visited descriptor while holding their lock instead of copying them.
+	 */
+	@Override
+	public boolean traverse(TraversalOrder order, Predicate<? super TestDescriptor> visitor) {
+		Preconditions.notNull(order, "TraversalOrder must not be null");
+		Preconditions.notNull(visitor, "visitor must not be null");
+		if (order == TraversalOrder.PRE_ORDER && !visitor.test(this)) {
+			return false;
+		}
+		synchronized (this.children) {
+			for (TestDescriptor child : this.children) {
+				if (!child.traverse(order, visitor)) {
+					return false;
+				}
+			}
+		}
+		return order == TraversalOrder.PRE_ORDER || visitor.test(this);
+	}
+
 	@Override
 	public Optional<? extends TestDescriptor> findByUniqueId(UniqueId uniqueId) {
 		Preconditions.notNull(uniqueId, "UniqueId must not be null");
@@ -229,6 +326,10 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 		return getClass().getSimpleName() + ": " + getUniqueId();
 	}
 
+	private static String toValidDisplayName(String displayName) {
+		return replaceControlCharacters(Preconditions.notBlank(displayName, "displayName must not be null or blank"));
+	}
+
 	private static String replaceControlCharacters(String text) {
 		StringBuilder builder = new StringBuilder();
 		for (int i = 0; i < text.length(); i++) {
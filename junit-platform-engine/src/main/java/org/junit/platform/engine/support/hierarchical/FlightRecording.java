@@ -0,0 +1,53 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import org.junit.platform.commons.util.RuntimeUtils;
+
+/**
+ * Entry point for recording Java Flight Recorder (JFR) events during
+ * hierarchical test execution.
+ *
+ * <p>If JFR is not available, all methods return {@link Recording#NONE} and
+ * no JFR types are loaded.
+ *
+ * @since 6.2
+ * @see FlightRecordingEvents
+ */
+final class FlightRecording {
+
+	private static final boolean AVAILABLE = RuntimeUtils.isFlightRecorderAvailable();
+
+	static Recording resourceLockAcquisition(ResourceLock resourceLock) {
+		return AVAILABLE ? FlightRecordingEvents.resourceLockAcquisition(resourceLock) : Recording.NONE;
+	}
+
+	static Recording workerLeaseReacquisition() {
+		return AVAILABLE ? FlightRecordingEvents.workerLeaseReacquisition() : Recording.NONE;
+	}
+
+	private FlightRecording() {
+	}
+
+	/**
+	 * An event that has been started and is committed once the recorded
+	 * operation is done.
+	 */
+	interface Recording {
+
+		Recording NONE = () -> {
+		};
+
+		void commit();
+
+	}
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.engine.support.hierarchical.FlightRecording.Recording;
+
+/**
+ * Java Flight Recorder (JFR) events for hierarchical test execution.
+ *
+ * <p>This class must only be loaded if JFR is available; use
+ * {@link FlightRecording} instead of referencing it directly.
+ *
+ * @since 6.2
+ */
+final class FlightRecordingEvents {
+
+	static Recording resourceLockAcquisition(ResourceLock resourceLock) {
+		var event = new ResourceLockAcquisitionEvent();
+		if (!event.isEnabled()) {
+			return Recording.NONE;
+		}
+		event.resources = resourceLock.getResources().toString();
+		event.exclusive = resourceLock.isExclusive();
+		event.begin();
+		return event;
+	}
+
+	static Recording workerLeaseReacquisition() {
+		var event = new WorkerLeaseReacquisitionEvent();
+		if (!event.isEnabled()) {
+			return Recording.NONE;
+		}
+		event.begin();
+		return event;
+	}
+
+	private FlightRecordingEvents() {
+	}
+
+	@Category({ "JUnit", "Execution" })
+	@StackTrace(false)
+	abstract static class RecordingEvent extends Event implements Recording {
+	}
+
+	@Label("Resource Lock Acquisition")
+	@Name("org.junit.ResourceLockAcquisition")
+	static class ResourceLockAcquisitionEvent extends RecordingEvent {
+
+		@Label("Resources")
+		@Nullable
+		String resources;
+
+		@Label("Exclusive")
+		boolean exclusive;
+	}
+
+	@Label("Worker Lease Reacquisition")
+	@Name("org.junit.WorkerLeaseReacquisition")
+	static class WorkerLeaseReacquisitionEvent extends RecordingEvent {
+	}
+
+}
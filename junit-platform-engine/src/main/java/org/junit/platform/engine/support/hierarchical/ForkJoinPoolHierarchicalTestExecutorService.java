@@ -34,6 +34,7 @@ import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.FlightRecording.Recording;
 import org.junit.platform.engine.support.hierarchical.ParallelHierarchicalTestExecutorServiceFactory.ParallelExecutorServiceType;
 
 /**
@@ -259,11 +260,13 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 				// this means that .join() will wait.
 				return false;
 			}
+			Recording lockAcquisition = FlightRecording.resourceLockAcquisition(resourceLock);
 			try ( //
 					ResourceLock lock = resourceLock.acquire(); //
 					@SuppressWarnings("unused")
 					ThreadLock.NestedResourceLock nested = threadLock.withNesting(lock) //
 			) {
+				lockAcquisition.commit();
 				testTask.execute();
 				return true;
 			}
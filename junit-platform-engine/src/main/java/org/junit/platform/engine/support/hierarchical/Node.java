@@ -21,6 +21,7 @@ import java.util.concurrent.Future;
 
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.commons.util.ToStringBuilder;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.TestDescriptor;
@@ -334,6 +335,33 @@ public interface Node<C extends EngineExecutionContext> {
 		 * @throws InterruptedException if interrupted while waiting
 		 */
 		void awaitFinished() throws InterruptedException;
+
+		/**
+		 * Get a view of this executor that applies back-pressure to the
+		 * submitting node by keeping at most {@code maxInFlight} of the
+		 * dynamic test descriptors submitted via the view executing or waiting
+		 * to be executed at any time.
+		 *
+		 * <p>Submitting a descriptor that reaches the limit blocks until a
+		 * previously submitted one has finished. Thus, a node that generates
+		 * its dynamic tests lazily only generates the next one once there is
+		 * capacity to execute it. This allows a node to generate a large
+		 * number of dynamic tests without queueing all of them while still
+		 * executing them in parallel.
+		 *
+		 * <p>The default implementation returns this executor and thus does
+		 * not apply any back-pressure.
+		 *
+		 * @param maxInFlight the maximum number of unfinished descriptors
+		 * submitted via the returned executor; must be greater than zero
+		 * @return an executor that applies back-pressure; never {@code null}
+		 * @since 6.2
+		 */
+		@API(status = EXPERIMENTAL, since = "6.2")
+		default DynamicTestExecutor withMaxInFlight(int maxInFlight) {
+			Preconditions.condition(maxInFlight > 0, "maxInFlight must be greater than zero");
+			return this;
+		}
 	}
 
 	/**
@@ -16,7 +16,9 @@ import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.stream.Collectors.toCollection;
 import static org.junit.platform.engine.TestExecutionResult.failed;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -274,17 +276,95 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 		@Override
 		public void awaitFinished() throws InterruptedException {
 			for (DynamicTaskState state : unfinishedTasks.values()) {
-				try {
-					state.awaitFinished();
-				}
-				catch (CancellationException ignore) {
-					// Futures returned by execute() may have been cancelled
-				}
-				catch (ExecutionException e) {
-					throw ExceptionUtils.throwAsUncheckedException(requireNonNullElse(e.getCause(), e));
-				}
+				await(state);
 			}
 		}
+
+		@Override
+		public DynamicTestExecutor withMaxInFlight(int maxInFlight) {
+			Preconditions.condition(maxInFlight > 0, "maxInFlight must be greater than zero");
+			return new WindowedDynamicTestExecutor(this, maxInFlight);
+		}
+	}
+
+	private static void await(DynamicTaskState state) throws InterruptedException {
+		try {
+			state.awaitFinished();
+		}
+		catch (CancellationException ignore) {
+			// Futures returned by execute() may have been cancelled
+		}
+		catch (ExecutionException e) {
+			throw ExceptionUtils.throwAsUncheckedException(requireNonNullElse(e.getCause(), e));
+		}
+	}
+
+	/**
+	 * {@link DynamicTestExecutor} that blocks the submitting thread while the
+	 * maximum number of descriptors submitted via it are unfinished.
+	 *
+	 * <p>Waiting is done via the futures returned by the executor service so
+	 * that the submitting worker thread may execute queued tasks itself in the
+	 * meantime instead of merely blocking.
+	 *
+	 * <p>Instances are not thread-safe and are expected to be used by the
+	 * thread executing the submitting node.
+	 */
+	private class WindowedDynamicTestExecutor implements DynamicTestExecutor {
+
+		private final DynamicTestExecutor delegate;
+		private final int maxInFlight;
+		private final Deque<Future<?>> inFlight = new ArrayDeque<>();
+
+		WindowedDynamicTestExecutor(DynamicTestExecutor delegate, int maxInFlight) {
+			this.delegate = delegate;
+			this.maxInFlight = maxInFlight;
+		}
+
+		@Override
+		@SuppressWarnings("FutureReturnValueIgnored")
+		public void execute(TestDescriptor testDescriptor) {
+			execute(testDescriptor, taskContext.listener());
+		}
+
+		@Override
+		public Future<?> execute(TestDescriptor testDescriptor, EngineExecutionListener executionListener) {
+			Future<?> future = this.delegate.execute(testDescriptor, executionListener);
+			if (!future.isDone()) {
+				this.inFlight.add(future);
+			}
+			// wait before returning so that the next descriptor is only
+			// created once there is capacity to execute it
+			try {
+				awaitCapacity();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw ExceptionUtils.throwAsUncheckedException(e);
+			}
+			return future;
+		}
+
+		private void awaitCapacity() throws InterruptedException {
+			if (this.inFlight.size() < this.maxInFlight) {
+				return;
+			}
+			this.inFlight.removeIf(Future::isDone);
+			while (this.inFlight.size() >= this.maxInFlight) {
+				await(this.inFlight.removeFirst()::get);
+			}
+		}
+
+		@Override
+		public void awaitFinished() throws InterruptedException {
+			this.inFlight.clear();
+			this.delegate.awaitFinished();
+		}
+
+		@Override
+		public DynamicTestExecutor withMaxInFlight(int maxInFlight) {
+			return this.delegate.withMaxInFlight(maxInFlight);
+		}
 	}
 
 	@FunctionalInterface
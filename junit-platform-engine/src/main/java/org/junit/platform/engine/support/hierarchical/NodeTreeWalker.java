@@ -10,6 +10,7 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static org.junit.platform.engine.TestDescriptor.TraversalOrder.PRE_ORDER;
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_READ;
 import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.GLOBAL_READ_WRITE;
 import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.SAME_THREAD;
@@ -132,10 +133,12 @@ class NodeTreeWalker {
 	}
 
 	private void doForChildrenRecursively(TestDescriptor parent, Consumer<TestDescriptor> consumer) {
-		parent.getChildren().forEach(child -> {
-			consumer.accept(child);
-			doForChildrenRecursively(child, consumer);
-		});
+		for (TestDescriptor child : parent.getChildren()) {
+			child.traverse(PRE_ORDER, descendant -> {
+				consumer.accept(descendant);
+				return true;
+			});
+		}
 	}
 
 }
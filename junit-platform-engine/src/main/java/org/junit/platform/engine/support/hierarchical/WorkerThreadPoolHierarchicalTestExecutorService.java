@@ -511,7 +511,10 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 				var resourceLock = testTask.getResourceLock();
 				try (var ignored = runBlocking(() -> false, () -> {
 					logger.trace(() -> "blocking for resource lock: " + resourceLock);
-					return resourceLock.acquire();
+					var lockAcquisition = FlightRecording.resourceLockAcquisition(resourceLock);
+					var acquiredLock = resourceLock.acquire();
+					lockAcquisition.commit();
+					return acquiredLock;
 				})) {
 					logger.trace(() -> "acquired resource lock: " + resourceLock);
 					doExecute(testTask);
@@ -850,7 +853,9 @@ public final class WorkerThreadPoolHierarchicalTestExecutorService implements Hi
 			void reacquire() throws InterruptedException {
 				Preconditions.condition(!used, "Lease was already reacquired");
 				used = true;
+				var reacquisition = FlightRecording.workerLeaseReacquisition();
 				semaphore.acquire();
+				reacquisition.commit();
 				logger.trace(() -> "reacquired worker lease (available: %d)".formatted(semaphore.availablePermits()));
 			}
 		}
@@ -20,6 +20,7 @@
  * @uses org.junit.platform.launcher.LauncherSessionListener
  * @uses org.junit.platform.launcher.PostDiscoveryFilter
  * @uses org.junit.platform.launcher.TestExecutionListener
+ * @uses org.junit.platform.launcher.metrics.MetricsRecorder
  */
 module org.junit.platform.launcher {
 
@@ -35,6 +36,7 @@ module org.junit.platform.launcher {
 	exports org.junit.platform.launcher.core;
 	exports org.junit.platform.launcher.listeners;
 	exports org.junit.platform.launcher.listeners.discovery;
+	exports org.junit.platform.launcher.metrics;
 
 	uses org.junit.platform.engine.TestEngine;
 	uses org.junit.platform.launcher.LauncherDiscoveryListener;
@@ -42,7 +44,9 @@ module org.junit.platform.launcher {
 	uses org.junit.platform.launcher.LauncherSessionListener;
 	uses org.junit.platform.launcher.PostDiscoveryFilter;
 	uses org.junit.platform.launcher.TestExecutionListener;
+	uses org.junit.platform.launcher.metrics.MetricsRecorder;
 
-	provides org.junit.platform.launcher.TestExecutionListener
-			with org.junit.platform.launcher.listeners.UniqueIdTrackingListener;
+	provides org.junit.platform.launcher.TestExecutionListener with
+			org.junit.platform.launcher.listeners.TestResultsTrackingListener,
+			org.junit.platform.launcher.listeners.UniqueIdTrackingListener;
 }
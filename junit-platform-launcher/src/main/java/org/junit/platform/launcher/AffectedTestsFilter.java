@@ -0,0 +1,279 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.ClassFileDependencyIndex.ClassFile;
+
+/**
+ * {@link PostDiscoveryFilter} that only includes tests and containers whose
+ * classes are affected by a set of changed classes.
+ *
+ * <p>A class is <em>affected</em> if it statically references a changed
+ * class, either directly or transitively via other classes. References are
+ * determined from the constant pools of the class files that are visible to
+ * the {@linkplain org.junit.platform.commons.util.ClassLoaderUtils#getDefaultClassLoader()
+ * default class loader}. Since reflective access cannot be detected this
+ * way, this filter is intended for speeding up incremental builds rather than
+ * replacing full test runs.
+ *
+ * <p>Changed classes may either be supplied explicitly or determined by
+ * comparing the hashes of class files with a manifest written by a
+ * {@linkplain #writeManifest(Path) previous run}.
+ *
+ * <p>Tests and containers without a {@link ClassSource} or
+ * {@link MethodSource} are always included.
+ *
+ * @since 6.2
+ * @see #includeTestsAffectedBy(String...)
+ * @see #includeTestsAffectedByChangesSince(Path)
+ */
+@API(status = EXPERIMENTAL, since = "6.2")
+public final class AffectedTestsFilter implements PostDiscoveryFilter {
+
+	/**
+	 * Default name of the manifest file that stores the hashes of the class
+	 * files inspected during a previous run: {@value}
+	 */
+	public static final String DEFAULT_MANIFEST_FILE_NAME = "junit-platform-affected-tests.manifest";
+
+	private static final String MANIFEST_HEADER = "# JUnit Platform affected tests manifest";
+
+	/**
+	 * Create a filter that includes only tests and containers whose classes
+	 * are affected by the supplied changed classes.
+	 *
+	 * @param changedClassNames the fully qualified names of the changed
+	 * classes; never {@code null}
+	 * @throws PreconditionViolationException if the supplied array is
+	 * {@code null} or contains blank elements
+	 * @see #includeTestsAffectedBy(Collection)
+	 */
+	public static AffectedTestsFilter includeTestsAffectedBy(String... changedClassNames) {
+		Preconditions.notNull(changedClassNames, "array of changed class names must not be null");
+		return includeTestsAffectedBy(asList(changedClassNames));
+	}
+
+	/**
+	 * Create a filter that includes only tests and containers whose classes
+	 * are affected by the supplied changed classes.
+	 *
+	 * @param changedClassNames the fully qualified names of the changed
+	 * classes; never {@code null}
+	 * @throws PreconditionViolationException if the supplied collection is
+	 * {@code null} or contains blank elements
+	 * @see #includeTestsAffectedBy(String...)
+	 */
+	public static AffectedTestsFilter includeTestsAffectedBy(Collection<String> changedClassNames) {
+		Preconditions.notNull(changedClassNames, "collection of changed class names must not be null");
+		changedClassNames.forEach(
+			className -> Preconditions.notBlank(className, "changed class names must not be null or blank"));
+		Set<String> changed = Set.copyOf(changedClassNames);
+		return new AffectedTestsFilter((className, __) -> changed.contains(className), null);
+	}
+
+	/**
+	 * Create a filter that includes only tests and containers whose classes
+	 * are affected by classes whose class files changed since the supplied
+	 * manifest was {@linkplain #writeManifest(Path) written}.
+	 *
+	 * <p>If the supplied manifest file does not exist, all tests and
+	 * containers are included.
+	 *
+	 * @param manifestFile the manifest file written by a previous run; never
+	 * {@code null}
+	 * @throws JUnitException if the manifest file cannot be read
+	 */
+	public static AffectedTestsFilter includeTestsAffectedByChangesSince(Path manifestFile) {
+		Preconditions.notNull(manifestFile, "manifestFile must not be null");
+		if (!Files.exists(manifestFile)) {
+			return new AffectedTestsFilter((__, ___) -> true, null);
+		}
+		Map<String, String> previousHashes = readManifest(manifestFile);
+		return new AffectedTestsFilter(
+			(className, classFile) -> classFile.isPresent()
+					&& !classFile.get().hash().equals(previousHashes.get(className)),
+			previousHashes);
+	}
+
+	private final ClassFileDependencyIndex index = new ClassFileDependencyIndex();
+	private final Map<String, Boolean> affectedClasses = new ConcurrentHashMap<>();
+	private final ChangeDetector changeDetector;
+
+	@Nullable
+	private final Map<String, String> previousHashes;
+
+	private AffectedTestsFilter(ChangeDetector changeDetector, @Nullable Map<String, String> previousHashes) {
+		this.changeDetector = changeDetector;
+		this.previousHashes = previousHashes;
+	}
+
+	@Override
+	public FilterResult apply(TestDescriptor descriptor) {
+		Optional<String> className = descriptor.getSource().flatMap(AffectedTestsFilter::getClassName);
+		if (className.isEmpty()) {
+			return FilterResult.included("Not associated with a class");
+		}
+		return FilterResult.includedIf(isAffected(className.get()), () -> "Affected by changed classes",
+			() -> "Not affected by changed classes");
+	}
+
+	/**
+	 * Write the hashes of all class files inspected by this filter to the
+	 * supplied manifest file so that a subsequent run can
+	 * {@linkplain #includeTestsAffectedByChangesSince(Path) detect changes}.
+	 *
+	 * <p>Entries of an existing manifest file for classes that were not
+	 * inspected by this filter are retained.
+	 *
+	 * @param manifestFile the manifest file to write; never {@code null}
+	 * @throws IOException if the manifest file cannot be written
+	 */
+	public void writeManifest(Path manifestFile) throws IOException {
+		Preconditions.notNull(manifestFile, "manifestFile must not be null");
+		Map<String, String> hashes = new TreeMap<>();
+		if (this.previousHashes != null) {
+			hashes.putAll(this.previousHashes);
+		}
+		else if (Files.exists(manifestFile)) {
+			hashes.putAll(readManifest(manifestFile));
+		}
+		// Ensure that the entire closure of each class is indexed since the
+		// computation of whether a class is affected might have stopped early
+		this.affectedClasses.keySet().forEach(this::indexTransitiveDependencies);
+		hashes.putAll(this.index.getHashes());
+		Path parent = manifestFile.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+		try (BufferedWriter writer = Files.newBufferedWriter(manifestFile, UTF_8)) {
+			writer.write(MANIFEST_HEADER);
+			writer.newLine();
+			for (Map.Entry<String, String> entry : hashes.entrySet()) {
+				writer.write(entry.getKey() + "=" + entry.getValue());
+				writer.newLine();
+			}
+		}
+	}
+
+	private boolean isAffected(String className) {
+		Boolean affected = this.affectedClasses.get(className);
+		if (affected == null) {
+			affected = computeAffected(className);
+			this.affectedClasses.put(className, affected);
+		}
+		return affected;
+	}
+
+	private boolean computeAffected(String className) {
+		Set<String> visited = new HashSet<>();
+		Deque<String> queue = new ArrayDeque<>();
+		visited.add(className);
+		queue.add(className);
+		while (!queue.isEmpty()) {
+			String current = queue.remove();
+			Optional<ClassFile> classFile = this.index.getClassFile(current);
+			if (this.changeDetector.isChanged(current, classFile)) {
+				return true;
+			}
+			for (String dependency : classFile.map(ClassFile::referencedClassNames).orElse(Set.of())) {
+				Boolean knownResult = this.affectedClasses.get(dependency);
+				if (Boolean.TRUE.equals(knownResult)) {
+					return true;
+				}
+				// Dependencies of classes known to be unaffected need not be visited again
+				if (knownResult == null && visited.add(dependency)) {
+					queue.add(dependency);
+				}
+			}
+		}
+		return false;
+	}
+
+	private void indexTransitiveDependencies(String className) {
+		Set<String> visited = new HashSet<>();
+		Deque<String> queue = new ArrayDeque<>();
+		visited.add(className);
+		queue.add(className);
+		while (!queue.isEmpty()) {
+			this.index.getClassFile(queue.remove()).ifPresent(classFile -> {
+				for (String dependency : classFile.referencedClassNames()) {
+					if (visited.add(dependency)) {
+						queue.add(dependency);
+					}
+				}
+			});
+		}
+	}
+
+	private static Optional<String> getClassName(TestSource source) {
+		if (source instanceof ClassSource classSource) {
+			return Optional.of(classSource.getClassName());
+		}
+		if (source instanceof MethodSource methodSource) {
+			return Optional.of(methodSource.getClassName());
+		}
+		return Optional.empty();
+	}
+
+	private static Map<String, String> readManifest(Path manifestFile) {
+		try {
+			List<String> lines = Files.readAllLines(manifestFile, UTF_8);
+			Map<String, String> hashes = new TreeMap<>();
+			for (String line : lines) {
+				int separatorIndex = line.lastIndexOf('=');
+				if (!line.startsWith("#") && separatorIndex > 0) {
+					hashes.put(line.substring(0, separatorIndex), line.substring(separatorIndex + 1));
+				}
+			}
+			return hashes;
+		}
+		catch (IOException e) {
+			throw new JUnitException("Failed to read affected tests manifest: " + manifestFile, e);
+		}
+	}
+
+	@FunctionalInterface
+	private interface ChangeDetector {
+
+		boolean isChanged(String className, Optional<ClassFile> classFile);
+
+	}
+
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ClassLoaderUtils;
+
+/**
+ * Index of the static dependencies between classes that is built lazily from
+ * the constant pools of their class files.
+ *
+ * <p>A class is considered to depend on every class that is referenced by a
+ * class constant or that appears in a type descriptor or generic signature in
+ * its constant pool. This deliberately over-approximates the actual
+ * dependencies so that no affected test is missed.
+ *
+ * <p>Classes of the Java platform are not indexed.
+ *
+ * @since 6.2
+ * @see AffectedTestsFilter
+ */
+final class ClassFileDependencyIndex {
+
+	private static final Logger logger = LoggerFactory.getLogger(ClassFileDependencyIndex.class);
+
+	private static final Pattern TYPE_DESCRIPTOR_PATTERN = Pattern.compile("L([^;<>\\[\\s().:]+)[;<]");
+
+	private static final int CLASS_FILE_MAGIC = 0xCAFEBABE;
+
+	private final Map<String, Optional<ClassFile>> classFiles = new ConcurrentHashMap<>();
+
+	/**
+	 * Get the indexed class file for the class with the supplied binary name.
+	 *
+	 * @return the class file or an empty {@code Optional} if the class cannot
+	 * be found or is part of the Java platform
+	 */
+	Optional<ClassFile> getClassFile(String className) {
+		return this.classFiles.computeIfAbsent(className, ClassFileDependencyIndex::readClassFile);
+	}
+
+	/**
+	 * {@return the hashes of all class files indexed so far, keyed by binary
+	 * class name}
+	 */
+	Map<String, String> getHashes() {
+		Map<String, String> hashes = new TreeMap<>();
+		this.classFiles.forEach((className, classFile) -> classFile.ifPresent(
+			it -> hashes.put(className, it.hash())));
+		return hashes;
+	}
+
+	private static Optional<ClassFile> readClassFile(String className) {
+		if (className.startsWith("java.")) {
+			return Optional.empty();
+		}
+		ClassLoader classLoader = ClassLoaderUtils.getDefaultClassLoader();
+		URL resource = classLoader.getResource(className.replace('.', '/') + ".class");
+		if (resource == null || "jrt".equals(resource.getProtocol())) {
+			return Optional.empty();
+		}
+		try (InputStream inputStream = resource.openStream()) {
+			byte[] bytes = inputStream.readAllBytes();
+			return Optional.of(new ClassFile(hash(bytes), parseReferencedClassNames(bytes)));
+		}
+		catch (IOException e) {
+			logger.warn(e, () -> "Failed to read class file of " + className + " from " + resource);
+			return Optional.empty();
+		}
+	}
+
+	private static String hash(byte[] bytes) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new JUnitException("SHA-256 is not supported", e);
+		}
+	}
+
+	/**
+	 * Parse the constant pool of the supplied class file and return the binary
+	 * names of all referenced classes.
+	 */
+	static Set<String> parseReferencedClassNames(byte[] classFile) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(classFile));
+		if (in.readInt() != CLASS_FILE_MAGIC) {
+			throw new IOException("Not a class file");
+		}
+		in.readUnsignedShort(); // minor version
+		in.readUnsignedShort(); // major version
+		int constantPoolCount = in.readUnsignedShort();
+		@Nullable
+		String[] utf8Entries = new String[constantPoolCount];
+		int[] classNameIndexes = new int[constantPoolCount];
+		int classCount = 0;
+		for (int i = 1; i < constantPoolCount; i++) {
+			int tag = in.readUnsignedByte();
+			switch (tag) {
+				case 1 -> utf8Entries[i] = in.readUTF();
+				case 7 -> classNameIndexes[classCount++] = in.readUnsignedShort();
+				case 8, 16, 19, 20 -> in.skipNBytes(2);
+				case 15 -> in.skipNBytes(3);
+				case 3, 4, 9, 10, 11, 12, 17, 18 -> in.skipNBytes(4);
+				case 5, 6 -> {
+					in.skipNBytes(8);
+					i++; // long and double entries take up two slots
+				}
+				default -> throw new IOException("Unknown constant pool tag: " + tag);
+			}
+		}
+
+		Set<String> classNames = new HashSet<>();
+		for (int i = 0; i < classCount; i++) {
+			String internalName = utf8Entries[classNameIndexes[i]];
+			if (internalName != null && !internalName.startsWith("[")) {
+				classNames.add(internalName.replace('/', '.'));
+			}
+		}
+		for (String entry : utf8Entries) {
+			if (entry != null && entry.indexOf(';') > 0) {
+				Matcher matcher = TYPE_DESCRIPTOR_PATTERN.matcher(entry);
+				while (matcher.find()) {
+					classNames.add(matcher.group(1).replace('/', '.'));
+				}
+			}
+		}
+		return classNames;
+	}
+
+	/**
+	 * An indexed class file.
+	 *
+	 * @param hash the SHA-256 hash of the class file's content
+	 * @param referencedClassNames the binary names of all classes referenced
+	 * by the class file
+	 */
+	record ClassFile(String hash, Set<String> referencedClassNames) {
+	}
+
+}
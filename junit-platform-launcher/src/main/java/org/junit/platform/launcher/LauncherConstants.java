@@ -18,6 +18,7 @@ import org.apiguardian.api.API;
 import org.junit.platform.commons.util.ClassNamePatternFilterUtils;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.reporting.FileEntry;
 import org.junit.platform.engine.reporting.ReportEntry;
 
 /**
@@ -82,6 +83,31 @@ public class LauncherConstants {
 	 */
 	public static final int CAPTURE_MAX_BUFFER_DEFAULT = 4 * 1024 * 1024;
 
+	/**
+	 * Property name used to configure the number of bytes per thread and output
+	 * type above which captured output is spilled to a temporary file instead
+	 * of being buffered in memory: {@value}
+	 *
+	 * <p>By default, spilling is disabled and output exceeding the limit
+	 * configured via {@value #CAPTURE_MAX_BUFFER_PROPERTY_NAME} is discarded.
+	 *
+	 * <p>If set, value must be a non-negative integer. Output exceeding the
+	 * limit configured via {@value #CAPTURE_MAX_BUFFER_PROPERTY_NAME} is still
+	 * discarded, but only output up to the threshold is kept in memory. Output
+	 * of a test or container that has been spilled is transferred to a file in
+	 * its output directory and published as a {@link FileEntry} named after
+	 * the {@value #STDOUT_REPORT_ENTRY_KEY} or
+	 * {@value #STDERR_REPORT_ENTRY_KEY} key instead of as a
+	 * {@link ReportEntry}. If the temporary file cannot be written, output
+	 * above the threshold is discarded.
+	 *
+	 * @since 6.2
+	 * @see #CAPTURE_MAX_BUFFER_PROPERTY_NAME
+	 * @see TestExecutionListener#fileEntryPublished(TestIdentifier, FileEntry)
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String CAPTURE_SPILL_THRESHOLD_PROPERTY_NAME = "junit.platform.output.capture.spillThreshold";
+
 	/**
 	 * Key used to publish captured output to {@link System#out} as part of a
 	 * {@link ReportEntry}: {@value}
@@ -318,6 +344,58 @@ public class LauncherConstants {
 	@API(status = EXPERIMENTAL, since = "6.1.1")
 	public static final String MEMORY_CLEANUP_EXCLUDED_ENGINES_PROPERTY_NAME = "junit.platform.execution.memory.cleanup.engines.excluded";
 
+	/**
+	 * Property name used to enable concurrent test discovery by all registered
+	 * test engines: {@value}
+	 *
+	 * <p>Supported values are {@code true} or {@code false}; defaults to
+	 * {@code false}.
+	 *
+	 * <p>If enabled, the {@link Launcher} calls
+	 * {@link org.junit.platform.engine.TestEngine#discover discover()} on all
+	 * test engines that are not excluded by an
+	 * {@link EngineFilter}
+	 * concurrently. Notifications of {@link LauncherDiscoveryListener
+	 * LauncherDiscoveryListeners} are serialized, and the order of the test
+	 * engines in the resulting {@link TestPlan} is the same as for sequential
+	 * discovery. Test engines must not rely on being discovered after one
+	 * another when this mode is enabled.
+	 *
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME = "junit.platform.discovery.parallel.enabled";
+
+	/**
+	 * Property name used to enable recording of metrics about test discovery
+	 * and execution: {@value}
+	 *
+	 * <p>Supported values are {@code true} or {@code false}; defaults to
+	 * {@code false}.
+	 *
+	 * <p>If enabled, the {@link Launcher} records the discovery time per test
+	 * engine, the execution time of tests and containers, the number of
+	 * concurrently executing tests, and the time spent in each
+	 * {@link TestExecutionListener}. When the execution of the
+	 * {@link TestPlan} has finished, percentile distributions of these metrics
+	 * are written to {@value #METRICS_FILE_NAME} in the root output directory.
+	 *
+	 * @since 6.2
+	 * @see org.junit.platform.launcher.metrics.MetricsRecorder
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String METRICS_ENABLED_PROPERTY_NAME = "junit.platform.metrics.enabled";
+
+	/**
+	 * Name of the file recorded metrics are written to if
+	 * {@linkplain #METRICS_ENABLED_PROPERTY_NAME enabled}: {@value}
+	 *
+	 * @since 6.2
+	 * @see #METRICS_ENABLED_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String METRICS_FILE_NAME = "junit-platform-metrics.json";
+
 	private LauncherConstants() {
 		/* no-op */
 	}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.TestResultsStore;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+
+/**
+ * {@link PostDiscoveryFilter} that only includes tests that failed in their
+ * last execution or in at least one of their recent executions, as recorded
+ * by the
+ * {@link org.junit.platform.launcher.listeners.TestResultsTrackingListener}.
+ *
+ * <p>Containers are included if they contain such tests, including dynamic
+ * tests that are only registered during execution.
+ *
+ * <p>If no tests failed recently, for example because the store does not
+ * exist yet, all tests and containers are included.
+ *
+ * @since 6.2
+ * @see org.junit.platform.launcher.listeners.TestResultsTrackingListener
+ */
+@API(status = EXPERIMENTAL, since = "6.2")
+public final class PreviouslyFailedTestsFilter implements PostDiscoveryFilter {
+
+	/**
+	 * Create a filter that includes only previously failed and recently flaky
+	 * tests recorded in the store file in the supplied reporting output
+	 * directory.
+	 *
+	 * @param outputDir the reporting output directory of previous runs; never
+	 * {@code null}
+	 * @see LauncherConstants#OUTPUT_DIR_PROPERTY_NAME
+	 */
+	public static PreviouslyFailedTestsFilter includePreviouslyFailedTests(Path outputDir) {
+		Preconditions.notNull(outputDir, "outputDir must not be null");
+		TestResultsStore store = TestResultsStore.read(outputDir.resolve(TestResultsStore.FILE_NAME));
+		return new PreviouslyFailedTestsFilter(store.getRecentlyFailedUniqueIds());
+	}
+
+	private final Set<String> failedUniqueIds;
+	private final Set<String> ancestorUniqueIds = new HashSet<>();
+
+	private PreviouslyFailedTestsFilter(Set<String> failedUniqueIds) {
+		this.failedUniqueIds = failedUniqueIds;
+		for (String uniqueId : failedUniqueIds) {
+			int separatorIndex = uniqueId.indexOf("/[");
+			while (separatorIndex > 0) {
+				this.ancestorUniqueIds.add(uniqueId.substring(0, separatorIndex));
+				separatorIndex = uniqueId.indexOf("/[", separatorIndex + 1);
+			}
+		}
+	}
+
+	@Override
+	public FilterResult apply(TestDescriptor descriptor) {
+		if (this.failedUniqueIds.isEmpty()) {
+			return FilterResult.included("No tests failed previously");
+		}
+		String uniqueId = descriptor.getUniqueId().toString();
+		return FilterResult.includedIf(
+			this.failedUniqueIds.contains(uniqueId) || this.ancestorUniqueIds.contains(uniqueId),
+			() -> "Failed previously", () -> "Did not fail previously");
+	}
+
+}
@@ -251,12 +251,16 @@ public class TestPlan {
 	public Set<TestIdentifier> getDescendants(TestIdentifier parent) {
 		Preconditions.notNull(parent, "parent must not be null");
 		Set<TestIdentifier> result = new LinkedHashSet<>(16);
+		collectDescendants(parent, result);
+		return unmodifiableSet(result);
+	}
+
+	private void collectDescendants(TestIdentifier parent, Set<TestIdentifier> descendants) {
 		Set<TestIdentifier> children = getChildren(parent);
-		result.addAll(children);
+		descendants.addAll(children);
 		for (TestIdentifier child : children) {
-			result.addAll(getDescendants(child));
+			collectDescendants(child, descendants);
 		}
-		return unmodifiableSet(result);
 	}
 
 	/**
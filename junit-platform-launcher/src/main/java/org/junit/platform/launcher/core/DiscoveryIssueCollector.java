@@ -13,6 +13,9 @@ package org.junit.platform.launcher.core;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.engine.ConfigurationParameters;
@@ -22,9 +25,14 @@ import org.junit.platform.engine.UniqueId;
 import org.junit.platform.launcher.LauncherConstants;
 import org.junit.platform.launcher.LauncherDiscoveryListener;
 
+/**
+ * Collects the {@link DiscoveryIssue DiscoveryIssues} reported during
+ * discovery separately for each engine so that engines may be discovered
+ * concurrently.
+ */
 class DiscoveryIssueCollector implements LauncherDiscoveryListener {
 
-	final List<DiscoveryIssue> issues = new ArrayList<>();
+	private final Map<UniqueId, List<DiscoveryIssue>> issuesByEngineId = new ConcurrentHashMap<>();
 	private final Severity criticalSeverity;
 
 	DiscoveryIssueCollector(ConfigurationParameters configurationParameters) {
@@ -33,19 +41,36 @@ class DiscoveryIssueCollector implements LauncherDiscoveryListener {
 
 	@Override
 	public void engineDiscoveryStarted(UniqueId engineId) {
-		this.issues.clear();
+		this.issuesByEngineId.remove(engineId);
 	}
 
 	@Override
 	public void issueEncountered(UniqueId engineId, DiscoveryIssue issue) {
-		this.issues.add(issue);
+		this.issuesByEngineId.computeIfAbsent(engineId, __ -> new CopyOnWriteArrayList<>()).add(issue);
 	}
 
-	DiscoveryIssueNotifier toNotifier() {
-		if (this.issues.isEmpty()) {
+	DiscoveryIssueNotifier toNotifier(UniqueId engineId) {
+		List<DiscoveryIssue> issues = this.issuesByEngineId.remove(engineId);
+		if (issues == null || issues.isEmpty()) {
 			return DiscoveryIssueNotifier.NO_ISSUES;
 		}
-		return DiscoveryIssueNotifier.from(criticalSeverity, this.issues);
+		return DiscoveryIssueNotifier.from(criticalSeverity, issues);
+	}
+
+	/**
+	 * Create a notifier for the issues of the supplied notifier and the ones
+	 * that have been encountered for the supplied engine since it was created.
+	 *
+	 * @since 6.2
+	 */
+	DiscoveryIssueNotifier toNotifier(UniqueId engineId, DiscoveryIssueNotifier previous) {
+		List<DiscoveryIssue> issues = this.issuesByEngineId.remove(engineId);
+		if (issues == null || issues.isEmpty()) {
+			return previous;
+		}
+		List<DiscoveryIssue> allIssues = new ArrayList<>(previous.getAllIssues());
+		allIssues.addAll(issues);
+		return DiscoveryIssueNotifier.from(criticalSeverity, allIssues);
 	}
 
 	private static Severity getCriticalSeverity(ConfigurationParameters configurationParameters) {
@@ -21,12 +21,21 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ClasspathScanningMemo;
+import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.commons.util.UnrecoverableExceptions;
 import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.Filter;
@@ -36,10 +45,12 @@ import org.junit.platform.engine.TestEngine;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.EngineDescriptor;
 import org.junit.platform.launcher.EngineDiscoveryResult;
+import org.junit.platform.launcher.LauncherConstants;
 import org.junit.platform.launcher.LauncherDiscoveryListener;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.PostDiscoveryFilter;
 import org.junit.platform.launcher.core.LauncherDiscoveryResult.EngineResultInfo;
+import org.junit.platform.launcher.metrics.MetricsRecorder;
 
 /**
  * Orchestrates test discovery using the configured test engines.
@@ -106,20 +117,25 @@ public class EngineDiscoveryOrchestrator {
 	private LauncherDiscoveryResult discover(LauncherDiscoveryRequest request, Optional<LauncherPhase> phase,
 			Function<String, UniqueId> uniqueIdCreator) {
 		DiscoveryIssueCollector issueCollector = new DiscoveryIssueCollector(request.getConfigurationParameters());
-		LauncherDiscoveryListener listener = getLauncherDiscoveryListener(request, issueCollector);
+		boolean parallel = isParallelDiscoveryEnabled(request);
+		LauncherDiscoveryListener listener = parallel
+				? new SynchronizedLauncherDiscoveryListener(getLauncherDiscoveryListener(request, issueCollector))
+				: getLauncherDiscoveryListener(request, issueCollector);
 		LauncherDiscoveryRequest delegatingRequest = new DelegatingLauncherDiscoveryRequest(request) {
 			@Override
 			public LauncherDiscoveryListener getDiscoveryListener() {
 				return listener;
 			}
 		};
+		Optional<MetricsRecorder> metricsRecorder = LauncherMetrics.createRecorder(
+			request.getConfigurationParameters());
 		listener.launcherDiscoveryStarted(request);
 		LauncherDiscoveryResult discoveryResult;
 		try {
 			Map<TestEngine, EngineResultInfo> testEngineResults = discoverSafely(delegatingRequest, phase,
-				issueCollector, uniqueIdCreator);
+				issueCollector, uniqueIdCreator, metricsRecorder, parallel);
 			discoveryResult = new LauncherDiscoveryResult(testEngineResults, request.getConfigurationParameters(),
-				request.getOutputDirectoryCreator());
+				request.getOutputDirectoryCreator(), metricsRecorder.orElse(null));
 		}
 		finally {
 			listener.launcherDiscoveryFinished(request);
@@ -130,6 +146,12 @@ public class EngineDiscoveryOrchestrator {
 		return discoveryResult;
 	}
 
+	private static boolean isParallelDiscoveryEnabled(LauncherDiscoveryRequest request) {
+		return request.getConfigurationParameters() //
+				.getBoolean(LauncherConstants.PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME) //
+				.orElse(false);
+	}
+
 	private static boolean shouldReportDiscoveryIssues(LauncherDiscoveryRequest request,
 			Optional<LauncherPhase> phase) {
 		ConfigurationParameters configurationParameters = request.getConfigurationParameters();
@@ -155,9 +177,10 @@ public class EngineDiscoveryOrchestrator {
 
 	private Map<TestEngine, EngineResultInfo> discoverSafely(LauncherDiscoveryRequest request,
 			Optional<LauncherPhase> phase, DiscoveryIssueCollector issueCollector,
-			Function<String, UniqueId> uniqueIdCreator) {
+			Function<String, UniqueId> uniqueIdCreator, Optional<MetricsRecorder> metricsRecorder, boolean parallel) {
 		Map<TestEngine, EngineResultInfo> testEngineDescriptors = new LinkedHashMap<>();
 		EngineFilterer engineFilterer = new EngineFilterer(request.getEngineFilters());
+		List<TestEngine> includedTestEngines = new ArrayList<>();
 
 		for (TestEngine testEngine : this.testEngines) {
 			boolean engineIsExcluded = engineFilterer.isExcluded(testEngine);
@@ -168,11 +191,20 @@ public class EngineDiscoveryOrchestrator {
 				continue;
 			}
 
+			includedTestEngines.add(testEngine);
+		}
+
+		Function<TestEngine, EngineResultInfo> engineDiscoverer = testEngine -> {
 			logger.debug(() -> "Discovering tests%s in engine '%s'.".formatted(
 				phase.map(" during Launcher %s phase"::formatted).orElse(""), testEngine.getId()));
-
-			EngineResultInfo engineResult = discoverEngineRoot(testEngine, request, issueCollector, uniqueIdCreator);
-			testEngineDescriptors.put(testEngine, engineResult);
+			return discoverEngineRoot(testEngine, request, issueCollector, uniqueIdCreator, metricsRecorder);
+		};
+		if (parallel && includedTestEngines.size() > 1) {
+			discoverEngineRootsConcurrently(includedTestEngines, engineDiscoverer, testEngineDescriptors);
+		}
+		else {
+			includedTestEngines.forEach(
+				testEngine -> testEngineDescriptors.put(testEngine, engineDiscoverer.apply(testEngine)));
 		}
 
 		engineFilterer.performSanityChecks();
@@ -182,21 +214,94 @@ public class EngineDiscoveryOrchestrator {
 
 		applyPostDiscoveryFilters(testEngineDescriptors, filters);
 		prune(testEngineDescriptors);
+		resolveDisplayNames(testEngineDescriptors, issueCollector);
 
 		return testEngineDescriptors;
 	}
 
+	/**
+	 * Resolve the display names of all retained test descriptors.
+	 *
+	 * <p>Engines may generate display names lazily so that they are never
+	 * generated for test descriptors that are excluded by post-discovery
+	 * filters. Resolving them before discovery has finished allows engines to
+	 * report issues they encounter while doing so.
+	 */
+	private static void resolveDisplayNames(Map<TestEngine, EngineResultInfo> testEngineResults,
+			DiscoveryIssueCollector issueCollector) {
+		testEngineResults.replaceAll((__, result) -> {
+			TestDescriptor rootDescriptor = result.getRootDescriptor();
+			rootDescriptor.accept(TestDescriptor::getDisplayName);
+			DiscoveryIssueNotifier notifier = issueCollector.toNotifier(rootDescriptor.getUniqueId(),
+				result.getDiscoveryIssueNotifier());
+			return result.withDiscoveryIssueNotifier(notifier);
+		});
+	}
+
+	/**
+	 * Discover the supplied test engines concurrently, using the calling
+	 * thread for the first one and a new thread for each of the others.
+	 *
+	 * <p>The results are stored in the order of the supplied test engines,
+	 * irrespective of the order in which the engines finish their discovery.
+	 * The {@link ClasspathScanningMemo} of the calling thread, if any, is
+	 * bound to the other threads while they discover their engine.
+	 */
+	private static void discoverEngineRootsConcurrently(List<TestEngine> testEngines,
+			Function<TestEngine, EngineResultInfo> engineDiscoverer,
+			Map<TestEngine, EngineResultInfo> testEngineDescriptors) {
+		ExecutorService executorService = Executors.newFixedThreadPool(testEngines.size() - 1,
+			new DiscoveryThreadFactory(Thread.currentThread().getContextClassLoader()));
+		ClasspathScanningMemo memo = ClasspathScanningMemo.current();
+		try {
+			List<Future<EngineResultInfo>> futures = new ArrayList<>();
+			for (TestEngine testEngine : testEngines.subList(1, testEngines.size())) {
+				futures.add(executorService.submit(() -> {
+					try (var ignored = ClasspathScanningMemo.bind(memo)) {
+						return engineDiscoverer.apply(testEngine);
+					}
+				}));
+			}
+			testEngineDescriptors.put(testEngines.get(0), engineDiscoverer.apply(testEngines.get(0)));
+			for (int i = 0; i < futures.size(); i++) {
+				testEngineDescriptors.put(testEngines.get(i + 1), await(futures.get(i)));
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private static EngineResultInfo await(Future<EngineResultInfo> future) {
+		try {
+			return future.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new JUnitException("Interrupted while waiting for test engines to discover tests", ex);
+		}
+		catch (ExecutionException ex) {
+			// discoverEngineRoot() only rethrows unrecoverable exceptions
+			throw ExceptionUtils.throwAsUncheckedException(ex.getCause());
+		}
+	}
+
 	private EngineResultInfo discoverEngineRoot(TestEngine testEngine, LauncherDiscoveryRequest request,
-			DiscoveryIssueCollector issueCollector, Function<String, UniqueId> uniqueIdCreator) {
+			DiscoveryIssueCollector issueCollector, Function<String, UniqueId> uniqueIdCreator,
+			Optional<MetricsRecorder> metricsRecorder) {
 		UniqueId uniqueEngineId = uniqueIdCreator.apply(testEngine.getId());
 		LauncherDiscoveryListener listener = request.getDiscoveryListener();
 		try {
 			listener.engineDiscoveryStarted(uniqueEngineId);
 			EngineIdValidator.validateReservedPrefix(testEngine, uniqueEngineId, issueCollector);
+			long startTime = System.nanoTime();
 			TestDescriptor engineRoot = testEngine.discover(request, uniqueEngineId);
+			long duration = System.nanoTime() - startTime;
+			metricsRecorder.ifPresent(recorder -> recorder.record(
+				LauncherMetrics.qualifiedName(MetricsRecorder.ENGINE_DISCOVERY, testEngine.getId()), duration));
 			discoveryResultValidator.validate(testEngine, engineRoot);
 			listener.engineDiscoveryFinished(uniqueEngineId, EngineDiscoveryResult.successful());
-			return EngineResultInfo.completed(engineRoot, issueCollector.toNotifier());
+			return EngineResultInfo.completed(engineRoot, issueCollector.toNotifier(uniqueEngineId));
 		}
 		catch (Throwable throwable) {
 			UnrecoverableExceptions.rethrowIfUnrecoverable(throwable);
@@ -210,7 +315,7 @@ public class EngineDiscoveryOrchestrator {
 			}
 			listener.engineDiscoveryFinished(uniqueEngineId, EngineDiscoveryResult.failed(cause));
 			return EngineResultInfo.errored(new EngineDescriptor(uniqueEngineId, testEngine.getId()),
-				issueCollector.toNotifier(), cause);
+				issueCollector.toNotifier(uniqueEngineId), cause);
 		}
 	}
 
@@ -246,13 +351,13 @@ public class EngineDiscoveryOrchestrator {
 
 	private void logTestDescriptorExclusionReasons(Map<String, List<TestDescriptor>> excludedTestDescriptorsByReason) {
 		excludedTestDescriptorsByReason.forEach((exclusionReason, testDescriptors) -> {
-			String displayNames = testDescriptors.stream().map(TestDescriptor::getDisplayName).collect(joining(", "));
 			long containerCount = testDescriptors.stream().filter(TestDescriptor::isContainer).count();
 			long methodCount = testDescriptors.stream().filter(TestDescriptor::isTest).count();
 			logger.config(
 				() -> "%d containers and %d tests were %s".formatted(containerCount, methodCount, exclusionReason));
-			logger.debug(
-				() -> "The following containers and tests were %s: %s".formatted(exclusionReason, displayNames));
+			// display names are only generated if they are actually logged
+			logger.debug(() -> "The following containers and tests were %s: %s".formatted(exclusionReason,
+				testDescriptors.stream().map(TestDescriptor::getDisplayName).collect(joining(", "))));
 		});
 	}
 
@@ -276,4 +381,24 @@ public class EngineDiscoveryOrchestrator {
 		testEngineResults.values().forEach(result -> result.getRootDescriptor().accept(visitor));
 	}
 
+	private static class DiscoveryThreadFactory implements ThreadFactory {
+
+		private static final AtomicInteger threadNumber = new AtomicInteger(1);
+
+		private final @Nullable ClassLoader contextClassLoader;
+
+		DiscoveryThreadFactory(@Nullable ClassLoader contextClassLoader) {
+			this.contextClassLoader = contextClassLoader;
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "junit-platform-discovery-" + threadNumber.getAndIncrement());
+			thread.setDaemon(true);
+			// engines resolve classes and resources via the context class loader
+			thread.setContextClassLoader(this.contextClassLoader);
+			return thread;
+		}
+	}
+
 }
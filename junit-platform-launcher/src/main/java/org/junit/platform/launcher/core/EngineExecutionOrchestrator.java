@@ -15,6 +15,8 @@ import static org.junit.platform.launcher.LauncherConstants.DRY_RUN_PROPERTY_NAM
 import static org.junit.platform.launcher.LauncherConstants.STACKTRACE_PRUNING_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherPhase.getDiscoveryIssueFailurePhase;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -31,6 +33,7 @@ import org.junit.platform.engine.OutputDirectoryCreator;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestEngine;
 import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.store.Namespace;
 import org.junit.platform.engine.support.store.NamespacedHierarchicalStore;
 import org.junit.platform.launcher.LauncherConstants;
@@ -59,10 +62,10 @@ public class EngineExecutionOrchestrator {
 
 	void execute(InternalTestPlan internalTestPlan, NamespacedHierarchicalStore<Namespace> requestLevelStore,
 			Collection<? extends TestExecutionListener> listeners, CancellationToken cancellationToken) {
-		ConfigurationParameters configurationParameters = internalTestPlan.getConfigurationParameters();
-		ListenerRegistry<TestExecutionListener> testExecutionListenerListeners = buildListenerRegistryForExecution(
-			listeners);
-		withInterceptedStreams(configurationParameters, testExecutionListenerListeners,
+		LauncherDiscoveryResult discoveryResult = internalTestPlan.getDiscoveryResult();
+		ListenerRegistry<TestExecutionListener> testExecutionListenerListeners = withRecordedMetrics(discoveryResult,
+			buildListenerRegistryForExecution(listeners));
+		withInterceptedStreams(discoveryResult, testExecutionListenerListeners,
 			testExecutionListener -> execute(internalTestPlan, EngineExecutionListener.NOOP, testExecutionListener,
 				requestLevelStore, cancellationToken));
 	}
@@ -157,12 +160,28 @@ public class EngineExecutionOrchestrator {
 				.orElse(false);
 	}
 
-	private void withInterceptedStreams(ConfigurationParameters configurationParameters,
+	private static ListenerRegistry<TestExecutionListener> withRecordedMetrics(LauncherDiscoveryResult discoveryResult,
+			ListenerRegistry<TestExecutionListener> listenerRegistry) {
+
+		return discoveryResult.getMetricsRecorder().map(metricsRecorder -> {
+			// Registered first so it is notified last when the test plan has finished
+			var registry = ListenerRegistry.forTestExecutionListeners() //
+					.add(new MetricsRecordingTestExecutionListener(metricsRecorder,
+						discoveryResult.getOutputDirectoryCreator()));
+			listenerRegistry.getListeners().forEach(
+				listener -> registry.add(new ListenerDispatchTimingTestExecutionListener(listener, metricsRecorder)));
+			return registry;
+		}).orElse(listenerRegistry);
+	}
+
+	private void withInterceptedStreams(LauncherDiscoveryResult discoveryResult,
 			ListenerRegistry<TestExecutionListener> listenerRegistry, Consumer<TestExecutionListener> action) {
 
 		TestExecutionListener testExecutionListener = listenerRegistry.getCompositeListener();
 		Optional<StreamInterceptingTestExecutionListener> streamInterceptingTestExecutionListener = StreamInterceptingTestExecutionListener.create(
-			configurationParameters, testExecutionListener::reportingEntryPublished);
+			discoveryResult.getConfigurationParameters(), testExecutionListener::reportingEntryPublished,
+			testExecutionListener::fileEntryPublished, testIdentifier -> createOutputDirectory(discoveryResult,
+				testIdentifier.getUniqueIdObject()));
 		streamInterceptingTestExecutionListener.ifPresent(listenerRegistry::add);
 		try {
 			action.accept(listenerRegistry.getCompositeListener());
@@ -172,6 +191,17 @@ public class EngineExecutionOrchestrator {
 		}
 	}
 
+	private static Path createOutputDirectory(LauncherDiscoveryResult discoveryResult, UniqueId uniqueId)
+			throws IOException {
+		TestDescriptor testDescriptor = discoveryResult.getEngineTestDescriptors().stream() //
+				.filter(engineDescriptor -> uniqueId.hasPrefix(engineDescriptor.getUniqueId())) //
+				.map(engineDescriptor -> engineDescriptor.findByUniqueId(uniqueId)) //
+				.flatMap(Optional::stream) //
+				.findFirst() //
+				.orElseThrow(() -> new IOException("Unknown test descriptor: " + uniqueId));
+		return discoveryResult.getOutputDirectoryCreator().createOutputDirectory(testDescriptor);
+	}
+
 	/**
 	 * Executes tests for the supplied {@linkplain LauncherDiscoveryResult
 	 * discovery results} and notifies the supplied {@linkplain
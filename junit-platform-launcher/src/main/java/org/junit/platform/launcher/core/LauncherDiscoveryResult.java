@@ -28,6 +28,7 @@ import org.junit.platform.engine.DiscoveryIssue;
 import org.junit.platform.engine.OutputDirectoryCreator;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestEngine;
+import org.junit.platform.launcher.metrics.MetricsRecorder;
 
 /**
  * Represents the result of test discovery of the configured
@@ -42,11 +43,21 @@ public class LauncherDiscoveryResult {
 	private final ConfigurationParameters configurationParameters;
 	private final OutputDirectoryCreator outputDirectoryCreator;
 
+	@Nullable
+	private final MetricsRecorder metricsRecorder;
+
 	LauncherDiscoveryResult(Map<TestEngine, EngineResultInfo> testEngineResults,
 			ConfigurationParameters configurationParameters, OutputDirectoryCreator outputDirectoryCreator) {
+		this(testEngineResults, configurationParameters, outputDirectoryCreator, null);
+	}
+
+	LauncherDiscoveryResult(Map<TestEngine, EngineResultInfo> testEngineResults,
+			ConfigurationParameters configurationParameters, OutputDirectoryCreator outputDirectoryCreator,
+			@Nullable MetricsRecorder metricsRecorder) {
 		this.testEngineResults = unmodifiableMap(new LinkedHashMap<>(testEngineResults));
 		this.configurationParameters = configurationParameters;
 		this.outputDirectoryCreator = outputDirectoryCreator;
+		this.metricsRecorder = metricsRecorder;
 	}
 
 	public TestDescriptor getEngineTestDescriptor(TestEngine testEngine) {
@@ -70,6 +81,10 @@ public class LauncherDiscoveryResult {
 		return this.outputDirectoryCreator;
 	}
 
+	Optional<MetricsRecorder> getMetricsRecorder() {
+		return Optional.ofNullable(this.metricsRecorder);
+	}
+
 	public Collection<TestEngine> getTestEngines() {
 		return this.testEngineResults.keySet();
 	}
@@ -89,7 +104,7 @@ public class LauncherDiscoveryResult {
 		Map<TestEngine, EngineResultInfo> prunedTestEngineResults = retainEngines(predicate);
 		if (prunedTestEngineResults.size() < this.testEngineResults.size()) {
 			return new LauncherDiscoveryResult(prunedTestEngineResults, this.configurationParameters,
-				this.outputDirectoryCreator);
+				this.outputDirectoryCreator, this.metricsRecorder);
 		}
 		return this;
 	}
@@ -126,6 +141,13 @@ public class LauncherDiscoveryResult {
 			this.cause = cause;
 		}
 
+		EngineResultInfo withDiscoveryIssueNotifier(DiscoveryIssueNotifier discoveryIssueNotifier) {
+			if (discoveryIssueNotifier == this.discoveryIssueNotifier) {
+				return this;
+			}
+			return new EngineResultInfo(this.rootDescriptor, discoveryIssueNotifier, this.cause);
+		}
+
 		TestDescriptor getRootDescriptor() {
 			return this.rootDescriptor;
 		}
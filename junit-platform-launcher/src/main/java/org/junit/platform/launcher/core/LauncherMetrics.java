@@ -0,0 +1,46 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static org.junit.platform.launcher.LauncherConstants.METRICS_ENABLED_PROPERTY_NAME;
+
+import java.util.Iterator;
+import java.util.Optional;
+
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.launcher.metrics.HistogramMetricsRecorder;
+import org.junit.platform.launcher.metrics.MetricsRecorder;
+
+/**
+ * Utilities for recording {@linkplain MetricsRecorder metrics} in the
+ * {@code Launcher}.
+ *
+ * @since 6.2
+ */
+final class LauncherMetrics {
+
+	static Optional<MetricsRecorder> createRecorder(ConfigurationParameters configurationParameters) {
+		boolean enabled = configurationParameters.getBoolean(METRICS_ENABLED_PROPERTY_NAME).orElse(false);
+		if (!enabled) {
+			return Optional.empty();
+		}
+		Iterator<MetricsRecorder> recorders = ServiceLoaderRegistry.load(MetricsRecorder.class).iterator();
+		return Optional.of(recorders.hasNext() ? recorders.next() : new HistogramMetricsRecorder());
+	}
+
+	static String qualifiedName(String name, String qualifier) {
+		return name + "[" + qualifier + "]";
+	}
+
+	private LauncherMetrics() {
+	}
+
+}
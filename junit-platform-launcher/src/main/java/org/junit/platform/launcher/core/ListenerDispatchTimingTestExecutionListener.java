@@ -0,0 +1,134 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static org.junit.platform.launcher.core.LauncherMetrics.qualifiedName;
+import static org.junit.platform.launcher.metrics.MetricsRecorder.LISTENER_DISPATCH;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.FileEntry;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.metrics.MetricsRecorder;
+
+/**
+ * {@link TestExecutionListener} that records the time it takes its delegate
+ * to handle each event.
+ *
+ * @since 6.2
+ */
+class ListenerDispatchTimingTestExecutionListener implements TestExecutionListener {
+
+	private final TestExecutionListener delegate;
+	private final MetricsRecorder metricsRecorder;
+	private final String metricName;
+
+	ListenerDispatchTimingTestExecutionListener(TestExecutionListener delegate, MetricsRecorder metricsRecorder) {
+		this.delegate = delegate;
+		this.metricsRecorder = metricsRecorder;
+		this.metricName = qualifiedName(LISTENER_DISPATCH, delegate.getClass().getName());
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		long startTime = System.nanoTime();
+		try {
+			this.delegate.testPlanExecutionStarted(testPlan);
+		}
+		finally {
+			recordSince(startTime);
+		}
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		long startTime = System.nanoTime();
+		try {
+			this.delegate.testPlanExecutionFinished(testPlan);
+		}
+		finally {
+			recordSince(startTime);
+		}
+	}
+
+	@Override
+	public void dynamicTestRegistered(TestIdentifier testIdentifier) {
+		long startTime = System.nanoTime();
+		try {
+			this.delegate.dynamicTestRegistered(testIdentifier);
+		}
+		finally {
+			recordSince(startTime);
+		}
+	}
+
+	@Override
+	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+		long startTime = System.nanoTime();
+		try {
+			this.delegate.executionSkipped(testIdentifier, reason);
+		}
+		finally {
+			recordSince(startTime);
+		}
+	}
+
+	@Override
+	public void executionStarted(TestIdentifier testIdentifier) {
+		long startTime = System.nanoTime();
+		try {
+			this.delegate.executionStarted(testIdentifier);
+		}
+		finally {
+			recordSince(startTime);
+		}
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		long startTime = System.nanoTime();
+		try {
+			this.delegate.executionFinished(testIdentifier, testExecutionResult);
+		}
+		finally {
+			recordSince(startTime);
+		}
+	}
+
+	@Override
+	public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+		long startTime = System.nanoTime();
+		try {
+			this.delegate.reportingEntryPublished(testIdentifier, entry);
+		}
+		finally {
+			recordSince(startTime);
+		}
+	}
+
+	@Override
+	public void fileEntryPublished(TestIdentifier testIdentifier, FileEntry file) {
+		long startTime = System.nanoTime();
+		try {
+			this.delegate.fileEntryPublished(testIdentifier, file);
+		}
+		finally {
+			recordSince(startTime);
+		}
+	}
+
+	private void recordSince(long startTime) {
+		this.metricsRecorder.record(this.metricName, System.nanoTime() - startTime);
+	}
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.platform.launcher.LauncherConstants.METRICS_FILE_NAME;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.engine.OutputDirectoryCreator;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.metrics.Histogram;
+import org.junit.platform.launcher.metrics.MetricsRecorder;
+
+/**
+ * {@link TestExecutionListener} that records the execution time of tests and
+ * containers as well as the number of concurrently executing tests and
+ * writes all recorded metrics to a JSON file in the root output directory
+ * when the execution of the {@link TestPlan} has finished.
+ *
+ * @since 6.2
+ */
+class MetricsRecordingTestExecutionListener implements TestExecutionListener {
+
+	private static final Logger logger = LoggerFactory.getLogger(MetricsRecordingTestExecutionListener.class);
+
+	private static final double[] PERCENTILES = { 50, 90, 99, 99.9 };
+	private static final String[] PERCENTILE_NAMES = { "p50", "p90", "p99", "p999" };
+
+	private final MetricsRecorder metricsRecorder;
+	private final OutputDirectoryCreator outputDirectoryCreator;
+	private final Map<UniqueId, Long> startTimes = new ConcurrentHashMap<>();
+	private final AtomicInteger executingTests = new AtomicInteger();
+
+	MetricsRecordingTestExecutionListener(MetricsRecorder metricsRecorder,
+			OutputDirectoryCreator outputDirectoryCreator) {
+		this.metricsRecorder = metricsRecorder;
+		this.outputDirectoryCreator = outputDirectoryCreator;
+	}
+
+	@Override
+	public void executionStarted(TestIdentifier testIdentifier) {
+		if (testIdentifier.isTest()) {
+			this.metricsRecorder.record(MetricsRecorder.CONCURRENT_TEST_EXECUTIONS,
+				this.executingTests.incrementAndGet());
+		}
+		this.startTimes.put(testIdentifier.getUniqueIdObject(), System.nanoTime());
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		Long startTime = this.startTimes.remove(testIdentifier.getUniqueIdObject());
+		if (startTime == null) {
+			return;
+		}
+		long duration = System.nanoTime() - startTime;
+		if (testIdentifier.isTest()) {
+			this.executingTests.decrementAndGet();
+			this.metricsRecorder.record(MetricsRecorder.TEST_EXECUTION, duration);
+		}
+		else {
+			this.metricsRecorder.record(MetricsRecorder.CONTAINER_EXECUTION, duration);
+		}
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		Map<String, Histogram> histograms = this.metricsRecorder.getHistograms();
+		if (histograms.isEmpty()) {
+			return;
+		}
+		try {
+			Path rootDirectory = Files.createDirectories(this.outputDirectoryCreator.getRootDirectory());
+			Path file = rootDirectory.resolve(METRICS_FILE_NAME);
+			try (Writer writer = Files.newBufferedWriter(file, UTF_8)) {
+				writeJson(histograms, writer);
+			}
+			logger.config(() -> "Wrote metrics to " + file);
+		}
+		catch (IOException | UncheckedIOException e) {
+			logger.warn(e, () -> "Failed to write metrics to " + METRICS_FILE_NAME);
+		}
+	}
+
+	private static void writeJson(Map<String, Histogram> histograms, Writer writer) throws IOException {
+		writer.write("{\n  \"metrics\": {");
+		Iterator<Map.Entry<String, Histogram>> entries = histograms.entrySet().iterator();
+		while (entries.hasNext()) {
+			Map.Entry<String, Histogram> entry = entries.next();
+			Histogram histogram = entry.getValue();
+			writer.write("\n    \"" + escape(entry.getKey()) + "\": {");
+			writer.write("\"count\": " + histogram.getCount());
+			writer.write(", \"min\": " + histogram.getMin());
+			writer.write(", \"max\": " + histogram.getMax());
+			writer.write(", \"mean\": " + histogram.getMean());
+			for (int i = 0; i < PERCENTILES.length; i++) {
+				writer.write(", \"" + PERCENTILE_NAMES[i] + "\": " + histogram.getValueAtPercentile(PERCENTILES[i]));
+			}
+			writer.write(entries.hasNext() ? "}," : "}");
+		}
+		writer.write("\n  }\n}\n");
+	}
+
+	private static String escape(String value) {
+		StringBuilder builder = new StringBuilder(value.length());
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				builder.append('\\').append(c);
+			}
+			else if (c < 0x20) {
+				builder.append("\\u%04x".formatted((int) c));
+			}
+			else {
+				builder.append(c);
+			}
+		}
+		return builder.toString();
+	}
+
+}
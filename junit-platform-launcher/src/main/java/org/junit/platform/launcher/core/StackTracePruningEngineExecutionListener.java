@@ -10,15 +10,14 @@
 
 package org.junit.platform.launcher.core;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.stream.Stream;
 
 import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestSource;
 import org.junit.platform.engine.support.descriptor.ClassSource;
 import org.junit.platform.engine.support.descriptor.MethodSource;
 
@@ -36,9 +35,9 @@ class StackTracePruningEngineExecutionListener extends DelegatingEngineExecution
 
 	@Override
 	public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
-		List<String> testClassNames = getTestClassNames(testDescriptor);
 		if (testExecutionResult.getThrowable().isPresent()) {
 			Throwable throwable = testExecutionResult.getThrowable().get();
+			List<String> testClassNames = getTestClassNames(testDescriptor);
 
 			ExceptionUtils.findNestedThrowables(throwable).forEach(
 				t -> ExceptionUtils.pruneStackTrace(t, testClassNames));
@@ -47,24 +46,23 @@ class StackTracePruningEngineExecutionListener extends DelegatingEngineExecution
 	}
 
 	private static List<String> getTestClassNames(TestDescriptor testDescriptor) {
-		Stream<? extends TestDescriptor> self = Stream.of(testDescriptor);
-		Stream<? extends TestDescriptor> ancestors = testDescriptor.getAncestors().stream();
-		return Stream.concat(self, ancestors) //
-				.map(TestDescriptor::getSource) //
-				.flatMap(Optional::stream) //
-				.map(source -> {
-					if (source instanceof ClassSource classSource) {
-						return classSource.getClassName();
-					}
-					else if (source instanceof MethodSource methodSource) {
-						return methodSource.getClassName();
-					}
-					else {
-						return null;
-					}
-				}) //
-				.filter(Objects::nonNull) //
-				.toList();
+		List<String> testClassNames = new ArrayList<>();
+		addTestClassName(testDescriptor, testClassNames);
+		testDescriptor.traverseAncestors(ancestor -> {
+			addTestClassName(ancestor, testClassNames);
+			return true;
+		});
+		return testClassNames;
+	}
+
+	private static void addTestClassName(TestDescriptor testDescriptor, List<String> testClassNames) {
+		TestSource source = testDescriptor.getSource().orElse(null);
+		if (source instanceof ClassSource classSource) {
+			testClassNames.add(classSource.getClassName());
+		}
+		else if (source instanceof MethodSource methodSource) {
+			testClassNames.add(methodSource.getClassName());
+		}
 	}
 
 }
@@ -12,20 +12,29 @@ package org.junit.platform.launcher.core;
 
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_MAX_BUFFER_DEFAULT;
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_MAX_BUFFER_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.CAPTURE_SPILL_THRESHOLD_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_STDERR_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_STDOUT_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.STDERR_REPORT_ENTRY_KEY;
 import static org.junit.platform.launcher.LauncherConstants.STDOUT_REPORT_ENTRY_KEY;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 
 import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.commons.util.StringUtils;
 import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.FileEntry;
 import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.launcher.TestIdentifier;
 import org.junit.platform.launcher.core.CompositeTestExecutionListener.EagerTestExecutionListener;
@@ -35,12 +44,19 @@ import org.junit.platform.launcher.core.CompositeTestExecutionListener.EagerTest
  */
 class StreamInterceptingTestExecutionListener implements EagerTestExecutionListener {
 
+	private static final Logger logger = LoggerFactory.getLogger(StreamInterceptingTestExecutionListener.class);
+
+	private static final String SPILLED_OUTPUT_MEDIA_TYPE = "text/plain; charset=" + Charset.defaultCharset().name();
+
 	private final @Nullable StreamInterceptor stdoutInterceptor;
 	private final @Nullable StreamInterceptor stderrInterceptor;
 	private final BiConsumer<TestIdentifier, ReportEntry> reporter;
+	private final BiConsumer<TestIdentifier, FileEntry> fileReporter;
+	private final OutputDirectoryResolver outputDirectoryResolver;
 
 	static Optional<StreamInterceptingTestExecutionListener> create(ConfigurationParameters configurationParameters,
-			BiConsumer<TestIdentifier, ReportEntry> reporter) {
+			BiConsumer<TestIdentifier, ReportEntry> reporter, BiConsumer<TestIdentifier, FileEntry> fileReporter,
+			OutputDirectoryResolver outputDirectoryResolver) {
 
 		boolean captureStdout = configurationParameters.getBoolean(CAPTURE_STDOUT_PROPERTY_NAME).orElse(false);
 		boolean captureStderr = configurationParameters.getBoolean(CAPTURE_STDERR_PROPERTY_NAME).orElse(false);
@@ -51,8 +67,16 @@ class StreamInterceptingTestExecutionListener implements EagerTestExecutionListe
 		int maxSize = configurationParameters.get(CAPTURE_MAX_BUFFER_PROPERTY_NAME, Integer::valueOf) //
 				.orElse(CAPTURE_MAX_BUFFER_DEFAULT);
 
-		StreamInterceptor stdoutInterceptor = captureStdout ? StreamInterceptor.registerStdout(maxSize) : null;
-		StreamInterceptor stderrInterceptor = captureStderr ? StreamInterceptor.registerStderr(maxSize) : null;
+		int spillThreshold = configurationParameters.get(CAPTURE_SPILL_THRESHOLD_PROPERTY_NAME, Integer::valueOf) //
+				.map(StreamInterceptingTestExecutionListener::validateSpillThreshold) //
+				.orElse(StreamInterceptor.SPILLING_DISABLED);
+
+		StreamInterceptor stdoutInterceptor = captureStdout //
+				? StreamInterceptor.registerStdout(maxSize, spillThreshold) //
+				: null;
+		StreamInterceptor stderrInterceptor = captureStderr //
+				? StreamInterceptor.registerStderr(maxSize, spillThreshold) //
+				: null;
 
 		if ((stdoutInterceptor == null && captureStdout) || (stderrInterceptor == null && captureStderr)) {
 			if (stdoutInterceptor != null) {
@@ -63,14 +87,25 @@ class StreamInterceptingTestExecutionListener implements EagerTestExecutionListe
 			}
 			return Optional.empty();
 		}
-		return Optional.of(new StreamInterceptingTestExecutionListener(stdoutInterceptor, stderrInterceptor, reporter));
+		return Optional.of(new StreamInterceptingTestExecutionListener(stdoutInterceptor, stderrInterceptor, reporter,
+			fileReporter, outputDirectoryResolver));
+	}
+
+	private static int validateSpillThreshold(int spillThreshold) {
+		Preconditions.condition(spillThreshold >= 0,
+			() -> "%s must be a non-negative integer but was: %d".formatted(CAPTURE_SPILL_THRESHOLD_PROPERTY_NAME,
+				spillThreshold));
+		return spillThreshold;
 	}
 
 	private StreamInterceptingTestExecutionListener(@Nullable StreamInterceptor stdoutInterceptor,
-			@Nullable StreamInterceptor stderrInterceptor, BiConsumer<TestIdentifier, ReportEntry> reporter) {
+			@Nullable StreamInterceptor stderrInterceptor, BiConsumer<TestIdentifier, ReportEntry> reporter,
+			BiConsumer<TestIdentifier, FileEntry> fileReporter, OutputDirectoryResolver outputDirectoryResolver) {
 		this.stdoutInterceptor = stdoutInterceptor;
 		this.stderrInterceptor = stderrInterceptor;
 		this.reporter = reporter;
+		this.fileReporter = fileReporter;
+		this.outputDirectoryResolver = outputDirectoryResolver;
 	}
 
 	void unregister() {
@@ -96,19 +131,65 @@ class StreamInterceptingTestExecutionListener implements EagerTestExecutionListe
 	public void executionJustFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
 		Map<String, String> map = new HashMap<>();
 		if (stdoutInterceptor != null) {
-			String out = stdoutInterceptor.consume();
-			if (StringUtils.isNotBlank(out)) {
-				map.put(STDOUT_REPORT_ENTRY_KEY, out);
-			}
+			consume(testIdentifier, stdoutInterceptor, STDOUT_REPORT_ENTRY_KEY, map);
 		}
 		if (stderrInterceptor != null) {
-			String err = stderrInterceptor.consume();
-			if (StringUtils.isNotBlank(err)) {
-				map.put(STDERR_REPORT_ENTRY_KEY, err);
-			}
+			consume(testIdentifier, stderrInterceptor, STDERR_REPORT_ENTRY_KEY, map);
 		}
 		if (!map.isEmpty()) {
 			reporter.accept(testIdentifier, ReportEntry.from(map));
 		}
 	}
+
+	private void consume(TestIdentifier testIdentifier, StreamInterceptor interceptor, String key,
+			Map<String, String> map) {
+		if (interceptor.hasSpilledOutput()) {
+			Path file = resolveOutputFile(testIdentifier, key);
+			if (file != null) {
+				try {
+					interceptor.consumeTo(file);
+					fileReporter.accept(testIdentifier, FileEntry.from(file, SPILLED_OUTPUT_MEDIA_TYPE));
+				}
+				catch (IOException e) {
+					logger.warn(e, () -> "Failed to write captured %s output of %s to %s".formatted(key,
+						testIdentifier.getUniqueId(), file));
+				}
+				return;
+			}
+		}
+		String output;
+		try {
+			output = interceptor.consume();
+		}
+		catch (UncheckedIOException e) {
+			logger.warn(e, () -> "Failed to read captured %s output of %s".formatted(key, testIdentifier.getUniqueId()));
+			return;
+		}
+		if (StringUtils.isNotBlank(output)) {
+			map.put(key, output);
+		}
+	}
+
+	private @Nullable Path resolveOutputFile(TestIdentifier testIdentifier, String key) {
+		try {
+			return outputDirectoryResolver.resolve(testIdentifier).resolve(key + ".txt");
+		}
+		catch (IOException e) {
+			logger.warn(e, () -> "Failed to create output directory for %s; publishing captured %s output in memory".formatted(
+				testIdentifier.getUniqueId(), key));
+			return null;
+		}
+	}
+
+	/**
+	 * Resolver for the output directory of a test or container.
+	 *
+	 * @since 6.2
+	 */
+	@FunctionalInterface
+	interface OutputDirectoryResolver {
+
+		Path resolve(TestIdentifier testIdentifier) throws IOException;
+
+	}
 }
@@ -10,54 +10,117 @@
 
 package org.junit.platform.launcher.core;
 
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
 import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
 
 /**
  * @since 1.3
  */
 class StreamInterceptor extends PrintStream {
 
+	static final int SPILLING_DISABLED = -1;
+
+	private static final Logger logger = LoggerFactory.getLogger(StreamInterceptor.class);
+
 	private final Deque<RewindableByteArrayOutputStream> mostRecentOutputs = new ConcurrentLinkedDeque<>();
+	private final Queue<RewindableByteArrayOutputStream> spillingOutputs = new ConcurrentLinkedQueue<>();
 
 	private final PrintStream originalStream;
 	private final Consumer<PrintStream> unregisterAction;
 	private final int maxNumberOfBytesPerThread;
+	private final int spillThreshold;
+	private final SpillFileFactory spillFileFactory;
+	private final AtomicBoolean spillFailureReported = new AtomicBoolean();
 
 	private final ThreadLocal<RewindableByteArrayOutputStream> output = ThreadLocal.withInitial(
-		RewindableByteArrayOutputStream::new);
+		this::createOutputStream);
 
 	static @Nullable StreamInterceptor registerStdout(int maxNumberOfBytesPerThread) {
-		return register(System.out, System::setOut, maxNumberOfBytesPerThread);
+		return registerStdout(maxNumberOfBytesPerThread, SPILLING_DISABLED);
 	}
 
 	static @Nullable StreamInterceptor registerStderr(int maxNumberOfBytesPerThread) {
-		return register(System.err, System::setErr, maxNumberOfBytesPerThread);
+		return registerStderr(maxNumberOfBytesPerThread, SPILLING_DISABLED);
+	}
+
+	static @Nullable StreamInterceptor registerStdout(int maxNumberOfBytesPerThread, int spillThreshold) {
+		return register(System.out, System::setOut, maxNumberOfBytesPerThread, spillThreshold);
+	}
+
+	static @Nullable StreamInterceptor registerStderr(int maxNumberOfBytesPerThread, int spillThreshold) {
+		return register(System.err, System::setErr, maxNumberOfBytesPerThread, spillThreshold);
 	}
 
 	static @Nullable StreamInterceptor register(PrintStream originalStream, Consumer<PrintStream> streamSetter,
 			int maxNumberOfBytesPerThread) {
+		return register(originalStream, streamSetter, maxNumberOfBytesPerThread, SPILLING_DISABLED);
+	}
+
+	static @Nullable StreamInterceptor register(PrintStream originalStream, Consumer<PrintStream> streamSetter,
+			int maxNumberOfBytesPerThread, int spillThreshold) {
+		return register(originalStream, streamSetter, maxNumberOfBytesPerThread, spillThreshold,
+			RewindableByteArrayOutputStream::createTempSpillFile);
+	}
+
+	static @Nullable StreamInterceptor register(PrintStream originalStream, Consumer<PrintStream> streamSetter,
+			int maxNumberOfBytesPerThread, int spillThreshold, SpillFileFactory spillFileFactory) {
 		if (originalStream instanceof StreamInterceptor) {
 			return null;
 		}
-		StreamInterceptor interceptor = new StreamInterceptor(originalStream, streamSetter, maxNumberOfBytesPerThread);
+		StreamInterceptor interceptor = new StreamInterceptor(originalStream, streamSetter, maxNumberOfBytesPerThread,
+			spillThreshold, spillFileFactory);
 		streamSetter.accept(interceptor);
 		return interceptor;
 	}
 
 	private StreamInterceptor(PrintStream originalStream, Consumer<PrintStream> unregisterAction,
-			int maxNumberOfBytesPerThread) {
+			int maxNumberOfBytesPerThread, int spillThreshold, SpillFileFactory spillFileFactory) {
 		super(originalStream);
 		this.originalStream = originalStream;
 		this.unregisterAction = unregisterAction;
 		this.maxNumberOfBytesPerThread = maxNumberOfBytesPerThread;
+		this.spillThreshold = spillThreshold;
+		this.spillFileFactory = spillFileFactory;
+	}
+
+	private RewindableByteArrayOutputStream createOutputStream() {
+		RewindableByteArrayOutputStream out = new RewindableByteArrayOutputStream(spillThreshold, spillFileFactory,
+			this::reportSpillFailure);
+		if (out.isSpillingEnabled()) {
+			spillingOutputs.add(out);
+		}
+		return out;
+	}
+
+	private void reportSpillFailure(IOException exception) {
+		if (spillFailureReported.compareAndSet(false, true)) {
+			logger.warn(exception, () -> "Failed to spill captured output to disk; "
+					+ "output exceeding %d bytes per thread will not be captured".formatted(spillThreshold));
+		}
 	}
 
 	void capture() {
@@ -66,23 +129,60 @@ class StreamInterceptor extends PrintStream {
 		pushToTop(out);
 	}
 
+	/**
+	 * {@return whether the output captured by the current thread since the
+	 * most recent call to {@link #capture()} has been spilled to disk, at
+	 * least partially}
+	 *
+	 * <p>If so, it should be consumed via {@link #consumeTo(Path)} to avoid
+	 * reading it into memory.
+	 */
+	boolean hasSpilledOutput() {
+		return output.get().hasSpilledOutput();
+	}
+
 	String consume() {
 		RewindableByteArrayOutputStream out = output.get();
-		String result = out.rewind();
+		try {
+			return out.rewind();
+		}
+		finally {
+			removeIfUnmarked(out);
+		}
+	}
+
+	/**
+	 * Consume the output captured by the current thread since the most recent
+	 * call to {@link #capture()} by transferring it to the supplied file.
+	 */
+	void consumeTo(Path file) throws IOException {
+		RewindableByteArrayOutputStream out = output.get();
+		try {
+			out.rewindTo(file);
+		}
+		finally {
+			removeIfUnmarked(out);
+		}
+	}
+
+	private void removeIfUnmarked(RewindableByteArrayOutputStream out) {
 		if (!out.isMarked()) {
 			mostRecentOutputs.remove(out);
 		}
-		return result;
 	}
 
 	void unregister() {
 		unregisterAction.accept(originalStream);
+		RewindableByteArrayOutputStream out;
+		while ((out = spillingOutputs.poll()) != null) {
+			out.releaseSpillFile();
+		}
 	}
 
 	@Override
 	public void write(int b) {
 		RewindableByteArrayOutputStream out = getOutput();
-		if (out != null && out.size() < maxNumberOfBytesPerThread) {
+		if (out != null && hasCapacity(out)) {
 			pushToTop(out);
 			out.write(b);
 		}
@@ -98,7 +198,7 @@ class StreamInterceptor extends PrintStream {
 	public void write(byte[] buf, int off, int len) {
 		RewindableByteArrayOutputStream out = getOutput();
 		if (out != null) {
-			int actualLength = Math.max(0, Math.min(len, maxNumberOfBytesPerThread - out.size()));
+			int actualLength = (int) Math.max(0, Math.min(len, maxNumberOfBytesPerThread - out.totalSize()));
 			if (actualLength > 0) {
 				pushToTop(out);
 				out.write(buf, off, actualLength);
@@ -107,6 +207,10 @@ class StreamInterceptor extends PrintStream {
 		super.write(buf, off, len);
 	}
 
+	private boolean hasCapacity(RewindableByteArrayOutputStream out) {
+		return out.totalSize() < maxNumberOfBytesPerThread;
+	}
+
 	private void pushToTop(RewindableByteArrayOutputStream out) {
 		if (!out.equals(mostRecentOutputs.peek())) {
 			mostRecentOutputs.remove(out);
@@ -119,26 +223,288 @@ class StreamInterceptor extends PrintStream {
 		return out.isMarked() ? out : mostRecentOutputs.peek();
 	}
 
+	/**
+	 * Buffer for captured output that keeps track of marked positions.
+	 *
+	 * <p>If spilling is enabled, only up to {@code spillThreshold} bytes are
+	 * kept in memory. Any output beyond that is appended to a temporary file
+	 * that logically follows the in-memory buffer and is truncated again when
+	 * rewinding. Callers are responsible for limiting the
+	 * {@linkplain #totalSize() total size} of the buffer, including the spilled
+	 * part. The temporary file is reused until it is
+	 * {@linkplain #releaseSpillFile() released}. If spilling fails, for example
+	 * because the disk is full, the failure is reported once and any further
+	 * output that would have been spilled is discarded so that writing to the
+	 * intercepted stream never fails.
+	 */
 	static class RewindableByteArrayOutputStream extends ByteArrayOutputStream {
 
-		private final Deque<Integer> markedPositions = new ArrayDeque<>();
+		private static final int SPILL_BUFFER_SIZE = 8192;
+
+		private final Deque<Long> markedPositions = new ArrayDeque<>();
+		private final int spillThreshold;
+		private final SpillFileFactory spillFileFactory;
+		private final Consumer<IOException> spillFailureHandler;
+
+		private @Nullable FileChannel spillFile;
+		private @Nullable ByteBuffer spillBuffer;
+		private long spilledCount;
+		private boolean spillingFailed;
+
+		RewindableByteArrayOutputStream() {
+			this(SPILLING_DISABLED, RewindableByteArrayOutputStream::createTempSpillFile, __ -> {
+			});
+		}
+
+		RewindableByteArrayOutputStream(int spillThreshold, SpillFileFactory spillFileFactory,
+				Consumer<IOException> spillFailureHandler) {
+			this.spillThreshold = spillThreshold;
+			this.spillFileFactory = spillFileFactory;
+			this.spillFailureHandler = spillFailureHandler;
+		}
+
+		boolean isSpillingEnabled() {
+			return spillThreshold != SPILLING_DISABLED;
+		}
 
 		boolean isMarked() {
 			return !markedPositions.isEmpty();
 		}
 
-		void mark() {
-			markedPositions.addFirst(count);
+		synchronized boolean hasSpilledOutput() {
+			Long position = markedPositions.peekFirst();
+			return hasPendingSpilledOutput() && position != null && position < totalCount();
+		}
+
+		/**
+		 * {@return the number of bytes in this buffer, including the ones that
+		 * have been spilled to disk}
+		 */
+		synchronized long totalSize() {
+			return totalCount();
+		}
+
+		synchronized void mark() {
+			markedPositions.addFirst(totalCount());
+		}
+
+		@Override
+		public synchronized void write(int b) {
+			if (shouldSpill(1)) {
+				spill(new byte[] { (byte) b }, 0, 1);
+			}
+			else {
+				super.write(b);
+			}
+		}
+
+		@Override
+		public synchronized void write(byte[] b, int off, int len) {
+			if (shouldSpill(len)) {
+				spill(b, off, len);
+			}
+			else {
+				super.write(b, off, len);
+			}
 		}
 
-		String rewind() {
-			Integer position = markedPositions.pollFirst();
-			if (position == null || position == count) {
+		synchronized String rewind() {
+			Long position = markedPositions.pollFirst();
+			if (position == null || position == totalCount()) {
 				return "";
 			}
-			int length = count - position;
-			count -= length;
-			return new String(buf, position, length, Charset.defaultCharset());
+			ByteArrayOutputStream result = new ByteArrayOutputStream();
+			try {
+				transferFrom(position, result::write, (channel, spillPosition, length) -> {
+					// read in chunks rather than allocating a buffer for the whole length
+					ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(length, SPILL_BUFFER_SIZE));
+					long transferred = 0;
+					while (transferred < length) {
+						buffer.clear().limit((int) Math.min(length - transferred, buffer.capacity()));
+						int read = channel.read(buffer, spillPosition + transferred);
+						if (read == -1) {
+							break;
+						}
+						result.write(buffer.array(), 0, read);
+						transferred += read;
+					}
+				});
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException("Failed to read spilled output", e);
+			}
+			return result.toString(Charset.defaultCharset());
+		}
+
+		synchronized void rewindTo(Path file) throws IOException {
+			try (FileChannel target = FileChannel.open(file, CREATE, TRUNCATE_EXISTING, WRITE)) {
+				Long position = markedPositions.pollFirst();
+				if (position != null && position < totalCount()) {
+					transferFrom(position, (bytes, off, len) -> writeFully(ByteBuffer.wrap(bytes, off, len), target),
+						(channel, spillPosition, length) -> {
+							long transferred = 0;
+							while (transferred < length) {
+								transferred += channel.transferTo(spillPosition + transferred, length - transferred,
+									target);
+							}
+						});
+				}
+			}
+		}
+
+		/**
+		 * Hand the bytes from the supplied logical position to the end over to
+		 * the supplied consumers and truncate the buffer to that position.
+		 */
+		private void transferFrom(long position, BytesConsumer inMemoryConsumer, SpillFileConsumer spillFileConsumer)
+				throws IOException {
+			flushSpillBuffer();
+			if (position < count) {
+				int start = (int) position;
+				inMemoryConsumer.accept(buf, start, count - start);
+			}
+			FileChannel channel = spillFile;
+			if (channel == null || spilledCount == 0) {
+				count = (int) Math.min(count, position);
+				return;
+			}
+			long spillPosition = Math.max(0, position - count);
+			try {
+				spillFileConsumer.accept(channel, spillPosition, spilledCount - spillPosition);
+			}
+			finally {
+				truncate(position, channel);
+			}
 		}
+
+		private void truncate(long position, FileChannel channel) throws IOException {
+			if (position < count) {
+				count = (int) position;
+				spilledCount = 0;
+			}
+			else {
+				spilledCount = position - count;
+			}
+			channel.truncate(spilledCount);
+		}
+
+		synchronized void releaseSpillFile() {
+			FileChannel channel = spillFile;
+			if (channel != null) {
+				spillFile = null;
+				spillBuffer = null;
+				spilledCount = 0;
+				try {
+					channel.close();
+				}
+				catch (IOException ignore) {
+					// the file will be deleted on exit
+				}
+			}
+		}
+
+		private long totalCount() {
+			return count + spilledCount + (spillBuffer == null ? 0 : spillBuffer.position());
+		}
+
+		private boolean shouldSpill(int length) {
+			return isSpillingEnabled() && (hasPendingSpilledOutput() || count + (long) length > spillThreshold);
+		}
+
+		private boolean hasPendingSpilledOutput() {
+			return spilledCount > 0 || (spillBuffer != null && spillBuffer.position() > 0);
+		}
+
+		private void spill(byte[] b, int off, int len) {
+			if (spillingFailed) {
+				return;
+			}
+			try {
+				requireSpillFile();
+				ByteBuffer buffer = requireSpillBuffer();
+				if (len > buffer.remaining()) {
+					flushSpillBuffer();
+				}
+				if (len > buffer.remaining()) {
+					writeToSpillFile(ByteBuffer.wrap(b, off, len));
+				}
+				else {
+					buffer.put(b, off, len);
+				}
+			}
+			catch (IOException e) {
+				spillingFailed = true;
+				// discard output that could not be written to the spill file
+				ByteBuffer buffer = spillBuffer;
+				if (buffer != null) {
+					buffer.clear();
+				}
+				spillFailureHandler.accept(e);
+			}
+		}
+
+		private void flushSpillBuffer() throws IOException {
+			ByteBuffer buffer = spillBuffer;
+			if (buffer != null && buffer.position() > 0) {
+				buffer.flip();
+				writeToSpillFile(buffer);
+				buffer.clear();
+			}
+		}
+
+		private void writeToSpillFile(ByteBuffer source) throws IOException {
+			FileChannel channel = requireSpillFile();
+			while (source.hasRemaining()) {
+				spilledCount += channel.write(source, spilledCount);
+			}
+		}
+
+		private static void writeFully(ByteBuffer source, FileChannel target) throws IOException {
+			while (source.hasRemaining()) {
+				target.write(source);
+			}
+		}
+
+		private FileChannel requireSpillFile() throws IOException {
+			FileChannel channel = spillFile;
+			if (channel == null) {
+				channel = spillFileFactory.createSpillFile();
+				spillFile = channel;
+			}
+			return channel;
+		}
+
+		private static FileChannel createTempSpillFile() throws IOException {
+			Path file = Files.createTempFile("junit-captured-output-", ".tmp");
+			file.toFile().deleteOnExit();
+			return FileChannel.open(file, READ, WRITE, DELETE_ON_CLOSE);
+		}
+
+		private ByteBuffer requireSpillBuffer() {
+			ByteBuffer buffer = spillBuffer;
+			if (buffer == null) {
+				buffer = ByteBuffer.allocate(SPILL_BUFFER_SIZE);
+				spillBuffer = buffer;
+			}
+			return buffer;
+		}
+
+		@FunctionalInterface
+		private interface BytesConsumer {
+			void accept(byte[] bytes, int offset, int length) throws IOException;
+		}
+
+		@FunctionalInterface
+		private interface SpillFileConsumer {
+			void accept(FileChannel channel, long position, long length) throws IOException;
+		}
+	}
+
+	/**
+	 * Factory for the temporary files captured output is spilled to.
+	 */
+	@FunctionalInterface
+	interface SpillFileFactory {
+		FileChannel createSpillFile() throws IOException;
 	}
 }
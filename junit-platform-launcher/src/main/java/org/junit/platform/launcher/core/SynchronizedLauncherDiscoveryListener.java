@@ -0,0 +1,65 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import org.junit.platform.engine.DiscoveryIssue;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.SelectorResolutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.launcher.EngineDiscoveryResult;
+import org.junit.platform.launcher.LauncherDiscoveryListener;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+
+/**
+ * {@link LauncherDiscoveryListener} that serializes all notifications so
+ * that listeners that are not thread-safe may be used while test engines
+ * discover their tests concurrently.
+ *
+ * @since 6.2
+ */
+class SynchronizedLauncherDiscoveryListener extends DelegatingLauncherDiscoveryListener {
+
+	SynchronizedLauncherDiscoveryListener(LauncherDiscoveryListener delegate) {
+		super(delegate);
+	}
+
+	@Override
+	public synchronized void launcherDiscoveryStarted(LauncherDiscoveryRequest request) {
+		super.launcherDiscoveryStarted(request);
+	}
+
+	@Override
+	public synchronized void launcherDiscoveryFinished(LauncherDiscoveryRequest request) {
+		super.launcherDiscoveryFinished(request);
+	}
+
+	@Override
+	public synchronized void engineDiscoveryStarted(UniqueId engineId) {
+		super.engineDiscoveryStarted(engineId);
+	}
+
+	@Override
+	public synchronized void engineDiscoveryFinished(UniqueId engineId, EngineDiscoveryResult result) {
+		super.engineDiscoveryFinished(engineId, result);
+	}
+
+	@Override
+	public synchronized void selectorProcessed(UniqueId engineId, DiscoverySelector selector,
+			SelectorResolutionResult result) {
+		super.selectorProcessed(engineId, selector, result);
+	}
+
+	@Override
+	public synchronized void issueEncountered(UniqueId engineId, DiscoveryIssue issue) {
+		super.issueEncountered(engineId, issue);
+	}
+
+}
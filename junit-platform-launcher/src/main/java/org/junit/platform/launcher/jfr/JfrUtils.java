@@ -13,7 +13,7 @@ package org.junit.platform.launcher.jfr;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 import org.apiguardian.api.API;
-import org.junit.platform.commons.support.ReflectionSupport;
+import org.junit.platform.commons.util.RuntimeUtils;
 import org.junit.platform.launcher.Launcher;
 
 /**
@@ -25,17 +25,12 @@ import org.junit.platform.launcher.Launcher;
 public class JfrUtils {
 
 	public static void registerListeners(Launcher launcher) {
-		if (isJfrAvailable()) {
+		if (RuntimeUtils.isFlightRecorderAvailable()) {
 			launcher.registerLauncherDiscoveryListeners(new FlightRecordingDiscoveryListener());
 			launcher.registerTestExecutionListeners(new FlightRecordingExecutionListener());
 		}
 	}
 
-	private static boolean isJfrAvailable() {
-		return System.getProperty("org.graalvm.nativeimage.imagecode") == null //
-				&& ReflectionSupport.tryToLoadClass("jdk.jfr.FlightRecorder").toOptional().isPresent();
-	}
-
 	private JfrUtils() {
 	}
 }
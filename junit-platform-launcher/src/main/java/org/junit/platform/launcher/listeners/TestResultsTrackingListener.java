@@ -0,0 +1,134 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.TestResultsStore;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * {@code TestResultsTrackingListener} is a {@link TestExecutionListener} that
+ * records whether each {@linkplain TestIdentifier#isTest() test} passed or
+ * failed and persists the outcomes of its recent executions once execution of
+ * the {@link TestPlan} has {@linkplain #testPlanExecutionFinished(TestPlan)
+ * finished}.
+ *
+ * <p>The results are written to a file named
+ * {@value TestResultsStore#FILE_NAME} in the reporting output directory which
+ * can be configured via the
+ * {@value org.junit.platform.launcher.LauncherConstants#OUTPUT_DIR_PROPERTY_NAME}
+ * configuration parameter. Results of tests that were not executed, for
+ * example because they were filtered, skipped, or aborted, are retained from
+ * previous runs. If the configured directory contains the
+ * {@value org.junit.platform.launcher.LauncherConstants#OUTPUT_DIR_UNIQUE_NUMBER_PLACEHOLDER}
+ * placeholder, every run uses a new directory and thus does not take the
+ * results of previous runs into account.
+ *
+ * <p>Subsequent runs can use the results to execute previously failed and
+ * recently flaky tests first via {@code MethodOrderer.PreviouslyFailedFirst}
+ * and {@code ClassOrderer.PreviouslyFailedFirst} in JUnit Jupiter or to only
+ * execute those tests via
+ * {@link org.junit.platform.launcher.PreviouslyFailedTestsFilter}.
+ *
+ * @since 6.2
+ */
+@API(status = EXPERIMENTAL, since = "6.2")
+public class TestResultsTrackingListener implements TestExecutionListener {
+
+	/**
+	 * Property name used to enable the {@code TestResultsTrackingListener}:
+	 * {@value}
+	 *
+	 * <p>The {@code TestResultsTrackingListener} is registered automatically
+	 * via Java's {@link java.util.ServiceLoader} mechanism but disabled by
+	 * default.
+	 *
+	 * <p>Set the value of this property to {@code true} to enable this
+	 * listener.
+	 */
+	public static final String LISTENER_ENABLED_PROPERTY_NAME = "junit.platform.listeners.results.tracking.enabled";
+
+	private final Logger logger = LoggerFactory.getLogger(TestResultsTrackingListener.class);
+
+	private @Nullable TestResultsStore store;
+
+	private @Nullable Path storeFile;
+
+	public TestResultsTrackingListener() {
+		// to avoid missing-explicit-ctor warning
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		boolean enabled = testPlan.getConfigurationParameters().getBoolean(LISTENER_ENABLED_PROPERTY_NAME).orElse(
+			false);
+		if (enabled) {
+			this.storeFile = testPlan.getOutputDirectoryCreator().getRootDirectory().resolve(
+				TestResultsStore.FILE_NAME);
+			this.store = TestResultsStore.read(this.storeFile);
+		}
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		TestResultsStore store = this.store;
+		if (store != null && testIdentifier.isTest()
+				&& testExecutionResult.getStatus() != TestExecutionResult.Status.ABORTED) {
+			String source = testIdentifier.getSource().flatMap(TestResultsTrackingListener::toSourceKey).orElse(null);
+			boolean failed = testExecutionResult.getStatus() == TestExecutionResult.Status.FAILED;
+			store.record(testIdentifier.getUniqueId(), source, failed);
+		}
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		TestResultsStore store = this.store;
+		Path storeFile = this.storeFile;
+		if (store != null && storeFile != null) {
+			logger.debug(() -> "Writing test results to " + storeFile.toAbsolutePath());
+			try {
+				store.write(storeFile);
+			}
+			catch (IOException ex) {
+				logger.error(ex, () -> "Failed to write test results to " + storeFile.toAbsolutePath());
+			}
+		}
+		this.store = null;
+		this.storeFile = null;
+	}
+
+	private static Optional<String> toSourceKey(TestSource source) {
+		if (source instanceof MethodSource methodSource) {
+			return Optional.of(TestResultsStore.methodKey(methodSource.getClassName(), methodSource.getMethodName(),
+				methodSource.getMethodParameterTypes()));
+		}
+		if (source instanceof ClassSource classSource) {
+			return Optional.of(TestResultsStore.classKey(classSource.getClassName()));
+		}
+		return Optional.empty();
+	}
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.metrics;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.ToStringBuilder;
+
+/**
+ * Thread-safe histogram of non-negative {@code long} values with a bounded
+ * relative error.
+ *
+ * <p>Values are counted in buckets whose width grows exponentially with the
+ * magnitude of the values: every power-of-two range is subdivided into 32
+ * linear sub-buckets. Reported percentiles are therefore accurate to within
+ * about 3%, while the memory footprint of a histogram is constant and
+ * recording a value never allocates.
+ *
+ * <p>Values may be recorded while the histogram is being read. In that case,
+ * the reported statistics are not guaranteed to be consistent with each
+ * other.
+ *
+ * @since 6.2
+ */
+@API(status = EXPERIMENTAL, since = "6.2")
+public final class Histogram {
+
+	private static final int SUB_BUCKET_BITS = 5;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+	private final LongAdder totalCount = new LongAdder();
+	private final LongAdder sum = new LongAdder();
+	private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+	private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+	/**
+	 * Record the supplied value.
+	 *
+	 * @param value the value to record; never negative
+	 */
+	public void record(long value) {
+		Preconditions.condition(value >= 0, () -> "value must not be negative: " + value);
+		this.counts.incrementAndGet(bucketIndex(value));
+		this.totalCount.increment();
+		this.sum.add(value);
+		this.min.accumulateAndGet(value, Math::min);
+		this.max.accumulateAndGet(value, Math::max);
+	}
+
+	/**
+	 * {@return the number of recorded values}
+	 */
+	public long getCount() {
+		return this.totalCount.sum();
+	}
+
+	/**
+	 * {@return the smallest recorded value or {@code 0} if no values have been
+	 * recorded}
+	 */
+	public long getMin() {
+		return getCount() == 0 ? 0 : this.min.get();
+	}
+
+	/**
+	 * {@return the largest recorded value or {@code 0} if no values have been
+	 * recorded}
+	 */
+	public long getMax() {
+		return getCount() == 0 ? 0 : this.max.get();
+	}
+
+	/**
+	 * {@return the arithmetic mean of all recorded values or {@code 0} if no
+	 * values have been recorded}
+	 */
+	public double getMean() {
+		long count = getCount();
+		return count == 0 ? 0 : (double) this.sum.sum() / count;
+	}
+
+	/**
+	 * Get the value at the supplied percentile.
+	 *
+	 * <p>The returned value is the highest value that is equivalent to the
+	 * actual value at the supplied percentile within the resolution of this
+	 * histogram, but never larger than {@linkplain #getMax() the largest
+	 * recorded value}.
+	 *
+	 * @param percentile the percentile; must be between {@code 0} and
+	 * {@code 100} (inclusive)
+	 * @return the value at the supplied percentile or {@code 0} if no values
+	 * have been recorded
+	 */
+	public long getValueAtPercentile(double percentile) {
+		Preconditions.condition(percentile >= 0 && percentile <= 100,
+			() -> "percentile must be between 0 and 100: " + percentile);
+		long count = getCount();
+		if (count == 0) {
+			return 0;
+		}
+		long targetCount = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+		long cumulativeCount = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			cumulativeCount += this.counts.get(i);
+			if (cumulativeCount >= targetCount) {
+				return Math.min(highestEquivalentValue(i), getMax());
+			}
+		}
+		return getMax();
+	}
+
+	static int bucketIndex(long value) {
+		if (value < SUB_BUCKET_COUNT) {
+			return (int) value;
+		}
+		int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+		int subBucket = (int) (value >>> shift);
+		return (shift + 1) * SUB_BUCKET_COUNT + subBucket - SUB_BUCKET_COUNT;
+	}
+
+	static long highestEquivalentValue(int bucketIndex) {
+		if (bucketIndex < SUB_BUCKET_COUNT) {
+			return bucketIndex;
+		}
+		int shift = bucketIndex / SUB_BUCKET_COUNT - 1;
+		long subBucket = bucketIndex % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+		// Overflows to Long.MAX_VALUE for the last bucket
+		return ((subBucket + 1) << shift) - 1;
+	}
+
+	@Override
+	public String toString() {
+		// @formatter:off
+		return new ToStringBuilder(this)
+				.append("count", getCount())
+				.append("min", getMin())
+				.append("max", getMax())
+				.append("mean", getMean())
+				.toString();
+		// @formatter:on
+	}
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.metrics;
+
+import static java.util.Collections.unmodifiableMap;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.util.Preconditions;
+
+/**
+ * Default {@link MetricsRecorder} that records the values of each metric in
+ * a {@link Histogram}.
+ *
+ * @since 6.2
+ */
+@API(status = EXPERIMENTAL, since = "6.2")
+public class HistogramMetricsRecorder implements MetricsRecorder {
+
+	private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+	@Override
+	public void record(String name, long value) {
+		Preconditions.notBlank(name, "name must not be null or blank");
+		this.histograms.computeIfAbsent(name, __ -> new Histogram()).record(value);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return an unmodifiable copy of the histograms, sorted by name; never
+	 * {@code null}
+	 */
+	@Override
+	public Map<String, Histogram> getHistograms() {
+		return unmodifiableMap(new TreeMap<>(this.histograms));
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.metrics;
+
+import static java.util.Collections.emptyMap;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.Map;
+
+import org.apiguardian.api.API;
+import org.junit.platform.launcher.LauncherConstants;
+
+/**
+ * {@code MetricsRecorder} defines the SPI for recording metrics about test
+ * discovery and execution performed by the
+ * {@link org.junit.platform.launcher.Launcher Launcher}.
+ *
+ * <p>Metrics are only recorded if the
+ * {@value LauncherConstants#METRICS_ENABLED_PROPERTY_NAME} configuration
+ * parameter is set to {@code true}. In that case, the {@code Launcher} uses
+ * the first implementation registered via Java's {@link java.util.ServiceLoader
+ * ServiceLoader} mechanism or, if there is none, a new
+ * {@link HistogramMetricsRecorder} for each test run.
+ *
+ * <p>All durations are recorded in nanoseconds. The names of metrics that
+ * are recorded per test engine or listener are suffixed with the engine ID or
+ * listener class name in square brackets; for example,
+ * {@code discovery.engine[junit-jupiter]}.
+ *
+ * <p>Implementations must be thread-safe since metrics may be recorded
+ * concurrently, for example, when tests are executed in parallel.
+ *
+ * @since 6.2
+ * @see HistogramMetricsRecorder
+ */
+@API(status = EXPERIMENTAL, since = "6.2")
+public interface MetricsRecorder {
+
+	/**
+	 * Name of the metric for the time it took a test engine to discover its
+	 * tests: {@value}
+	 */
+	String ENGINE_DISCOVERY = "discovery.engine";
+
+	/**
+	 * Name of the metric for the execution time of tests: {@value}
+	 */
+	String TEST_EXECUTION = "execution.test";
+
+	/**
+	 * Name of the metric for the execution time of containers: {@value}
+	 */
+	String CONTAINER_EXECUTION = "execution.container";
+
+	/**
+	 * Name of the metric for the number of tests that were executing
+	 * concurrently whenever a test was started: {@value}
+	 */
+	String CONCURRENT_TEST_EXECUTIONS = "execution.concurrency";
+
+	/**
+	 * Name of the metric for the time it took a
+	 * {@link org.junit.platform.launcher.TestExecutionListener
+	 * TestExecutionListener} to handle an event: {@value}
+	 */
+	String LISTENER_DISPATCH = "listener.dispatch";
+
+	/**
+	 * Record a value for the metric with the supplied name.
+	 *
+	 * @param name the name of the metric; never {@code null} or blank
+	 * @param value the value to record; never negative
+	 */
+	void record(String name, long value);
+
+	/**
+	 * Get the histograms of all metrics recorded so far, keyed by name.
+	 *
+	 * <p>The returned histograms are written to a JSON file in the
+	 * {@linkplain org.junit.platform.engine.OutputDirectoryCreator#getRootDirectory()
+	 * output directory} when the execution of the test plan has finished.
+	 *
+	 * <p>The default implementation returns an empty map.
+	 *
+	 * @return the histograms; never {@code null}
+	 */
+	default Map<String, Histogram> getHistograms() {
+		return emptyMap();
+	}
+
+}
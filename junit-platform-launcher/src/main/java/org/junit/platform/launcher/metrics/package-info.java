@@ -0,0 +1,22 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+/**
+ * Support for recording metrics about test discovery and execution by the
+ * {@link org.junit.platform.launcher.Launcher}.
+ *
+ * @since 6.2
+ * @see org.junit.platform.launcher.metrics.MetricsRecorder
+ */
+
+@NullMarked
+package org.junit.platform.launcher.metrics;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.junit.platform.launcher.tagexpression;
+
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+import org.junit.platform.engine.TestTag;
+
+/**
+ * {@link TagExpression} that can be compiled into a {@link TagMatcher}.
+ *
+ * @since 6.2
+ * @see CompiledTagExpressions
+ */
+interface CompilableTagExpression extends TagExpression {
+
+	/**
+	 * Add all tags referenced by this expression to the supplied set.
+	 *
+	 * @return {@code true} if this expression and all of its operands can be
+	 * compiled; {@code false} otherwise
+	 */
+	boolean collectTags(Set<TestTag> tags);
+
+	/**
+	 * Compile this expression into a {@link TagMatcher} using the supplied
+	 * function to look up the bitmask of each referenced tag.
+	 *
+	 * <p>Must only be called if {@link #collectTags(Set)} returned
+	 * {@code true}.
+	 */
+	TagMatcher compile(ToLongFunction<TestTag> masks);
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.junit.platform.launcher.tagexpression;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.TestTag;
+
+/**
+ * List of {@link TagExpression TagExpressions} that have been compiled into
+ * bitmask operations over a dictionary of the tags they reference.
+ *
+ * <p>Each referenced tag is assigned a bit so that evaluating the compiled
+ * expressions against the tags of a test descriptor only requires looking up
+ * each of its tags once and a few bit operations, irrespective of the number
+ * and complexity of the expressions. If the expressions reference more than
+ * 64 distinct tags, they are evaluated as is instead.
+ *
+ * @since 6.2
+ */
+@API(status = INTERNAL, since = "6.2")
+public final class CompiledTagExpressions {
+
+	private static final int MAX_TAGS = Long.SIZE;
+
+	/**
+	 * Compile the supplied tag expressions.
+	 *
+	 * @param tagExpressions the tag expressions to compile; never {@code null}
+	 */
+	public static CompiledTagExpressions compile(List<TagExpression> tagExpressions) {
+		Preconditions.notNull(tagExpressions, "tagExpressions must not be null");
+		Set<TestTag> tags = new LinkedHashSet<>();
+		for (TagExpression tagExpression : tagExpressions) {
+			if (!(tagExpression instanceof CompilableTagExpression compilable && compilable.collectTags(tags))
+					|| tags.size() > MAX_TAGS) {
+				return new CompiledTagExpressions(tagExpressions, Map.of(), null);
+			}
+		}
+		Map<TestTag, Long> masks = new HashMap<>();
+		for (TestTag tag : tags) {
+			masks.put(tag, 1L << masks.size());
+		}
+		TagMatcher matcher = TagMatcher.NEVER;
+		for (TagExpression tagExpression : tagExpressions) {
+			TagMatcher compiled = ((CompilableTagExpression) tagExpression).compile(masks::get);
+			matcher = matcher == TagMatcher.NEVER ? compiled : TagMatcher.or(matcher, compiled);
+		}
+		return new CompiledTagExpressions(tagExpressions, masks, matcher);
+	}
+
+	private final List<TagExpression> tagExpressions;
+	private final Map<TestTag, Long> masks;
+	private final @Nullable TagMatcher matcher;
+
+	private CompiledTagExpressions(List<TagExpression> tagExpressions, Map<TestTag, Long> masks,
+			@Nullable TagMatcher matcher) {
+		this.tagExpressions = List.copyOf(tagExpressions);
+		this.masks = masks;
+		this.matcher = matcher;
+	}
+
+	/**
+	 * Determine if any of the compiled tag expressions matches the supplied
+	 * tags.
+	 *
+	 * @param tags the tags to evaluate the expressions against; never
+	 * {@code null}
+	 * @return {@code true} if at least one expression matches
+	 */
+	public boolean anyMatch(Collection<TestTag> tags) {
+		if (this.matcher == null) {
+			for (TagExpression tagExpression : this.tagExpressions) {
+				if (tagExpression.evaluate(tags)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		long tagBits = 0;
+		for (TestTag tag : tags) {
+			tagBits |= this.masks.getOrDefault(tag, 0L);
+		}
+		return this.matcher.matches(tagBits, !tags.isEmpty());
+	}
+
+}
@@ -11,6 +11,8 @@
 package org.junit.platform.launcher.tagexpression;
 
 import java.util.Collection;
+import java.util.Set;
+import java.util.function.ToLongFunction;
 
 import org.junit.platform.engine.TestTag;
 
@@ -21,12 +23,23 @@ class TagExpressions {
 
 	static TagExpression tag(String tag) {
 		TestTag testTag = TestTag.create(tag);
-		return new TagExpression() {
+		return new CompilableTagExpression() {
 			@Override
 			public boolean evaluate(Collection<TestTag> tags) {
 				return tags.contains(testTag);
 			}
 
+			@Override
+			public boolean collectTags(Set<TestTag> tags) {
+				tags.add(testTag);
+				return true;
+			}
+
+			@Override
+			public TagMatcher compile(ToLongFunction<TestTag> masks) {
+				return new TagMatcher.AnyOf(masks.applyAsLong(testTag));
+			}
+
 			@Override
 			public String toString() {
 				return testTag.getName();
@@ -35,12 +48,22 @@ class TagExpressions {
 	}
 
 	static TagExpression none() {
-		return new TagExpression() {
+		return new CompilableTagExpression() {
 			@Override
 			public boolean evaluate(Collection<TestTag> tags) {
 				return tags.isEmpty();
 			}
 
+			@Override
+			public boolean collectTags(Set<TestTag> tags) {
+				return true;
+			}
+
+			@Override
+			public TagMatcher compile(ToLongFunction<TestTag> masks) {
+				return (tagBits, hasTags) -> !hasTags;
+			}
+
 			@Override
 			public String toString() {
 				return "none()";
@@ -49,12 +72,22 @@ class TagExpressions {
 	}
 
 	static TagExpression any() {
-		return new TagExpression() {
+		return new CompilableTagExpression() {
 			@Override
 			public boolean evaluate(Collection<TestTag> tags) {
 				return !tags.isEmpty();
 			}
 
+			@Override
+			public boolean collectTags(Set<TestTag> tags) {
+				return true;
+			}
+
+			@Override
+			public TagMatcher compile(ToLongFunction<TestTag> masks) {
+				return (tagBits, hasTags) -> hasTags;
+			}
+
 			@Override
 			public String toString() {
 				return "any()";
@@ -63,12 +96,22 @@ class TagExpressions {
 	}
 
 	static TagExpression not(TagExpression toNegate) {
-		return new TagExpression() {
+		return new CompilableTagExpression() {
 			@Override
 			public boolean evaluate(Collection<TestTag> tags) {
 				return !toNegate.evaluate(tags);
 			}
 
+			@Override
+			public boolean collectTags(Set<TestTag> tags) {
+				return TagExpressions.collectTags(toNegate, tags);
+			}
+
+			@Override
+			public TagMatcher compile(ToLongFunction<TestTag> masks) {
+				return TagMatcher.not(TagExpressions.compile(toNegate, masks));
+			}
+
 			@Override
 			public String toString() {
 				return "!" + toNegate;
@@ -77,12 +120,22 @@ class TagExpressions {
 	}
 
 	static TagExpression and(TagExpression lhs, TagExpression rhs) {
-		return new TagExpression() {
+		return new CompilableTagExpression() {
 			@Override
 			public boolean evaluate(Collection<TestTag> tags) {
 				return lhs.evaluate(tags) && rhs.evaluate(tags);
 			}
 
+			@Override
+			public boolean collectTags(Set<TestTag> tags) {
+				return TagExpressions.collectTags(lhs, tags) && TagExpressions.collectTags(rhs, tags);
+			}
+
+			@Override
+			public TagMatcher compile(ToLongFunction<TestTag> masks) {
+				return TagMatcher.and(TagExpressions.compile(lhs, masks), TagExpressions.compile(rhs, masks));
+			}
+
 			@Override
 			public String toString() {
 				return "(" + lhs + " & " + rhs + ")";
@@ -91,12 +144,22 @@ class TagExpressions {
 	}
 
 	static TagExpression or(TagExpression lhs, TagExpression rhs) {
-		return new TagExpression() {
+		return new CompilableTagExpression() {
 			@Override
 			public boolean evaluate(Collection<TestTag> tags) {
 				return lhs.evaluate(tags) || rhs.evaluate(tags);
 			}
 
+			@Override
+			public boolean collectTags(Set<TestTag> tags) {
+				return TagExpressions.collectTags(lhs, tags) && TagExpressions.collectTags(rhs, tags);
+			}
+
+			@Override
+			public TagMatcher compile(ToLongFunction<TestTag> masks) {
+				return TagMatcher.or(TagExpressions.compile(lhs, masks), TagExpressions.compile(rhs, masks));
+			}
+
 			@Override
 			public String toString() {
 				return "(" + lhs + " | " + rhs + ")";
@@ -104,6 +167,14 @@ class TagExpressions {
 		};
 	}
 
+	private static boolean collectTags(TagExpression tagExpression, Set<TestTag> tags) {
+		return tagExpression instanceof CompilableTagExpression compilable && compilable.collectTags(tags);
+	}
+
+	private static TagMatcher compile(TagExpression tagExpression, ToLongFunction<TestTag> masks) {
+		return ((CompilableTagExpression) tagExpression).compile(masks);
+	}
+
 	private TagExpressions() {
 	}
 
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+package org.junit.platform.launcher.tagexpression;
+
+/**
+ * Compiled form of a {@link TagExpression} that is evaluated against the
+ * bitset of the tags of a test descriptor.
+ *
+ * <p>Each tag referenced by the compiled expressions is represented by a
+ * single bit. Conjunctions and disjunctions of tags are folded into a single
+ * {@link AllOf} or {@link AnyOf} bitmask test, respectively.
+ *
+ * @since 6.2
+ * @see CompiledTagExpressions
+ */
+@FunctionalInterface
+interface TagMatcher {
+
+	TagMatcher NEVER = (tagBits, hasTags) -> false;
+
+	static TagMatcher not(TagMatcher toNegate) {
+		return (tagBits, hasTags) -> !toNegate.matches(tagBits, hasTags);
+	}
+
+	static TagMatcher and(TagMatcher lhs, TagMatcher rhs) {
+		long lhsMask = allOfMask(lhs);
+		long rhsMask = allOfMask(rhs);
+		if (lhsMask != 0 && rhsMask != 0) {
+			return new AllOf(lhsMask | rhsMask);
+		}
+		return (tagBits, hasTags) -> lhs.matches(tagBits, hasTags) && rhs.matches(tagBits, hasTags);
+	}
+
+	static TagMatcher or(TagMatcher lhs, TagMatcher rhs) {
+		long lhsMask = anyOfMask(lhs);
+		long rhsMask = anyOfMask(rhs);
+		if (lhsMask != 0 && rhsMask != 0) {
+			return new AnyOf(lhsMask | rhsMask);
+		}
+		return (tagBits, hasTags) -> lhs.matches(tagBits, hasTags) || rhs.matches(tagBits, hasTags);
+	}
+
+	private static long allOfMask(TagMatcher matcher) {
+		if (matcher instanceof AllOf allOf) {
+			return allOf.mask();
+		}
+		if (matcher instanceof AnyOf anyOf && Long.bitCount(anyOf.mask()) == 1) {
+			return anyOf.mask();
+		}
+		return 0;
+	}
+
+	private static long anyOfMask(TagMatcher matcher) {
+		if (matcher instanceof AnyOf anyOf) {
+			return anyOf.mask();
+		}
+		if (matcher instanceof AllOf allOf && Long.bitCount(allOf.mask()) == 1) {
+			return allOf.mask();
+		}
+		return 0;
+	}
+
+	/**
+	 * Determine if the tags represented by the supplied bitset match.
+	 *
+	 * @param tagBits the bits of the tags that are referenced by the compiled
+	 * expressions
+	 * @param hasTags whether there are any tags at all, including ones that
+	 * are not referenced by the compiled expressions
+	 */
+	boolean matches(long tagBits, boolean hasTags);
+
+	/**
+	 * Matches if at least one of the tags of the supplied mask is present.
+	 */
+	record AnyOf(long mask) implements TagMatcher {
+
+		@Override
+		public boolean matches(long tagBits, boolean hasTags) {
+			return (tagBits & this.mask) != 0;
+		}
+	}
+
+	/**
+	 * Matches if all tags of the supplied mask are present.
+	 */
+	record AllOf(long mask) implements TagMatcher {
+
+		@Override
+		public boolean matches(long tagBits, boolean hasTags) {
+			return (tagBits & this.mask) == this.mask;
+		}
+	}
+
+}
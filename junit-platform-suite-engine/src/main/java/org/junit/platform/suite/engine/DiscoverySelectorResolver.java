@@ -10,6 +10,7 @@
 
 package org.junit.platform.suite.engine;
 
+import org.junit.platform.commons.util.ClasspathScanningMemo;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.support.discovery.DiscoveryIssueReporter;
@@ -37,15 +38,19 @@ final class DiscoverySelectorResolver {
 		// @formatter:off
 		engineDescriptor.getChildren().stream()
 				.map(SuiteTestDescriptor.class::cast)
-				.forEach(SuiteTestDescriptor::discover);
+				.forEach(suite -> suite.discover(engineDescriptor.getLauncher()));
 		// @formatter:on
 	}
 
 	void resolveSelectors(EngineDiscoveryRequest request, SuiteEngineDescriptor engineDescriptor) {
 		DiscoveryIssueReporter issueReporter = DiscoveryIssueReporter.deduplicating(
 			DiscoveryIssueReporter.forwarding(request.getDiscoveryListener(), engineDescriptor.getUniqueId()));
-		resolver.resolve(request, engineDescriptor, issueReporter);
-		discoverSuites(engineDescriptor);
+		// Suites commonly select overlapping packages, so they share the results
+		// of scanning the classpath while they are being discovered
+		try (var ignored = ClasspathScanningMemo.open()) {
+			resolver.resolve(request, engineDescriptor, issueReporter);
+			discoverSuites(engineDescriptor);
+		}
 		engineDescriptor.accept(TestDescriptor::prune);
 	}
 
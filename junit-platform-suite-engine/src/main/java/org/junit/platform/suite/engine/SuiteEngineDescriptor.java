@@ -10,6 +10,7 @@
 
 package org.junit.platform.suite.engine;
 
+import org.jspecify.annotations.Nullable;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.EngineDescriptor;
 
@@ -20,6 +21,8 @@ final class SuiteEngineDescriptor extends EngineDescriptor {
 
 	static final String ENGINE_ID = "junit-platform-suite";
 
+	private @Nullable SuiteLauncher launcher;
+
 	SuiteEngineDescriptor(UniqueId uniqueId) {
 		super(uniqueId, "JUnit Platform Suite");
 	}
@@ -29,4 +32,17 @@ final class SuiteEngineDescriptor extends EngineDescriptor {
 		return Type.CONTAINER;
 	}
 
+	/**
+	 * Get the launcher shared by all suites of this engine, creating it on
+	 * first use so that test engines are only loaded once.
+	 */
+	SuiteLauncher getLauncher() {
+		SuiteLauncher launcher = this.launcher;
+		if (launcher == null) {
+			launcher = SuiteLauncher.create();
+			this.launcher = launcher;
+		}
+		return launcher;
+	}
+
 }
@@ -17,6 +17,7 @@ import static org.junit.platform.commons.support.AnnotationSupport.findAnnotatio
 import static org.junit.platform.commons.util.FunctionUtils.where;
 import static org.junit.platform.engine.DiscoveryIssue.Severity.INFO;
 import static org.junit.platform.engine.DiscoveryIssue.Severity.WARNING;
+import static org.junit.platform.engine.TestDescriptor.TraversalOrder.PRE_ORDER;
 import static org.junit.platform.suite.engine.SuiteAnnotationSupport.findAnnotationByName;
 import static org.junit.platform.suite.engine.SuiteLauncherDiscoveryRequestBuilder.request;
 
@@ -45,6 +46,7 @@ import org.junit.platform.engine.discovery.DiscoverySelectors;
 import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
 import org.junit.platform.engine.support.descriptor.ClassSource;
 import org.junit.platform.engine.support.discovery.DiscoveryIssueReporter;
+import org.junit.platform.engine.support.hierarchical.Node;
 import org.junit.platform.engine.support.hierarchical.Node.SkipResult;
 import org.junit.platform.engine.support.hierarchical.OpenTest4JAwareThrowableCollector;
 import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
@@ -133,7 +135,7 @@ final class SuiteTestDescriptor extends AbstractTestDescriptor {
 		return this;
 	}
 
-	void discover() {
+	void discover(SuiteLauncher launcher) {
 		if (launcherDiscoveryResult != null) {
 			return;
 		}
@@ -147,7 +149,7 @@ final class SuiteTestDescriptor extends AbstractTestDescriptor {
 				.outputDirectoryCreator(outputDirectoryCreator)
 				.build();
 		// @formatter:on
-		this.launcher = SuiteLauncher.create();
+		this.launcher = launcher;
 		this.launcherDiscoveryResult = launcher.discover(request, getUniqueId());
 		// @formatter:off
 		launcherDiscoveryResult.getTestEngines()
@@ -162,6 +164,20 @@ final class SuiteTestDescriptor extends AbstractTestDescriptor {
 		return Type.CONTAINER;
 	}
 
+	/**
+	 * {@return whether any of the descriptors discovered by the test engines of
+	 * this suite declares {@linkplain Node#getExclusiveResources() exclusive
+	 * resources}}
+	 *
+	 * <p>Exclusive resources are only synchronized within the execution of a
+	 * single suite, so such suites must not be executed concurrently with
+	 * other suites.
+	 */
+	boolean declaresExclusiveResources() {
+		return !traverse(PRE_ORDER, descriptor -> !(descriptor instanceof Node<?> node)
+				|| node.getExclusiveResources().isEmpty());
+	}
+
 	private static String getSuiteDisplayName(Class<?> suiteClass, DiscoveryIssueReporter issueReporter) {
 		// @formatter:off
 		var nonBlank = issueReporter.createReportingCondition(StringUtils::isNotBlank, __ -> {
@@ -12,11 +12,17 @@ package org.junit.platform.suite.engine;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 
 import org.apiguardian.api.API;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.engine.CancellationToken;
+import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
@@ -24,6 +30,14 @@ import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestEngine;
 import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.config.PrefixedConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
+import org.junit.platform.engine.support.hierarchical.ParallelHierarchicalTestExecutorServiceFactory;
+import org.junit.platform.engine.support.hierarchical.ResourceLock;
 import org.junit.platform.engine.support.store.Namespace;
 import org.junit.platform.engine.support.store.NamespacedHierarchicalStore;
 
@@ -35,6 +49,35 @@ import org.junit.platform.engine.support.store.NamespacedHierarchicalStore;
 @API(status = INTERNAL, since = "1.8")
 public final class SuiteTestEngine implements TestEngine {
 
+	/**
+	 * Property name used to enable concurrent execution of the suites
+	 * discovered by this engine: {@value}
+	 *
+	 * <p>Suites are executed one after another by default.
+	 *
+	 * <p>Exclusive resources, such as those declared via
+	 * {@code @ResourceLock} or {@code @Isolated} in JUnit Jupiter, are only
+	 * synchronized within the execution of a single suite. Suites whose tests
+	 * declare exclusive resources are therefore executed one after another
+	 * once all other suites have finished.
+	 *
+	 * @since 6.2
+	 */
+	static final String PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME = "junit.platform.suite.execution.parallel.enabled";
+
+	/**
+	 * Prefix of the configuration parameters used to configure the executor
+	 * service for concurrent execution of suites: {@value}
+	 *
+	 * <p>Supports the same keys as the parallel execution configuration of
+	 * the Jupiter engine, for example {@code strategy} or
+	 * {@code executor-service}.
+	 *
+	 * @since 6.2
+	 * @see ParallelHierarchicalTestExecutorServiceFactory#create(ConfigurationParameters)
+	 */
+	static final String PARALLEL_CONFIG_PREFIX = "junit.platform.suite.execution.parallel.config.";
+
 	@Override
 	public String getId() {
 		return SuiteEngineDescriptor.ENGINE_ID;
@@ -75,12 +118,161 @@ public final class SuiteTestEngine implements TestEngine {
 		// Create a mutable copy so test descriptors can be made available for
 		// GC immediately after execution.
 		var children = new LinkedHashSet<>(suiteEngineDescriptor.getChildren());
-		for (var iterator = children.iterator(); iterator.hasNext();) {
-			var suiteTestDescriptor = (SuiteTestDescriptor) iterator.next();
-			suiteTestDescriptor.execute(engineExecutionListener, requestLevelStore, cancellationToken);
-			iterator.remove();
+		if (children.size() > 1 && isParallelExecutionEnabled(request.getConfigurationParameters())) {
+			executeConcurrently(suiteEngineDescriptor, children, request);
+		}
+		else {
+			for (var iterator = children.iterator(); iterator.hasNext();) {
+				var suiteTestDescriptor = (SuiteTestDescriptor) iterator.next();
+				suiteTestDescriptor.execute(engineExecutionListener, requestLevelStore, cancellationToken);
+				iterator.remove();
+			}
 		}
 		engineExecutionListener.executionFinished(suiteEngineDescriptor, TestExecutionResult.successful());
 	}
 
+	private static boolean isParallelExecutionEnabled(ConfigurationParameters configurationParameters) {
+		return configurationParameters.getBoolean(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME).orElse(false);
+	}
+
+	private static void executeConcurrently(SuiteEngineDescriptor suiteEngineDescriptor,
+			Collection<? extends TestDescriptor> children, ExecutionRequest request) {
+
+		List<ConcurrentTestTask> suiteTestTasks = children.stream() //
+				.map(SuiteTestDescriptor.class::cast) //
+				.map(suite -> new ConcurrentTestTask(suite, getResourceLock(suite),
+					() -> suite.execute(request.getEngineExecutionListener(), request.getStore(),
+						request.getCancellationToken()))) //
+				.toList();
+
+		try (HierarchicalTestExecutorService executorService = ParallelHierarchicalTestExecutorServiceFactory.create(
+			new PrefixedConfigurationParameters(request.getConfigurationParameters(), PARALLEL_CONFIG_PREFIX))) {
+
+			// Child tasks must be invoked from within the executor service
+			TestTask engineTask = new ConcurrentTestTask(suiteEngineDescriptor, NopResourceLock.INSTANCE,
+				() -> executorService.invokeAll(suiteTestTasks));
+			executorService.submit(engineTask).get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new JUnitException("Interrupted while executing suites", e);
+		}
+		catch (ExecutionException e) {
+			throw ExceptionUtils.throwAsUncheckedException(e.getCause());
+		}
+	}
+
+	private static ResourceLock getResourceLock(SuiteTestDescriptor suiteTestDescriptor) {
+		// Executor services execute tasks requiring the global read-write lock
+		// one after another once all other tasks have finished
+		return suiteTestDescriptor.declaresExclusiveResources() //
+				? IsolatedResourceLock.INSTANCE //
+				: NopResourceLock.INSTANCE;
+	}
+
+	private static class ConcurrentTestTask implements TestTask {
+
+		private final TestDescriptor testDescriptor;
+		private final ResourceLock resourceLock;
+		private final Runnable action;
+
+		ConcurrentTestTask(TestDescriptor testDescriptor, ResourceLock resourceLock, Runnable action) {
+			this.testDescriptor = testDescriptor;
+			this.resourceLock = resourceLock;
+			this.action = action;
+		}
+
+		@Override
+		public ExecutionMode getExecutionMode() {
+			return ExecutionMode.CONCURRENT;
+		}
+
+		@Override
+		public ResourceLock getResourceLock() {
+			return this.resourceLock;
+		}
+
+		@Override
+		public TestDescriptor getTestDescriptor() {
+			return this.testDescriptor;
+		}
+
+		@Override
+		public void execute() {
+			this.action.run();
+		}
+
+	}
+
+	private static class NopResourceLock implements ResourceLock {
+
+		static final ResourceLock INSTANCE = new NopResourceLock();
+
+		@Override
+		public List<ExclusiveResource> getResources() {
+			return List.of();
+		}
+
+		@Override
+		public boolean tryAcquire() {
+			return true;
+		}
+
+		@Override
+		public ResourceLock acquire() {
+			return this;
+		}
+
+		@Override
+		public void release() {
+			// nothing to do
+		}
+
+		@Override
+		public boolean isExclusive() {
+			return false;
+		}
+
+	}
+
+	/**
+	 * Lock of suites that declare exclusive resources.
+	 *
+	 * <p>Since such suites are only executed once all other suites have
+	 * finished, acquiring this lock never blocks.
+	 */
+	private static class IsolatedResourceLock implements ResourceLock {
+
+		static final ResourceLock INSTANCE = new IsolatedResourceLock();
+
+		private static final List<ExclusiveResource> RESOURCES = List.of(
+			new ExclusiveResource(ExclusiveResource.GLOBAL_KEY, LockMode.READ_WRITE));
+
+		@Override
+		public List<ExclusiveResource> getResources() {
+			return RESOURCES;
+		}
+
+		@Override
+		public boolean tryAcquire() {
+			return true;
+		}
+
+		@Override
+		public ResourceLock acquire() {
+			return this;
+		}
+
+		@Override
+		public void release() {
+			// nothing to do
+		}
+
+		@Override
+		public boolean isExclusive() {
+			return true;
+		}
+
+	}
+
 }
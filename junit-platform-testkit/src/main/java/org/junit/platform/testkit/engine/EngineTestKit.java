@@ -544,6 +544,51 @@ public final class EngineTestKit {
 			return executionRecorder.getExecutionResults();
 		}
 
+		/**
+		 * Execute tests for the configured {@link TestEngine},
+		 * {@linkplain DiscoverySelector discovery selectors},
+		 * {@linkplain DiscoveryFilter discovery filters}, and
+		 * <em>configuration parameters</em> using a new
+		 * {@link StreamingExecutionRecorder} with default settings.
+		 *
+		 * <p>In contrast to {@link #execute()}, events are not recorded but
+		 * only counted as they are reported.
+		 *
+		 * @return the {@code StreamingExecutionResults}
+		 * @since 6.2
+		 * @see #executeStreaming(StreamingExecutionRecorder)
+		 */
+		@API(status = EXPERIMENTAL, since = "6.2")
+		public StreamingExecutionResults executeStreaming() {
+			return executeStreaming(new StreamingExecutionRecorder());
+		}
+
+		/**
+		 * Execute tests for the configured {@link TestEngine},
+		 * {@linkplain DiscoverySelector discovery selectors},
+		 * {@linkplain DiscoveryFilter discovery filters}, and
+		 * <em>configuration parameters</em> using the supplied
+		 * {@link StreamingExecutionRecorder}.
+		 *
+		 * <p>In contrast to {@link #execute()}, events are not recorded but
+		 * only evaluated as they are reported so that memory consumption does
+		 * not grow with the number of executed tests.
+		 *
+		 * @param recorder the {@code StreamingExecutionRecorder} to use; never
+		 * {@code null}
+		 * @return the {@code StreamingExecutionResults}
+		 * @since 6.2
+		 * @see #executeStreaming()
+		 */
+		@API(status = EXPERIMENTAL, since = "6.2")
+		public StreamingExecutionResults executeStreaming(StreamingExecutionRecorder recorder) {
+			Preconditions.notNull(recorder, "StreamingExecutionRecorder must not be null");
+			LauncherDiscoveryRequest request = this.requestBuilder.build();
+			EngineTestKit.executeUsingLauncherOrchestration(this.testEngine, request, recorder,
+				requireNonNullElseGet(this.cancellationToken, CancellationToken::disabled));
+			return recorder.getExecutionResults();
+		}
+
 		private static class DisabledOutputDirectoryCreator implements OutputDirectoryCreator {
 
 			private static final OutputDirectoryCreator INSTANCE = new DisabledOutputDirectoryCreator();
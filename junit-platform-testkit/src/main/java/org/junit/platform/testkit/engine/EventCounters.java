@@ -0,0 +1,182 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.testkit.engine;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.ToStringBuilder;
+import org.junit.platform.engine.TestExecutionResult;
+
+/**
+ * {@code EventCounters} keeps track of the number of {@linkplain Event events}
+ * per kind that were reported for a category of test descriptors during a
+ * streaming execution, without retaining the events themselves.
+ *
+ * <p>In contrast to {@link Events}, only the numbers of events are
+ * available. They can be verified using the same {@link EventStatistics}
+ * API as in the following example.
+ *
+ * <p>{@code counters.assertStatistics(stats -> stats.started(1).succeeded(1).failed(0));}
+ *
+ * @since 6.2
+ * @see StreamingExecutionResults
+ * @see StreamingExecutionRecorder
+ */
+@API(status = EXPERIMENTAL, since = "6.2")
+public final class EventCounters implements EventCounts {
+
+	private final String category;
+
+	private final LongAdder skipped = new LongAdder();
+	private final LongAdder started = new LongAdder();
+	private final LongAdder aborted = new LongAdder();
+	private final LongAdder succeeded = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+	private final LongAdder reportingEntryPublished = new LongAdder();
+	private final LongAdder fileEntryPublished = new LongAdder();
+	private final LongAdder dynamicallyRegistered = new LongAdder();
+
+	EventCounters(String category) {
+		this.category = category;
+	}
+
+	void record(EventType type, TestExecutionResult.@Nullable Status status) {
+		switch (type) {
+			case DYNAMIC_TEST_REGISTERED -> this.dynamicallyRegistered.increment();
+			case SKIPPED -> this.skipped.increment();
+			case STARTED -> this.started.increment();
+			case FINISHED -> {
+				switch (Preconditions.notNull(status, "status must not be null")) {
+					case SUCCESSFUL -> this.succeeded.increment();
+					case ABORTED -> this.aborted.increment();
+					case FAILED -> this.failed.increment();
+				}
+			}
+			case REPORTING_ENTRY_PUBLISHED -> this.reportingEntryPublished.increment();
+			case FILE_ENTRY_PUBLISHED -> this.fileEntryPublished.increment();
+		}
+	}
+
+	/**
+	 * {@return the number of <em>skipped</em> events}
+	 */
+	@Override
+	public long skipped() {
+		return this.skipped.sum();
+	}
+
+	/**
+	 * {@return the number of <em>started</em> events}
+	 */
+	@Override
+	public long started() {
+		return this.started.sum();
+	}
+
+	/**
+	 * {@return the number of <em>finished</em> events}
+	 */
+	@Override
+	public long finished() {
+		return succeeded() + aborted() + failed();
+	}
+
+	/**
+	 * {@return the number of <em>aborted</em> events}
+	 */
+	@Override
+	public long aborted() {
+		return this.aborted.sum();
+	}
+
+	/**
+	 * {@return the number of <em>succeeded</em> events}
+	 */
+	@Override
+	public long succeeded() {
+		return this.succeeded.sum();
+	}
+
+	/**
+	 * {@return the number of <em>failed</em> events}
+	 */
+	@Override
+	public long failed() {
+		return this.failed.sum();
+	}
+
+	/**
+	 * {@return the number of <em>reporting entry publication</em> events}
+	 */
+	@Override
+	public long reportingEntryPublished() {
+		return this.reportingEntryPublished.sum();
+	}
+
+	/**
+	 * {@return the number of <em>file entry publication</em> events}
+	 */
+	@Override
+	public long fileEntryPublished() {
+		return this.fileEntryPublished.sum();
+	}
+
+	/**
+	 * {@return the number of <em>dynamic registration</em> events}
+	 */
+	@Override
+	public long dynamicallyRegistered() {
+		return this.dynamicallyRegistered.sum();
+	}
+
+	/**
+	 * Assert statistics for the events counted by this {@code EventCounters}
+	 * object.
+	 *
+	 * <h4>Example</h4>
+	 *
+	 * <p>{@code counters.assertStatistics(stats -> stats.started(1).succeeded(1).failed(0));}
+	 *
+	 * @param statisticsConsumer a {@link Consumer} of {@link EventStatistics};
+	 * never {@code null}
+	 * @return this {@code EventCounters} object for method chaining; never
+	 * {@code null}
+	 */
+	public EventCounters assertStatistics(Consumer<EventStatistics> statisticsConsumer) {
+		Preconditions.notNull(statisticsConsumer, "Consumer must not be null");
+		EventStatistics eventStatistics = new EventStatistics(this, this.category);
+		statisticsConsumer.accept(eventStatistics);
+		eventStatistics.assertAll();
+		return this;
+	}
+
+	@Override
+	public String toString() {
+		// @formatter:off
+		return new ToStringBuilder(this)
+				.append("category", this.category)
+				.append("skipped", skipped())
+				.append("started", started())
+				.append("succeeded", succeeded())
+				.append("aborted", aborted())
+				.append("failed", failed())
+				.append("dynamicallyRegistered", dynamicallyRegistered())
+				.toString();
+		// @formatter:on
+	}
+
+}
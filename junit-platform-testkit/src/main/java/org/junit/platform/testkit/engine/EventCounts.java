@@ -0,0 +1,41 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.testkit.engine;
+
+/**
+ * Numbers of {@linkplain Event events} per kind used to evaluate
+ * {@link EventStatistics}.
+ *
+ * @since 6.2
+ * @see Events#assertStatistics(java.util.function.Consumer)
+ * @see EventCounters#assertStatistics(java.util.function.Consumer)
+ */
+interface EventCounts {
+
+	long skipped();
+
+	long started();
+
+	long finished();
+
+	long aborted();
+
+	long succeeded();
+
+	long failed();
+
+	long reportingEntryPublished();
+
+	long fileEntryPublished();
+
+	long dynamicallyRegistered();
+
+}
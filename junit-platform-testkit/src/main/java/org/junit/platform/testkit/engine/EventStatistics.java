@@ -37,14 +37,16 @@ import org.junit.platform.testkit.engine.Assertions.Executable;
 public class EventStatistics {
 
 	private final List<Executable> executables = new ArrayList<>();
-	private final Events events;
+	private final EventCounts counts;
+	private final String category;
 
-	EventStatistics(Events events, String category) {
-		this.events = events;
+	EventStatistics(EventCounts counts, String category) {
+		this.counts = counts;
+		this.category = category;
 	}
 
 	void assertAll() {
-		Assertions.assertAll(this.events.getCategory() + " Event Statistics", this.executables.stream());
+		Assertions.assertAll(this.category + " Event Statistics", this.executables.stream());
 	}
 
 	// -------------------------------------------------------------------------
@@ -56,7 +58,7 @@ public class EventStatistics {
 	 * @return this {@code EventStatistics} for method chaining
 	 */
 	public EventStatistics skipped(long expected) {
-		this.executables.add(() -> assertEquals(expected, this.events.skipped().count(), "skipped"));
+		this.executables.add(() -> assertEquals(expected, this.counts.skipped(), "skipped"));
 		return this;
 	}
 
@@ -67,7 +69,7 @@ public class EventStatistics {
 	 * @return this {@code EventStatistics} for method chaining
 	 */
 	public EventStatistics started(long expected) {
-		this.executables.add(() -> assertEquals(expected, this.events.started().count(), "started"));
+		this.executables.add(() -> assertEquals(expected, this.counts.started(), "started"));
 		return this;
 	}
 
@@ -78,7 +80,7 @@ public class EventStatistics {
 	 * @return this {@code EventStatistics} for method chaining
 	 */
 	public EventStatistics finished(long expected) {
-		this.executables.add(() -> assertEquals(expected, this.events.finished().count(), "finished"));
+		this.executables.add(() -> assertEquals(expected, this.counts.finished(), "finished"));
 		return this;
 	}
 
@@ -89,7 +91,7 @@ public class EventStatistics {
 	 * @return this {@code EventStatistics} for method chaining
 	 */
 	public EventStatistics aborted(long expected) {
-		this.executables.add(() -> assertEquals(expected, this.events.aborted().count(), "aborted"));
+		this.executables.add(() -> assertEquals(expected, this.counts.aborted(), "aborted"));
 		return this;
 	}
 
@@ -100,7 +102,7 @@ public class EventStatistics {
 	 * @return this {@code EventStatistics} for method chaining
 	 */
 	public EventStatistics succeeded(long expected) {
-		this.executables.add(() -> assertEquals(expected, this.events.succeeded().count(), "succeeded"));
+		this.executables.add(() -> assertEquals(expected, this.counts.succeeded(), "succeeded"));
 		return this;
 	}
 
@@ -111,7 +113,7 @@ public class EventStatistics {
 	 * @return this {@code EventStatistics} for method chaining
 	 */
 	public EventStatistics failed(long expected) {
-		this.executables.add(() -> assertEquals(expected, this.events.failed().count(), "failed"));
+		this.executables.add(() -> assertEquals(expected, this.counts.failed(), "failed"));
 		return this;
 	}
 
@@ -123,7 +125,7 @@ public class EventStatistics {
 	 */
 	public EventStatistics reportingEntryPublished(long expected) {
 		this.executables.add(
-			() -> assertEquals(expected, this.events.reportingEntryPublished().count(), "reporting entry published"));
+			() -> assertEquals(expected, this.counts.reportingEntryPublished(), "reporting entry published"));
 		return this;
 	}
 
@@ -137,7 +139,7 @@ public class EventStatistics {
 	@API(status = MAINTAINED, since = "1.13.3")
 	public EventStatistics fileEntryPublished(long expected) {
 		this.executables.add(
-			() -> assertEquals(expected, this.events.fileEntryPublished().count(), "file entry published"));
+			() -> assertEquals(expected, this.counts.fileEntryPublished(), "file entry published"));
 		return this;
 	}
 
@@ -149,7 +151,7 @@ public class EventStatistics {
 	 */
 	public EventStatistics dynamicallyRegistered(long expected) {
 		this.executables.add(
-			() -> assertEquals(expected, this.events.dynamicallyRegistered().count(), "dynamically registered"));
+			() -> assertEquals(expected, this.counts.dynamicallyRegistered(), "dynamically registered"));
 		return this;
 	}
 
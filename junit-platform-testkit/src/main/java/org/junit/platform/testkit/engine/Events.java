@@ -253,7 +253,7 @@ public final class Events {
 	 */
 	public Events assertStatistics(Consumer<EventStatistics> statisticsConsumer) {
 		Preconditions.notNull(statisticsConsumer, "Consumer must not be null");
-		EventStatistics eventStatistics = new EventStatistics(this, this.category);
+		EventStatistics eventStatistics = new EventStatistics(new ListBasedEventCounts(), this.category);
 		statisticsConsumer.accept(eventStatistics);
 		eventStatistics.assertAll();
 		return this;
@@ -423,6 +423,55 @@ public final class Events {
 				.filter(byPayload(TestExecutionResult.class, where(TestExecutionResult::getStatus, isEqual(status))));
 	}
 
+	private class ListBasedEventCounts implements EventCounts {
+
+		@Override
+		public long skipped() {
+			return Events.this.skipped().count();
+		}
+
+		@Override
+		public long started() {
+			return Events.this.started().count();
+		}
+
+		@Override
+		public long finished() {
+			return Events.this.finished().count();
+		}
+
+		@Override
+		public long aborted() {
+			return Events.this.aborted().count();
+		}
+
+		@Override
+		public long succeeded() {
+			return Events.this.succeeded().count();
+		}
+
+		@Override
+		public long failed() {
+			return Events.this.failed().count();
+		}
+
+		@Override
+		public long reportingEntryPublished() {
+			return Events.this.reportingEntryPublished().count();
+		}
+
+		@Override
+		public long fileEntryPublished() {
+			return Events.this.fileEntryPublished().count();
+		}
+
+		@Override
+		public long dynamicallyRegistered() {
+			return Events.this.dynamicallyRegistered().count();
+		}
+
+	}
+
 	@SafeVarargs
 	private static void assertEventsMatchExactly(List<Event> events, Condition<? super Event>... conditions) {
 		Assertions.assertThat(events).hasSize(conditions.length);
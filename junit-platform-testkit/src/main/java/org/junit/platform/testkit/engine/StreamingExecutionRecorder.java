@@ -0,0 +1,234 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.testkit.engine;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apiguardian.api.API;
+import org.assertj.core.api.Condition;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestExecutionResult.Status;
+import org.junit.platform.engine.reporting.FileEntry;
+import org.junit.platform.engine.reporting.ReportEntry;
+
+/**
+ * {@code StreamingExecutionRecorder} is an {@link EngineExecutionListener}
+ * that evaluates every event that occurs during the engine execution
+ * lifecycle as it is reported instead of recording it.
+ *
+ * <p>In contrast to {@link ExecutionRecorder}, memory consumption does not
+ * grow with the number of executed tests, which makes it suitable for
+ * verifying engines that execute a very large number of tests. In exchange,
+ * only the following information is available via
+ * {@link StreamingExecutionResults} after the execution has finished:
+ *
+ * <ul>
+ * <li>the numbers of events per kind for all, container, and test events,</li>
+ * <li>the numbers of events matching each condition registered via
+ * {@link #countMatching(Condition)}, and</li>
+ * <li>the first {@linkplain #retainFailures(int) failed events}.</li>
+ * </ul>
+ *
+ * <h4>Example Usage</h4>
+ *
+ * <pre class="code">
+ * Condition&lt;Event&gt; timedOut = event(test(), finishedWithFailure(instanceOf(TimeoutException.class)));
+ * StreamingExecutionResults results = EngineTestKit
+ *     .engine(new MyTestEngine())
+ *     .selectors(selectClass(MyTests.class))
+ *     .executeStreaming(new StreamingExecutionRecorder().countMatching(timedOut));
+ * results.testEvents().assertStatistics(stats -&gt; stats.started(1_000_000).failed(0));
+ * assertEquals(0, results.count(timedOut));
+ * </pre>
+ *
+ * @since 6.2
+ * @see EngineTestKit.Builder#executeStreaming()
+ * @see EngineTestKit.Builder#executeStreaming(StreamingExecutionRecorder)
+ * @see StreamingExecutionResults
+ */
+@API(status = EXPERIMENTAL, since = "6.2")
+public class StreamingExecutionRecorder implements EngineExecutionListener {
+
+	/**
+	 * Default maximum number of failed events that are retained: {@value}
+	 *
+	 * @see #retainFailures(int)
+	 */
+	public static final int DEFAULT_MAX_RETAINED_FAILURES = 100;
+
+	private final EventCounters allEvents = new EventCounters("All");
+	private final EventCounters containerEvents = new EventCounters("Container");
+	private final EventCounters testEvents = new EventCounters("Test");
+	private final List<ConditionCounter> conditionCounters = new CopyOnWriteArrayList<>();
+	private final List<Event> retainedFailures = new ArrayList<>();
+	private int maxRetainedFailures = DEFAULT_MAX_RETAINED_FAILURES;
+
+	public StreamingExecutionRecorder() {
+	}
+
+	/**
+	 * Set the maximum number of failed events to retain.
+	 *
+	 * <p>Only the failed events that are reported first are retained; all
+	 * others are only counted. Defaults to
+	 * {@value #DEFAULT_MAX_RETAINED_FAILURES}.
+	 *
+	 * @param maxRetainedFailures the maximum number of failed events to
+	 * retain; must not be negative
+	 * @return this {@code StreamingExecutionRecorder} for method chaining
+	 */
+	public StreamingExecutionRecorder retainFailures(int maxRetainedFailures) {
+		Preconditions.condition(maxRetainedFailures >= 0, "maxRetainedFailures must not be negative");
+		synchronized (this.retainedFailures) {
+			this.maxRetainedFailures = maxRetainedFailures;
+		}
+		return this;
+	}
+
+	/**
+	 * Count the events that match the supplied {@link Condition}.
+	 *
+	 * <p>The condition is evaluated for every event as it is reported; the
+	 * resulting number can be retrieved via
+	 * {@link StreamingExecutionResults#count(Condition)} using the same
+	 * condition instance.
+	 *
+	 * @param condition the condition to evaluate; never {@code null}
+	 * @return this {@code StreamingExecutionRecorder} for method chaining
+	 * @see EventConditions
+	 */
+	public StreamingExecutionRecorder countMatching(Condition<? super Event> condition) {
+		Preconditions.notNull(condition, "Condition must not be null");
+		this.conditionCounters.add(new ConditionCounter(condition));
+		return this;
+	}
+
+	/**
+	 * Evaluate an {@link Event} for a dynamically registered container
+	 * or test.
+	 */
+	@Override
+	public void dynamicTestRegistered(TestDescriptor testDescriptor) {
+		evaluate(Event.dynamicTestRegistered(testDescriptor), null);
+	}
+
+	/**
+	 * Evaluate an {@link Event} for a container or test that was skipped.
+	 */
+	@Override
+	public void executionSkipped(TestDescriptor testDescriptor, String reason) {
+		evaluate(Event.executionSkipped(testDescriptor, reason), null);
+	}
+
+	/**
+	 * Evaluate an {@link Event} for a container or test that started.
+	 */
+	@Override
+	public void executionStarted(TestDescriptor testDescriptor) {
+		evaluate(Event.executionStarted(testDescriptor), null);
+	}
+
+	/**
+	 * Evaluate an {@link Event} for a container or test that completed
+	 * with the provided {@link TestExecutionResult}.
+	 */
+	@Override
+	public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
+		evaluate(Event.executionFinished(testDescriptor, testExecutionResult), testExecutionResult.getStatus());
+	}
+
+	/**
+	 * Evaluate an {@link Event} for a published {@link ReportEntry}.
+	 */
+	@Override
+	public void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
+		evaluate(Event.reportingEntryPublished(testDescriptor, entry), null);
+	}
+
+	/**
+	 * Evaluate an {@link Event} for a published {@link FileEntry}.
+	 */
+	@Override
+	public void fileEntryPublished(TestDescriptor testDescriptor, FileEntry file) {
+		evaluate(Event.fileEntryPublished(testDescriptor, file), null);
+	}
+
+	private void evaluate(Event event, @Nullable Status status) {
+		TestDescriptor testDescriptor = event.getTestDescriptor();
+		this.allEvents.record(event.getType(), status);
+		if (testDescriptor.isContainer()) {
+			this.containerEvents.record(event.getType(), status);
+		}
+		if (testDescriptor.isTest()) {
+			this.testEvents.record(event.getType(), status);
+		}
+		for (ConditionCounter conditionCounter : this.conditionCounters) {
+			conditionCounter.evaluate(event);
+		}
+		if (status == Status.FAILED) {
+			synchronized (this.retainedFailures) {
+				if (this.retainedFailures.size() < this.maxRetainedFailures) {
+					this.retainedFailures.add(event);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Get the state of the engine's execution in the form of
+	 * {@link StreamingExecutionResults}.
+	 *
+	 * @return the {@code StreamingExecutionResults} containing all current
+	 * state information
+	 */
+	public StreamingExecutionResults getExecutionResults() {
+		List<Event> retainedFailures;
+		synchronized (this.retainedFailures) {
+			retainedFailures = List.copyOf(this.retainedFailures);
+		}
+		return new StreamingExecutionResults(this.allEvents, this.containerEvents, this.testEvents,
+			List.copyOf(this.conditionCounters), retainedFailures);
+	}
+
+	static final class ConditionCounter {
+
+		private final Condition<? super Event> condition;
+		private final LongAdder count = new LongAdder();
+
+		private ConditionCounter(Condition<? super Event> condition) {
+			this.condition = condition;
+		}
+
+		private void evaluate(Event event) {
+			if (this.condition.matches(event)) {
+				this.count.increment();
+			}
+		}
+
+		Condition<? super Event> getCondition() {
+			return this.condition;
+		}
+
+		long getCount() {
+			return this.count.sum();
+		}
+	}
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.testkit.engine;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.List;
+
+import org.apiguardian.api.API;
+import org.assertj.core.api.Condition;
+import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.testkit.engine.StreamingExecutionRecorder.ConditionCounter;
+
+/**
+ * {@code StreamingExecutionResults} provides access to the numbers of events
+ * and the retained failures evaluated by a
+ * {@link StreamingExecutionRecorder} during the execution of a
+ * {@link org.junit.platform.engine.TestEngine TestEngine}.
+ *
+ * @since 6.2
+ * @see StreamingExecutionRecorder
+ * @see EngineTestKit.Builder#executeStreaming()
+ */
+@API(status = EXPERIMENTAL, since = "6.2")
+public final class StreamingExecutionResults {
+
+	private final EventCounters allEvents;
+	private final EventCounters containerEvents;
+	private final EventCounters testEvents;
+	private final List<ConditionCounter> conditionCounters;
+	private final Events retainedFailures;
+
+	StreamingExecutionResults(EventCounters allEvents, EventCounters containerEvents, EventCounters testEvents,
+			List<ConditionCounter> conditionCounters, List<Event> retainedFailures) {
+		this.allEvents = allEvents;
+		this.containerEvents = containerEvents;
+		this.testEvents = testEvents;
+		this.conditionCounters = conditionCounters;
+		this.retainedFailures = new Events(retainedFailures, "Retained Failed");
+	}
+
+	/**
+	 * Get the counters for all events.
+	 *
+	 * @return the counters for all events; never {@code null}
+	 */
+	public EventCounters allEvents() {
+		return this.allEvents;
+	}
+
+	/**
+	 * Get the counters for events of containers.
+	 *
+	 * @return the counters for container events; never {@code null}
+	 */
+	public EventCounters containerEvents() {
+		return this.containerEvents;
+	}
+
+	/**
+	 * Get the counters for events of tests.
+	 *
+	 * @return the counters for test events; never {@code null}
+	 */
+	public EventCounters testEvents() {
+		return this.testEvents;
+	}
+
+	/**
+	 * Get the number of events that matched the supplied {@link Condition}.
+	 *
+	 * @param condition the condition that was registered via
+	 * {@link StreamingExecutionRecorder#countMatching(Condition)}; never
+	 * {@code null}
+	 * @return the number of matching events
+	 * @throws PreconditionViolationException if the supplied condition was
+	 * not registered
+	 */
+	@SuppressWarnings("ReferenceEquality")
+	public long count(Condition<? super Event> condition) {
+		Preconditions.notNull(condition, "Condition must not be null");
+		return this.conditionCounters.stream() //
+				.filter(conditionCounter -> conditionCounter.getCondition() == condition) //
+				.findFirst() //
+				.map(ConditionCounter::getCount) //
+				.orElseThrow(() -> new PreconditionViolationException(
+					"Condition [%s] was not registered via StreamingExecutionRecorder.countMatching()".formatted(
+						condition)));
+	}
+
+	/**
+	 * Get the failed events that were retained during execution.
+	 *
+	 * <p>At most the configured
+	 * {@linkplain StreamingExecutionRecorder#retainFailures(int) maximum number}
+	 * of failed events are retained. Use {@code testEvents().failed()} or
+	 * {@code containerEvents().failed()} for the total number of failures.
+	 *
+	 * @return the retained failed events; never {@code null}
+	 */
+	public Events retainedFailures() {
+		return this.retainedFailures;
+	}
+
+}
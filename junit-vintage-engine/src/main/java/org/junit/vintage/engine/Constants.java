@@ -11,6 +11,7 @@
 package org.junit.vintage.engine;
 
 import static org.apiguardian.api.API.Status.DEPRECATED;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 
 import org.apiguardian.api.API;
@@ -84,6 +85,25 @@ public final class Constants {
 	@API(status = MAINTAINED, since = "6.0.1")
 	public static final String DISCOVERY_ISSUE_REPORTING_ENABLED_PROPERTY_NAME = "junit.vintage.discovery.issue.reporting.enabled";
 
+	/**
+	 * Property name used to configure whether the JUnit Vintage engine should
+	 * defer creating JUnit 4 runners until test classes are executed: {@value}
+	 *
+	 * <p>If enabled, the tests of classes that would be run by JUnit 4's default
+	 * runner are discovered by reflection without creating the runner. Classes
+	 * using custom runners, for example {@code @RunWith(Parameterized.class)},
+	 * JUnit 3 test cases, and suites are discovered as before. Errors detected
+	 * by the runner when validating a test class are only reported when the
+	 * class is executed.
+	 *
+	 * <p>Set this property to {@code true} to enable lazy runner creation.
+	 * Defaults to {@code false}.
+	 *
+	 * @since 6.2
+	 */
+	@API(status = EXPERIMENTAL, since = "6.2")
+	public static final String LAZY_RUNNER_CREATION_ENABLED_PROPERTY_NAME = "junit.vintage.discovery.lazy-runner-creation.enabled";
+
 	private Constants() {
 		/* no-op */
 	}
@@ -16,8 +16,9 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
@@ -29,6 +30,7 @@ import org.jspecify.annotations.Nullable;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ReflectionUtils;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.ClassSource;
 import org.junit.platform.engine.support.hierarchical.OpenTest4JAwareThrowableCollector;
@@ -175,44 +177,75 @@ public class RunnerTestDescriptor extends VintageTestDescriptor {
 		return ignored;
 	}
 
+	/**
+	 * Execute the children of the runner of this descriptor using the supplied
+	 * {@link ExecutorService}.
+	 *
+	 * <p>The scheduler is installed on every {@link ParentRunner} in the tree of
+	 * runners, e.g. on the runners for each set of parameters of a
+	 * {@code Parameterized} runner and on the runners for the classes of a
+	 * {@code Suite}, so that methods are executed in parallel on all levels.
+	 */
 	public void setExecutorService(ExecutorService executorService) {
-		Runner runner = getRunnerToReport();
+		setExecutorService(getRunnerToReport(), executorService);
+	}
+
+	private static void setExecutorService(Runner runner, ExecutorService executorService) {
 		if (runner instanceof ParentRunner<?> parentRunner) {
-			parentRunner.setScheduler(new RunnerScheduler() {
+			parentRunner.setScheduler(new ExecutorServiceRunnerScheduler(executorService));
+			for (Object child : getChildren(parentRunner)) {
+				if (child instanceof Runner childRunner) {
+					setExecutorService(childRunner, executorService);
+				}
+			}
+		}
+	}
 
-				private final List<Future<?>> futures = new CopyOnWriteArrayList<>();
+	private static List<?> getChildren(ParentRunner<?> parentRunner) {
+		// ParentRunner.getChildren() is protected and there's no public alternative
+		return ReflectionUtils.findMethod(ParentRunner.class, "getChildren") //
+				.map(method -> (List<?>) ReflectionUtils.invokeMethod(method, parentRunner)) //
+				.orElseGet(List::of);
+	}
 
-				@Override
-				public void schedule(Runnable childStatement) {
-					futures.add(executorService.submit(childStatement));
-				}
+	private static class ExecutorServiceRunnerScheduler implements RunnerScheduler {
 
-				@Override
-				public void finished() {
-					ThrowableCollector collector = new OpenTest4JAwareThrowableCollector();
-					AtomicBoolean wasInterrupted = new AtomicBoolean(false);
-					for (Future<?> future : futures) {
-						collector.execute(() -> {
-							// We're calling `Future.get()` individually to allow for work stealing
-							// in case `ExecutorService` is a `ForkJoinPool`
-							try {
-								future.get();
-							}
-							catch (ExecutionException e) {
-								throw e.getCause();
-							}
-							catch (InterruptedException e) {
-								wasInterrupted.set(true);
-							}
-						});
+		private final ExecutorService executorService;
+		private final Queue<Future<?>> futures = new ConcurrentLinkedQueue<>();
+
+		ExecutorServiceRunnerScheduler(ExecutorService executorService) {
+			this.executorService = executorService;
+		}
+
+		@Override
+		public void schedule(Runnable childStatement) {
+			futures.add(executorService.submit(childStatement));
+		}
+
+		@Override
+		public void finished() {
+			ThrowableCollector collector = new OpenTest4JAwareThrowableCollector();
+			AtomicBoolean wasInterrupted = new AtomicBoolean(false);
+			for (Future<?> future : futures) {
+				collector.execute(() -> {
+					// We're calling `Future.get()` individually to allow for work stealing
+					// in case `ExecutorService` is a `ForkJoinPool`
+					try {
+						future.get();
 					}
-					collector.assertEmpty();
-					if (wasInterrupted.get()) {
-						logger.warn(() -> "Interrupted while waiting for runner to finish");
-						Thread.currentThread().interrupt();
+					catch (ExecutionException e) {
+						throw e.getCause();
 					}
-				}
-			});
+					catch (InterruptedException e) {
+						wasInterrupted.set(true);
+					}
+				});
+			}
+			collector.assertEmpty();
+			if (wasInterrupted.get()) {
+				logger.warn(() -> "Interrupted while waiting for runner to finish");
+				Thread.currentThread().interrupt();
+			}
 		}
 	}
 
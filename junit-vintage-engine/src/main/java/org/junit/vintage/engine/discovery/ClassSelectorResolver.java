@@ -16,6 +16,7 @@ import static org.junit.vintage.engine.descriptor.VintageTestDescriptor.SEGMENT_
 
 import java.util.Optional;
 
+import org.jspecify.annotations.Nullable;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.support.ReflectionSupport;
 import org.junit.platform.commons.support.scanning.ClassFilter;
@@ -36,9 +37,11 @@ class ClassSelectorResolver implements SelectorResolver {
 	private static final DefensiveAllDefaultPossibilitiesBuilder RUNNER_BUILDER = new DefensiveAllDefaultPossibilitiesBuilder();
 
 	private final ClassFilter classFilter;
+	private final boolean lazyRunnerCreation;
 
-	ClassSelectorResolver(ClassFilter classFilter) {
+	ClassSelectorResolver(ClassFilter classFilter, boolean lazyRunnerCreation) {
 		this.classFilter = classFilter;
+		this.lazyRunnerCreation = lazyRunnerCreation;
 	}
 
 	@Override
@@ -67,7 +70,7 @@ class ClassSelectorResolver implements SelectorResolver {
 		if (!classFilter.match(testClass)) {
 			return unresolved();
 		}
-		Runner runner = RUNNER_BUILDER.safeRunnerForClass(testClass);
+		Runner runner = createRunner(testClass);
 		if (runner == null) {
 			return unresolved();
 		}
@@ -78,6 +81,17 @@ class ClassSelectorResolver implements SelectorResolver {
 			})).map(Resolution::match).orElse(unresolved());
 	}
 
+	private @Nullable Runner createRunner(Class<?> testClass) {
+		if (lazyRunnerCreation && RUNNER_BUILDER.usesDefaultJUnit4Runner(testClass)) {
+			Optional<Runner> lazyRunner = LazyJUnit4ClassRunner.tryToCreate(testClass, RUNNER_BUILDER);
+			if (lazyRunner.isPresent()) {
+				return lazyRunner.get();
+			}
+		}
+		// custom runners may compute their children in any way, e.g. by evaluating parameters
+		return RUNNER_BUILDER.safeRunnerForClass(testClass);
+	}
+
 	private RunnerTestDescriptor createRunnerTestDescriptor(TestDescriptor parent, Class<?> testClass, Runner runner) {
 		UniqueId uniqueId = parent.getUniqueId().append(SEGMENT_TYPE_RUNNER, testClass.getName());
 		return new RunnerTestDescriptor(uniqueId, testClass, runner, RUNNER_BUILDER.isIgnored(runner));
@@ -11,8 +11,12 @@
 package org.junit.vintage.engine.discovery;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
 import java.util.function.Predicate;
 
+import junit.framework.TestCase;
+
 import org.jspecify.annotations.Nullable;
 import org.junit.Ignore;
 import org.junit.internal.builders.AllDefaultPossibilitiesBuilder;
@@ -20,9 +24,11 @@ import org.junit.internal.builders.AnnotatedBuilder;
 import org.junit.internal.builders.IgnoredBuilder;
 import org.junit.internal.builders.IgnoredClassRunner;
 import org.junit.internal.builders.JUnit4Builder;
+import org.junit.internal.builders.SuiteMethodBuilder;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.ReflectionUtils;
+import org.junit.runner.RunWith;
 import org.junit.runner.Runner;
 import org.junit.runner.manipulation.Filterable;
 import org.junit.runners.model.RunnerBuilder;
@@ -65,6 +71,46 @@ class DefensiveAllDefaultPossibilitiesBuilder extends AllDefaultPossibilitiesBui
 		return runner;
 	}
 
+	/**
+	 * Determine whether the supplied test class would be run by JUnit 4's
+	 * default runner, i.e. whether it contains test methods but is neither
+	 * ignored, annotated with {@code @RunWith} or {@code @OrderWith}, a JUnit 3
+	 * test case, nor a class declaring a {@code suite()} method.
+	 *
+	 * @since 6.2
+	 */
+	boolean usesDefaultJUnit4Runner(Class<?> testClass) {
+		return testClass.getAnnotation(Ignore.class) == null //
+				&& !isRunWithAnnotationPresent(testClass) //
+				&& !isOrderWithAnnotationPresent(testClass) //
+				&& !new SuiteMethodBuilder().hasSuiteMethod(testClass) //
+				&& !TestCase.class.isAssignableFrom(testClass) //
+				&& DefensiveJUnit4Builder.containsTestMethods(testClass);
+	}
+
+	private static boolean isRunWithAnnotationPresent(Class<?> testClass) {
+		// mirrors AnnotatedBuilder which also considers enclosing classes of inner classes
+		for (Class<?> current = testClass; current != null; current = getEnclosingClassForInnerClass(current)) {
+			if (current.getAnnotation(RunWith.class) != null) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static @Nullable Class<?> getEnclosingClassForInnerClass(Class<?> testClass) {
+		if (testClass.isMemberClass() && !Modifier.isStatic(testClass.getModifiers())) {
+			return testClass.getEnclosingClass();
+		}
+		return null;
+	}
+
+	private static boolean isOrderWithAnnotationPresent(Class<?> testClass) {
+		// Referenced by name because it was only introduced in JUnit 4.13.
+		return Arrays.stream(testClass.getAnnotations()) //
+				.anyMatch(annotation -> "org.junit.runner.OrderWith".equals(annotation.annotationType().getName()));
+	}
+
 	boolean isIgnored(Runner runner) {
 		return runner instanceof IgnoredClassRunner || runner instanceof IgnoringRunnerDecorator;
 	}
@@ -136,7 +182,7 @@ class DefensiveAllDefaultPossibilitiesBuilder extends AllDefaultPossibilitiesBui
 			return null;
 		}
 
-		private boolean containsTestMethods(Class<?> testClass) {
+		static boolean containsTestMethods(Class<?> testClass) {
 			return ReflectionUtils.isMethodPresent(testClass, isPotentialJUnit4TestMethod);
 		}
 	}
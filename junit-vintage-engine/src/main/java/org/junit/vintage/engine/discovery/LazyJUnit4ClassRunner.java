@@ -0,0 +1,137 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.vintage.engine.discovery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.Test;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.runner.Description;
+import org.junit.runner.Runner;
+import org.junit.runner.manipulation.Filter;
+import org.junit.runner.manipulation.Filterable;
+import org.junit.runner.manipulation.NoTestsRemainException;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.model.RunnerBuilder;
+import org.junit.runners.model.TestClass;
+import org.junit.vintage.engine.descriptor.RunnerDecorator;
+
+/**
+ * {@link Runner} for test classes that would be run by JUnit 4's default
+ * runner whose {@link Description} is created from reflection metadata.
+ *
+ * <p>The actual runner is only created once it's needed, typically right
+ * before the test class is executed, and all filters that have been applied
+ * to this runner are applied to it as well. Thus, errors reported by the
+ * actual runner when validating the test class only surface at execution
+ * time.
+ *
+ * @since 6.2
+ * @see DefensiveAllDefaultPossibilitiesBuilder#usesDefaultJUnit4Runner(Class)
+ */
+class LazyJUnit4ClassRunner extends Runner implements Filterable, RunnerDecorator {
+
+	private static final Logger logger = LoggerFactory.getLogger(LazyJUnit4ClassRunner.class);
+
+	static Optional<Runner> tryToCreate(Class<?> testClass, RunnerBuilder runnerBuilder) {
+		try {
+			return Optional.of(new LazyJUnit4ClassRunner(testClass, runnerBuilder));
+		}
+		catch (RuntimeException ex) {
+			// for example, if the test class declares more than one constructor
+			logger.debug(ex, () -> "Failed to create lazy runner for test class " + testClass.getName());
+			return Optional.empty();
+		}
+	}
+
+	private final Class<?> testClass;
+	private final RunnerBuilder runnerBuilder;
+	private final List<Filter> filters = new ArrayList<>();
+	private List<Description> children;
+	private Description description;
+	private @Nullable Runner runner;
+
+	private LazyJUnit4ClassRunner(Class<?> testClass, RunnerBuilder runnerBuilder) {
+		this.testClass = testClass;
+		this.runnerBuilder = runnerBuilder;
+		// mirrors BlockJUnit4ClassRunner.describeChild()
+		this.children = new TestClass(testClass).getAnnotatedMethods(Test.class).stream() //
+				.map(method -> Description.createTestDescription(testClass, method.getName(),
+					method.getAnnotations())) //
+				.toList();
+		this.description = createDescription();
+	}
+
+	private Description createDescription() {
+		Description description = Description.createSuiteDescription(testClass.getName(),
+			testClass.getAnnotations());
+		children.forEach(description::addChild);
+		return description;
+	}
+
+	@Override
+	public synchronized Description getDescription() {
+		return description;
+	}
+
+	@Override
+	public synchronized void filter(Filter filter) throws NoTestsRemainException {
+		filters.add(filter);
+		children = children.stream().filter(filter::shouldRun).toList();
+		description = createDescription();
+		if (runner instanceof Filterable filterable) {
+			filterable.filter(filter);
+		}
+		if (children.isEmpty()) {
+			throw new NoTestsRemainException();
+		}
+	}
+
+	@Override
+	public void run(RunNotifier notifier) {
+		getDecoratedRunner().run(notifier);
+	}
+
+	@Override
+	public synchronized Runner getDecoratedRunner() {
+		Runner runner = this.runner;
+		if (runner == null) {
+			runner = createRunner();
+			this.runner = runner;
+		}
+		return runner;
+	}
+
+	private Runner createRunner() {
+		Runner runner = runnerBuilder.safeRunnerForClass(testClass);
+		if (runner == null) {
+			throw new JUnitException("Failed to create runner for test class " + testClass.getName());
+		}
+		// runners reporting validation errors aren't filterable
+		if (runner instanceof Filterable filterable) {
+			for (Filter filter : filters) {
+				try {
+					filterable.filter(filter);
+				}
+				catch (NoTestsRemainException ignore) {
+					// the filtered runner won't execute any tests
+				}
+			}
+		}
+		return runner;
+	}
+
+}
@@ -10,11 +10,12 @@
 
 package org.junit.vintage.engine.discovery;
 
-import static java.util.stream.Collectors.toSet;
+import static org.junit.platform.engine.TestDescriptor.TraversalOrder.PRE_ORDER;
 
 import java.util.ArrayDeque;
 import java.util.Collections;
 import java.util.Deque;
+import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 
@@ -65,16 +66,17 @@ class UniqueIdFilter extends Filter {
 	}
 
 	private Set<Description> determineDescendants(Optional<? extends TestDescriptor> identifiedTestDescriptor) {
-		// @formatter:off
-		return identifiedTestDescriptor.map(
-				testDescriptor -> testDescriptor
-						.getDescendants()
-						.stream()
-						.map(VintageTestDescriptor.class::cast)
-						.map(VintageTestDescriptor::getDescription)
-						.collect(toSet()))
-				.orElseGet(Collections::emptySet);
-		// @formatter:on
+		if (identifiedTestDescriptor.isEmpty()) {
+			return Collections.emptySet();
+		}
+		Set<Description> descendants = new HashSet<>();
+		for (TestDescriptor child : identifiedTestDescriptor.get().getChildren()) {
+			child.traverse(PRE_ORDER, descendant -> {
+				descendants.add(((VintageTestDescriptor) descendant).getDescription());
+				return true;
+			});
+		}
+		return descendants;
 	}
 
 	@Override
@@ -33,6 +33,14 @@ import org.junit.vintage.engine.support.UniqueIdReader;
 import org.junit.vintage.engine.support.UniqueIdStringifier;
 
 /**
+ * Adapter that translates the events of a JUnit 4 {@link RunListener} into
+ * those of an {@link EngineExecutionListener}.
+ *
+ * <p>Since the methods of a runner may be executed in parallel, the events of
+ * this listener may be received from multiple threads concurrently. Each
+ * start and finish event is therefore only reported by the thread that
+ * successfully marked the corresponding descriptor in the {@link TestRun}.
+ *
  * @since 4.12
  */
 class RunListenerAdapter extends RunListener {
@@ -125,7 +133,8 @@ class RunListenerAdapter extends RunListener {
 	}
 
 	private TestDescriptor lookupOrRegisterNextTestDescriptor(Description description) {
-		return lookupOrRegisterTestDescriptor(description, testRun::lookupNextTestDescriptor);
+		return testRun.claimNextTestDescriptor(description) //
+				.orElseGet(() -> registerDynamicTestDescriptor(description, testRun::lookupNextTestDescriptor));
 	}
 
 	private TestDescriptor lookupOrRegisterCurrentTestDescriptor(Description description) {
@@ -259,13 +268,15 @@ class RunListenerAdapter extends RunListener {
 	}
 
 	private void fireExecutionStarted(TestDescriptor testDescriptor, EventType eventType) {
-		testRun.markStarted(testDescriptor, eventType);
-		listener.executionStarted(testDescriptor);
+		if (testRun.markStarted(testDescriptor, eventType)) {
+			listener.executionStarted(testDescriptor);
+		}
 	}
 
 	private void fireExecutionFinished(TestDescriptor testDescriptor) {
-		testRun.markFinished(testDescriptor);
-		listener.executionFinished(testDescriptor, testRun.getStoredResultOrSuccessful(testDescriptor));
+		if (testRun.markFinished(testDescriptor)) {
+			listener.executionFinished(testDescriptor, testRun.getStoredResultOrSuccessful(testDescriptor));
+		}
 	}
 
 }
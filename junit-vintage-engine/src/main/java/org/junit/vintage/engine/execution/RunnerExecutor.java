@@ -69,8 +69,9 @@ public class RunnerExecutor {
 					testRun.markSkipped(child);
 				}
 			});
-			engineExecutionListener.executionFinished(startedDescriptor, TestExecutionResult.aborted(exception));
-			testRun.markFinished(startedDescriptor);
+			if (testRun.markFinished(startedDescriptor)) {
+				engineExecutionListener.executionFinished(startedDescriptor, TestExecutionResult.aborted(exception));
+			}
 		});
 	}
 
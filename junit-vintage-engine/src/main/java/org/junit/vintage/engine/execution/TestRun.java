@@ -12,28 +12,27 @@ package org.junit.vintage.engine.execution;
 
 import static java.util.Collections.emptyList;
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toCollection;
-import static java.util.stream.Collectors.toMap;
-import static java.util.stream.Stream.concat;
+import static java.util.Comparator.comparingLong;
+import static org.junit.platform.engine.TestDescriptor.TraversalOrder.PRE_ORDER;
 import static org.junit.platform.engine.TestExecutionResult.failed;
 import static org.junit.platform.engine.TestExecutionResult.successful;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Deque;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
-import java.util.stream.Stream;
+import java.util.function.Predicate;
 
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestExecutionResult;
@@ -43,6 +42,12 @@ import org.junit.vintage.engine.descriptor.VintageTestDescriptor;
 import org.opentest4j.MultipleFailuresError;
 
 /**
+ * State of the execution of a single {@link RunnerTestDescriptor}.
+ *
+ * <p>Since the methods of a runner may be executed in parallel, all state is
+ * kept in concurrent data structures so that it may be updated from multiple
+ * threads without locking.
+ *
  * @since 4.12
  */
 class TestRun {
@@ -50,25 +55,32 @@ class TestRun {
 	private final RunnerTestDescriptor runnerTestDescriptor;
 	private final Set<TestDescriptor> runnerDescendants;
 	private final Map<Description, VintageDescriptors> descriptionToDescriptors;
-	private final Map<TestDescriptor, List<TestExecutionResult>> executionResults = new LinkedHashMap<>();
-	private final Set<TestDescriptor> skippedDescriptors = new LinkedHashSet<>();
-	private final Set<TestDescriptor> startedDescriptors = new HashSet<>();
-	private final Map<TestDescriptor, EventType> inProgressDescriptors = new LinkedHashMap<>();
-	private final Set<TestDescriptor> finishedDescriptors = new LinkedHashSet<>();
-	private final ThreadLocal<Deque<VintageTestDescriptor>> inProgressDescriptorsByStartingThread = ThreadLocal.withInitial(
-		ArrayDeque::new);
+	private final Map<TestDescriptor, Queue<TestExecutionResult>> executionResults = new ConcurrentHashMap<>();
+	private final Set<TestDescriptor> skippedDescriptors = ConcurrentHashMap.newKeySet();
+	private final Set<TestDescriptor> startedDescriptors = ConcurrentHashMap.newKeySet();
+	private final Map<TestDescriptor, InProgress> inProgressDescriptors = new ConcurrentHashMap<>();
+	private final AtomicLong startSequence = new AtomicLong();
+	private final Set<TestDescriptor> finishedDescriptors = ConcurrentHashMap.newKeySet();
+	private final Map<Thread, Deque<VintageTestDescriptor>> inProgressDescriptorsByStartingThread = //
+		new ConcurrentHashMap<>();
 
 	TestRun(RunnerTestDescriptor runnerTestDescriptor) {
 		this.runnerTestDescriptor = runnerTestDescriptor;
-		runnerDescendants = new LinkedHashSet<>(runnerTestDescriptor.getDescendants());
-		// @formatter:off
-		descriptionToDescriptors = concat(Stream.of(runnerTestDescriptor), runnerDescendants.stream())
-				.map(VintageTestDescriptor.class::cast)
-				.collect(toMap(VintageTestDescriptor::getDescription, VintageDescriptors::new, VintageDescriptors::merge, HashMap::new));
-		// @formatter:on
+		int descendantCount = runnerTestDescriptor.getDescendantCount();
+		runnerDescendants = ConcurrentHashMap.newKeySet(descendantCount);
+		descriptionToDescriptors = new ConcurrentHashMap<>(descendantCount + 1);
+		runnerTestDescriptor.traverse(PRE_ORDER, descriptor -> {
+			register((VintageTestDescriptor) descriptor);
+			return true;
+		});
+		runnerDescendants.remove(runnerTestDescriptor);
 	}
 
 	void registerDynamicTest(VintageTestDescriptor testDescriptor) {
+		register(testDescriptor);
+	}
+
+	private void register(VintageTestDescriptor testDescriptor) {
 		descriptionToDescriptors.computeIfAbsent(testDescriptor.getDescription(), __ -> new VintageDescriptors()).add(
 			testDescriptor);
 		runnerDescendants.add(testDescriptor);
@@ -79,18 +91,23 @@ class TestRun {
 	}
 
 	Collection<TestDescriptor> getInProgressTestDescriptorsWithSyntheticStartEvents() {
-		List<TestDescriptor> result = inProgressDescriptors.entrySet().stream() //
-				.filter(entry -> entry.getValue().equals(EventType.SYNTHETIC)) //
-				.map(Entry::getKey) //
-				.collect(toCollection(ArrayList::new));
-		Collections.reverse(result);
-		return result;
+		return getInProgressTestDescriptors(inProgress -> inProgress.eventType() == EventType.SYNTHETIC);
 	}
 
 	Collection<TestDescriptor> getInProgressTestDescriptors() {
-		List<TestDescriptor> result = new ArrayList<>(inProgressDescriptors.keySet());
-		Collections.reverse(result);
-		return result;
+		return getInProgressTestDescriptors(__ -> true);
+	}
+
+	/**
+	 * Get the in-progress descriptors matching the supplied predicate, most
+	 * recently started first.
+	 */
+	private Collection<TestDescriptor> getInProgressTestDescriptors(Predicate<InProgress> predicate) {
+		return inProgressDescriptors.entrySet().stream() //
+				.filter(entry -> predicate.test(entry.getValue())) //
+				.sorted(comparingLong((Entry<TestDescriptor, InProgress> entry) -> entry.getValue().sequence()).reversed()) //
+				.map(Entry::getKey) //
+				.toList();
 	}
 
 	boolean isDescendantOfRunnerTestDescriptor(TestDescriptor testDescriptor) {
@@ -98,16 +115,30 @@ class TestRun {
 	}
 
 	boolean hasSyntheticStartEvent(TestDescriptor testDescriptor) {
-		return inProgressDescriptors.get(testDescriptor) == EventType.SYNTHETIC;
+		InProgress inProgress = inProgressDescriptors.get(testDescriptor);
+		return inProgress != null && inProgress.eventType() == EventType.SYNTHETIC;
 	}
 
 	Optional<VintageTestDescriptor> lookupNextTestDescriptor(Description description) {
 		return lookupUnambiguouslyOrApplyFallback(description, VintageDescriptors::getNextUnstarted);
 	}
 
+	/**
+	 * Look up the descriptor for the supplied {@link Description} like
+	 * {@link #lookupNextTestDescriptor(Description)} but atomically claim it if
+	 * the description is ambiguous so that concurrently started tests with
+	 * equal descriptions never receive the same descriptor.
+	 */
+	Optional<VintageTestDescriptor> claimNextTestDescriptor(Description description) {
+		return lookupUnambiguouslyOrApplyFallback(description, VintageDescriptors::claimNextUnstarted);
+	}
+
 	Optional<VintageTestDescriptor> lookupCurrentTestDescriptor(Description description) {
 		return lookupUnambiguouslyOrApplyFallback(description, __ -> {
-			VintageTestDescriptor lastStarted = inProgressDescriptorsByStartingThread.get().peekLast();
+			Deque<VintageTestDescriptor> startedByCurrentThread = inProgressDescriptorsByStartingThread.get(
+				Thread.currentThread());
+			VintageTestDescriptor lastStarted = startedByCurrentThread == null ? null
+					: startedByCurrentThread.peekLast();
 			if (lastStarted != null && description.equals(lastStarted.getDescription())) {
 				return Optional.of(lastStarted);
 			}
@@ -129,7 +160,7 @@ class TestRun {
 	void markSkipped(TestDescriptor testDescriptor) {
 		skippedDescriptors.add(testDescriptor);
 		if (testDescriptor instanceof VintageTestDescriptor vintageDescriptor) {
-			getVintageDescriptors(vintageDescriptor).incrementSkippedOrStarted();
+			getVintageDescriptors(vintageDescriptor).claim(vintageDescriptor);
 		}
 	}
 
@@ -141,13 +172,29 @@ class TestRun {
 		return skippedDescriptors.contains(testDescriptor);
 	}
 
-	void markStarted(TestDescriptor testDescriptor, EventType eventType) {
-		inProgressDescriptors.put(testDescriptor, eventType);
-		startedDescriptors.add(testDescriptor);
+	/**
+	 * Mark the supplied descriptor as started.
+	 *
+	 * @return {@code true} if the descriptor was not started before, i.e. the
+	 * calling thread is responsible for reporting its start
+	 */
+	boolean markStarted(TestDescriptor testDescriptor, EventType eventType) {
+		if (!startedDescriptors.add(testDescriptor)) {
+			return false;
+		}
+		Thread currentThread = Thread.currentThread();
+		inProgressDescriptors.put(testDescriptor,
+			new InProgress(eventType, startSequence.getAndIncrement(), currentThread));
 		if (testDescriptor instanceof VintageTestDescriptor vintageDescriptor) {
-			inProgressDescriptorsByStartingThread.get().addLast(vintageDescriptor);
-			getVintageDescriptors(vintageDescriptor).incrementSkippedOrStarted();
+			inProgressDescriptorsByStartingThread.compute(currentThread, (__, startedByCurrentThread) -> {
+				Deque<VintageTestDescriptor> result = startedByCurrentThread == null ? new ConcurrentLinkedDeque<>()
+						: startedByCurrentThread;
+				result.addLast(vintageDescriptor);
+				return result;
+			});
+			getVintageDescriptors(vintageDescriptor).claim(vintageDescriptor);
 		}
+		return true;
 	}
 
 	private VintageDescriptors getVintageDescriptors(VintageTestDescriptor vintageDescriptor) {
@@ -159,12 +206,24 @@ class TestRun {
 		return !startedDescriptors.contains(testDescriptor);
 	}
 
-	void markFinished(TestDescriptor testDescriptor) {
-		inProgressDescriptors.remove(testDescriptor);
-		finishedDescriptors.add(testDescriptor);
-		if (testDescriptor instanceof VintageTestDescriptor descriptor) {
-			inProgressDescriptorsByStartingThread.get().removeLastOccurrence(descriptor);
+	/**
+	 * Mark the supplied descriptor as finished.
+	 *
+	 * @return {@code true} if the descriptor was not finished before, i.e. the
+	 * calling thread is responsible for reporting its result
+	 */
+	boolean markFinished(TestDescriptor testDescriptor) {
+		InProgress inProgress = inProgressDescriptors.remove(testDescriptor);
+		if (inProgress != null && testDescriptor instanceof VintageTestDescriptor descriptor) {
+			// may be called from a thread other than the starting one, e.g. on cancellation
+			inProgressDescriptorsByStartingThread.computeIfPresent(inProgress.startingThread(),
+				(__, startedByStartingThread) -> {
+					startedByStartingThread.removeLastOccurrence(descriptor);
+					// remove empty deques so that finished threads are not retained
+					return startedByStartingThread.isEmpty() ? null : startedByStartingThread;
+				});
 		}
+		return finishedDescriptors.add(testDescriptor);
 	}
 
 	boolean isNotFinished(TestDescriptor testDescriptor) {
@@ -184,15 +243,17 @@ class TestRun {
 	}
 
 	void storeResult(TestDescriptor testDescriptor, TestExecutionResult result) {
-		List<TestExecutionResult> testExecutionResults = executionResults.computeIfAbsent(testDescriptor,
-			key -> new ArrayList<>());
-		testExecutionResults.add(result);
+		executionResults.computeIfAbsent(testDescriptor, key -> new ConcurrentLinkedQueue<>()).add(result);
 	}
 
 	TestExecutionResult getStoredResultOrSuccessful(TestDescriptor testDescriptor) {
-		List<TestExecutionResult> testExecutionResults = executionResults.get(testDescriptor);
+		Queue<TestExecutionResult> storedResults = executionResults.get(testDescriptor);
 
-		if (testExecutionResults == null) {
+		if (storedResults == null) {
+			return successful();
+		}
+		List<TestExecutionResult> testExecutionResults = List.copyOf(storedResults);
+		if (testExecutionResults.isEmpty()) {
 			return successful();
 		}
 		if (testExecutionResults.size() == 1) {
@@ -210,32 +271,29 @@ class TestRun {
 		return failed(multipleFailuresError);
 	}
 
+	private record InProgress(EventType eventType, long sequence, Thread startingThread) {
+	}
+
 	private static class VintageDescriptors {
 
 		private static final VintageDescriptors NONE = new VintageDescriptors(emptyList());
 
 		private final List<VintageTestDescriptor> descriptors;
-		private int skippedOrStartedCount;
-
-		static VintageDescriptors merge(VintageDescriptors a, VintageDescriptors b) {
-			List<VintageTestDescriptor> mergedDescriptors = new ArrayList<>(
-				a.descriptors.size() + b.descriptors.size());
-			mergedDescriptors.addAll(a.descriptors);
-			mergedDescriptors.addAll(b.descriptors);
-			return new VintageDescriptors(mergedDescriptors);
-		}
+		private final Set<VintageTestDescriptor> claimedDescriptors = ConcurrentHashMap.newKeySet();
 
-		VintageDescriptors(VintageTestDescriptor vintageTestDescriptor) {
-			this();
-			add(vintageTestDescriptor);
-		}
+		/**
+		 * Index of the first descriptor that may not have been claimed yet;
+		 * descriptors are never removed, so the index remains valid.
+		 */
+		private final AtomicInteger nextUnclaimedIndex = new AtomicInteger();
 
 		VintageDescriptors() {
-			this(new ArrayList<>(1));
+			this(emptyList());
 		}
 
 		VintageDescriptors(List<VintageTestDescriptor> descriptors) {
-			this.descriptors = descriptors;
+			// descriptors are only added for dynamic tests, so reads vastly outnumber writes
+			this.descriptors = new CopyOnWriteArrayList<>(descriptors);
 		}
 
 		void add(VintageTestDescriptor descriptor) {
@@ -269,17 +327,36 @@ class TestRun {
 			// @formatter:on
 		}
 
-		private void incrementSkippedOrStarted() {
-			skippedOrStartedCount++;
+		private void claim(VintageTestDescriptor descriptor) {
+			claimedDescriptors.add(descriptor);
 		}
 
 		private Optional<VintageTestDescriptor> getNextUnstarted() {
-			if (skippedOrStartedCount < descriptors.size()) {
-				return Optional.of(descriptors.get(skippedOrStartedCount));
+			for (int index = nextUnclaimedIndex.get(); index < descriptors.size(); index++) {
+				VintageTestDescriptor descriptor = descriptors.get(index);
+				if (!claimedDescriptors.contains(descriptor)) {
+					return Optional.of(descriptor);
+				}
 			}
 			return Optional.empty();
 		}
 
+		private Optional<VintageTestDescriptor> claimNextUnstarted() {
+			while (true) {
+				int index = nextUnclaimedIndex.get();
+				if (index >= descriptors.size()) {
+					return Optional.empty();
+				}
+				if (nextUnclaimedIndex.compareAndSet(index, index + 1)) {
+					VintageTestDescriptor descriptor = descriptors.get(index);
+					// skip descriptors that have been claimed when they were started or skipped
+					if (claimedDescriptors.add(descriptor)) {
+						return Optional.of(descriptor);
+					}
+				}
+			}
+		}
+
 	}
 
 }
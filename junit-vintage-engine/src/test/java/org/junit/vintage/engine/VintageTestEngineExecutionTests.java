@@ -141,6 +141,28 @@ class VintageTestEngineExecutionTests {
 			event(engine(), finishedSuccessfully()));
 	}
 
+	@Test
+	@SuppressWarnings("deprecation")
+	void executesMethodOfPlainJUnit4TestCaseWithLazyRunnerCreation() {
+		Class<?> testClass = PlainJUnit4TestCaseWithFiveTestMethods.class;
+		var request = LauncherDiscoveryRequestBuilder.request() //
+				.selectors(selectMethod(testClass, "failingTest"), selectMethod(testClass, "successfulTest")) //
+				.configurationParameter(Constants.LAZY_RUNNER_CREATION_ENABLED_PROPERTY_NAME, "true") //
+				.enableImplicitConfigurationParameters(false) //
+				.build();
+
+		execute(request).allEvents().assertEventsMatchExactly( //
+			event(engine(), started()), //
+			event(container(testClass), started()), //
+			event(test("failingTest"), started()), //
+			event(test("failingTest"),
+				finishedWithFailure(instanceOf(AssertionError.class), message("this test should fail"))), //
+			event(test("successfulTest"), started()), //
+			event(test("successfulTest"), finishedSuccessfully()), //
+			event(container(testClass), finishedSuccessfully()), //
+			event(engine(), finishedSuccessfully()));
+	}
+
 	@Test
 	void executesPlainJUnit4TestCaseWithFiveTests() {
 		Class<?> testClass = PlainJUnit4TestCaseWithFiveTestMethods.class;
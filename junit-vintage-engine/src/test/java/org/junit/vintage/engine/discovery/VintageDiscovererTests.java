@@ -23,6 +23,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
+import java.util.List;
 import java.util.function.Consumer;
 
 import org.junit.jupiter.api.Test;
@@ -34,9 +35,14 @@ import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.discovery.ClassNameFilter;
 import org.junit.platform.engine.discovery.PackageNameFilter;
 import org.junit.platform.launcher.LauncherDiscoveryListener;
+import org.junit.runners.Parameterized;
+import org.junit.vintage.engine.Constants;
 import org.junit.vintage.engine.VintageUniqueIdBuilder;
+import org.junit.vintage.engine.descriptor.RunnerTestDescriptor;
 import org.junit.vintage.engine.samples.junit3.AbstractJUnit3TestCase;
 import org.junit.vintage.engine.samples.junit4.AbstractJunit4TestCaseWithConstructorParameter;
+import org.junit.vintage.engine.samples.junit4.ParameterizedTestCase;
+import org.junit.vintage.engine.samples.junit4.PlainJUnit4TestCaseWithFiveTestMethods;
 import org.mockito.ArgumentCaptor;
 
 /**
@@ -100,6 +106,30 @@ class VintageDiscovererTests {
 		doesNotResolve(selectUniqueId(UniqueId.forEngine("someEngine")));
 	}
 
+	@Test
+	@SuppressWarnings("deprecation")
+	void createsRunnersOfTestClassesWithoutCustomRunnerLazilyIfEnabled() {
+		DiscoverySelector[] selectors = { selectClass(PlainJUnit4TestCaseWithFiveTestMethods.class),
+				selectClass(ParameterizedTestCase.class) };
+		var eagerRequest = request().selectors(selectors).build();
+		var lazyRequest = request() //
+				.selectors(selectors) //
+				.configurationParameter(Constants.LAZY_RUNNER_CREATION_ENABLED_PROPERTY_NAME, "true") //
+				.build();
+
+		var eagerlyDiscovered = discover(eagerRequest);
+		var lazilyDiscovered = discover(lazyRequest);
+
+		assertThat(lazilyDiscovered.getChildren()) //
+				.extracting(child -> ((RunnerTestDescriptor) child).getRunner().getClass()) //
+				.containsExactly(LazyJUnit4ClassRunner.class, Parameterized.class);
+		assertThat(uniqueIds(lazilyDiscovered)).containsExactlyElementsOf(uniqueIds(eagerlyDiscovered));
+	}
+
+	private static List<UniqueId> uniqueIds(TestDescriptor engineDescriptor) {
+		return engineDescriptor.getDescendants().stream().map(TestDescriptor::getUniqueId).toList();
+	}
+
 	private void doesNotResolve(DiscoverySelector selector) {
 		doesNotResolve(selector, result -> assertThat(result.getStatus()).isEqualTo(UNRESOLVED));
 	}
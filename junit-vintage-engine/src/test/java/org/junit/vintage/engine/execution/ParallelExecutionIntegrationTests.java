@@ -54,6 +54,7 @@ import org.junit.vintage.engine.Constants;
 import org.junit.vintage.engine.VintageTestEngine;
 import org.junit.vintage.engine.samples.junit4.JUnit4ParallelClassesTestCase;
 import org.junit.vintage.engine.samples.junit4.JUnit4ParallelMethodsTestCase;
+import org.junit.vintage.engine.samples.junit4.JUnit4ParallelParameterizedTestCase;
 
 class ParallelExecutionIntegrationTests {
 
@@ -104,6 +105,24 @@ class ParallelExecutionIntegrationTests {
 			() -> assertThat(threadNames).hasSize(3));
 	}
 
+	@Test
+	@Timeout(value = 5, unit = SECONDS)
+	void executesTestMethodsOfParameterizedTestsInParallel() {
+		JUnit4ParallelParameterizedTestCase.threadNames.clear();
+		JUnit4ParallelParameterizedTestCase.cyclicBarrier = new CyclicBarrier(4);
+
+		var events = executeInParallelSuccessfully(4, false, true, JUnit4ParallelParameterizedTestCase.class).list();
+
+		var startedTimestamps = getTimestampsFor(events, event(test(SEGMENT_TYPE_TEST), started()));
+		var finishedTimestamps = getTimestampsFor(events, event(test(SEGMENT_TYPE_TEST), finishedSuccessfully()));
+		var threadNames = new HashSet<>(JUnit4ParallelParameterizedTestCase.threadNames);
+
+		assertAll( //
+			() -> assertThat(startedTimestamps).hasSize(4), //
+			() -> assertThat(finishedTimestamps).hasSize(4), //
+			() -> assertThat(threadNames).hasSize(4));
+	}
+
 	@Test
 	@Timeout(value = 5, unit = SECONDS)
 	void executesTestClassesAndMethodsInParallel(TestReporter reporter) {
@@ -11,11 +11,19 @@
 package org.junit.vintage.engine.execution;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.runner.Description.createTestDescription;
 import static org.junit.vintage.engine.VintageUniqueIdBuilder.engineId;
 import static org.junit.vintage.engine.descriptor.VintageTestDescriptor.SEGMENT_TYPE_DYNAMIC;
 import static org.junit.vintage.engine.descriptor.VintageTestDescriptor.SEGMENT_TYPE_RUNNER;
+import static org.junit.vintage.engine.descriptor.VintageTestDescriptor.SEGMENT_TYPE_TEST;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.Test;
 import org.junit.runners.BlockJUnit4ClassRunner;
@@ -59,4 +67,71 @@ class TestRunTests {
 		assertTrue(testRun.isDescendantOfRunnerTestDescriptor(dynamicTestDescriptor));
 	}
 
+	@Test
+	void reportsStartAndFinishOnlyOnceAcrossThreads() throws Exception {
+		Class<?> testClass = PlainJUnit4TestCaseWithSingleTestWhichFails.class;
+		var runnerId = engineId().append(SEGMENT_TYPE_RUNNER, testClass.getName());
+		var runnerTestDescriptor = new RunnerTestDescriptor(runnerId, testClass, new BlockJUnit4ClassRunner(testClass),
+			false);
+		var description = createTestDescription(testClass, "failingTest");
+		var testDescriptor = new VintageTestDescriptor(runnerId.append(SEGMENT_TYPE_TEST, "failingTest"), description,
+			null);
+		runnerTestDescriptor.addChild(testDescriptor);
+
+		var testRun = new TestRun(runnerTestDescriptor);
+		var startedInOtherThread = new AtomicBoolean();
+		var otherThread = new Thread(
+			() -> startedInOtherThread.set(testRun.markStarted(testDescriptor, EventType.REPORTED)));
+		otherThread.start();
+		otherThread.join();
+
+		assertTrue(startedInOtherThread.get());
+		assertFalse(testRun.markStarted(testDescriptor, EventType.SYNTHETIC));
+		assertThat(testRun.lookupCurrentTestDescriptor(description)).contains(testDescriptor);
+		assertThat(testRun.getInProgressTestDescriptors()).containsExactly(testDescriptor);
+
+		assertTrue(testRun.markFinished(testDescriptor));
+		assertFalse(testRun.markFinished(testDescriptor));
+		assertThat(testRun.getInProgressTestDescriptors()).isEmpty();
+	}
+
+	@Test
+	void claimsDistinctDescriptorsForEqualDescriptionsAcrossThreads() throws Exception {
+		Class<?> testClass = PlainJUnit4TestCaseWithSingleTestWhichFails.class;
+		var runnerId = engineId().append(SEGMENT_TYPE_RUNNER, testClass.getName());
+		var runnerTestDescriptor = new RunnerTestDescriptor(runnerId, testClass, new BlockJUnit4ClassRunner(testClass),
+			false);
+		var description = createTestDescription(testClass, "failingTest");
+		var numberOfDescriptors = 20;
+		for (int i = 0; i < numberOfDescriptors; i++) {
+			runnerTestDescriptor.addChild(
+				new VintageTestDescriptor(runnerId.append(SEGMENT_TYPE_TEST, "failingTest[" + i + "]"), description, null));
+		}
+
+		var testRun = new TestRun(runnerTestDescriptor);
+		var start = new CountDownLatch(1);
+		List<CompletableFuture<VintageTestDescriptor>> futures = new ArrayList<>();
+		for (int i = 0; i < numberOfDescriptors; i++) {
+			futures.add(CompletableFuture.supplyAsync(() -> {
+				try {
+					start.await();
+				}
+				catch (InterruptedException e) {
+					throw new IllegalStateException(e);
+				}
+				var testDescriptor = testRun.claimNextTestDescriptor(description).orElseThrow();
+				testRun.markStarted(testDescriptor, EventType.REPORTED);
+				testRun.markFinished(testDescriptor);
+				return testDescriptor;
+			}));
+		}
+		start.countDown();
+
+		assertThat(futures.stream().map(CompletableFuture::join)) //
+				.doesNotHaveDuplicates() //
+				.hasSize(numberOfDescriptors);
+		assertThat(testRun.claimNextTestDescriptor(description)).isEmpty();
+		assertThat(testRun.getInProgressTestDescriptors()).isEmpty();
+	}
+
 }
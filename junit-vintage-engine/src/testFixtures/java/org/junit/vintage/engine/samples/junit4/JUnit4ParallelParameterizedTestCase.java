@@ -0,0 +1,62 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.vintage.engine.samples.junit4;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+import org.junit.runner.Description;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * @since 6.2
+ */
+@RunWith(Parameterized.class)
+public class JUnit4ParallelParameterizedTestCase {
+
+	public static final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+	public static CyclicBarrier cyclicBarrier;
+
+	@Parameters(name = "{0}")
+	public static Iterable<String> parameters() {
+		return List.of("foo", "bar");
+	}
+
+	@Parameter
+	public String value;
+
+	@Rule
+	public final TestWatcher testWatcher = new TestWatcher() {
+		@Override
+		protected void starting(Description description) {
+			threadNames.add(Thread.currentThread().getName());
+		}
+	};
+
+	@Test
+	public void firstTest() throws Exception {
+		cyclicBarrier.await();
+	}
+
+	@Test
+	public void secondTest() throws Exception {
+		cyclicBarrier.await();
+	}
+
+}
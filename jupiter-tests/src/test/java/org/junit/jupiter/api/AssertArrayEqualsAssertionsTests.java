@@ -16,6 +16,8 @@ import static org.junit.jupiter.api.AssertionTestUtils.assertMessageStartsWith;
 import static org.junit.jupiter.api.AssertionTestUtils.expectAssertionFailedError;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 
+import java.util.stream.IntStream;
+
 import org.opentest4j.AssertionFailedError;
 
 /**
@@ -1933,6 +1935,25 @@ class AssertArrayEqualsAssertionsTests {
 		}
 	}
 
+	@Test
+	void assertArrayEqualsDifferentNestedPrimitiveArrays() {
+		try {
+			assertArrayEquals(new Object[] { new int[] { 1 } }, new Object[] { new long[] { 1 } });
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageStartsWith(ex, "array contents differ at index [0], expected: ");
+		}
+
+		try {
+			assertArrayEquals(new Object[] { new double[] { 0.0 } }, new Object[] { new double[] { -0.0 } });
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageEquals(ex, "array contents differ at index [0][0], expected: <0.0> but was: <-0.0>");
+		}
+	}
+
 	@Test
 	void assertArrayEqualsDifferentNestedObjectArraysAndMessage() {
 		try {
@@ -1996,4 +2017,50 @@ class AssertArrayEqualsAssertionsTests {
 		}
 	}
 
+	@Test
+	void assertArrayEqualsLargeIntArraysOfDifferentLengthRendersDiff() {
+		int[] expected = IntStream.range(0, 100).toArray();
+		int[] actual = IntStream.concat(IntStream.range(0, 50), IntStream.range(51, 100)).toArray();
+		try {
+			assertArrayEquals(expected, actual);
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageEquals(ex, String.join(System.lineSeparator(), //
+				"array lengths differ, expected: <100> but was: <99>", //
+				"differences (-expected +actual):", //
+				"@@ -47,7 +47,6 @@", //
+				"  47", //
+				"  48", //
+				"  49", //
+				"- 50", //
+				"  51", //
+				"  52", //
+				"  53"));
+		}
+	}
+
+	@Test
+	void assertArrayEqualsLargeObjectArraysRendersDiff() {
+		Object[] expected = IntStream.range(0, 30).boxed().toArray();
+		Object[] actual = expected.clone();
+		actual[1] = "one";
+		try {
+			assertArrayEquals(expected, actual);
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageEquals(ex, String.join(System.lineSeparator(), //
+				"array contents differ at index [1], expected: <1> but was: <one>", //
+				"differences (-expected +actual):", //
+				"@@ -0,5 +0,5 @@", //
+				"  0", //
+				"- 1", //
+				"+ one", //
+				"  2", //
+				"  3", //
+				"  4"));
+		}
+	}
+
 }
@@ -18,6 +18,9 @@ import static org.junit.jupiter.api.AssertionTestUtils.expectAssertionFailedErro
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.ArrayList;
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.function.Executable;
 import org.opentest4j.AssertionFailedError;
 
@@ -619,6 +622,32 @@ class AssertEqualsAssertionsTests {
 		}
 	}
 
+	@Test
+	void assertEqualsWithLargeUnequalListsRendersDiffInsteadOfValues() {
+		var expected = IntStream.range(0, 1000).boxed().toList();
+		var actual = new ArrayList<>(expected);
+		actual.set(500, -1);
+		try {
+			assertEquals(expected, actual);
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageEquals(ex, String.join(System.lineSeparator(), //
+				"expected: <1000 elements> but was: <1000 elements>", //
+				"differences (-expected +actual):", //
+				"@@ -497,7 +497,7 @@", //
+				"  497", //
+				"  498", //
+				"  499", //
+				"- 500", //
+				"+ -1", //
+				"  501", //
+				"  502", //
+				"  503"));
+			assertExpectedAndActualValues(ex, expected, actual);
+		}
+	}
+
 	// -------------------------------------------------------------------------
 
 	@Nested
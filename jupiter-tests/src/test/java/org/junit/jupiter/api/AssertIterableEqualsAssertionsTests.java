@@ -24,6 +24,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import org.opentest4j.AssertionFailedError;
 
@@ -475,4 +476,37 @@ class AssertIterableEqualsAssertionsTests {
 		}
 	}
 
+	@Test
+	void assertIterableEqualsLargeListsRendersDiff() {
+		List<Integer> expected = IntStream.range(0, 100).boxed().toList();
+		List<Integer> actual = new ArrayList<>(expected);
+		actual.add(20, -1);
+		actual.remove(90);
+		try {
+			assertIterableEquals(expected, actual);
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageEquals(ex, String.join(System.lineSeparator(), //
+				"iterable contents differ at index [20], expected: <20> but was: <-1>", //
+				"differences (-expected +actual):", //
+				"@@ -17,6 +17,7 @@", //
+				"  17", //
+				"  18", //
+				"  19", //
+				"+ -1", //
+				"  20", //
+				"  21", //
+				"  22", //
+				"@@ -86,7 +87,6 @@", //
+				"  86", //
+				"  87", //
+				"  88", //
+				"- 89", //
+				"  90", //
+				"  91", //
+				"  92"));
+		}
+	}
+
 }
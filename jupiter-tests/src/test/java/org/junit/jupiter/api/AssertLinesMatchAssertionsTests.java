@@ -248,7 +248,42 @@ class AssertLinesMatchAssertionsTests {
 		var expectedMessage = String.join(System.lineSeparator(), List.of( //
 			"custom message ==> expected line #1 doesn't match actual line #1", //
 			"\texpected: `1`", //
-			"\t  actual: `0`"));
+			"\t  actual: `0`", //
+			"differences (-expected +actual):", //
+			"@@ -1,3 +1,4 @@", //
+			"+ 0", //
+			"  1", //
+			"  2", //
+			"  3", //
+			"@@ -996,3 +997,4 @@", //
+			"  996", //
+			"  997", //
+			"  998", //
+			"+ 999"));
+		assertError(error, expectedMessage, expected, actual);
+	}
+
+	@Test
+	void largeListsThatDoNotMatchRenderDiffOfNonMatchingLines() {
+		var expected = new ArrayList<>(IntStream.range(0, 30).boxed().map(Object::toString).toList());
+		expected.set(10, "1\\d");
+		var actual = new ArrayList<>(IntStream.range(0, 30).boxed().map(Object::toString).toList());
+		actual.set(11, "eleven");
+		var error = assertThrows(AssertionFailedError.class, () -> assertLinesMatch(expected, actual));
+		var expectedMessage = String.join(System.lineSeparator(), List.of( //
+			"expected line #12 doesn't match actual line #12", //
+			"\texpected: `11`", //
+			"\t  actual: `eleven`", //
+			"differences (-expected +actual):", //
+			"@@ -9,7 +9,7 @@", //
+			"  8", //
+			"  9", //
+			"  1\\d", //
+			"- 11", //
+			"+ eleven", //
+			"  12", //
+			"  13", //
+			"  14"));
 		assertError(error, expectedMessage, expected, actual);
 	}
 
@@ -331,6 +366,54 @@ class AssertLinesMatchAssertionsTests {
 					""";
 			assertLinesMatch(expected.lines(), actual.lines());
 		}
+
+		@Test
+		void assertLinesMatchReadsLinesOnDemand() {
+			var expected = Stream.of("\\d", ">>>>", "9{6}");
+			var actual = IntStream.range(0, 1_000_000).mapToObj(Integer::toString);
+			assertLinesMatch(expected, actual);
+		}
+
+		@Test
+		void assertLinesMatchMoreExpectedThanActualAvailableFails() {
+			var expected = List.of("first line", ">>>>", "third line");
+			var actual = List.of("first line", "third line");
+			var error = assertThrows(AssertionFailedError.class,
+				() -> assertLinesMatch(expected.stream(), actual.stream()));
+			assertError(error, "expected 3 lines, but only got 2", expected, actual);
+		}
+
+		@Test
+		void assertLinesMatchFailsWithDescriptiveErrorMessage() {
+			var expected = List.of("first line", "second line", "third line");
+			var actual = List.of("first line", "sec0nd line", "third line", "last line");
+			var error = assertThrows(AssertionFailedError.class,
+				() -> assertLinesMatch(expected.stream(), actual.stream()));
+			var expectedMessage = String.join(System.lineSeparator(), List.of( //
+				"expected line #2 doesn't match actual line #2", //
+				"\texpected: `second line`", //
+				"\t  actual: `sec0nd line`"));
+			assertError(error, expectedMessage, expected, actual);
+		}
+
+		@Test
+		void assertLinesMatchUsingFastForwardMarkerWithTooLowLimitFails() {
+			var expected = List.of("first line", ">> 1 >>");
+			var actual = List.of("first line", "skipped", "last line");
+			var error = assertThrows(AssertionFailedError.class,
+				() -> assertLinesMatch(expected.stream(), actual.stream()));
+			assertError(error, "terminal fast-forward(1) error: fast-forward(2) expected", expected, actual);
+		}
+
+		@Test
+		void largeStreamsThatDoNotMatchOnlyReportTheDifference() {
+			var expected = Stream.of(">>>>", "not present");
+			var actual = IntStream.range(0, 100_000).mapToObj(Integer::toString);
+			var error = assertThrows(AssertionFailedError.class, () -> assertLinesMatch(expected, actual));
+			assertEquals("fast-forward(∞) didn't find: `not present`", error.getMessage());
+			assertFalse(error.isExpectedDefined());
+			assertFalse(error.isActualDefined());
+		}
 	}
 
 }
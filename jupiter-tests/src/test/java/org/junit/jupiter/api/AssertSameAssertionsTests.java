@@ -17,6 +17,9 @@ import static org.junit.jupiter.api.AssertionTestUtils.assertMessageStartsWith;
 import static org.junit.jupiter.api.AssertionTestUtils.expectAssertionFailedError;
 import static org.junit.jupiter.api.Assertions.assertSame;
 
+import java.util.ArrayList;
+import java.util.stream.IntStream;
+
 import org.opentest4j.AssertionFailedError;
 
 /**
@@ -113,4 +116,19 @@ class AssertSameAssertionsTests {
 		}
 	}
 
+	@Test
+	void assertSameWithEqualLargeLists() {
+		var expected = new ArrayList<>(IntStream.range(0, 100).boxed().toList());
+		var actual = new ArrayList<>(expected);
+		try {
+			assertSame(expected, actual);
+			expectAssertionFailedError();
+		}
+		catch (AssertionFailedError ex) {
+			assertMessageMatches(ex, "expected: java\\.util\\.ArrayList@.+?<\\[0, 1, 2, .+, 99\\]> "
+					+ "but was: java\\.util\\.ArrayList@.+?<\\[0, 1, 2, .+, 99\\]>");
+			assertExpectedAndActualValues(ex, expected, actual);
+		}
+	}
+
 }
@@ -21,7 +21,10 @@ import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.condition.OS.WINDOWS;
 
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.time.Duration;
+import java.util.HashSet;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
@@ -195,6 +198,71 @@ class AssertTimeoutPreemptivelyAssertionsTests {
 				.startsWith("junit-timeout-thread-");
 	}
 
+	@Test
+	void assertTimeoutPreemptivelyPropagatesContextClassLoader() {
+		var originalClassLoader = Thread.currentThread().getContextClassLoader();
+		var customClassLoader = new URLClassLoader(new URL[0], originalClassLoader);
+		Thread.currentThread().setContextClassLoader(customClassLoader);
+		try {
+			var contextClassLoader = assertTimeoutPreemptively(ofMillis(1000),
+				() -> Thread.currentThread().getContextClassLoader());
+			assertThat(contextClassLoader).isSameAs(customClassLoader);
+		}
+		finally {
+			Thread.currentThread().setContextClassLoader(originalClassLoader);
+		}
+	}
+
+	@Test
+	void assertTimeoutPreemptivelyDoesNotLeakInterruptedStatus() {
+		assertThrows(AssertionFailedError.class,
+			() -> assertTimeoutPreemptively(PREEMPTIVE_TIMEOUT, this::waitForInterrupt));
+
+		for (int i = 0; i < 10; i++) {
+			assertFalse(assertTimeoutPreemptively(ofMillis(1000), Thread::interrupted),
+				"should not be interrupted");
+		}
+	}
+
+	@Test
+	void assertTimeoutPreemptivelyReusesThreads() {
+		var threads = new HashSet<Thread>();
+		for (int i = 0; i < 10; i++) {
+			threads.add(assertTimeoutPreemptively(ofMillis(1000), Thread::currentThread));
+		}
+		assertThat(threads).hasSizeLessThan(10);
+	}
+
+	@Test
+	void assertTimeoutPreemptivelyReplacesThreadThatDoesNotRespondToInterrupt() {
+		var release = new CountDownLatch(1);
+		var stuckThread = new AtomicReference<Thread>();
+		try {
+			assertThrows(AssertionFailedError.class, () -> assertTimeoutPreemptively(PREEMPTIVE_TIMEOUT, () -> {
+				stuckThread.set(Thread.currentThread());
+				ignoreInterrupts(release);
+			}));
+
+			var thread = assertTimeoutPreemptively(ofMillis(1000), Thread::currentThread);
+			assertThat(thread).isNotSameAs(stuckThread.get());
+		}
+		finally {
+			release.countDown();
+		}
+	}
+
+	private static void ignoreInterrupts(CountDownLatch latch) {
+		while (true) {
+			try {
+				latch.await();
+				return;
+			}
+			catch (InterruptedException ignore) {
+				// ignore
+			}
+		}
+	}
+
 	private void waitForInterrupt() {
 		try {
 			assertFalse(Thread.interrupted(), "Already interrupted");
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Constants.DEFAULT_TEST_CLASS_ORDER_PROPERTY_NAME;
+import static org.junit.jupiter.api.Constants.DEFAULT_TEST_METHOD_ORDER_PROPERTY_NAME;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClasses;
+import static org.junit.platform.launcher.core.OutputDirectoryCreators.hierarchicalOutputDirectoryCreator;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.commons.util.TestResultsStore;
+import org.junit.platform.testkit.engine.EngineTestKit;
+import org.junit.platform.testkit.engine.Events;
+
+/**
+ * Tests for {@link ClassOrderer.PreviouslyFailedFirst} and
+ * {@link MethodOrderer.PreviouslyFailedFirst}.
+ *
+ * @since 6.2
+ */
+class PreviouslyFailedFirstOrderedTests {
+
+	private static final List<String> callSequence = Collections.synchronizedList(new ArrayList<>());
+
+	@TempDir
+	Path outputDir;
+
+	@BeforeEach
+	void clearCallSequence() {
+		callSequence.clear();
+	}
+
+	@Test
+	void ordersPreviouslyFailedAndRecentlyFlakyTestsFirst() throws Exception {
+		var store = new TestResultsStore();
+		record(store, B_TestCase.class, "c", true);
+		record(store, C_TestCase.class, "b", true);
+		record(store, C_TestCase.class, "b", false);
+		store.write(outputDir.resolve(TestResultsStore.FILE_NAME));
+
+		var tests = executeTests();
+
+		tests.assertStatistics(stats -> stats.succeeded(9));
+		assertThat(callSequence).hasSize(9);
+		assertThat(callSequence.subList(0, 3)).startsWith("B_TestCase#c").containsOnly("B_TestCase#a",
+			"B_TestCase#b", "B_TestCase#c");
+		assertThat(callSequence.subList(3, 6)).startsWith("C_TestCase#b").containsOnly("C_TestCase#a",
+			"C_TestCase#b", "C_TestCase#c");
+		assertThat(callSequence.subList(6, 9)).containsOnly("A_TestCase#a", "A_TestCase#b", "A_TestCase#c");
+	}
+
+	@Test
+	void retainsOrderWithoutPreviousResults() {
+		var tests = executeTests();
+
+		tests.assertStatistics(stats -> stats.succeeded(9));
+		var withoutPreviousResults = List.copyOf(callSequence);
+
+		callSequence.clear();
+		var testsWithDefaultOrder = EngineTestKit.engine("junit-jupiter") //
+				.selectors(selectClasses(A_TestCase.class, B_TestCase.class, C_TestCase.class)) //
+				.execute() //
+				.testEvents();
+
+		testsWithDefaultOrder.assertStatistics(stats -> stats.succeeded(9));
+		assertThat(withoutPreviousResults).containsExactlyElementsOf(callSequence);
+	}
+
+	private static void record(TestResultsStore store, Class<?> testClass, String methodName, boolean failed) {
+		store.record("[class:%s]/[method:%s()]".formatted(testClass.getName(), methodName),
+			TestResultsStore.methodKey(testClass.getName(), methodName, ""), failed);
+	}
+
+	private Events executeTests() {
+		// @formatter:off
+		return EngineTestKit
+				.engine("junit-jupiter")
+				.configurationParameter(DEFAULT_TEST_CLASS_ORDER_PROPERTY_NAME, ClassOrderer.PreviouslyFailedFirst.class.getName())
+				.configurationParameter(DEFAULT_TEST_METHOD_ORDER_PROPERTY_NAME, MethodOrderer.PreviouslyFailedFirst.class.getName())
+				.outputDirectoryCreator(hierarchicalOutputDirectoryCreator(outputDir))
+				.selectors(selectClasses(A_TestCase.class, B_TestCase.class, C_TestCase.class))
+				.execute()
+				.testEvents();
+		// @formatter:on
+	}
+
+	abstract static class BaseTestCase {
+
+		@BeforeEach
+		void trackInvocations(TestInfo testInfo) {
+			var testClass = testInfo.getTestClass().orElseThrow();
+			var testMethod = testInfo.getTestMethod().orElseThrow();
+
+			callSequence.add(testClass.getSimpleName() + "#" + testMethod.getName());
+		}
+
+		@Test
+		void a() {
+		}
+
+		@Test
+		void b() {
+		}
+
+		@Test
+		void c() {
+		}
+	}
+
+	@SuppressWarnings("NewClassNamingConvention")
+	static class A_TestCase extends BaseTestCase {
+	}
+
+	@SuppressWarnings("NewClassNamingConvention")
+	static class B_TestCase extends BaseTestCase {
+	}
+
+	@SuppressWarnings("NewClassNamingConvention")
+	static class C_TestCase extends BaseTestCase {
+	}
+
+}
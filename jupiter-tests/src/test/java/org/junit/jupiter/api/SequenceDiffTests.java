@@ -0,0 +1,112 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Unit tests for {@link SequenceDiff}.
+ *
+ * @since 6.2
+ */
+class SequenceDiffTests {
+
+	@Test
+	void doesNotRenderDiffForShortSequences() {
+		var diff = SequenceDiff.render(List.of(1, 2, 3), List.of(1, 3), Objects::equals, 0);
+
+		assertNull(diff.get());
+	}
+
+	@Test
+	void doesNotRenderDiffForEqualSequences() {
+		var diff = SequenceDiff.render(numbers(30), numbers(30), Objects::equals, 0);
+
+		assertNull(diff.get());
+	}
+
+	@Test
+	void mergesHunksWithOverlappingContext() {
+		var expected = numbers(30);
+		var actual = new ArrayList<>(expected);
+		actual.set(10, -10);
+		actual.set(15, -15);
+
+		var diff = SequenceDiff.render(expected, actual, Objects::equals, 0);
+
+		assertEquals(lines( //
+			"differences (-expected +actual):", //
+			"@@ -7,12 +7,12 @@", //
+			"  7", //
+			"  8", //
+			"  9", //
+			"- 10", //
+			"+ -10", //
+			"  11", //
+			"  12", //
+			"  13", //
+			"  14", //
+			"- 15", //
+			"+ -15", //
+			"  16", //
+			"  17", //
+			"  18"), diff.get());
+	}
+
+	@Test
+	void limitsNumberOfRenderedHunks() {
+		var expected = numbers(100);
+		var actual = new ArrayList<>(expected);
+		IntStream.of(90, 70, 50, 30, 10, 0).forEach(actual::remove);
+
+		var diff = SequenceDiff.render(expected, actual, Objects::equals, 0).get();
+
+		assertEquals(5, diff.lines().filter(line -> line.startsWith("- ")).count());
+		assertTrue(diff.endsWith("[...] 1 more difference"), diff);
+	}
+
+	@Test
+	void truncatesLongElements() {
+		var expected = numbers(30);
+		var actual = new ArrayList<>(expected);
+		actual.set(29, "x".repeat(100));
+
+		var diff = SequenceDiff.render(expected, actual, Objects::equals, 0).get();
+
+		assertTrue(diff.endsWith("+ " + "x".repeat(75) + "[...]"), diff);
+	}
+
+	@Test
+	void reportsFirstDifferenceIfThereAreTooManyDifferences() {
+		var expected = numbers(1000);
+		var actual = IntStream.range(0, 1000).map(i -> i < 5 ? i : -i).boxed().toList();
+
+		var diff = SequenceDiff.render(expected, actual, Objects::equals, 1);
+
+		assertEquals("more than 100 differences, the first one at index [6]", diff.get());
+	}
+
+	private static List<Object> numbers(int count) {
+		return IntStream.range(0, count).boxed().map(Object.class::cast).toList();
+	}
+
+	private static String lines(String... lines) {
+		return String.join(System.lineSeparator(), lines);
+	}
+
+}
@@ -11,6 +11,7 @@
 package org.junit.jupiter.api.io;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -20,10 +21,14 @@ import java.nio.file.Path;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.AnnotatedElementContext;
 import org.junit.jupiter.api.fixtures.TrackLogRecords;
+import org.junit.jupiter.api.io.TempDirDeletionStrategy.Async;
 import org.junit.jupiter.api.io.TempDirDeletionStrategy.DeletionException;
 import org.junit.jupiter.api.io.TempDirDeletionStrategy.IgnoreFailures;
 import org.junit.platform.commons.logging.LogRecordListener;
@@ -71,4 +76,48 @@ class TempDirDeletionStrategyTests {
 
 	}
 
+	@Nested
+	class AsyncTests {
+
+		@Test
+		void movesTempDirToTrashAndDeletesItInTheBackground(@TempDir Path parent) throws Exception {
+			var tempDir = Files.createDirectory(parent.resolve("temp"));
+			Files.writeString(Files.createDirectory(tempDir.resolve("nested")).resolve("file.txt"), "content");
+
+			try (var deleter = new Async.BackgroundDeleter()) {
+				deleter.submit(tempDir);
+
+				assertThat(tempDir).doesNotExist();
+			}
+
+			assertThat(parent).isEmptyDirectory();
+		}
+
+		@Test
+		void reportsFailuresWhenClosed(@TempDir Path parent) {
+			var missingDir = parent.resolve("missing");
+			var deleter = new Async.BackgroundDeleter();
+
+			deleter.submit(missingDir);
+
+			assertThatThrownBy(deleter::close) //
+					.isInstanceOf(DeletionException.class) //
+					.hasMessageStartingWith("Failed to delete temp directory " + missingDir.toAbsolutePath());
+		}
+
+		@Test
+		void deletesTempDirOfNonDefaultFileSystemSynchronously() throws Exception {
+			try (var fileSystem = Jimfs.newFileSystem(Configuration.unix())) {
+				var tempDir = Files.createDirectory(fileSystem.getPath("/temp"));
+				Files.writeString(tempDir.resolve("file.txt"), "content");
+
+				var result = new Async().delete(tempDir, mock(), mock());
+
+				assertThat(result.isSuccessful()).isTrue();
+				assertThat(tempDir).doesNotExist();
+			}
+		}
+
+	}
+
 }
@@ -22,8 +22,11 @@ import static org.junit.platform.testkit.engine.TestExecutionResultConditions.me
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -35,6 +38,10 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.util.ClearSystemProperty;
+import org.junit.jupiter.api.util.RestoreSystemProperties;
+import org.junit.jupiter.api.util.SetSystemProperty;
+import org.junit.jupiter.api.util.WritesSystemProperty;
 import org.junit.jupiter.engine.AbstractJupiterTestEngineTests;
 import org.junit.jupiter.engine.config.JupiterConfiguration;
 import org.junit.jupiter.engine.descriptor.ClassTestDescriptor;
@@ -283,6 +290,32 @@ class ResourceLockAnnotationTests extends AbstractJupiterTestEngineTests {
 		// @formatter:on
 	}
 
+	@Test
+	void systemPropertiesLockOfIsolatedAnnotationsIsDowngradedToRead() {
+		when(configuration.getRawConfigurationParameter(SetSystemProperty.ISOLATION_ENABLED_PROPERTY_NAME)) //
+				.thenReturn(Optional.of("true"));
+
+		assertThat(getMethodResources(IsolatedSetSystemPropertyTestCase.class)) //
+				.containsExactly(new ExclusiveResource(Resources.SYSTEM_PROPERTIES, LockMode.READ));
+		assertThat(getClassResources(IsolatedClearSystemPropertyTestCase.class)) //
+				.containsExactly(new ExclusiveResource(Resources.SYSTEM_PROPERTIES, LockMode.READ));
+		assertThat(getMethodResources(IsolatedClearSystemPropertyTestCase.class)).isEmpty();
+
+		// exclusive locks declared for the same element take precedence
+		assertThat(getMethodResources(ExplicitSystemPropertiesLockTestCase.class)) //
+				.contains(new ExclusiveResource(Resources.SYSTEM_PROPERTIES, LockMode.READ_WRITE));
+		assertThat(getMethodResources(RestoreSystemPropertiesTestCase.class)) //
+				.contains(new ExclusiveResource(Resources.SYSTEM_PROPERTIES, LockMode.READ_WRITE));
+		assertThat(getMethodResources(ComposedWritesSystemPropertyTestCase.class)) //
+				.contains(new ExclusiveResource(Resources.SYSTEM_PROPERTIES, LockMode.READ_WRITE));
+	}
+
+	@Test
+	void systemPropertiesLockOfAnnotationsIsExclusiveUnlessIsolationIsEnabled() {
+		assertThat(getMethodResources(IsolatedSetSystemPropertyTestCase.class)) //
+				.containsExactly(new ExclusiveResource(Resources.SYSTEM_PROPERTIES, LockMode.READ_WRITE));
+	}
+
 	static Stream<Class<?>> testMethodsCanNotDeclareSharedResourcesForChildrenArguments() {
 		// @formatter:off
 		return Stream.of(
@@ -544,6 +577,54 @@ class ResourceLockAnnotationTests extends AbstractJupiterTestEngineTests {
 		}
 	}
 
+	static class IsolatedSetSystemPropertyTestCase {
+
+		@Test
+		@SetSystemProperty(key = "key", value = "value")
+		void test() {
+		}
+	}
+
+	@ClearSystemProperty(key = "key")
+	static class IsolatedClearSystemPropertyTestCase {
+
+		@Test
+		void test() {
+		}
+	}
+
+	static class ExplicitSystemPropertiesLockTestCase {
+
+		@Test
+		@SetSystemProperty(key = "key", value = "value")
+		@ResourceLock(Resources.SYSTEM_PROPERTIES)
+		void test() {
+		}
+	}
+
+	static class RestoreSystemPropertiesTestCase {
+
+		@Test
+		@SetSystemProperty(key = "key", value = "value")
+		@RestoreSystemProperties
+		void test() {
+		}
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@WritesSystemProperty
+	@interface ComposedWritesSystemProperty {
+	}
+
+	static class ComposedWritesSystemPropertyTestCase {
+
+		@Test
+		@SetSystemProperty(key = "key", value = "value")
+		@ComposedWritesSystemProperty
+		void test() {
+		}
+	}
+
 	static class TestCanNotDeclareSharedResourcesForChildrenTestCase {
 
 		@Test
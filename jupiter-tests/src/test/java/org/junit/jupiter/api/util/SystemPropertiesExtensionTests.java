@@ -11,7 +11,9 @@
 package org.junit.jupiter.api.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.parallel.ExecutionMode.CONCURRENT;
 import static org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
 import static org.junit.platform.testkit.engine.EventConditions.event;
 import static org.junit.platform.testkit.engine.EventConditions.finishedSuccessfully;
@@ -26,6 +28,8 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.util.Properties;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -580,6 +584,125 @@ class SystemPropertiesExtensionTests extends AbstractJupiterTestEngineTests {
 
 	}
 
+	@Nested
+	@DisplayName("with isolation enabled")
+	class IsolationTests {
+
+		@Test
+		@DisplayName("should execute tests modifying the same system property concurrently")
+		void shouldExecuteTestsModifyingSameSystemPropertyConcurrently() {
+			EngineExecutionResults results = executeTests(request -> request //
+					.selectors(selectClass(IsolatedTestCases.class)) //
+					.configurationParameter(SetSystemProperty.ISOLATION_ENABLED_PROPERTY_NAME, "true") //
+					.configurationParameter("junit.jupiter.execution.parallel.enabled", "true") //
+					.configurationParameter("junit.jupiter.execution.parallel.config.strategy", "fixed") //
+					.configurationParameter("junit.jupiter.execution.parallel.config.fixed.parallelism", "2"));
+
+			results.testEvents().assertStatistics(stats -> stats.started(2).succeeded(2));
+			assertThat(System.getProperty("A")).isEqualTo("old A");
+			assertThat(System.getProperty("isolated")).isNull();
+			assertThat(System.getProperties()).isNotInstanceOf(IsolatedSystemProperties.class);
+		}
+
+		@Test
+		@DisplayName("should reinstate isolated system properties replaced by tests")
+		void shouldReinstateIsolatedSystemPropertiesReplacedByTests() {
+			EngineExecutionResults results = executeTests(request -> request //
+					.selectors(selectClass(IsolatedRestoreTestCase.class)) //
+					.configurationParameter(SetSystemProperty.ISOLATION_ENABLED_PROPERTY_NAME, "true"));
+
+			results.testEvents().assertStatistics(stats -> stats.started(1).succeeded(1));
+			assertThat(System.getProperty("A")).isEqualTo("old A");
+			assertThat(System.getProperty("replaced")).isNull();
+			assertThat(System.getProperties()).isNotInstanceOf(IsolatedSystemProperties.class);
+		}
+
+		@Test
+		@DisplayName("should isolate modifications made via views of the system properties")
+		void shouldIsolateModificationsMadeViaViews() {
+			EngineExecutionResults results = executeTests(request -> request //
+					.selectors(selectClass(IsolatedViewsTestCase.class)) //
+					.configurationParameter(SetSystemProperty.ISOLATION_ENABLED_PROPERTY_NAME, "true"));
+
+			results.testEvents().assertStatistics(stats -> stats.started(1).succeeded(1));
+			assertThat(System.getProperty("A")).isEqualTo("old A");
+			assertThat(System.getProperty("B")).isEqualTo("old B");
+			assertThat(System.getProperty("C")).isEqualTo("old C");
+		}
+
+	}
+
+	@Execution(CONCURRENT)
+	@SetSystemProperty(key = "A", value = "class A")
+	static class IsolatedTestCases {
+
+		static final CyclicBarrier barrier = new CyclicBarrier(2);
+
+		@Test
+		@SetSystemProperty(key = "B", value = "first B")
+		void first() throws Exception {
+			barrier.await(10, TimeUnit.SECONDS);
+			System.setProperty("isolated", "first");
+			barrier.await(10, TimeUnit.SECONDS);
+
+			assertThat(System.getProperty("A")).isEqualTo("class A");
+			assertThat(System.getProperty("B")).isEqualTo("first B");
+			assertThat(System.getProperty("isolated")).isEqualTo("first");
+		}
+
+		@Test
+		@ClearSystemProperty(key = "A")
+		@SetSystemProperty(key = "B", value = "second B")
+		void second() throws Exception {
+			barrier.await(10, TimeUnit.SECONDS);
+			System.setProperty("isolated", "second");
+			barrier.await(10, TimeUnit.SECONDS);
+
+			assertThat(System.getProperty("A")).isNull();
+			assertThat(System.getProperty("B")).isEqualTo("second B");
+			assertThat(System.getProperty("isolated")).isEqualTo("second");
+		}
+
+	}
+
+	@SetSystemProperty(key = "A", value = "class A")
+	static class IsolatedViewsTestCase {
+
+		@Test
+		void test() {
+			System.getProperties().keySet().remove("A");
+			for (var iterator = System.getProperties().entrySet().iterator(); iterator.hasNext();) {
+				var entry = iterator.next();
+				if ("B".equals(entry.getKey())) {
+					entry.setValue("new B");
+				}
+				else if ("C".equals(entry.getKey())) {
+					iterator.remove();
+				}
+			}
+
+			assertThat(System.getProperty("A")).isNull();
+			assertThat(System.getProperty("B")).isEqualTo("new B");
+			assertThat(System.getProperty("C")).isNull();
+			assertThat(System.getProperties().keySet()).doesNotContain("A", "C");
+		}
+
+	}
+
+	@RestoreSystemProperties
+	static class IsolatedRestoreTestCase {
+
+		@Test
+		void test() {
+			var properties = new Properties();
+			properties.setProperty("replaced", "true");
+			System.setProperties(properties);
+
+			assertThat(System.getProperty("replaced")).isEqualTo("true");
+		}
+
+	}
+
 	@Nested
 	@DisplayName("Clear and Set with inheritance")
 	class InheritanceClearAndSetTests extends InheritanceClearAndSetBaseTest {
@@ -43,6 +43,7 @@ import org.junit.jupiter.api.io.TempDirFactory;
 import org.junit.jupiter.engine.descriptor.CustomDisplayNameGenerator;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.DiscoveryIssue;
 import org.junit.platform.engine.DiscoveryIssue.Severity;
@@ -152,6 +153,34 @@ class DefaultJupiterConfigurationTests {
 		assertThat(supplier.get()).isSameAs(TempDirFactory.Standard.INSTANCE);
 	}
 
+	@Test
+	void getMaxInFlightDynamicNodes() {
+		assertThat(getMaxInFlightDynamicNodes(Map.of())).isEmpty();
+		assertThat(getMaxInFlightDynamicNodes(Map.of(Constants.DYNAMIC_TESTS_MAX_IN_FLIGHT_PROPERTY_NAME, " 42 "))) //
+				.contains(42);
+		assertThat(getMaxInFlightDynamicNodes(Map.of(Constants.DYNAMIC_TESTS_MAX_IN_FLIGHT_PROPERTY_NAME, "0"))) //
+				.isEmpty();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "0", "-1", "bogus" })
+	void reportsInvalidMaxInFlightDynamicNodes(String value) {
+		var parameters = Map.of(Constants.DYNAMIC_TESTS_MAX_IN_FLIGHT_PROPERTY_NAME, value);
+		List<DiscoveryIssue> issues = new ArrayList<>();
+
+		new DefaultJupiterConfiguration(configurationParameters(parameters), dummyOutputDirectoryCreator(),
+			DiscoveryIssueReporter.collecting(issues)).getMaxInFlightDynamicNodes();
+
+		assertThat(issues).containsExactly(DiscoveryIssue.create(Severity.WARNING, """
+				Invalid value '%s' set via the 'junit.jupiter.execution.dynamic.max-in-flight' configuration \
+				parameter. It must be a positive integer and will be ignored.""".formatted(value)));
+	}
+
+	private static Optional<Integer> getMaxInFlightDynamicNodes(Map<String, String> configParams) {
+		return new DefaultJupiterConfiguration(configurationParameters(configParams), dummyOutputDirectoryCreator(),
+			mock()).getMaxInFlightDynamicNodes();
+	}
+
 	@Test
 	void doesNotReportAnyIssuesIfConfigurationParametersAreEmpty() {
 		List<DiscoveryIssue> issues = new ArrayList<>();
@@ -13,6 +13,9 @@ package org.junit.jupiter.engine.descriptor;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.annotation.ElementType;
@@ -122,6 +125,21 @@ class JupiterTestDescriptorTests {
 		assertEquals("test()", descriptor.getLegacyReportingName(), "legacy name:");
 	}
 
+	@Test
+	void displayNamesAreGeneratedOnFirstAccess() throws Exception {
+		DisplayNameGenerator generator = spy(new DisplayNameGenerator.Standard());
+		when(configuration.getDefaultDisplayNameGenerator()).thenReturn(generator);
+		Method testMethod = TestCase.class.getDeclaredMethod("test");
+		TestMethodTestDescriptor descriptor = new TestMethodTestDescriptor(uniqueId, TestCase.class, testMethod,
+			List::of, configuration);
+
+		verify(generator, never()).generateDisplayNameForMethod(List.of(), TestCase.class, testMethod);
+
+		assertEquals("test()", descriptor.getDisplayName());
+		assertEquals("test()", descriptor.getDisplayName());
+		verify(generator).generateDisplayNameForMethod(List.of(), TestCase.class, testMethod);
+	}
+
 	@Test
 	void constructFromMethodWithAnnotations() throws Exception {
 		JupiterTestDescriptor classDescriptor = new ClassTestDescriptor(uniqueId, TestCase.class, configuration);
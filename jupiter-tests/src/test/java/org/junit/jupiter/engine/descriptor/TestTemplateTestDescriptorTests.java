@@ -105,6 +105,25 @@ class TestTemplateTestDescriptorTests {
 		assertThat(copy.getDynamicDescendantFilter().test(originalUniqueId, 1)).isFalse();
 	}
 
+	@Test
+	void copySharesMetadataAndUnrestrictedDynamicDescendantFilter() throws Exception {
+		var parentUniqueId = UniqueId.root("segment", "template").append("class", "myClass");
+		var originalUniqueId = parentUniqueId.append("old", "testTemplate()");
+
+		var original = new TestTemplateTestDescriptor(originalUniqueId, MyTestCase.class,
+			MyTestCase.class.getDeclaredMethod("testTemplate"), List::of, jupiterConfiguration);
+
+		var newUniqueId = parentUniqueId.append("new", "testTemplate()");
+
+		var copy = original.withUniqueId(new UniqueIdPrefixTransformer(originalUniqueId, newUniqueId));
+
+		assertThat(copy.getUniqueId()).isEqualTo(newUniqueId);
+		assertThat(copy.getDisplayName()).isEqualTo(original.getDisplayName());
+		assertThat(copy.getSource()).isEqualTo(original.getSource());
+		assertThat(copy.getTags()).isEqualTo(original.getTags());
+		assertThat(copy.getDynamicDescendantFilter()).isSameAs(original.getDynamicDescendantFilter());
+	}
+
 	private AbstractTestDescriptor containerTestDescriptorWithTags(UniqueId uniqueId, Set<TestTag> tags) {
 		return new AbstractTestDescriptor(uniqueId, "testDescriptor with tags") {
 
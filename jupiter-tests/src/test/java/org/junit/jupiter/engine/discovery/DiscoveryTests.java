@@ -36,6 +36,8 @@ import java.util.List;
 import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Named;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
@@ -410,6 +412,43 @@ class DiscoveryTests extends AbstractJupiterTestEngineTests {
 				.contains(org.junit.platform.engine.support.descriptor.MethodSource.from(method));
 	}
 
+	@Test
+	void reportsWarningsAndUsesStandardDisplayNamesForFailingDisplayNameGenerators() throws Exception {
+
+		var results = discoverTestsForClass(FailingDisplayNameGeneratorTestCase.class);
+
+		var method = FailingDisplayNameGeneratorTestCase.class.getDeclaredMethod("test");
+		var standardGenerator = DisplayNameGenerator.getDisplayNameGenerator(DisplayNameGenerator.Standard.class);
+		var classDescriptor = getOnlyElement(results.getEngineDescriptor().getChildren());
+		assertThat(classDescriptor.getDisplayName()) //
+				.isEqualTo(standardGenerator.generateDisplayNameForClass(FailingDisplayNameGeneratorTestCase.class));
+		assertThat(getOnlyElement(classDescriptor.getChildren()).getDisplayName()) //
+				.isEqualTo(standardGenerator.generateDisplayNameForMethod(List.of(),
+					FailingDisplayNameGeneratorTestCase.class, method));
+
+		var discoveryIssues = results.getDiscoveryIssues().stream().sorted(comparing(DiscoveryIssue::message)).toList();
+		assertThat(discoveryIssues).hasSize(2);
+
+		assertThat(discoveryIssues.getFirst().severity()).isEqualTo(Severity.WARNING);
+		assertThat(discoveryIssues.getFirst().message()) //
+				.isEqualTo(
+					"Failed to generate display name for class '%s'; using the standard display name instead.",
+					FailingDisplayNameGeneratorTestCase.class.getName());
+		assertThat(discoveryIssues.getFirst().cause()) //
+				.containsInstanceOf(IllegalStateException.class);
+		assertThat(discoveryIssues.getFirst().source()) //
+				.contains(ClassSource.from(FailingDisplayNameGeneratorTestCase.class));
+
+		assertThat(discoveryIssues.getLast().severity()).isEqualTo(Severity.WARNING);
+		assertThat(discoveryIssues.getLast().message()) //
+				.isEqualTo(
+					"Failed to generate display name for method '%s'; using the standard display name instead.",
+					method.toGenericString());
+		assertThat(discoveryIssues.getLast().cause()).isEmpty();
+		assertThat(discoveryIssues.getLast().source()) //
+				.contains(org.junit.platform.engine.support.descriptor.MethodSource.from(method));
+	}
+
 	// -------------------------------------------------------------------
 
 	@SuppressWarnings("unused")
@@ -568,6 +607,27 @@ class DiscoveryTests extends AbstractJupiterTestEngineTests {
 		}
 	}
 
+	@DisplayNameGeneration(FailingDisplayNameGenerator.class)
+	static class FailingDisplayNameGeneratorTestCase {
+		@Test
+		void test() {
+		}
+	}
+
+	static class FailingDisplayNameGenerator extends DisplayNameGenerator.Standard {
+
+		@Override
+		public String generateDisplayNameForClass(Class<?> testClass) {
+			throw new IllegalStateException("class");
+		}
+
+		@Override
+		public String generateDisplayNameForMethod(List<Class<?>> enclosingInstanceTypes, Class<?> testClass,
+				Method testMethod) {
+			return " ";
+		}
+	}
+
 	interface InterfaceTestCase {
 		@Test
 		default void test() {
@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.engine.extension;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.Constants.DEACTIVATE_CONDITIONS_PATTERN_PROPERTY_NAME;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
@@ -19,11 +20,17 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
 import org.junit.jupiter.api.extension.ExecutionCondition;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.util.SetSystemProperty;
 import org.junit.jupiter.engine.AbstractJupiterTestEngineTests;
 import org.junit.jupiter.engine.JupiterTestEngine;
@@ -111,6 +118,20 @@ class ExecutionConditionTests extends AbstractJupiterTestEngineTests {
 		assertExecutionConditionOverride(deactivatePattern, 4, 2, 2);
 	}
 
+	@Test
+	void conditionResultsAreReusedWithinTheirScope() {
+		ScopedCondition.evaluations.clear();
+
+		executeTestsForClass(TestCaseWithScopedConditions.class).testEvents() //
+				.assertStatistics(stats -> stats.started(4).succeeded(4));
+
+		// class, test(), repeatedTest(), and its three repetitions
+		assertEquals(6, ScopedCondition.evaluations.get(MethodScopedCondition.class).get());
+		// class, test(), and repeatedTest()
+		assertEquals(3, ScopedCondition.evaluations.get(ClassScopedCondition.class).get());
+		assertEquals(1, ScopedCondition.evaluations.get(JvmScopedCondition.class).get());
+	}
+
 	private void assertExecutionConditionOverride(String deactivatePattern, int testStartedCount, int testFailedCount) {
 		// @formatter:off
 		LauncherDiscoveryRequest request = request()
@@ -191,10 +212,62 @@ class ExecutionConditionTests extends AbstractJupiterTestEngineTests {
 
 	}
 
+	@ExtendWith({ JvmScopedCondition.class, ClassScopedCondition.class, MethodScopedCondition.class })
+	static class TestCaseWithScopedConditions {
+
+		@Test
+		void test() {
+		}
+
+		@RepeatedTest(3)
+		void repeatedTest() {
+		}
+	}
+
 	@Target({ ElementType.METHOD, ElementType.TYPE })
 	@Retention(RetentionPolicy.RUNTIME)
 	@ExtendWith({ AlwaysDisabledCondition.class, AnotherAlwaysDisabledCondition.class })
 	@interface DeactivatedConditions {
 	}
 
+	abstract static class ScopedCondition implements ExecutionCondition {
+
+		static final Map<Class<?>, AtomicInteger> evaluations = new ConcurrentHashMap<>();
+
+		private final ResultScope resultScope;
+
+		ScopedCondition(ResultScope resultScope) {
+			this.resultScope = resultScope;
+		}
+
+		@Override
+		public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+			evaluations.computeIfAbsent(getClass(), __ -> new AtomicInteger()).incrementAndGet();
+			return ConditionEvaluationResult.enabled("always enabled");
+		}
+
+		@Override
+		public ResultScope getResultScope() {
+			return this.resultScope;
+		}
+	}
+
+	static class JvmScopedCondition extends ScopedCondition {
+		JvmScopedCondition() {
+			super(ResultScope.JVM);
+		}
+	}
+
+	static class ClassScopedCondition extends ScopedCondition {
+		ClassScopedCondition() {
+			super(ResultScope.CLASS);
+		}
+	}
+
+	static class MethodScopedCondition extends ScopedCondition {
+		MethodScopedCondition() {
+			super(ResultScope.METHOD);
+		}
+	}
+
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import static java.util.concurrent.TimeUnit.DAYS;
+import static java.util.concurrent.TimeUnit.HOURS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.PreconditionViolationException;
+
+/**
+ * Unit tests for {@link HashedWheelTimer}.
+ *
+ * @since 6.2
+ */
+class HashedWheelTimerTests {
+
+	@Test
+	void executesTasksAfterTheirDelay() throws Exception {
+		try (var timer = new HashedWheelTimer("timer", 1, MILLISECONDS, 8)) {
+			var latch = new CountDownLatch(2);
+			var startTime = System.nanoTime();
+
+			// spans more than one rotation of the wheel
+			var shortTimeout = timer.schedule(latch::countDown, 1, MILLISECONDS);
+			var longTimeout = timer.schedule(latch::countDown, 50, MILLISECONDS);
+
+			assertThat(latch.await(5, SECONDS)).isTrue();
+			assertThat(System.nanoTime() - startTime).isGreaterThanOrEqualTo(MILLISECONDS.toNanos(50));
+			assertThat(shortTimeout.cancel()).isFalse();
+			assertThat(longTimeout.cancel()).isFalse();
+		}
+	}
+
+	@Test
+	void doesNotExecuteCancelledTasks() throws Exception {
+		var executions = new AtomicInteger();
+		try (var timer = new HashedWheelTimer("timer", 1, MILLISECONDS, 8)) {
+			for (int i = 0; i < 1000; i++) {
+				var timeout = timer.schedule(executions::incrementAndGet, 20, MILLISECONDS);
+				assertThat(timeout.cancel()).isTrue();
+				assertThat(timeout.isCancelled()).isTrue();
+			}
+			var latch = new CountDownLatch(1);
+			timer.schedule(latch::countDown, 30, MILLISECONDS);
+
+			assertThat(latch.await(5, SECONDS)).isTrue();
+			assertThat(executions).hasValue(0);
+		}
+	}
+
+	@Test
+	void doesNotExecuteTasksWithHugeDelays() throws Exception {
+		var executions = new AtomicInteger();
+		try (var timer = new HashedWheelTimer("timer", 1, MILLISECONDS, 8)) {
+			var timeout = timer.schedule(executions::incrementAndGet, Long.MAX_VALUE, DAYS);
+			var latch = new CountDownLatch(1);
+			timer.schedule(latch::countDown, 30, MILLISECONDS);
+
+			assertThat(latch.await(5, SECONDS)).isTrue();
+			assertThat(executions).hasValue(0);
+			assertThat(timeout.cancel()).isTrue();
+		}
+	}
+
+	@Test
+	void releasesCancelledTasksBeforeTheirDeadline() throws Exception {
+		try (var timer = new HashedWheelTimer("timer", 1, MILLISECONDS, 8)) {
+			Runnable task = new AtomicInteger()::incrementAndGet;
+			var taskReference = new WeakReference<Runnable>(task);
+			var timeout = timer.schedule(task, 1, HOURS);
+			// let the watcher thread transfer the timeout into its bucket
+			Thread.sleep(20);
+			assertThat(timeout.cancel()).isTrue();
+			timeout = null;
+			task = null;
+
+			var deadline = System.nanoTime() + SECONDS.toNanos(5);
+			while (taskReference.get() != null && System.nanoTime() < deadline) {
+				System.gc();
+				Thread.sleep(10);
+			}
+			assertThat(taskReference.get()).isNull();
+		}
+	}
+
+	@Test
+	void waitsForCompletionOfStartedTasks() throws Exception {
+		try (var timer = new HashedWheelTimer("timer", 1, MILLISECONDS, 8)) {
+			var started = new CountDownLatch(1);
+			var completed = new AtomicInteger();
+			var timeout = timer.schedule(() -> {
+				started.countDown();
+				try {
+					Thread.sleep(50);
+				}
+				catch (InterruptedException ignored) {
+				}
+				completed.incrementAndGet();
+			}, 0, MILLISECONDS);
+
+			assertThat(started.await(5, SECONDS)).isTrue();
+			assertThat(timeout.cancel()).isFalse();
+			timeout.awaitCompletion();
+			assertThat(completed).hasValue(1);
+		}
+	}
+
+	@Test
+	void rejectsTasksAfterClose() throws Exception {
+		var timer = new HashedWheelTimer("timer", 1, MILLISECONDS, 8);
+		timer.close();
+
+		assertThatThrownBy(() -> timer.schedule(() -> {
+		}, 1, MILLISECONDS)) //
+				.isInstanceOf(JUnitException.class) //
+				.hasMessage("Timer has already been closed");
+	}
+
+	@Test
+	void rejectsInvalidWheelSize() {
+		assertThatThrownBy(() -> new HashedWheelTimer("timer", 1, MILLISECONDS, 3)) //
+				.isInstanceOf(PreconditionViolationException.class) //
+				.hasMessage("ticksPerWheel must be a power of two");
+	}
+
+}
@@ -10,15 +10,12 @@
 
 package org.junit.jupiter.engine.extension;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
-import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeoutException;
 
 import org.junit.jupiter.api.Test;
@@ -31,26 +28,21 @@ class SameThreadTimeoutInvocationTests {
 
 	@Test
 	void resetsInterruptFlag() {
-		var exception = assertThrows(TimeoutException.class, () -> withExecutor(executor -> {
+		var exception = assertThrows(TimeoutException.class, () -> withTimer(timer -> {
 			var delegate = new EventuallyInterruptibleInvocation();
 			var duration = new TimeoutDuration(1, NANOSECONDS);
 			var parameters = new TimeoutInvocationParameters<>(delegate, duration, () -> "execution",
 				PreInterruptCallbackInvocation.NOOP, false);
-			var timeoutInvocation = new SameThreadTimeoutInvocation<>(parameters, executor);
+			var timeoutInvocation = new SameThreadTimeoutInvocation<>(parameters, timer);
 			timeoutInvocation.proceed();
 		}));
 		assertFalse(Thread.currentThread().isInterrupted());
 		assertThat(exception).hasMessageStartingWith("execution timed out after 1 nanosecond");
 	}
 
-	private void withExecutor(ThrowingConsumer<ScheduledExecutorService> consumer) throws Throwable {
-		ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
-		try {
-			consumer.accept(executor);
-		}
-		finally {
-			executor.shutdown();
-			assertTrue(executor.awaitTermination(5, SECONDS));
+	private void withTimer(ThrowingConsumer<HashedWheelTimer> consumer) throws Throwable {
+		try (var timer = new HashedWheelTimer("timer", 1, MILLISECONDS, 8)) {
+			consumer.accept(timer);
 		}
 	}
 }
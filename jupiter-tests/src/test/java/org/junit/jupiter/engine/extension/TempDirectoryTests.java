@@ -46,6 +46,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Parameter;
 import java.nio.file.DirectoryNotEmptyException;
 import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
@@ -85,6 +86,7 @@ import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.api.io.TempDirDeletionStrategy.DeletionException;
 import org.junit.jupiter.api.io.TempDirFactory;
 import org.junit.jupiter.api.io.TempDirFactory.Standard;
+import org.junit.jupiter.api.io.TemplateCopyMode;
 import org.junit.jupiter.engine.AbstractJupiterTestEngineTests;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -416,6 +418,26 @@ class TempDirectoryTests extends AbstractJupiterTestEngineTests {
 			// @formatter:on
 		}
 
+		@Test
+		@DisplayName("when @TempDir template is not a directory")
+		@Order(35)
+		void doesNotSupportTemplateThatIsNotADirectory() {
+			var results = executeTestsForClass(MissingTemplateTestCase.class);
+
+			// @formatter:off
+			assertSingleFailedTest(results, instanceOf(ParameterResolutionException.class),
+					message(m -> m.matches("Failed to resolve parameter \\[.+] in method \\[.+]: .+")),
+					cause(
+							instanceOf(ExtensionConfigurationException.class),
+							message("Failed to create default temp directory"),
+							cause(
+									instanceOf(PreconditionViolationException.class),
+									message(m -> m.endsWith("must be a directory"))
+							)
+					));
+			// @formatter:on
+		}
+
 	}
 
 	@Nested
@@ -489,6 +511,31 @@ class TempDirectoryTests extends AbstractJupiterTestEngineTests {
 
 	}
 
+	@Nested
+	@DisplayName("supports template")
+	class Template {
+
+		@ParameterizedTest
+		@EnumSource(TemplateCopyMode.class)
+		@DisplayName("that populates each temp dir")
+		void populatesEachTempDirFromTemplate(TemplateCopyMode copyMode) throws IOException {
+			var testClass = copyMode == TemplateCopyMode.LINK ? LinkedTemplateTestCase.class : TemplateTestCase.class;
+
+			executeTestsForClass(testClass).testEvents()//
+					.assertStatistics(stats -> stats.started(2).succeeded(2));
+
+			TemplateTestCase.assertPopulated(Path.of(TemplateTestCase.TEMPLATE));
+		}
+
+		@Test
+		@DisplayName("that is combined with a custom factory")
+		void supportsTemplateWithCustomFactory() {
+			executeTestsForClass(TemplateWithJimfsTestCase.class).testEvents()//
+					.assertStatistics(stats -> stats.started(1).succeeded(1));
+		}
+
+	}
+
 	@Nested
 	@DisplayName("supports default factory")
 	@TestMethodOrder(OrderAnnotation.class)
@@ -1495,6 +1542,92 @@ class TempDirectoryTests extends AbstractJupiterTestEngineTests {
 
 	}
 
+	@TestMethodOrder(OrderAnnotation.class)
+	static class TemplateTestCase {
+
+		static final String TEMPLATE = "src/test/resources/org/junit/jupiter/engine/extension/tempdir-template";
+
+		@Test
+		@Order(1)
+		void modifiesTempDir(@TempDir(template = TEMPLATE) Path tempDir) throws IOException {
+			assertPopulated(tempDir);
+			Files.delete(tempDir.resolve("a.txt"));
+			Files.writeString(tempDir.resolve("nested/b.txt"), "modified");
+		}
+
+		@Test
+		@Order(2)
+		void seesUnmodifiedTemplate(@TempDir(template = TEMPLATE) Path tempDir) throws IOException {
+			assertPopulated(tempDir);
+		}
+
+		static void assertPopulated(Path tempDir) throws IOException {
+			assertThat(Files.readString(tempDir.resolve("a.txt"))).isEqualTo("a\n");
+			assertThat(Files.readString(tempDir.resolve("nested/b.txt"))).isEqualTo("b\n");
+		}
+
+	}
+
+	@TestMethodOrder(OrderAnnotation.class)
+	static class LinkedTemplateTestCase {
+
+		@Test
+		@Order(1)
+		void replacesFileInTempDir(
+				@TempDir(template = TemplateTestCase.TEMPLATE, templateCopyMode = TemplateCopyMode.LINK) Path tempDir)
+				throws IOException {
+			TemplateTestCase.assertPopulated(tempDir);
+			Files.delete(tempDir.resolve("a.txt"));
+			Files.writeString(tempDir.resolve("a.txt"), "replaced");
+		}
+
+		@Test
+		@Order(2)
+		void seesUnmodifiedTemplate(
+				@TempDir(template = TemplateTestCase.TEMPLATE, templateCopyMode = TemplateCopyMode.LINK) Path tempDir)
+				throws IOException {
+			TemplateTestCase.assertPopulated(tempDir);
+		}
+
+	}
+
+	static class TemplateWithJimfsTestCase {
+
+		@Test
+		void test(@TempDir(factory = Factory.class, template = TemplateTestCase.TEMPLATE, //
+				templateCopyMode = TemplateCopyMode.LINK) Path tempDir) throws IOException {
+			assertThat(tempDir.getFileSystem()).isNotEqualTo(FileSystems.getDefault());
+			TemplateTestCase.assertPopulated(tempDir);
+		}
+
+		@NullMarked
+		private static class Factory implements TempDirFactory {
+
+			private final FileSystem fileSystem = Jimfs.newFileSystem(Configuration.unix());
+
+			@Override
+			public Path createTempDirectory(AnnotatedElementContext elementContext, ExtensionContext extensionContext)
+					throws Exception {
+				return Files.createTempDirectory(fileSystem.getPath("/"), "prefix");
+			}
+
+			@Override
+			public void close() throws IOException {
+				fileSystem.close();
+			}
+		}
+
+	}
+
+	static class MissingTemplateTestCase {
+
+		@Test
+		void test(@SuppressWarnings("unused") @TempDir(template = "does-not-exist") Path tempDir) {
+			// never called
+		}
+
+	}
+
 	static class FactoryNotReturningDirectoryTestCase {
 
 		@Test
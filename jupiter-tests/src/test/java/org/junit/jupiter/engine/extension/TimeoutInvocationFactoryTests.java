@@ -23,7 +23,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.ExtensionContext.Store;
 import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
 import org.junit.jupiter.engine.execution.NamespaceAwareStore;
-import org.junit.jupiter.engine.extension.TimeoutInvocationFactory.SingleThreadExecutorResource;
+import org.junit.jupiter.engine.extension.TimeoutInvocationFactory.TimeoutExecutorResource;
+import org.junit.jupiter.engine.extension.TimeoutInvocationFactory.TimeoutWatcherResource;
 import org.junit.platform.engine.support.store.Namespace;
 import org.junit.platform.engine.support.store.NamespacedHierarchicalStore;
 import org.mockito.Mock;
@@ -90,14 +91,16 @@ class TimeoutInvocationFactoryTests {
 	void shouldCreateTimeoutInvocationForSameThreadTimeoutThreadMode() {
 		var invocation = timeoutInvocationFactory.create(ThreadMode.SAME_THREAD, parameters);
 		assertThat(invocation).isInstanceOf(SameThreadTimeoutInvocation.class);
-		verify(store).computeIfAbsent(SingleThreadExecutorResource.class);
+		verify(store).computeIfAbsent(TimeoutWatcherResource.class);
 	}
 
+	@SuppressWarnings("resource")
 	@Test
 	@DisplayName("creates timeout invocation for SEPARATE_THREAD thread mode")
 	void shouldCreateTimeoutInvocationForSeparateThreadTimeoutThreadMode() {
 		var invocation = timeoutInvocationFactory.create(ThreadMode.SEPARATE_THREAD, parameters);
 		assertThat(invocation).isInstanceOf(SeparateThreadTimeoutInvocation.class);
+		verify(store).computeIfAbsent(TimeoutExecutorResource.class);
 	}
 
 }
@@ -13,14 +13,40 @@ package org.junit.jupiter.jmh;
 import org.junit.Assert;
 import org.junit.jupiter.api.Assertions;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
 
 /**
  * JMH benchmarks for assertions.
  *
+ * <p>Successful assertions on primitives and arrays are not expected to
+ * allocate. When run with JMH's GC profiler ({@code -prof gc}), the
+ * {@code gc.alloc.rate.norm} of the corresponding benchmarks should therefore
+ * be {@code ≈ 0 B/op}. Note that capturing lambdas passed as message
+ * suppliers may be allocated by the caller.
+ *
  * @since 5.1
  */
+@State(Scope.Benchmark)
 public class AssertionBenchmarks {
 
+	long expectedLong = 4711L;
+	long actualLong = 4711L;
+
+	double expectedDouble = 42.23;
+	double actualDouble = 42.23;
+
+	long[] expectedLongArray = new long[] { 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L };
+	long[] actualLongArray = expectedLongArray.clone();
+
+	double[] expectedDoubleArray = new double[] { 0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8 };
+	double[] actualDoubleArray = expectedDoubleArray.clone();
+
+	Object[] expectedObjectArray = new Object[] { "a", 1000,
+			new int[] { 1, 2 }, new Object[] { 2.0, new long[] { 3 } } };
+	Object[] actualObjectArray = new Object[] { "a", 1000,
+			new int[] { 1, 2 }, new Object[] { 2.0, new long[] { 3 } } };
+
 	@Benchmark
 	public void junit4_assertTrue_boolean() {
 		Assert.assertTrue(true);
@@ -56,4 +82,64 @@ public class AssertionBenchmarks {
 		Assertions.assertTrue(() -> true, () -> "message");
 	}
 
+	@Benchmark
+	public void junit4_assertEquals_long_long() {
+		Assert.assertEquals(expectedLong, actualLong);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertEquals_long_long() {
+		Assertions.assertEquals(expectedLong, actualLong);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertEquals_long_long_String() {
+		Assertions.assertEquals(expectedLong, actualLong, "message");
+	}
+
+	@Benchmark
+	public void junitJupiter_assertEquals_long_long_Supplier() {
+		Assertions.assertEquals(expectedLong, actualLong, () -> "message");
+	}
+
+	@Benchmark
+	public void junitJupiter_assertEquals_double_double_double() {
+		Assertions.assertEquals(expectedDouble, actualDouble, 0.001);
+	}
+
+	@Benchmark
+	public void junit4_assertArrayEquals_longArray() {
+		Assert.assertArrayEquals(expectedLongArray, actualLongArray);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertArrayEquals_longArray() {
+		Assertions.assertArrayEquals(expectedLongArray, actualLongArray);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertArrayEquals_longArray_Supplier() {
+		Assertions.assertArrayEquals(expectedLongArray, actualLongArray, () -> "message");
+	}
+
+	@Benchmark
+	public void junitJupiter_assertArrayEquals_doubleArray_double() {
+		Assertions.assertArrayEquals(expectedDoubleArray, actualDoubleArray, 0.001);
+	}
+
+	@Benchmark
+	public void junit4_assertArrayEquals_ObjectArray() {
+		Assert.assertArrayEquals(expectedObjectArray, actualObjectArray);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertArrayEquals_ObjectArray() {
+		Assertions.assertArrayEquals(expectedObjectArray, actualObjectArray);
+	}
+
+	@Benchmark
+	public void junitJupiter_assertArrayEquals_ObjectArray_String() {
+		Assertions.assertArrayEquals(expectedObjectArray, actualObjectArray, "message");
+	}
+
 }
@@ -36,6 +36,7 @@ import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.logging.Level;
@@ -293,6 +294,63 @@ class DefaultClasspathScannerTests {
 		assertTrue(classes.contains(MemberClassToBeFound.class));
 	}
 
+	@Test
+	void scanForClassesInPackageReusesClasspathScanningResultsWhileMemoIsOpen() {
+		var resourceLookups = new AtomicInteger();
+		var countingClassLoader = new ClassLoader(ClassLoaderUtils.getDefaultClassLoader()) {
+			@Override
+			public Enumeration<URL> getResources(String name) throws IOException {
+				resourceLookups.incrementAndGet();
+				return super.getResources(name);
+			}
+		};
+		var scanner = new DefaultClasspathScanner(() -> countingClassLoader, trackingClassLoader);
+		var expected = scanner.scanForClassesInPackage("org.junit.platform.commons", allClasses);
+		resourceLookups.set(0);
+
+		try (var ignored = ClasspathScanningMemo.open()) {
+			assertThat(scanner.scanForClassesInPackage("org.junit.platform.commons", allClasses)) //
+					.containsExactlyElementsOf(expected);
+			var thisClassOnly = ClassFilter.of(clazz -> clazz == DefaultClasspathScannerTests.class);
+			assertThat(scanner.scanForClassesInPackage("org.junit.platform.commons", thisClassOnly)) //
+					.containsExactly(DefaultClasspathScannerTests.class);
+		}
+		assertThat(resourceLookups).hasValue(2);
+
+		scanner.scanForClassesInPackage("org.junit.platform.commons", allClasses);
+		assertThat(resourceLookups).hasValue(4);
+	}
+
+	@Test
+	void classpathScanningMemoIsOnlyUsedByThreadsItIsBoundTo() throws Exception {
+		var resourceLookups = new AtomicInteger();
+		var countingClassLoader = new ClassLoader(ClassLoaderUtils.getDefaultClassLoader()) {
+			@Override
+			public Enumeration<URL> getResources(String name) throws IOException {
+				resourceLookups.incrementAndGet();
+				return super.getResources(name);
+			}
+		};
+		var scanner = new DefaultClasspathScanner(() -> countingClassLoader, trackingClassLoader);
+
+		try (var ignored = ClasspathScanningMemo.open()) {
+			scanner.scanForClassesInPackage("org.junit.platform.commons", allClasses);
+			assertThat(resourceLookups).hasValue(2);
+
+			var memo = ClasspathScanningMemo.current();
+			var otherThread = new Thread(() -> {
+				scanner.scanForClassesInPackage("org.junit.platform.commons", allClasses);
+				try (var ignored2 = ClasspathScanningMemo.bind(memo)) {
+					scanner.scanForClassesInPackage("org.junit.platform.commons", allClasses);
+				}
+			});
+			otherThread.start();
+			otherThread.join();
+			assertThat(resourceLookups).hasValue(4);
+		}
+		assertThat(ClasspathScanningMemo.current()).isNull();
+	}
+
 	@Test
 	void scanForResourcesInPackage() {
 		var resources = classpathScanner.scanForResourcesInPackage("org.junit.platform.commons", allResources);
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.commons.util.TestResultsStore.Status;
+
+/**
+ * Unit tests for {@link TestResultsStore}.
+ *
+ * @since 6.2
+ */
+class TestResultsStoreTests {
+
+	private static final String uniqueId = "[engine:test]/[class:com.example.FooTests]/[method:test()]";
+	private static final String source = TestResultsStore.methodKey("com.example.FooTests", "test", "");
+
+	@Test
+	void derivesStatusFromRecentResults() {
+		var store = new TestResultsStore();
+		assertThat(store.getStatus(uniqueId)).isEqualTo(Status.PASSED);
+
+		store.record(uniqueId, source, false);
+		assertThat(store.getStatus(uniqueId)).isEqualTo(Status.PASSED);
+
+		store.record(uniqueId, source, true);
+		assertThat(store.getStatus(uniqueId)).isEqualTo(Status.FAILED);
+		assertThat(store.getRecentlyFailedUniqueIds()).containsExactly(uniqueId);
+
+		store.record(uniqueId, source, false);
+		assertThat(store.getStatus(uniqueId)).isEqualTo(Status.FLAKY);
+		assertThat(store.getRecentlyFailedUniqueIds()).containsExactly(uniqueId);
+	}
+
+	@Test
+	void forgetsFailuresAfterHistoryLength() {
+		var store = new TestResultsStore();
+		store.record(uniqueId, source, true);
+
+		IntStream.range(1, TestResultsStore.HISTORY_LENGTH).forEach(__ -> store.record(uniqueId, source, false));
+		assertThat(store.getStatus(uniqueId)).isEqualTo(Status.FLAKY);
+
+		store.record(uniqueId, source, false);
+		assertThat(store.getStatus(uniqueId)).isEqualTo(Status.PASSED);
+		assertThat(store.getRecentlyFailedUniqueIds()).isEmpty();
+	}
+
+	@Test
+	void aggregatesStatusesBySourceAndClassName() {
+		var store = new TestResultsStore();
+		store.record("[engine:test]/[method:a]", TestResultsStore.methodKey("com.example.FooTests", "a", ""), false);
+		store.record("[engine:test]/[method:b]", TestResultsStore.methodKey("com.example.FooTests$Nested", "b", "int"),
+			true);
+
+		assertThat(store.getStatusBySource("com.example.FooTests#a()")).isEqualTo(Status.PASSED);
+		assertThat(store.getStatusBySource("com.example.FooTests$Nested#b(int)")).isEqualTo(Status.FAILED);
+		assertThat(store.getStatusByClassName("com.example.FooTests$Nested")).isEqualTo(Status.FAILED);
+		assertThat(store.getStatusByClassName("com.example.FooTests")).isEqualTo(Status.FAILED);
+		assertThat(store.getStatusByClassName("com.example.FooTestsToo")).isEqualTo(Status.PASSED);
+	}
+
+	@Test
+	void writesAndReadsStore(@TempDir Path tempDir) throws Exception {
+		var file = tempDir.resolve("nested").resolve(TestResultsStore.FILE_NAME);
+		var store = new TestResultsStore();
+		store.record(uniqueId, source, true);
+		store.record(uniqueId, source, false);
+		store.record("[engine:test]/[class:com.example.BarTests]", null, true);
+
+		store.write(file);
+		var readStore = TestResultsStore.read(file);
+
+		assertThat(readStore.getStatus(uniqueId)).isEqualTo(Status.FLAKY);
+		assertThat(readStore.getStatusBySource(source)).isEqualTo(Status.FLAKY);
+		assertThat(readStore.getStatus("[engine:test]/[class:com.example.BarTests]")).isEqualTo(Status.FAILED);
+	}
+
+	@Test
+	void ignoresMissingAndCorruptFiles(@TempDir Path tempDir) throws Exception {
+		assertThat(TestResultsStore.read(tempDir.resolve("missing.txt")).getRecentlyFailedUniqueIds()).isEmpty();
+
+		var file = tempDir.resolve(TestResultsStore.FILE_NAME);
+		Files.writeString(file, "not a valid entry\n", UTF_8);
+
+		assertThat(TestResultsStore.read(file).getRecentlyFailedUniqueIds()).isEmpty();
+	}
+
+	@Test
+	void omitsTestsWithoutRecentFailures(@TempDir Path tempDir) throws Exception {
+		var file = tempDir.resolve(TestResultsStore.FILE_NAME);
+		var store = new TestResultsStore();
+		store.record(uniqueId, source, false);
+		store.record("[engine:test]/[class:com.example.BarTests]", null, true);
+
+		store.write(file);
+
+		assertThat(Files.readString(file, UTF_8)) //
+				.doesNotContain(uniqueId) //
+				.contains("[engine:test]/[class:com.example.BarTests]");
+	}
+
+	@Test
+	void discardsTestsThatHaveNotBeenExecutedRecently(@TempDir Path tempDir) throws Exception {
+		var file = tempDir.resolve(TestResultsStore.FILE_NAME);
+		var store = new TestResultsStore();
+		store.record(uniqueId, source, true);
+		store.write(file);
+
+		for (int i = 1; i < 100; i++) {
+			TestResultsStore.read(file).write(file);
+		}
+		assertThat(TestResultsStore.read(file).getStatus(uniqueId)).isEqualTo(Status.FAILED);
+
+		var readStore = TestResultsStore.read(file);
+		readStore.record("[engine:test]/[class:com.example.BarTests]", null, true);
+		readStore.write(file);
+
+		var storeAfterEviction = TestResultsStore.read(file);
+		assertThat(storeAfterEviction.getStatus(uniqueId)).isEqualTo(Status.PASSED);
+		assertThat(storeAfterEviction.getRecentlyFailedUniqueIds()).containsExactly(
+			"[engine:test]/[class:com.example.BarTests]");
+	}
+
+}
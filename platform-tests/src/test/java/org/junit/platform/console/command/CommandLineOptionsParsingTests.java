@@ -319,6 +319,26 @@ class CommandLineOptionsParsingTests {
 		assertOptionWithMissingRequiredArgumentThrowsException("-E", "--exclude-engine");
 	}
 
+	@ParameterizedTest
+	@EnumSource
+	void parseValidAffectedAndPreviouslyFailedTestsOptions(ArgsType type) {
+		// @formatter:off
+		assertAll(
+			() -> assertEquals(List.of("com.acme.Foo", "com.acme.Bar"), type.parseArgLine("--include-affected-by com.acme.Foo --include-affected-by com.acme.Bar").discovery.getChangedClassNames()),
+			() -> assertEquals(List.of(), type.parseArgLine("").discovery.getChangedClassNames()),
+			() -> assertTrue(type.parseArgLine("--include-affected-since-last-run").discovery.isAffectedSinceLastRun()),
+			() -> assertFalse(type.parseArgLine("").discovery.isAffectedSinceLastRun()),
+			() -> assertTrue(type.parseArgLine("--include-previously-failed").discovery.isPreviouslyFailed()),
+			() -> assertFalse(type.parseArgLine("").discovery.isPreviouslyFailed())
+		);
+		// @formatter:on
+	}
+
+	@Test
+	void parseInvalidAffectedTestsOptions() {
+		assertOptionWithMissingRequiredArgumentThrowsException("--include-affected-by");
+	}
+
 	@ParameterizedTest
 	@EnumSource
 	void parseValidAdditionalClasspathEntries(ArgsType type) {
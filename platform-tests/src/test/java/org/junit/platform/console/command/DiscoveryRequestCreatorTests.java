@@ -52,6 +52,7 @@ import org.junit.platform.engine.discovery.PackageNameFilter;
 import org.junit.platform.engine.discovery.PackageSelector;
 import org.junit.platform.engine.discovery.UniqueIdSelector;
 import org.junit.platform.engine.discovery.UriSelector;
+import org.junit.platform.launcher.AffectedTestsFilter;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
 
 /**
@@ -221,6 +222,18 @@ class DiscoveryRequestCreatorTests {
 		assertThat(engineFilters.get(1).toString()).contains("excludes", "[engine2]");
 	}
 
+	@Test
+	void convertsAffectedTestsOptions() {
+		options.setScanClasspath(true);
+		options.setChangedClassNames(List.of("com.acme.Foo"));
+
+		var request = convert();
+		var postDiscoveryFilters = request.getPostDiscoveryFilters();
+
+		assertThat(postDiscoveryFilters).hasSize(1);
+		assertThat(postDiscoveryFilters.getFirst()).isInstanceOf(AffectedTestsFilter.class);
+	}
+
 	@Test
 	void propagatesUniqueIdSelectors() {
 		options.setSelectedUniqueId(List.of(selectUniqueId("[engine:a]/[1:1]"), selectUniqueId("[engine:b]/[2:2]")));
@@ -21,13 +21,17 @@ import static org.mockito.Mockito.mock;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestDescriptor.TraversalOrder;
 import org.junit.platform.engine.UniqueId;
 
 /**
@@ -165,6 +169,72 @@ class AbstractTestDescriptorTests implements TestDescriptorOrderChildrenTests {
 			UniqueId.forEngine("testEngine"));
 	}
 
+	@Test
+	void traverseAncestors() {
+		List<UniqueId> visited = new ArrayList<>();
+
+		assertTrue(leaf111.traverseAncestors(descriptor -> visited.add(descriptor.getUniqueId())));
+		assertThat(visited).containsExactly( //
+			UniqueId.root("group", "group1-1"), //
+			UniqueId.root("group", "group1"), //
+			UniqueId.forEngine("testEngine"));
+
+		visited.clear();
+		assertFalse(leaf111.traverseAncestors(descriptor -> visited.add(descriptor.getUniqueId())
+				&& !descriptor.getUniqueId().equals(UniqueId.root("group", "group1"))));
+		assertThat(visited).containsExactly( //
+			UniqueId.root("group", "group1-1"), //
+			UniqueId.root("group", "group1"));
+	}
+
+	@Test
+	void getDescendants() {
+		assertThat(engineDescriptor.getDescendants()).extracting(TestDescriptor::getUniqueId).containsExactly( //
+			UniqueId.root("group", "group1"), //
+			UniqueId.root("group", "group2"), //
+			UniqueId.root("group", "group1-1"), //
+			UniqueId.root("leaf", "leaf1-1"), //
+			UniqueId.root("leaf", "leaf1-2"), //
+			UniqueId.root("leaf", "leaf11-1"), //
+			UniqueId.root("leaf", "leaf2-1"));
+		assertThat(engineDescriptor.getDescendantCount()).isEqualTo(7);
+		assertThat(group1.getDescendantCount()).isEqualTo(4);
+		assertThat(leaf111.getDescendantCount()).isZero();
+	}
+
+	@Test
+	void traverseInPreOrder() {
+		List<String> visited = new ArrayList<>();
+
+		assertTrue(engineDescriptor.traverse(TraversalOrder.PRE_ORDER,
+			descriptor -> visited.add(descriptor.getUniqueId().getLastSegment().getValue())));
+
+		assertThat(visited).containsExactly("testEngine", "group1", "group1-1", "leaf11-1", "leaf1-1", "leaf1-2",
+			"group2", "leaf2-1");
+	}
+
+	@Test
+	void traverseInPostOrder() {
+		List<String> visited = new ArrayList<>();
+
+		assertTrue(engineDescriptor.traverse(TraversalOrder.POST_ORDER,
+			descriptor -> visited.add(descriptor.getUniqueId().getLastSegment().getValue())));
+
+		assertThat(visited).containsExactly("leaf11-1", "group1-1", "leaf1-1", "leaf1-2", "group1", "leaf2-1",
+			"group2", "testEngine");
+	}
+
+	@ParameterizedTest
+	@EnumSource(TraversalOrder.class)
+	void traversalIsTerminatedOnceVisitorReturnsFalse(TraversalOrder order) {
+		List<TestDescriptor> visited = new ArrayList<>();
+
+		assertFalse(engineDescriptor.traverse(order, descriptor -> visited.add(descriptor) && !descriptor.equals(leaf111)));
+
+		assertThat(visited).endsWith(leaf111);
+		assertThat(visited).hasSizeLessThan(8);
+	}
+
 	private List<UniqueId> getAncestorsUniqueIds(TestDescriptor descriptor) {
 		return descriptor.getAncestors().stream().map(TestDescriptor::getUniqueId).toList();
 	}
@@ -192,6 +262,28 @@ class AbstractTestDescriptorTests implements TestDescriptorOrderChildrenTests {
 		assertThat(new DemoDescriptor(input).getDisplayName()).isEqualTo(expected);
 	}
 
+	@Test
+	void displayNameSupplierIsCalledOnceOnFirstAccess() {
+		var calls = new AtomicInteger();
+		var descriptor = new DemoDescriptor(() -> {
+			calls.incrementAndGet();
+			return "lazy\tname";
+		});
+
+		assertEquals(0, calls.get());
+		assertEquals("lazy\uFFFDname", descriptor.getDisplayName());
+		assertEquals("lazy\uFFFDname", descriptor.getDisplayName());
+		assertEquals(1, calls.get());
+	}
+
+	@Test
+	void blankDisplayNameFromSupplierIsRejectedOnAccess() {
+		var descriptor = new DemoDescriptor(() -> " ");
+
+		var exception = assertThrows(PreconditionViolationException.class, descriptor::getDisplayName);
+		assertEquals("displayName must not be null or blank", exception.getMessage());
+	}
+
 }
 
 class GroupDescriptor extends AbstractTestDescriptor {
@@ -226,6 +318,10 @@ class DemoDescriptor extends AbstractTestDescriptor {
 		super(mock(), displayName);
 	}
 
+	DemoDescriptor(Supplier<String> displayNameSupplier) {
+		super(mock(), displayNameSupplier, null);
+	}
+
 	@Override
 	public Type getType() {
 		return Type.CONTAINER;
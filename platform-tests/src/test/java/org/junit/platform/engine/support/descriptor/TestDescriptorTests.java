@@ -10,13 +10,21 @@
 
 package org.junit.platform.engine.support.descriptor;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.Test;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestDescriptor.TraversalOrder;
 import org.junit.platform.engine.TestSource;
 import org.junit.platform.engine.TestTag;
 import org.junit.platform.engine.UniqueId;
@@ -28,6 +36,27 @@ class TestDescriptorTests implements TestDescriptorOrderChildrenTests {
 		return new MinimalTestDescriptorImplementation();
 	}
 
+	@Test
+	void traversesSubtreeInSuppliedOrder() {
+		var root = new MinimalTestDescriptorImplementation();
+		var child = new MinimalTestDescriptorImplementation();
+		var grandchild = new MinimalTestDescriptorImplementation();
+		root.addChild(child);
+		child.addChild(grandchild);
+
+		List<TestDescriptor> preOrder = new ArrayList<>();
+		assertTrue(root.traverse(TraversalOrder.PRE_ORDER, preOrder::add));
+		assertThat(preOrder).containsExactly(root, child, grandchild);
+
+		List<TestDescriptor> postOrder = new ArrayList<>();
+		assertTrue(root.traverse(TraversalOrder.POST_ORDER, postOrder::add));
+		assertThat(postOrder).containsExactly(grandchild, child, root);
+
+		assertFalse(root.traverse(TraversalOrder.PRE_ORDER, descriptor -> !descriptor.equals(child)));
+		assertThat(root.getDescendantCount()).isEqualTo(2);
+		assertThat(root.getDescendants()).containsExactly(child, grandchild);
+	}
+
 	private static class MinimalTestDescriptorImplementation implements TestDescriptor {
 
 		private final Set<TestDescriptor> children = Collections.synchronizedSet(new LinkedHashSet<>());
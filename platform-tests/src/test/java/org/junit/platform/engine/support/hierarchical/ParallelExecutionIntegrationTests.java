@@ -16,6 +16,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Constants.DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.DEFAULT_EXECUTION_MODE_PROPERTY_NAME;
+import static org.junit.jupiter.api.Constants.DYNAMIC_TESTS_MAX_IN_FLIGHT_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.PARALLEL_CONFIG_EXECUTOR_SERVICE_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.PARALLEL_CONFIG_FIXED_MAX_POOL_SIZE_PROPERTY_NAME;
 import static org.junit.jupiter.api.Constants.PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME;
@@ -186,6 +187,16 @@ record ParallelExecutionIntegrationTests(ParallelExecutorServiceType executorSer
 		assertThat(timestampedEvents.get("afterEach")).isAfterOrEqualTo(timestampedEvents.get("dynamicTestFinished"));
 	}
 
+	@Test
+	void limitsNumberOfUnfinishedDynamicTestsIfConfigured() {
+		var configParams = Map.of(DEFAULT_EXECUTION_MODE_PROPERTY_NAME, "concurrent",
+			DYNAMIC_TESTS_MAX_IN_FLIGHT_PROPERTY_NAME, "2");
+		var results = executeWithFixedParallelism(3, configParams, LazilyGeneratedDynamicTestCase.class);
+
+		results.testEvents().assertStatistics(it -> it.succeeded(20));
+		assertThat(LazilyGeneratedDynamicTestCase.maxUnfinished.get()).isLessThanOrEqualTo(2);
+	}
+
 	/**
 	 * @since 1.4
 	 * @see <a href="https://github.com/junit-team/junit-framework/issues/1688">gh-1688</a>
@@ -879,6 +890,30 @@ record ParallelExecutionIntegrationTests(ParallelExecutorServiceType executorSer
 		}
 	}
 
+	static class LazilyGeneratedDynamicTestCase {
+		static AtomicInteger generated;
+		static AtomicInteger finished;
+		static AtomicInteger maxUnfinished;
+
+		@BeforeAll
+		static void initialize() {
+			generated = new AtomicInteger();
+			finished = new AtomicInteger();
+			maxUnfinished = new AtomicInteger();
+		}
+
+		@TestFactory
+		Stream<DynamicTest> testFactory() {
+			return IntStream.range(0, 20).mapToObj(i -> {
+				maxUnfinished.accumulateAndGet(generated.incrementAndGet() - finished.get(), Math::max);
+				return dynamicTest("test " + i, () -> {
+					Thread.sleep(10);
+					finished.incrementAndGet();
+				});
+			});
+		}
+	}
+
 	@TestMethodOrder(MethodName.class)
 	static class InterruptedThreadTestCase {
 
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.platform.commons.test.PreconditionAssertions.assertPreconditionViolationFor;
+import static org.junit.platform.launcher.AffectedTestsFilter.includeTestsAffectedBy;
+import static org.junit.platform.launcher.AffectedTestsFilter.includeTestsAffectedByChangesSince;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.DemoClassTestDescriptor;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+
+/**
+ * Unit tests for {@link AffectedTestsFilter}.
+ *
+ * <p>The fixture classes are declared as top-level classes since nested
+ * classes reference their enclosing class and would thus be affected by any
+ * change.
+ *
+ * @since 6.2
+ */
+class AffectedTestsFilterTests {
+
+	private static final TestDescriptor directTestCase = classTestDescriptor("direct",
+		AffectedTestsFilterDirectTestCase.class);
+	private static final TestDescriptor transitiveTestCase = classTestDescriptor("transitive",
+		AffectedTestsFilterTransitiveTestCase.class);
+	private static final TestDescriptor unrelatedTestCase = classTestDescriptor("unrelated",
+		AffectedTestsFilterUnrelatedTestCase.class);
+
+	@Test
+	void rejectsBlankChangedClassNames() {
+		assertPreconditionViolationFor(() -> includeTestsAffectedBy("  "));
+		assertPreconditionViolationFor(() -> includeTestsAffectedBy(List.of("")));
+	}
+
+	@Test
+	void includesTestsThatReferenceChangedClassDirectlyOrTransitively() {
+		var filter = includeTestsAffectedBy(AffectedTestsFilterChangedClass.class.getName());
+
+		assertThat(filter.apply(directTestCase).included()).isTrue();
+		assertThat(filter.apply(transitiveTestCase).included()).isTrue();
+		assertThat(filter.apply(unrelatedTestCase).excluded()).isTrue();
+	}
+
+	@Test
+	void includesTestsWhoseClassHasChanged() {
+		var filter = includeTestsAffectedBy(AffectedTestsFilterUnrelatedTestCase.class.getName());
+
+		assertThat(filter.apply(directTestCase).excluded()).isTrue();
+		assertThat(filter.apply(transitiveTestCase).excluded()).isTrue();
+		assertThat(filter.apply(unrelatedTestCase).included()).isTrue();
+	}
+
+	@Test
+	void includesDescriptorsWithoutClassSource() {
+		var filter = includeTestsAffectedBy(AffectedTestsFilterChangedClass.class.getName());
+		var engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "engine");
+
+		assertThat(filter.apply(engineDescriptor).included()).isTrue();
+	}
+
+	@Test
+	void includesAllTestsWithoutPreviousManifest(@TempDir Path tempDir) {
+		var filter = includeTestsAffectedByChangesSince(tempDir.resolve("missing.manifest"));
+
+		assertThat(filter.apply(directTestCase).included()).isTrue();
+		assertThat(filter.apply(transitiveTestCase).included()).isTrue();
+		assertThat(filter.apply(unrelatedTestCase).included()).isTrue();
+	}
+
+	@Test
+	void excludesAllTestsWithoutChangesSincePreviousManifest(@TempDir Path tempDir) throws Exception {
+		var manifestFile = writeInitialManifest(tempDir);
+
+		var filter = includeTestsAffectedByChangesSince(manifestFile);
+
+		assertThat(filter.apply(directTestCase).excluded()).isTrue();
+		assertThat(filter.apply(transitiveTestCase).excluded()).isTrue();
+		assertThat(filter.apply(unrelatedTestCase).excluded()).isTrue();
+	}
+
+	@Test
+	void includesTestsAffectedByChangesSincePreviousManifest(@TempDir Path tempDir) throws Exception {
+		var manifestFile = writeInitialManifest(tempDir);
+		var changedClassName = AffectedTestsFilterChangedClass.class.getName();
+		var lines = Files.readAllLines(manifestFile, UTF_8).stream() //
+				.map(line -> line.startsWith(changedClassName + "=") ? changedClassName + "=outdated" : line) //
+				.toList();
+		Files.write(manifestFile, lines, UTF_8);
+
+		var filter = includeTestsAffectedByChangesSince(manifestFile);
+
+		assertThat(filter.apply(directTestCase).included()).isTrue();
+		assertThat(filter.apply(transitiveTestCase).included()).isTrue();
+		assertThat(filter.apply(unrelatedTestCase).excluded()).isTrue();
+	}
+
+	@Test
+	void retainsEntriesOfPreviousManifestForClassesThatWereNotInspected(@TempDir Path tempDir) throws Exception {
+		var manifestFile = writeInitialManifest(tempDir);
+		Files.writeString(manifestFile, "com.example.Removed=abc\n", UTF_8, StandardOpenOption.APPEND);
+
+		includeTestsAffectedByChangesSince(manifestFile).writeManifest(manifestFile);
+
+		assertThat(Files.readAllLines(manifestFile, UTF_8)) //
+				.startsWith("# JUnit Platform affected tests manifest") //
+				.contains("com.example.Removed=abc") //
+				.anyMatch(line -> line.startsWith(AffectedTestsFilterChangedClass.class.getName() + "="));
+	}
+
+	@Test
+	void reportsUnreadableManifest(@TempDir Path tempDir) {
+		var exception = assertThrows(JUnitException.class, () -> includeTestsAffectedByChangesSince(tempDir));
+
+		assertThat(exception).hasMessageStartingWith("Failed to read affected tests manifest");
+	}
+
+	private static Path writeInitialManifest(Path tempDir) throws IOException {
+		var manifestFile = tempDir.resolve("reports").resolve(AffectedTestsFilter.DEFAULT_MANIFEST_FILE_NAME);
+		var filter = includeTestsAffectedByChangesSince(manifestFile);
+		List.of(directTestCase, transitiveTestCase, unrelatedTestCase).forEach(filter::apply);
+		filter.writeManifest(manifestFile);
+		return manifestFile;
+	}
+
+	private static TestDescriptor classTestDescriptor(String uniqueId, Class<?> testClass) {
+		var rootUniqueId = UniqueId.root("class", uniqueId);
+		return new DemoClassTestDescriptor(rootUniqueId, testClass);
+	}
+
+}
+
+class AffectedTestsFilterChangedClass {
+
+	static String value() {
+		return "changed";
+	}
+
+}
+
+class AffectedTestsFilterIntermediateClass {
+
+	static String value() {
+		return AffectedTestsFilterChangedClass.value();
+	}
+
+}
+
+class AffectedTestsFilterDirectTestCase {
+
+	String test() {
+		return AffectedTestsFilterChangedClass.value();
+	}
+
+}
+
+class AffectedTestsFilterTransitiveTestCase {
+
+	String test() {
+		return AffectedTestsFilterIntermediateClass.value();
+	}
+
+}
+
+class AffectedTestsFilterUnrelatedTestCase {
+
+	String test() {
+		return "unrelated";
+	}
+
+}
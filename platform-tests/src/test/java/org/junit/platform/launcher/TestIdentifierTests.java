@@ -23,6 +23,7 @@ import java.io.Serializable;
 import java.util.AbstractSet;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
 import org.jspecify.annotations.NullMarked;
@@ -52,6 +53,31 @@ class TestIdentifierTests {
 		assertEquals("displayName", testIdentifier.getDisplayName());
 	}
 
+	@Test
+	void resolvesDisplayNameEagerly() {
+		var calls = new AtomicInteger();
+		TestDescriptor testDescriptor = new AbstractTestDescriptor(UniqueId.root("aType", "uniqueId"), () -> {
+			calls.incrementAndGet();
+			return "displayName";
+		}, null) {
+			@Override
+			public Type getType() {
+				return Type.TEST;
+			}
+
+			@Override
+			public String getLegacyReportingName() {
+				return "legacyReportingName";
+			}
+		};
+		var testIdentifier = TestIdentifier.from(testDescriptor);
+
+		assertEquals(1, calls.get());
+		assertEquals("displayName", testIdentifier.getDisplayName());
+		assertEquals("displayName", testDescriptor.getDisplayName());
+		assertEquals(1, calls.get());
+	}
+
 	@Test
 	void inheritsTypeFromDescriptor() {
 		TestDescriptor descriptor = new TestDescriptorStub(UniqueId.root("aType", "uniqueId"), "displayName");
@@ -11,6 +11,7 @@
 package org.junit.platform.launcher.core;
 
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.function.UnaryOperator.identity;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -47,10 +48,13 @@ import static org.mockito.Mockito.when;
 
 import java.time.Instant;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.UnaryOperator;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
+import java.util.stream.Stream;
 
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
@@ -408,6 +412,45 @@ class DefaultLauncherTests {
 		assertThat(testPlan.getChildren(UniqueId.forEngine("engine2"))).hasSize(1);
 	}
 
+	@Test
+	void discoversTestPlanForMultipleEnginesConcurrentlyIfEnabled() {
+		var latch = new CountDownLatch(3);
+		var threadNames = new ConcurrentHashMap<String, String>();
+		var engines = Stream.of("engine1", "engine2", "engine3").map(id -> new TestEngineStub(id) {
+			@Override
+			public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+				threadNames.put(id, Thread.currentThread().getName());
+				latch.countDown();
+				try {
+					// only returns in time if all engines are discovered concurrently
+					assertTrue(latch.await(10, SECONDS));
+				}
+				catch (InterruptedException e) {
+					throw new AssertionError(e);
+				}
+				discoveryRequest.getDiscoveryListener().issueEncountered(uniqueId,
+					DiscoveryIssue.create(Severity.INFO, id));
+				return new TestDescriptorStub(uniqueId, id);
+			}
+		}).toArray(TestEngine[]::new);
+		var discoveryListener = mock(LauncherDiscoveryListener.class);
+
+		var launcher = createLauncher(engines);
+		var testPlan = launcher.discover(request() //
+				.configurationParameter(LauncherConstants.PARALLEL_DISCOVERY_ENABLED_PROPERTY_NAME, "true") //
+				.listeners(discoveryListener) //
+				.build());
+
+		assertThat(testPlan.getRoots()).extracting(TestIdentifier::getDisplayName) //
+				.containsExactly("engine1", "engine2", "engine3");
+		assertThat(Set.copyOf(threadNames.values())).hasSize(3);
+		for (var engine : engines) {
+			var engineId = UniqueId.forEngine(engine.getId());
+			verify(discoveryListener).engineDiscoveryFinished(engineId, EngineDiscoveryResult.successful());
+			verify(discoveryListener).issueEncountered(engineId, DiscoveryIssue.create(Severity.INFO, engine.getId()));
+		}
+	}
+
 	@Test
 	void launcherAppliesPostDiscoveryFilters() {
 		var engine = new DemoHierarchicalTestEngine("myEngine");
@@ -25,7 +25,7 @@ class DiscoveryIssueCollectorTests {
 		var collector = new DiscoveryIssueCollector(mock());
 		var issue = DiscoveryIssue.create(Severity.ERROR, "hello");
 		collector.issueEncountered(UniqueId.forEngine("dummy"), issue);
-		assertThat(collector.toNotifier().getAllIssues()).containsExactly(issue);
+		assertThat(collector.toNotifier(UniqueId.forEngine("dummy")).getAllIssues()).containsExactly(issue);
 	}
 
 }
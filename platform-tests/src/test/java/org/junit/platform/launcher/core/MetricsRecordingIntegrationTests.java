@@ -0,0 +1,79 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+import static org.junit.platform.launcher.LauncherConstants.METRICS_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.METRICS_FILE_NAME;
+import static org.junit.platform.launcher.LauncherConstants.OUTPUT_DIR_PROPERTY_NAME;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestEngine;
+import org.junit.platform.launcher.TestExecutionListener;
+
+/**
+ * @since 6.2
+ */
+class MetricsRecordingIntegrationTests {
+
+	@Test
+	void writesRecordedMetricsToOutputDirectory(@TempDir Path outputDir) {
+		var engine = new DemoHierarchicalTestEngine("engine");
+		TestDescriptor test = engine.addTest("test", () -> {
+		});
+
+		var launcher = createLauncher(engine);
+		var executionRequest = request() //
+				.selectors(selectUniqueId(test.getUniqueId())) //
+				.configurationParameter(METRICS_ENABLED_PROPERTY_NAME, String.valueOf(true)) //
+				.configurationParameter(OUTPUT_DIR_PROPERTY_NAME, outputDir.toString()) //
+				.forExecution() //
+				.listeners(new NoopTestExecutionListener()) //
+				.build();
+		launcher.execute(executionRequest);
+
+		assertThat(outputDir.resolve(METRICS_FILE_NAME)).content() //
+				.contains("\"discovery.engine[engine]\": {\"count\": 1") //
+				.contains("\"execution.test\": {\"count\": 1") //
+				.contains("\"execution.container\": {\"count\": 1") //
+				.contains("\"execution.concurrency\": {\"count\": 1") //
+				.contains("\"listener.dispatch[" + NoopTestExecutionListener.class.getName() + "]\"") //
+				.contains("\"p99\"");
+	}
+
+	@Test
+	void doesNotRecordMetricsByDefault(@TempDir Path outputDir) {
+		var engine = new DemoHierarchicalTestEngine("engine");
+		TestDescriptor test = engine.addTest("test", () -> {
+		});
+
+		var launcher = createLauncher(engine);
+		var executionRequest = request() //
+				.selectors(selectUniqueId(test.getUniqueId())) //
+				.configurationParameter(OUTPUT_DIR_PROPERTY_NAME, outputDir.toString()) //
+				.forExecution() //
+				.build();
+		launcher.execute(executionRequest);
+
+		assertThat(outputDir.resolve(METRICS_FILE_NAME)).doesNotExist();
+	}
+
+	private static class NoopTestExecutionListener implements TestExecutionListener {
+	}
+
+}
@@ -31,6 +31,7 @@ import static org.mockito.Mockito.verify;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.nio.file.Path;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -39,10 +40,12 @@ import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.reporting.FileEntry;
 import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestEngine;
 import org.junit.platform.launcher.LauncherConstants;
@@ -95,6 +98,37 @@ class StreamInterceptingTestExecutionListenerIntegrationTests {
 		assertThat(reportEntry.getKeyValuePairs()).containsExactly(entry(reportKey, "12345"));
 	}
 
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("systemStreams")
+	@ExtendWith(HiddenSystemOutAndErr.class)
+	void publishesSpilledOutputAsFileEntry(String configParam, Supplier<PrintStream> printStreamSupplier,
+			String reportKey, @TempDir Path outputDir) throws Exception {
+		var engine = new DemoHierarchicalTestEngine("engine");
+		TestDescriptor test = engine.addTest("test", () -> printStreamSupplier.get().print("1234567890"));
+
+		var launcher = createLauncher(engine);
+		var listener = mock(TestExecutionListener.class);
+		var executionRequest = request()//
+				.selectors(selectUniqueId(test.getUniqueId()))//
+				.configurationParameter(configParam, String.valueOf(true))//
+				.configurationParameter(LauncherConstants.CAPTURE_MAX_BUFFER_PROPERTY_NAME, String.valueOf(100))//
+				.configurationParameter(LauncherConstants.CAPTURE_SPILL_THRESHOLD_PROPERTY_NAME, String.valueOf(5))//
+				.configurationParameter(LauncherConstants.OUTPUT_DIR_PROPERTY_NAME, outputDir.toString())//
+				.forExecution()//
+				.listeners(listener)//
+				.build();
+		launcher.execute(executionRequest);
+
+		var fileEntryArgumentCaptor = ArgumentCaptor.forClass(FileEntry.class);
+		verify(listener).fileEntryPublished(any(), fileEntryArgumentCaptor.capture());
+		verify(listener, never()).reportingEntryPublished(any(), any());
+		var fileEntry = fileEntryArgumentCaptor.getValue();
+
+		assertThat(fileEntry.getPath()).startsWith(outputDir).hasFileName(reportKey + ".txt");
+		assertThat(fileEntry.getPath()).hasContent("1234567890");
+		assertThat(fileEntry.getMediaType()).get().asString().startsWith("text/plain");
+	}
+
 	@ParameterizedTest(name = "{0}")
 	@MethodSource("systemStreams")
 	@ExtendWith(HiddenSystemOutAndErr.class)
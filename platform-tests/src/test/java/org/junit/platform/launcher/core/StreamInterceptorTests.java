@@ -12,17 +12,23 @@ package org.junit.platform.launcher.core;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.stream.IntStream;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.AutoClose;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * @since 1.3
@@ -107,6 +113,97 @@ class StreamInterceptorTests {
 		);
 	}
 
+	@Test
+	void spillsOutputExceedingThresholdToDisk(@TempDir Path tempDir) throws Exception {
+		streamInterceptor = StreamInterceptor.register(targetStream, newStream -> this.targetStream = newStream, 100,
+			5);
+		assertNotNull(streamInterceptor);
+
+		streamInterceptor.capture();
+		streamInterceptor.print("abc");
+		assertFalse(streamInterceptor.hasSpilledOutput());
+
+		streamInterceptor.print("1234567890");
+		assertTrue(streamInterceptor.hasSpilledOutput());
+
+		var file = tempDir.resolve("output.txt");
+		streamInterceptor.consumeTo(file);
+
+		assertEquals("abc1234567890", Files.readString(file));
+		assertEquals("abc1234567890", originalOut.toString());
+	}
+
+	@Test
+	void discardsSpilledOutputExceedingMaxBuffer(@TempDir Path tempDir) throws Exception {
+		streamInterceptor = StreamInterceptor.register(targetStream, newStream -> this.targetStream = newStream, 8, 3);
+		assertNotNull(streamInterceptor);
+
+		streamInterceptor.capture();
+		streamInterceptor.print("abc");
+		streamInterceptor.print("1234567890");
+		streamInterceptor.print("xyz");
+		assertTrue(streamInterceptor.hasSpilledOutput());
+
+		var file = tempDir.resolve("output.txt");
+		streamInterceptor.consumeTo(file);
+
+		assertEquals("abc12345", Files.readString(file));
+		assertEquals("abc1234567890xyz", originalOut.toString());
+	}
+
+	@Test
+	void readsSpilledOutputIntoMemoryInChunks() {
+		streamInterceptor = StreamInterceptor.register(targetStream, newStream -> this.targetStream = newStream,
+			100_000, 3);
+		assertNotNull(streamInterceptor);
+
+		var output = "0123456789".repeat(5_000);
+		streamInterceptor.capture();
+		streamInterceptor.print(output);
+		assertTrue(streamInterceptor.hasSpilledOutput());
+
+		assertEquals(output, streamInterceptor.consume());
+	}
+
+	@Test
+	void discardsOutputThatCannotBeSpilledToDisk() {
+		streamInterceptor = StreamInterceptor.register(targetStream, newStream -> this.targetStream = newStream, 100, 5,
+			() -> {
+				throw new IOException("No space left on device");
+			});
+		assertNotNull(streamInterceptor);
+
+		streamInterceptor.capture();
+		streamInterceptor.print("abc");
+		streamInterceptor.print("1234567890");
+		streamInterceptor.print("xyz");
+
+		assertFalse(streamInterceptor.hasSpilledOutput());
+		assertEquals("abc", streamInterceptor.consume());
+		assertEquals("abc1234567890xyz", originalOut.toString());
+	}
+
+	@Test
+	void handlesNestedCapturesWithSpilledOutput() {
+		streamInterceptor = StreamInterceptor.register(targetStream, newStream -> this.targetStream = newStream, 100,
+			5);
+		assertNotNull(streamInterceptor);
+
+		streamInterceptor.capture();
+		streamInterceptor.print("outer - ");
+		streamInterceptor.capture();
+		streamInterceptor.print("inner");
+		var inner = streamInterceptor.consume();
+		streamInterceptor.print(" - outer");
+		var outer = streamInterceptor.consume();
+
+		assertAll(//
+			() -> assertEquals("inner", inner), //
+			() -> assertEquals("outer -  - outer", outer), //
+			() -> assertFalse(streamInterceptor.hasSpilledOutput()) //
+		);
+	}
+
 	@Test
 	void capturesOutputFromNonTestThreads() throws Exception {
 		streamInterceptor = StreamInterceptor.register(targetStream, newStream -> this.targetStream = newStream, 100);
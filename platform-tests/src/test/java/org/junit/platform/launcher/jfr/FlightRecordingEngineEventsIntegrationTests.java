@@ -0,0 +1,117 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.jfr;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.moditect.jfrunit.ExpectedEvent.event;
+import static org.moditect.jfrunit.JfrEventsAssert.assertThat;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.DisabledOnOpenJ9;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.junit.jupiter.engine.JupiterTestEngine;
+import org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly;
+import org.moditect.jfrunit.EnableEvent;
+import org.moditect.jfrunit.JfrEventTest;
+import org.moditect.jfrunit.JfrEvents;
+
+/**
+ * @since 6.2
+ */
+@JfrEventTest
+@DisabledOnOpenJ9
+public class FlightRecordingEngineEventsIntegrationTests {
+
+	public JfrEvents jfrEvents = new JfrEvents();
+
+	@Test
+	@EnableEvent("org.junit.*")
+	void reportsJupiterLifecycleEvents() {
+		execute(false);
+
+		var classUniqueId = "[engine:junit-jupiter]/[class:" + TestCase.class.getName() + "]";
+		var testUniqueId = classUniqueId + "/[method:test(org.junit.jupiter.api.TestInfo)]";
+
+		assertThat(jfrEvents) //
+				.contains(event("org.junit.TestInstanceConstruction") //
+						.with("uniqueId", testUniqueId) //
+						.with("className", TestCase.class.getName())) //
+				.contains(event("org.junit.ExtensionCallback") //
+						.with("uniqueId", testUniqueId) //
+						.with("callbackType", BeforeEachCallback.class.getName()) //
+						.with("extensionClass", NoopExtension.class.getName())) //
+				.contains(event("org.junit.LifecycleMethod") //
+						.with("uniqueId", testUniqueId) //
+						.with("annotation", "@BeforeEach") //
+						.with("methodName", "beforeEach")) //
+				.contains(event("org.junit.LifecycleMethod") //
+						.with("uniqueId", classUniqueId) //
+						.with("annotation", "@AfterAll") //
+						.with("methodName", "afterAll")) //
+				.contains(event("org.junit.ParameterResolution") //
+						.with("uniqueId", testUniqueId) //
+						.with("parameterIndex", 0));
+	}
+
+	@Test
+	@EnableEvent("org.junit.*")
+	void reportsResourceLockAcquisitionEvents() {
+		execute(true);
+
+		assertThat(jfrEvents) //
+				.contains(event("org.junit.ResourceLockAcquisition") //
+						.with("exclusive", true));
+	}
+
+	private void execute(boolean parallel) {
+		var launcher = LauncherFactoryForTestingPurposesOnly.createLauncher(new JupiterTestEngine());
+		var request = request() //
+				.selectors(selectClass(TestCase.class)) //
+				.configurationParameter("junit.jupiter.execution.parallel.enabled", String.valueOf(parallel)) //
+				.forExecution() //
+				.build();
+
+		launcher.execute(request);
+		jfrEvents.awaitEvents();
+	}
+
+	@ExtendWith(NoopExtension.class)
+	@ResourceLock("shared")
+	static class TestCase {
+
+		@AfterAll
+		static void afterAll() {
+		}
+
+		@BeforeEach
+		void beforeEach() {
+		}
+
+		@Test
+		void test(TestInfo testInfo) {
+		}
+	}
+
+	static class NoopExtension implements BeforeEachCallback {
+
+		@Override
+		public void beforeEach(ExtensionContext context) {
+		}
+	}
+
+}
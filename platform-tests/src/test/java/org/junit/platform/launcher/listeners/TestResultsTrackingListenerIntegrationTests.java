@@ -0,0 +1,156 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.listeners;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.EngineFilter.includeEngines;
+import static org.junit.platform.launcher.LauncherConstants.OUTPUT_DIR_PROPERTY_NAME;
+import static org.junit.platform.launcher.PreviouslyFailedTestsFilter.includePreviouslyFailedTests;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.listeners.TestResultsTrackingListener.LISTENER_ENABLED_PROPERTY_NAME;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.commons.util.TestResultsStore;
+import org.junit.platform.commons.util.TestResultsStore.Status;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.LauncherFactory;
+
+/**
+ * Integration tests for the {@link TestResultsTrackingListener} and the
+ * {@link org.junit.platform.launcher.PreviouslyFailedTestsFilter}.
+ *
+ * @since 6.2
+ */
+class TestResultsTrackingListenerIntegrationTests {
+
+	private static final String passingTest = "[engine:junit-jupiter]/[class:org.junit.platform.launcher.listeners.TestResultsTrackingListenerIntegrationTests$TestCase]/[method:passingTest()]";
+	private static final String sometimesFailingTest = "[engine:junit-jupiter]/[class:org.junit.platform.launcher.listeners.TestResultsTrackingListenerIntegrationTests$TestCase]/[method:sometimesFailingTest()]";
+
+	@TempDir
+	Path outputDir;
+
+	@AfterEach
+	void resetTestCase() {
+		TestCase.failing = false;
+	}
+
+	@Test
+	void listenerIsRegisteredButDisabledByDefault() {
+		var numListenersRegistered = ServiceLoader.load(TestExecutionListener.class).stream()//
+				.filter(provider -> TestResultsTrackingListener.class.equals(provider.type()))//
+				.count();
+		assertThat(numListenersRegistered).isEqualTo(1);
+
+		executeTests(false);
+
+		assertThat(storeFile()).doesNotExist();
+	}
+
+	@Test
+	void recordsResultsOfTests() {
+		TestCase.failing = true;
+
+		var executedTests = executeTests(true);
+
+		assertThat(executedTests).containsExactlyInAnyOrder(passingTest, sometimesFailingTest);
+		assertThat(storeFile()).exists();
+		var store = TestResultsStore.read(storeFile());
+		assertThat(store.getStatus(passingTest)).isEqualTo(Status.PASSED);
+		assertThat(store.getStatus(sometimesFailingTest)).isEqualTo(Status.FAILED);
+		assertThat(store.getStatusBySource(TestResultsStore.methodKey(TestCase.class.getName(),
+			"sometimesFailingTest", ""))).isEqualTo(Status.FAILED);
+		assertThat(store.getStatusByClassName(TestResultsTrackingListenerIntegrationTests.class.getName())) //
+				.isEqualTo(Status.FAILED);
+	}
+
+	@Test
+	void rerunsOnlyPreviouslyFailedTests() {
+		var executedTests = executeTests(true, includePreviouslyFailedTests(outputDir));
+		assertThat(executedTests).containsExactlyInAnyOrder(passingTest, sometimesFailingTest);
+
+		TestCase.failing = true;
+		executedTests = executeTests(true, includePreviouslyFailedTests(outputDir));
+		assertThat(executedTests).containsExactlyInAnyOrder(passingTest, sometimesFailingTest);
+
+		TestCase.failing = false;
+		executedTests = executeTests(true, includePreviouslyFailedTests(outputDir));
+		assertThat(executedTests).containsExactly(sometimesFailingTest);
+		assertThat(TestResultsStore.read(storeFile()).getStatus(sometimesFailingTest)).isEqualTo(Status.FLAKY);
+	}
+
+	@Test
+	void retainsResultsOfTestsThatWereNotExecuted() throws Exception {
+		TestCase.failing = true;
+		executeTests(true);
+
+		executeTests(true, descriptor -> FilterResult.excluded("excluded"));
+
+		assertThat(TestResultsStore.read(storeFile()).getStatus(sometimesFailingTest)).isEqualTo(Status.FAILED);
+	}
+
+	private Path storeFile() {
+		return outputDir.resolve(TestResultsStore.FILE_NAME);
+	}
+
+	private List<String> executeTests(boolean enabled, PostDiscoveryFilter... filters) {
+		List<String> executedTests = new ArrayList<>();
+		var listener = new TestExecutionListener() {
+			@Override
+			public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+				if (testIdentifier.isTest()) {
+					executedTests.add(testIdentifier.getUniqueId());
+				}
+			}
+		};
+		var request = request()//
+				.selectors(selectClass(TestCase.class))//
+				.filters(includeEngines("junit-jupiter"))//
+				.filters(filters)//
+				.configurationParameter(LISTENER_ENABLED_PROPERTY_NAME, String.valueOf(enabled))//
+				.configurationParameter(OUTPUT_DIR_PROPERTY_NAME, outputDir.toAbsolutePath().toString())//
+				.forExecution()//
+				.listeners(listener)//
+				.build();
+		LauncherFactory.create().execute(request);
+		return executedTests;
+	}
+
+	static class TestCase {
+
+		static boolean failing;
+
+		@Test
+		void passingTest() {
+		}
+
+		@Test
+		void sometimesFailingTest() {
+			if (failing) {
+				fail();
+			}
+		}
+
+	}
+
+}
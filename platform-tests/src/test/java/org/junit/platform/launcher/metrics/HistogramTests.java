@@ -0,0 +1,93 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.PreconditionViolationException;
+
+/**
+ * @since 6.2
+ */
+class HistogramTests {
+
+	@Test
+	void reportsZeroForEmptyHistogram() {
+		var histogram = new Histogram();
+
+		assertThat(histogram.getCount()).isZero();
+		assertThat(histogram.getMin()).isZero();
+		assertThat(histogram.getMax()).isZero();
+		assertThat(histogram.getMean()).isZero();
+		assertThat(histogram.getValueAtPercentile(50)).isZero();
+	}
+
+	@Test
+	void recordsSmallValuesExactly() {
+		var histogram = new Histogram();
+		for (long value = 0; value < 32; value++) {
+			histogram.record(value);
+		}
+
+		assertThat(histogram.getCount()).isEqualTo(32);
+		assertThat(histogram.getMin()).isZero();
+		assertThat(histogram.getMax()).isEqualTo(31);
+		assertThat(histogram.getMean()).isEqualTo(15.5);
+		assertThat(histogram.getValueAtPercentile(50)).isEqualTo(15);
+		assertThat(histogram.getValueAtPercentile(100)).isEqualTo(31);
+	}
+
+	@Test
+	void reportsPercentilesWithinBoundedRelativeError() {
+		var histogram = new Histogram();
+		for (long value = 1; value <= 10_000; value++) {
+			histogram.record(value * 1_000);
+		}
+
+		assertThat(histogram.getValueAtPercentile(50)).isCloseTo(5_000_000, within(5_000_000 / 32L));
+		assertThat(histogram.getValueAtPercentile(90)).isCloseTo(9_000_000, within(9_000_000 / 32L));
+		assertThat(histogram.getValueAtPercentile(99.9)).isCloseTo(9_990_000, within(9_990_000 / 32L));
+		assertThat(histogram.getValueAtPercentile(100)).isEqualTo(10_000_000);
+	}
+
+	@Test
+	void supportsFullRangeOfNonNegativeValues() {
+		var histogram = new Histogram();
+		histogram.record(Long.MAX_VALUE);
+
+		assertThat(histogram.getValueAtPercentile(100)).isEqualTo(Long.MAX_VALUE);
+	}
+
+	@Test
+	void bucketsAreContiguous() {
+		for (long value = 0; value < 100_000; value++) {
+			int index = Histogram.bucketIndex(value);
+			assertThat(Histogram.highestEquivalentValue(index)).isGreaterThanOrEqualTo(value);
+			if (index > 0) {
+				assertThat(Histogram.highestEquivalentValue(index - 1)).isLessThan(value);
+			}
+		}
+	}
+
+	@Test
+	void rejectsInvalidArguments() {
+		var histogram = new Histogram();
+
+		assertThatThrownBy(() -> histogram.record(-1)) //
+				.isInstanceOf(PreconditionViolationException.class);
+		assertThatThrownBy(() -> histogram.getValueAtPercentile(100.1)) //
+				.isInstanceOf(PreconditionViolationException.class);
+	}
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.tagexpression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.TestTag.create;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.platform.engine.TestTag;
+
+/**
+ * Unit tests for {@link CompiledTagExpressions}.
+ *
+ * @since 6.2
+ */
+class CompiledTagExpressionsTests {
+
+	private static final List<Set<TestTag>> tagSets = List.of( //
+		Set.of(), //
+		Set.of(create("foo")), //
+		Set.of(create("bar")), //
+		Set.of(create("baz")), //
+		Set.of(create("other")), //
+		Set.of(create("foo"), create("bar")), //
+		Set.of(create("foo"), create("baz")), //
+		Set.of(create("bar"), create("baz"), create("other")), //
+		Set.of(create("foo"), create("bar"), create("baz")));
+
+	@ParameterizedTest
+	@ValueSource(strings = { "foo", "!foo", "foo & bar", "foo | bar", "foo & bar & baz", "foo | bar | baz",
+			"(foo | bar) & !baz", "foo & (bar | baz)", "!(foo & bar) | baz", "any()", "none()", "!any()",
+			"foo | none()", "any() & !foo", "!(foo | bar | baz) & any()" })
+	void matchesSameTagsAsEvaluatingExpression(String tagExpression) {
+		assertMatchesSameTagsAsEvaluating(List.of(parse(tagExpression)));
+	}
+
+	@Test
+	void matchesIfAnyOfMultipleExpressionsMatches() {
+		assertMatchesSameTagsAsEvaluating(List.of(parse("foo & bar"), parse("!foo & baz"), parse("none()")));
+	}
+
+	@Test
+	void foldsConjunctionsAndDisjunctionsOfTagsIntoSingleBitmask() {
+		var masks = new HashMap<TestTag, Long>();
+		var expression = (CompilableTagExpression) parse("(foo & bar) | baz | qux");
+		var tags = new LinkedHashSet<TestTag>();
+		assertThat(expression.collectTags(tags)).isTrue();
+		tags.forEach(tag -> masks.put(tag, 1L << masks.size()));
+
+		assertThat(((CompilableTagExpression) parse("foo & bar & baz")).compile(masks::get)) //
+				.isEqualTo(new TagMatcher.AllOf(0b111));
+		assertThat(((CompilableTagExpression) parse("baz | qux")).compile(masks::get)) //
+				.isEqualTo(new TagMatcher.AnyOf(0b1100));
+	}
+
+	@Test
+	void evaluatesExpressionsThatCannotBeCompiled() {
+		TagExpression notCompilable = tags -> tags.contains(create("foo"));
+		var manyTags = IntStream.range(0, 65).mapToObj(i -> "tag" + i).toArray(String[]::new);
+
+		assertMatchesSameTagsAsEvaluating(List.of(notCompilable, parse("bar")));
+		assertMatchesSameTagsAsEvaluating(List.of(parse(String.join(" | ", manyTags)), parse("foo & bar")));
+		assertThat(CompiledTagExpressions.compile(List.of(parse(String.join(" | ", manyTags)))).anyMatch(
+			Set.of(create("tag64")))).isTrue();
+	}
+
+	@Test
+	void neverMatchesWithoutExpressions() {
+		var compiled = CompiledTagExpressions.compile(List.of());
+
+		assertThat(tagSets).noneMatch(compiled::anyMatch);
+	}
+
+	private static void assertMatchesSameTagsAsEvaluating(List<TagExpression> tagExpressions) {
+		var compiled = CompiledTagExpressions.compile(tagExpressions);
+		for (var tags : tagSets) {
+			var expected = tagExpressions.stream().anyMatch(expression -> expression.evaluate(tags));
+			assertThat(compiled.anyMatch(tags)) //
+					.as("%s evaluated against %s", tagExpressions, tags) //
+					.isEqualTo(expected);
+		}
+	}
+
+	private static TagExpression parse(String tagExpression) {
+		return TagExpression.parseFrom(tagExpression).tagExpressionOrThrow(IllegalArgumentException::new);
+	}
+
+}
@@ -11,6 +11,7 @@
 package org.junit.platform.suite.engine;
 
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.TemporaryClasspathExecutor.withAdditionalClasspathRoot;
 import static org.junit.platform.engine.DiscoveryIssue.Severity.INFO;
@@ -37,6 +38,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.nio.file.Path;
+import java.util.concurrent.CyclicBarrier;
 import java.util.logging.Level;
 
 import org.jspecify.annotations.Nullable;
@@ -72,6 +74,7 @@ import org.junit.platform.suite.engine.testcases.DynamicTestsTestCase;
 import org.junit.platform.suite.engine.testcases.ErroneousTestCase;
 import org.junit.platform.suite.engine.testcases.JUnit4TestsTestCase;
 import org.junit.platform.suite.engine.testcases.MultipleTestsTestCase;
+import org.junit.platform.suite.engine.testcases.ResourceLockTestCase;
 import org.junit.platform.suite.engine.testcases.SingleFailingTestTestCase;
 import org.junit.platform.suite.engine.testcases.SingleTestTestCase;
 import org.junit.platform.suite.engine.testcases.SingleTestWithTestReporterTestCase;
@@ -666,6 +669,47 @@ class SuiteEngineTests {
 		assertThat(listener.stream(Level.WARNING)).isEmpty();
 	}
 
+	@Test
+	void executesSuitesConcurrentlyWhenEnabled() {
+		ConcurrentSuite.barrier = new CyclicBarrier(2);
+
+		// @formatter:off
+		EngineTestKit.engine(ENGINE_ID)
+				.selectors(selectClass(ConcurrentSuite.class), selectClass(OtherConcurrentSuite.class))
+				.configurationParameter(SuiteTestEngine.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true")
+				.configurationParameter(SuiteTestEngine.PARALLEL_CONFIG_PREFIX + "strategy", "fixed")
+				.configurationParameter(SuiteTestEngine.PARALLEL_CONFIG_PREFIX + "fixed.parallelism", "2")
+				.execute()
+				.allEvents()
+				.assertThatEvents()
+				.haveExactly(1, event(suite(ConcurrentSuite.class), finishedSuccessfully()))
+				.haveExactly(1, event(suite(OtherConcurrentSuite.class), finishedSuccessfully()))
+				.haveExactly(2, event(test(SingleTestTestCase.class.getName()), finishedSuccessfully()))
+				.haveExactly(1, event(engine(), finishedSuccessfully()));
+		// @formatter:on
+	}
+
+	@Test
+	void executesSuitesDeclaringExclusiveResourcesSequentially() {
+		ResourceLockTestCase.running.set(0);
+		ResourceLockTestCase.maxRunning.set(0);
+
+		// @formatter:off
+		EngineTestKit.engine(ENGINE_ID)
+				.selectors(selectClass(ResourceLockSuite.class), selectClass(OtherResourceLockSuite.class))
+				.configurationParameter(SuiteTestEngine.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true")
+				.configurationParameter(SuiteTestEngine.PARALLEL_CONFIG_PREFIX + "strategy", "fixed")
+				.configurationParameter(SuiteTestEngine.PARALLEL_CONFIG_PREFIX + "fixed.parallelism", "2")
+				.execute()
+				.allEvents()
+				.assertThatEvents()
+				.haveExactly(2, event(test(ResourceLockTestCase.class.getName()), finishedSuccessfully()))
+				.haveExactly(1, event(engine(), finishedSuccessfully()));
+		// @formatter:on
+
+		assertThat(ResourceLockTestCase.maxRunning).hasValue(1);
+	}
+
 	@Test
 	void selectByIdentifier() {
 		// @formatter:off
@@ -911,6 +955,29 @@ class SuiteEngineTests {
 		}
 	}
 
+	static class ConcurrentSuite extends SelectClassesSuite {
+
+		static @Nullable CyclicBarrier barrier;
+
+		@BeforeSuite
+		static void awaitOtherSuite() throws Exception {
+			requireNonNull(barrier).await(10, SECONDS);
+		}
+	}
+
+	static class OtherConcurrentSuite extends ConcurrentSuite {
+	}
+
+	@Suite
+	@SelectClasses(ResourceLockTestCase.class)
+	static class ResourceLockSuite {
+	}
+
+	@Suite
+	@SelectClasses(ResourceLockTestCase.class)
+	static class OtherResourceLockSuite {
+	}
+
 	@Suite
 	@SelectClasses(SingleTestTestCase.class)
 	abstract private static class AbstractPrivateSuite {
@@ -61,7 +61,7 @@ class SuiteTestDescriptorTests {
 	@Test
 	void suiteDiscoversTestsFromClass() {
 		suite.addDiscoveryRequestFrom(SelectClassesSuite.class);
-		suite.discover();
+		suite.discover(SuiteLauncher.create());
 
 		assertThat(suite.getDescendants()).map(TestDescriptor::getUniqueId)//
 				.containsExactly(jupiterEngineId, testClassId, methodId);
@@ -70,7 +70,7 @@ class SuiteTestDescriptorTests {
 	@Test
 	void suiteDiscoversTestsFromUniqueId() {
 		suite.addDiscoveryRequestFrom(methodId);
-		suite.discover();
+		suite.discover(SuiteLauncher.create());
 
 		assertThat(suite.getDescendants()).map(TestDescriptor::getUniqueId)//
 				.containsExactly(jupiterEngineId, testClassId, methodId);
@@ -79,7 +79,7 @@ class SuiteTestDescriptorTests {
 	@Test
 	void discoveryPlanCanNotBeModifiedAfterDiscovery() {
 		suite.addDiscoveryRequestFrom(SelectClassesSuite.class);
-		suite.discover();
+		suite.discover(SuiteLauncher.create());
 
 		assertAll(//
 			() -> assertPreconditionViolationFor(() -> suite.addDiscoveryRequestFrom(SelectClassesSuite.class))//
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.suite.engine.testcases;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
+
+/**
+ * @since 6.2
+ */
+public class ResourceLockTestCase {
+
+	public static final AtomicInteger running = new AtomicInteger();
+	public static final AtomicInteger maxRunning = new AtomicInteger();
+
+	@Test
+	@ResourceLock("org.junit.platform.suite.engine.testcases.ResourceLockTestCase")
+	void test() throws Exception {
+		maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+		try {
+			Thread.sleep(100);
+		}
+		finally {
+			running.decrementAndGet();
+		}
+	}
+}
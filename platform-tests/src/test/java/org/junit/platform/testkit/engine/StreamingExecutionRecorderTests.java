@@ -0,0 +1,118 @@
+/*
+ * Copyright 2015-2026 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.testkit.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.platform.commons.test.PreconditionAssertions.assertPreconditionViolationFor;
+import static org.junit.platform.engine.TestExecutionResult.aborted;
+import static org.junit.platform.engine.TestExecutionResult.failed;
+import static org.junit.platform.engine.TestExecutionResult.successful;
+import static org.junit.platform.testkit.engine.EventConditions.event;
+import static org.junit.platform.testkit.engine.EventConditions.finishedWithFailure;
+import static org.junit.platform.testkit.engine.EventConditions.skippedWithReason;
+import static org.junit.platform.testkit.engine.EventConditions.test;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.fakes.TestDescriptorStub;
+
+/**
+ * Unit tests for {@link StreamingExecutionRecorder}.
+ *
+ * @since 6.2
+ */
+class StreamingExecutionRecorderTests {
+
+	private final EngineDescriptor engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "Engine");
+
+	@Test
+	void countsEventsPerCategory() {
+		var recorder = new StreamingExecutionRecorder();
+		var test = addTest("test");
+		var skippedTest = addTest("skipped");
+
+		recorder.executionStarted(engineDescriptor);
+		recorder.dynamicTestRegistered(test);
+		recorder.executionStarted(test);
+		recorder.reportingEntryPublished(test, ReportEntry.from("key", "value"));
+		recorder.executionFinished(test, aborted(null));
+		recorder.executionSkipped(skippedTest, "for demonstration purposes");
+		recorder.executionFinished(engineDescriptor, successful());
+
+		var results = recorder.getExecutionResults();
+		results.testEvents().assertStatistics(stats -> stats.dynamicallyRegistered(1).started(1).finished(1) //
+				.aborted(1).succeeded(0).failed(0).skipped(1).reportingEntryPublished(1).fileEntryPublished(0));
+		results.containerEvents().assertStatistics(stats -> stats.started(1).finished(1).succeeded(1));
+		results.allEvents().assertStatistics(stats -> stats.started(2).finished(2).skipped(1));
+	}
+
+	@Test
+	void retainsConfiguredNumberOfFailures() {
+		var recorder = new StreamingExecutionRecorder().retainFailures(2);
+
+		IntStream.range(0, 5).mapToObj(i -> addTest("test" + i)).forEach(test -> {
+			recorder.executionStarted(test);
+			recorder.executionFinished(test, failed(new AssertionError(test.getDisplayName())));
+		});
+
+		var results = recorder.getExecutionResults();
+		results.testEvents().assertStatistics(stats -> stats.started(5).failed(5));
+		results.retainedFailures().assertEventsMatchExactly( //
+			event(test("test0"), finishedWithFailure(message("test0"))), //
+			event(test("test1"), finishedWithFailure(message("test1"))));
+	}
+
+	@Test
+	void countsEventsMatchingRegisteredConditions() {
+		var skipped = event(test(), skippedWithReason("for demonstration purposes"));
+		var failedWithMessage = event(test(), finishedWithFailure(message("boom")));
+		var recorder = new StreamingExecutionRecorder().retainFailures(0) //
+				.countMatching(skipped) //
+				.countMatching(failedWithMessage);
+
+		recorder.executionSkipped(addTest("skipped"), "for demonstration purposes");
+		var test = addTest("failed");
+		recorder.executionStarted(test);
+		recorder.executionFinished(test, failed(new AssertionError("boom")));
+
+		var results = recorder.getExecutionResults();
+		assertThat(results.count(skipped)).isEqualTo(1);
+		assertThat(results.count(failedWithMessage)).isEqualTo(1);
+		assertThat(results.retainedFailures().count()).isZero();
+		assertPreconditionViolationFor(() -> results.count(event(test()))) //
+				.withMessageEndingWith("was not registered via StreamingExecutionRecorder.countMatching()");
+	}
+
+	@Test
+	void reportsFailedStatistics() {
+		var recorder = new StreamingExecutionRecorder();
+		recorder.executionStarted(addTest("test"));
+
+		var testEvents = recorder.getExecutionResults().testEvents();
+
+		assertThat(testEvents.started()).isEqualTo(1);
+		assertThat(testEvents.finished()).isZero();
+		assertThrows(AssertionError.class, () -> testEvents.assertStatistics(stats -> stats.finished(1)));
+	}
+
+	private TestDescriptorStub addTest(String name) {
+		var test = new TestDescriptorStub(engineDescriptor.getUniqueId().append("test", name), name);
+		engineDescriptor.addChild(test);
+		return test;
+	}
+
+}